@@ -0,0 +1,134 @@
+package dev.hytalemodding.hyrune.itemization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stat-block work of one equipment recompute (four armor pieces + held weapon, shield merge and
+ * the derived reads), on the array-backed block vs the previous EnumMap-backed one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ItemizedStatBlockBenchmark {
+    private static final int ARMOR_PIECES = 4;
+    private static final ItemizedStat[] STATS = ItemizedStat.values();
+
+    private ItemizedStatBlock[] armor;
+    private ItemizedStatBlock held;
+    private EnumMapStatBlock[] legacyArmor;
+    private EnumMapStatBlock legacyHeld;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42L);
+        armor = new ItemizedStatBlock[ARMOR_PIECES];
+        legacyArmor = new EnumMapStatBlock[ARMOR_PIECES];
+        for (int i = 0; i < ARMOR_PIECES; i++) {
+            armor[i] = ItemizedStatBlock.empty();
+            legacyArmor[i] = new EnumMapStatBlock();
+            fill(random, armor[i], legacyArmor[i]);
+            armor[i].freeze();
+        }
+        held = ItemizedStatBlock.empty();
+        legacyHeld = new EnumMapStatBlock();
+        fill(random, held, legacyHeld);
+        held.freeze();
+    }
+
+    @Benchmark
+    public double arrayRecompute() {
+        ItemizedStatBlock armorTotal = ItemizedStatBlock.empty();
+        for (ItemizedStatBlock piece : armor) {
+            armorTotal.addAll(piece);
+        }
+        ItemizedStatBlock total = ItemizedStatBlock.empty();
+        total.addAll(held);
+        total.addAll(armorTotal);
+        ItemizedStatBlock defensive = armorTotal.copy();
+        defensive.add(ItemizedStat.PHYSICAL_DEFENCE, held.get(ItemizedStat.PHYSICAL_DEFENCE));
+        defensive.add(ItemizedStat.MAGICAL_DEFENCE, held.get(ItemizedStat.MAGICAL_DEFENCE));
+        defensive.add(ItemizedStat.BLOCK_EFFICIENCY, held.get(ItemizedStat.BLOCK_EFFICIENCY));
+        return reads(total.get(ItemizedStat.MOVEMENT_SPEED), total.get(ItemizedStat.MAX_HP),
+            defensive.get(ItemizedStat.PHYSICAL_DEFENCE), held.get(ItemizedStat.PHYSICAL_DAMAGE));
+    }
+
+    @Benchmark
+    public double legacyEnumMapRecompute() {
+        EnumMapStatBlock armorTotal = new EnumMapStatBlock();
+        for (EnumMapStatBlock piece : legacyArmor) {
+            armorTotal.addAll(piece);
+        }
+        EnumMapStatBlock total = new EnumMapStatBlock();
+        total.addAll(legacyHeld);
+        total.addAll(armorTotal);
+        EnumMapStatBlock defensive = armorTotal.copy();
+        defensive.add(ItemizedStat.PHYSICAL_DEFENCE, legacyHeld.get(ItemizedStat.PHYSICAL_DEFENCE));
+        defensive.add(ItemizedStat.MAGICAL_DEFENCE, legacyHeld.get(ItemizedStat.MAGICAL_DEFENCE));
+        defensive.add(ItemizedStat.BLOCK_EFFICIENCY, legacyHeld.get(ItemizedStat.BLOCK_EFFICIENCY));
+        return reads(total.get(ItemizedStat.MOVEMENT_SPEED), total.get(ItemizedStat.MAX_HP),
+            defensive.get(ItemizedStat.PHYSICAL_DEFENCE), legacyHeld.get(ItemizedStat.PHYSICAL_DAMAGE));
+    }
+
+    private static double reads(double a, double b, double c, double d) {
+        return a + b + c + d;
+    }
+
+    private static void fill(SplittableRandom random, ItemizedStatBlock block, EnumMapStatBlock legacy) {
+        for (ItemizedStat stat : STATS) {
+            if (random.nextInt(3) == 0) {
+                double value = random.nextDouble(0.01, 25.0);
+                block.set(stat, value);
+                legacy.set(stat, value);
+            }
+        }
+    }
+
+    /**
+     * The EnumMap-backed block this benchmark replaced.
+     */
+    private static final class EnumMapStatBlock {
+        private final EnumMap<ItemizedStat, Double> values = new EnumMap<>(ItemizedStat.class);
+
+        double get(ItemizedStat stat) {
+            return values.getOrDefault(stat, 0.0);
+        }
+
+        void set(ItemizedStat stat, double value) {
+            if (Math.abs(value) <= 1e-9) {
+                values.remove(stat);
+                return;
+            }
+            values.put(stat, value);
+        }
+
+        void add(ItemizedStat stat, double value) {
+            if (Math.abs(value) <= 1e-9) {
+                return;
+            }
+            set(stat, get(stat) + value);
+        }
+
+        void addAll(EnumMapStatBlock other) {
+            for (Map.Entry<ItemizedStat, Double> entry : other.values.entrySet()) {
+                add(entry.getKey(), entry.getValue());
+            }
+        }
+
+        EnumMapStatBlock copy() {
+            EnumMapStatBlock out = new EnumMapStatBlock();
+            out.values.putAll(this.values);
+            return out;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package dev.hytalemodding.hyrune.itemization.tooltip;
+
+import com.hypixel.hytale.protocol.ComponentUpdate;
+import com.hypixel.hytale.protocol.EntityUpdate;
+import com.hypixel.hytale.protocol.InventorySection;
+import com.hypixel.hytale.protocol.ItemBase;
+import com.hypixel.hytale.protocol.ItemUpdate;
+import com.hypixel.hytale.protocol.ItemWithAllMetadata;
+import com.hypixel.hytale.protocol.Packet;
+import com.hypixel.hytale.protocol.packets.entities.EntityUpdates;
+import com.hypixel.hytale.protocol.packets.interface_.CustomPage;
+import com.hypixel.hytale.protocol.packets.interface_.CustomUICommand;
+import com.hypixel.hytale.protocol.packets.inventory.UpdatePlayerInventory;
+import com.hypixel.hytale.protocol.packets.window.OpenWindow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbound rewrite cost per packet type, in the steady state where the player already holds every
+ * virtual item. {@code plain} packets carry no Hyrune metadata and should stop at the pre-scan.
+ * <p>
+ * Outside a running server the item asset store is empty, so the setup seeds a virtual base for
+ * every itemized stack; itemized packets then pay for the section and stack copies they would
+ * in game.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OutboundPacketRewriteBenchmark {
+    private static final UUID PLAYER = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final String LANGUAGE = "en-US";
+    private static final int STORAGE_SLOTS = 36;
+    private static final String ITEMIZED_METADATA = "{\"HyruneItemInstance\":{\"Version\":7,\"Rarity\":\"RARE\","
+        + "\"Source\":\"CRAFTED\",\"Seed\":42,\"SocketCapacity\":2,\"Gems\":[\"Gem_Ruby\"],"
+        + "\"FlatRolls\":{\"physical_damage\":4.5},\"PercentRolls\":{\"physical_crit_chance\":0.03}}}";
+
+    @Param({"inventory-plain", "inventory-itemized", "window-itemized", "entity-updates", "custom-page"})
+    public String packetType;
+
+    private HyruneVirtualItemRegistry registry;
+    private HyruneDynamicTooltipComposer composer;
+    private HyruneDynamicTooltipPacketAdapter adapter;
+
+    private InventorySection hotbar;
+    private InventorySection storage;
+    private ItemWithAllMetadata droppedItem;
+    private ItemUpdate itemUpdate;
+    private CustomUICommand command;
+    private String commandData;
+
+    @Setup
+    public void setup() {
+        registry = new HyruneVirtualItemRegistry();
+        composer = new HyruneDynamicTooltipComposer();
+        adapter = new HyruneDynamicTooltipPacketAdapter(registry, composer);
+
+        boolean itemized = !"inventory-plain".equals(packetType);
+        hotbar = section(9, itemized ? 3 : 0);
+        storage = section(STORAGE_SLOTS, itemized ? 6 : 0);
+        droppedItem = item("Weapon_Sword_Iron", ITEMIZED_METADATA);
+        itemUpdate = new ItemUpdate();
+        command = new CustomUICommand();
+        commandData = "{\"Slots\":[{\"ItemId\":\"Weapon_Sword_Iron\",\"Quantity\":1},{\"ItemId\":\"Ingredient_Bar_Iron\"}]}";
+        registry.trackSlotVirtualId(PLAYER, "hotbar:0", HyruneVirtualItemRegistry.generateVirtualId("Weapon_Sword_Iron", 0x0a1b2c3dL));
+        seedVirtualBases(hotbar);
+        seedVirtualBases(storage);
+        seedVirtualBase(droppedItem);
+
+        // Settle into the steady state: everything this packet needs was already sent.
+        HyruneDynamicTooltipPacketAdapter.RewriteScratch warm = adapter.rewriteOutbound(PLAYER, LANGUAGE, nextPacket());
+        registry.markAndGetUnsent(PLAYER, warm.virtualItems.keySet());
+    }
+
+    @Benchmark
+    public Object rewrite() {
+        Packet packet = nextPacket();
+        adapter.rewriteOutbound(PLAYER, LANGUAGE, packet);
+        return packet;
+    }
+
+    /**
+     * Fresh packet shell over the shared fixture; the rewrite is copy-on-write, so sections and
+     * items are never modified and only the fields it replaces need resetting.
+     */
+    private Packet nextPacket() {
+        return switch (packetType) {
+            case "inventory-plain", "inventory-itemized" -> {
+                UpdatePlayerInventory inventory = new UpdatePlayerInventory();
+                inventory.hotbar = hotbar;
+                inventory.storage = storage;
+                yield inventory;
+            }
+            case "window-itemized" -> {
+                OpenWindow window = new OpenWindow();
+                window.inventory = storage;
+                yield window;
+            }
+            case "entity-updates" -> {
+                itemUpdate.item = droppedItem;
+                EntityUpdate entityUpdate = new EntityUpdate();
+                entityUpdate.networkId = 7;
+                entityUpdate.updates = new ComponentUpdate[]{itemUpdate};
+                EntityUpdates updates = new EntityUpdates();
+                updates.updates = new EntityUpdate[]{entityUpdate};
+                yield updates;
+            }
+            case "custom-page" -> {
+                command.data = commandData;
+                CustomPage page = new CustomPage();
+                page.commands = new CustomUICommand[]{command};
+                yield page;
+            }
+            default -> throw new IllegalStateException("Unknown packet type " + packetType);
+        };
+    }
+
+    private void seedVirtualBases(InventorySection section) {
+        for (ItemWithAllMetadata item : section.items.values()) {
+            seedVirtualBase(item);
+        }
+    }
+
+    private void seedVirtualBase(ItemWithAllMetadata item) {
+        if (!HyruneDynamicTooltipPacketAdapter.isItemizedCandidate(item)) {
+            return;
+        }
+        HyruneDynamicTooltipComposer.ComposedTooltip composed = composer.compose(item.itemId, item.metadata);
+        if (composed == null) {
+            throw new IllegalStateException("Benchmark metadata did not compose for " + item.itemId);
+        }
+        ItemBase base = new ItemBase();
+        base.id = composed.getVirtualId();
+        registry.putVirtualItemBase(composed.getVirtualId(), base);
+    }
+
+    private static InventorySection section(int capacity, int itemizedCount) {
+        InventorySection section = new InventorySection();
+        section.capacity = (short) capacity;
+        Map<Integer, ItemWithAllMetadata> items = new HashMap<>();
+        section.items = items;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (slot < itemizedCount) {
+                items.put(slot, item("Armor_Iron_Chest", ITEMIZED_METADATA.replace("\"Seed\":42", "\"Seed\":" + slot)));
+            } else if (slot % 2 == 0) {
+                items.put(slot, item("Ingredient_Bar_Iron", null));
+            }
+        }
+        return section;
+    }
+
+    private static ItemWithAllMetadata item(String itemId, String metadata) {
+        ItemWithAllMetadata item = new ItemWithAllMetadata();
+        item.itemId = itemId;
+        item.quantity = 1;
+        item.metadata = metadata;
+        return item;
+    }
+}
@@ -0,0 +1,69 @@
+package dev.hytalemodding.hyrune.level.formulas;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-XP-event cost of level resolution across the level range. The compiled table should be
+ * flat across {@code level}; the legacy loop grows quadratically with it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LevelFormulaBenchmark {
+
+    @Param({"2", "30", "60", "99", "120"})
+    public int level;
+
+    private LevelFormula formula;
+    private long xp;
+
+    @Setup
+    public void setup() {
+        formula = new LevelFormula();
+        xp = formula.getXpForLevel(level) + 1;
+    }
+
+    @Benchmark
+    public int compiledLevelForXp() {
+        return formula.getLevelForXp(xp);
+    }
+
+    @Benchmark
+    public float compiledSkillProgress() {
+        int current = formula.getLevelForXp(xp);
+        long floor = formula.getXpForLevel(current);
+        long ceiling = formula.getXpForLevel(current + 1);
+        return (float) (xp - floor) / (float) Math.max(1L, ceiling - floor);
+    }
+
+    @Benchmark
+    public int legacyLevelForXp() {
+        for (int i = 1; i < 120; i++) {
+            if (xp < legacyXpForLevel(i + 1)) {
+                return i;
+            }
+        }
+        return 120;
+    }
+
+    // Pre-table implementation, kept here as the baseline.
+    private static long legacyXpForLevel(int level) {
+        if (level <= 1) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 1; i < level; i++) {
+            total += (long) Math.floor(i + 300 * Math.pow(2, i / 7.0));
+        }
+        return (long) Math.floor(total / 4.0);
+    }
+}
@@ -6,6 +6,7 @@ import com.hypixel.hytale.server.core.event.events.entity.LivingEntityInventoryC
 import com.hypixel.hytale.server.core.event.events.ecs.InteractivelyPickupItemEvent;
 import com.hypixel.hytale.server.core.event.events.player.AddPlayerToWorldEvent;
 import com.hypixel.hytale.server.core.event.events.player.DrainPlayerFromWorldEvent;
+import com.hypixel.hytale.server.core.event.events.player.PlayerConnectEvent;
 import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
 import com.hypixel.hytale.server.core.io.adapter.PacketAdapters;
 import com.hypixel.hytale.server.core.io.adapter.PacketFilter;
@@ -28,18 +29,22 @@ import dev.hytalemodding.hyrune.commands.ItemStatsCommand;
 import dev.hytalemodding.hyrune.commands.GemUiCommand;
 import dev.hytalemodding.hyrune.commands.SalvageCommand;
 import dev.hytalemodding.hyrune.commands.HighAlchCommand;
+import dev.hytalemodding.hyrune.commands.XpStatsCommand;
+import dev.hytalemodding.hyrune.commands.QueryAuditCommand;
 import dev.hytalemodding.hyrune.component.GameModeDataComponent;
-import dev.hytalemodding.hyrune.database.JsonLevelRepository;
-import dev.hytalemodding.hyrune.database.JsonQuestRepository;
-import dev.hytalemodding.hyrune.database.JsonSocialRepository;
-import dev.hytalemodding.hyrune.database.JsonSlayerRepository;
+import dev.hytalemodding.hyrune.database.LevelRepository;
+import dev.hytalemodding.hyrune.database.PlayerDataStorage;
 import dev.hytalemodding.hyrune.database.QuestRepository;
+import dev.hytalemodding.hyrune.database.SlayerRepository;
 import dev.hytalemodding.hyrune.bonus.SkillStatBonusListener;
+import dev.hytalemodding.hyrune.config.HyruneConfig;
 import dev.hytalemodding.hyrune.config.HyruneConfigManager;
 import dev.hytalemodding.hyrune.events.LevelingVisualsListener;
-import dev.hytalemodding.hyrune.events.ItemizationInventoryListener;
-import dev.hytalemodding.hyrune.events.ContainerLootItemizationListener;
+import dev.hytalemodding.hyrune.events.InventoryChangeDispatcher;
 import dev.hytalemodding.hyrune.events.WorldItemGenerationListener;
+import dev.hytalemodding.hyrune.gathering.GatheringRewardConfigRepository;
+import dev.hytalemodding.hyrune.gathering.GatheringRewardTables;
+import dev.hytalemodding.hyrune.itemization.ItemClassificationIndex;
 import dev.hytalemodding.hyrune.itemization.tooltip.HyruneDynamicTooltipService;
 import dev.hytalemodding.hyrune.registry.HyruneComponents;
 import dev.hytalemodding.hyrune.registry.HyruneDialogue;
@@ -48,11 +53,10 @@ import dev.hytalemodding.hyrune.component.FishingBobberComponent;
 import dev.hytalemodding.hyrune.interaction.GemSocketInteraction;
 import dev.hytalemodding.hyrune.interaction.NpcProfilerInteraction;
 import dev.hytalemodding.hyrune.interaction.RepairBenchInteraction;
+import dev.hytalemodding.hyrune.events.PlayerDataPrefetcher;
 import dev.hytalemodding.hyrune.events.PlayerJoinListener;
 import dev.hytalemodding.hyrune.level.LevelingService;
 import dev.hytalemodding.hyrune.level.formulas.LevelFormula;
-import dev.hytalemodding.hyrune.events.ArmorRequirementListener;
-import dev.hytalemodding.hyrune.events.TradePackInventoryListener;
 import dev.hytalemodding.hyrune.slayer.SlayerConfigRepository;
 import dev.hytalemodding.hyrune.slayer.SlayerService;
 import dev.hytalemodding.hyrune.slayer.SlayerTaskRegistry;
@@ -86,14 +90,19 @@ import java.util.logging.Level;
  */
 public class Hyrune extends JavaPlugin {
     public static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final String DATA_FOLDER = "./hyrune_data";
+    private static final String NPC_ROLES_FOLDER = "./lib/Server/NPC/Roles";
     private static Hyrune instance;
     private LevelingService service;
     private SlayerService slayerService;
     private NpcLevelService npcLevelService;
-    private NpcFamiliesConfig npcFamiliesConfig;
     private SocialService socialService;
     private PacketFilter socialInteractionWatcherFilter;
     private HyruneDynamicTooltipService dynamicTooltipService;
+    private PlayerDataStorage playerDataStorage;
+    private PlayerDataPrefetcher playerDataPrefetcher;
+    private NpcFamiliesConfigRepository npcFamiliesRepository;
+    private GatheringRewardConfigRepository gatheringRewardRepository;
 
 
     /**
@@ -109,29 +118,33 @@ public class Hyrune extends JavaPlugin {
     @Override
     protected void setup() {
         // Load config and bootstrap persistence-backed services first.
-        JsonLevelRepository levelRepository = new JsonLevelRepository("./hyrune_data");
-        HyruneConfigManager.reload();
+        HyruneConfig config = HyruneConfigManager.reload();
+        this.playerDataStorage = PlayerDataStorage.open(DATA_FOLDER, config.persistence);
+        LevelRepository levelRepository = this.playerDataStorage.createLevelRepository();
         LevelFormula formula = new LevelFormula();
         this.service = new LevelingService(formula, levelRepository);
+        this.service.applyXpCurves(config.xpCurvesBySkill);
 
         // Initialize progression/AI services that depend on local data repositories.
-        NpcFamiliesConfigRepository npcFamiliesRepository =
-            new NpcFamiliesConfigRepository("./hyrune_data", "./lib/Server/NPC/Roles");
-        this.npcFamiliesConfig = npcFamiliesRepository.loadOrCreate();
-        this.npcLevelService = new NpcLevelService(this.npcFamiliesConfig);
+        this.npcFamiliesRepository = new NpcFamiliesConfigRepository(DATA_FOLDER, NPC_ROLES_FOLDER);
+        this.npcLevelService = new NpcLevelService(this.npcFamiliesRepository.loadOrCreate());
 
-        SlayerTaskRegistry slayerTaskRegistry = new SlayerConfigRepository("./hyrune_data").loadOrCreateRegistry();
+        SlayerTaskRegistry slayerTaskRegistry = new SlayerConfigRepository(DATA_FOLDER).loadOrCreateRegistry();
         for (String issue : slayerTaskRegistry.validate()) {
             LOGGER.at(Level.WARNING).log("Slayer task registry issue: " + issue);
         }
-        JsonSlayerRepository slayerRepository = new JsonSlayerRepository("./hyrune_data");
+        SlayerRepository slayerRepository = this.playerDataStorage.createSlayerRepository();
         this.slayerService = new SlayerService(slayerRepository, slayerTaskRegistry, npcLevelService);
-        this.socialService = new SocialService(new JsonSocialRepository("./hyrune_data"));
-        RepairProfileConfigRepository repairProfileRepository = new RepairProfileConfigRepository("./hyrune_data");
+        this.socialService = new SocialService(this.playerDataStorage.createSocialRepository());
+        RepairProfileConfigRepository repairProfileRepository = new RepairProfileConfigRepository(DATA_FOLDER);
         RepairProfileConfig repairConfig = repairProfileRepository.loadOrCreate(RepairProfileRegistry.getDefaultDefinitions());
         RepairProfileRegistry.reloadFromConfig(repairConfig);
+        this.gatheringRewardRepository = new GatheringRewardConfigRepository(DATA_FOLDER);
+        GatheringRewardTables.publish(this.gatheringRewardRepository.loadOrCreate(GatheringRewardTables.defaultConfig()));
+        int classifiedItems = ItemClassificationIndex.rebuild();
+        LOGGER.at(Level.INFO).log("Classified " + classifiedItems + " item ids.");
 
-        QuestRepository questRepository = new JsonQuestRepository("./hyrune_data");
+        QuestRepository questRepository = this.playerDataStorage.createQuestRepository();
         QuestManager questManager = QuestManager.get();
         questManager.setRepository(questRepository);
 
@@ -141,7 +154,10 @@ public class Hyrune extends JavaPlugin {
         HyruneSystems.register(this, this.slayerService, this.npcLevelService);
         HyruneDialogue.init(this.service, this.slayerService);
 
-        PlayerJoinListener joinListener = new PlayerJoinListener(this.service, this.slayerService, questManager, this.socialService);
+        this.playerDataPrefetcher = new PlayerDataPrefetcher(this.service, this.slayerService, questManager,
+            this.socialService, config.persistence.joinPrefetchTimeoutMillis);
+        PlayerJoinListener joinListener = new PlayerJoinListener(this.service, this.slayerService, questManager,
+            this.socialService, this.playerDataPrefetcher);
         registerCoreEvents(joinListener);
         registerDynamicTooltipHooks();
         registerInteractions();
@@ -162,14 +178,13 @@ public class Hyrune extends JavaPlugin {
 
     private void registerCoreEvents(PlayerJoinListener joinListener) {
         // Event and packet hooks are attached after registries are available.
+        this.getEventRegistry().registerGlobal(PlayerConnectEvent.class, joinListener::onPlayerConnect);
         this.getEventRegistry().registerGlobal(AddPlayerToWorldEvent.class, joinListener::onPlayerJoin);
         this.getEventRegistry().registerGlobal(PlayerDisconnectEvent.class, joinListener::onPlayerDisconnect);
         // Keep DrainPlayerFromWorldEvent too - it might be useful for world teleports.
         this.getEventRegistry().registerGlobal(DrainPlayerFromWorldEvent.class, joinListener::onPlayerLeave);
-        this.getEventRegistry().registerGlobal(LivingEntityInventoryChangeEvent.class, new ArmorRequirementListener()::onInventoryChange);
-        this.getEventRegistry().registerGlobal(LivingEntityInventoryChangeEvent.class, new TradePackInventoryListener()::onInventoryChange);
-        this.getEventRegistry().registerGlobal(LivingEntityInventoryChangeEvent.class, new ContainerLootItemizationListener()::onInventoryChange);
-        this.getEventRegistry().registerGlobal(LivingEntityInventoryChangeEvent.class, new ItemizationInventoryListener()::onInventoryChange);
+        // One listener records changes; armor, loot, trade pack and itemization stages run in one pass per player.
+        this.getEventRegistry().registerGlobal(LivingEntityInventoryChangeEvent.class, new InventoryChangeDispatcher()::onInventoryChange);
         this.getEventRegistry().registerGlobal(InteractivelyPickupItemEvent.class, new WorldItemGenerationListener()::onInteractivelyPickupItem);
         this.socialInteractionWatcherFilter = PacketAdapters.registerInbound(new SocialInteractionWatcher());
     }
@@ -210,6 +225,8 @@ public class Hyrune extends JavaPlugin {
         this.getCommandRegistry().registerCommand(new CharacterCommand());
         this.getCommandRegistry().registerCommand(new SetSkillCommand());
         this.getCommandRegistry().registerCommand(new SkillInfoCommand());
+        this.getCommandRegistry().registerCommand(new XpStatsCommand());
+        this.getCommandRegistry().registerCommand(new QueryAuditCommand());
         this.getCommandRegistry().registerCommand(new ClearNpcHologramsCommand());
         this.getCommandRegistry().registerCommand(new ReloadConfigCommand());
         this.getCommandRegistry().registerCommand(new NpcConfigAuditCommand());
@@ -225,6 +242,17 @@ public class Hyrune extends JavaPlugin {
 
     @Override
     protected void shutdown() {
+        if (this.playerDataPrefetcher != null) {
+            this.playerDataPrefetcher.shutdown();
+            this.playerDataPrefetcher = null;
+        }
+        if (this.service != null) {
+            this.service.shutdown();
+        }
+        if (this.playerDataStorage != null) {
+            this.playerDataStorage.close();
+            this.playerDataStorage = null;
+        }
         if (this.dynamicTooltipService != null) {
             this.dynamicTooltipService.shutdown();
             this.dynamicTooltipService = null;
@@ -290,13 +318,32 @@ public class Hyrune extends JavaPlugin {
         return instance != null ? instance.npcLevelService : null;
     }
 
+    /**
+     * Gets the repository the NPC families config is loaded from.
+     *
+     * @return the NPC families repository, if initialized
+     */
+    public static NpcFamiliesConfigRepository getNpcFamiliesRepository() {
+        return instance != null ? instance.npcFamiliesRepository : null;
+    }
+
+    /**
+     * Gets the repository the gathering reward tables are loaded from.
+     *
+     * @return the gathering reward repository, if initialized
+     */
+    public static GatheringRewardConfigRepository getGatheringRewardRepository() {
+        return instance != null ? instance.gatheringRewardRepository : null;
+    }
+
     /**
      * Gets the npc families config.
      *
-     * @return loaded families config, if available
+     * @return families config live in the NPC level service, if available
      */
     public static NpcFamiliesConfig getNpcFamiliesConfig() {
-        return instance != null ? instance.npcFamiliesConfig : null;
+        NpcLevelService levelService = getNpcLevelService();
+        return levelService != null ? levelService.getFamiliesConfig() : null;
     }
 
 
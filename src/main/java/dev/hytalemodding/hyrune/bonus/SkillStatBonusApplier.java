@@ -11,6 +11,7 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import dev.hytalemodding.Hyrune;
 import dev.hytalemodding.hyrune.itemization.PlayerItemizationStatsService;
+import dev.hytalemodding.hyrune.level.DerivedSkillStats;
 import dev.hytalemodding.hyrune.level.LevelingService;
 import dev.hytalemodding.hyrune.skills.SkillType;
 import dev.hytalemodding.hyrune.tradepack.TradePackUtils;
@@ -124,10 +125,10 @@ public final class SkillStatBonusApplier {
             return;
         }
 
-        LevelingService service = Hyrune.getService();
-        int constitution = service.getSkillLevel(uuid, SkillType.CONSTITUTION);
-        int magic = service.getSkillLevel(uuid, SkillType.MAGIC);
-        int agility = service.getSkillLevel(uuid, SkillType.AGILITY);
+        DerivedSkillStats skills = Hyrune.getService().getDerivedStats(uuid);
+        int constitution = skills.getLevel(SkillType.CONSTITUTION);
+        int magic = skills.getLevel(SkillType.MAGIC);
+        int agility = skills.getLevel(SkillType.AGILITY);
 
         int healthIndex = getStatIndex(statMap, HEALTH_ID);
         if (healthIndex >= 0) {
@@ -8,9 +8,14 @@ import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayer
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import dev.hytalemodding.Hyrune;
 import dev.hytalemodding.hyrune.itemization.GatheringUtilityDropService;
 import dev.hytalemodding.hyrune.itemization.ItemGenerationService;
+import dev.hytalemodding.hyrune.itemization.ItemStatResolutionCache;
+import dev.hytalemodding.hyrune.itemization.ItemStatResolver;
 import dev.hytalemodding.hyrune.itemization.ItemizedStatRuntimeContracts;
+import dev.hytalemodding.hyrune.itemization.tooltip.HyruneDynamicTooltipService;
+import dev.hytalemodding.hyrune.itemization.tooltip.TooltipCache;
 import dev.hytalemodding.hyrune.system.MiningSpeedSystem;
 import dev.hytalemodding.hyrune.system.SkillCombatBonusSystem;
 import dev.hytalemodding.hyrune.system.WoodcuttingSpeedSystem;
@@ -37,6 +42,21 @@ public class ItemDiagCommand extends AbstractPlayerCommand {
             + ", alreadyRolled=" + ItemGenerationService.Diagnostics.alreadyRolledBySourceSnapshot()
             + ", rolled=" + ItemGenerationService.Diagnostics.rolledBySourceSnapshot()));
         ctx.sendMessage(Message.raw("[ItemDiag] generation.rolledByRarity=" + ItemGenerationService.Diagnostics.rolledBySourceAndRaritySnapshot()));
+        ItemStatResolutionCache.Stats resolutionCache = ItemStatResolver.cacheStats();
+        ctx.sendMessage(Message.raw(String.format(Locale.US,
+            "[ItemDiag] resolutionCache hits=%d, misses=%d, hitRate=%.3f, evictions=%d, entries=%d, weight=%d/%d",
+            resolutionCache.hits(),
+            resolutionCache.misses(),
+            resolutionCache.hitRate(),
+            resolutionCache.evictions(),
+            resolutionCache.entries(),
+            resolutionCache.weight(),
+            resolutionCache.maxWeight())));
+        HyruneDynamicTooltipService tooltipService = Hyrune.getDynamicTooltipService();
+        if (tooltipService != null) {
+            sendTooltipCacheStats(ctx, "tooltipStateCache", tooltipService.stateCacheStats());
+            sendTooltipCacheStats(ctx, "tooltipComposedCache", tooltipService.composedCacheStats());
+        }
         ctx.sendMessage(Message.raw("[ItemDiag] contract.count=" + ItemizedStatRuntimeContracts.all().size()));
 
         String checks = String.format(Locale.US,
@@ -57,4 +77,16 @@ public class ItemDiagCommand extends AbstractPlayerCommand {
         );
         ctx.sendMessage(Message.raw("[ItemDiag] integration.checks=" + checks));
     }
+
+    private static void sendTooltipCacheStats(CommandContext ctx, String label, TooltipCache.Stats stats) {
+        ctx.sendMessage(Message.raw(String.format(Locale.US,
+            "[ItemDiag] %s hits=%d, misses=%d, hitRate=%.3f, evictions=%d, entries=%d/%d",
+            label,
+            stats.hits(),
+            stats.misses(),
+            stats.hitRate(),
+            stats.evictions(),
+            stats.entries(),
+            stats.maxEntries())));
+    }
 }
@@ -0,0 +1,53 @@
+package dev.hytalemodding.hyrune.commands;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import dev.hytalemodding.hyrune.system.QueryAudit;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Debug command that toggles the query audit: the first run starts counting, the next run reports
+ * per-system visited-entity counts and stops counting again.
+ */
+public class QueryAuditCommand extends AbstractPlayerCommand {
+
+    public QueryAuditCommand() {
+        super("queryaudit", "Start a query audit, or report entities visited per Hyrune system and stop it");
+    }
+
+    @Override
+    protected void execute(@Nonnull CommandContext ctx,
+                           @Nonnull Store<EntityStore> store,
+                           @Nonnull Ref<EntityStore> ref,
+                           @Nonnull PlayerRef playerRef,
+                           @Nonnull World world) {
+        if (!QueryAudit.isEnabled()) {
+            QueryAudit.start();
+            ctx.sendMessage(Message.raw("Query audit started; run /queryaudit again to report."));
+            return;
+        }
+        QueryAudit.stop();
+        long windowMillis = Math.max(1L, QueryAudit.getWindowMillis());
+        List<Map.Entry<String, Long>> counts = QueryAudit.snapshot();
+        QueryAudit.reset();
+
+        ctx.sendMessage(Message.raw("Query audit over " + (windowMillis / 1000L) + "s:"));
+        if (counts.isEmpty()) {
+            ctx.sendMessage(Message.raw("  no systems have run yet."));
+            return;
+        }
+        for (Map.Entry<String, Long> entry : counts) {
+            long perSecond = entry.getValue() * 1000L / windowMillis;
+            ctx.sendMessage(Message.raw("  " + entry.getKey() + ": " + entry.getValue() + " (" + perSecond + "/s)"));
+        }
+    }
+}
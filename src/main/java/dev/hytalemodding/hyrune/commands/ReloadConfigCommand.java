@@ -8,10 +8,19 @@ import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayer
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import dev.hytalemodding.Hyrune;
 import dev.hytalemodding.hyrune.config.HyruneConfig;
 import dev.hytalemodding.hyrune.config.HyruneConfigManager;
+import dev.hytalemodding.hyrune.gathering.GatheringRewardConfigRepository;
+import dev.hytalemodding.hyrune.gathering.GatheringRewardTables;
+import dev.hytalemodding.hyrune.itemization.ItemClassificationIndex;
+import dev.hytalemodding.hyrune.itemization.ItemStatResolver;
+import dev.hytalemodding.hyrune.level.LevelingService;
+import dev.hytalemodding.hyrune.npc.NpcFamiliesConfigRepository;
+import dev.hytalemodding.hyrune.npc.NpcLevelService;
 
 import javax.annotation.Nonnull;
+import java.util.List;
 
 /**
  * Reloads Hyrune runtime gameplay config from disk.
@@ -29,6 +38,27 @@ public class ReloadConfigCommand extends AbstractPlayerCommand {
                            @Nonnull PlayerRef playerRef,
                            @Nonnull World world) {
         HyruneConfig cfg = HyruneConfigManager.reload();
+        LevelingService leveling = LevelingService.get();
+        if (leveling != null) {
+            leveling.applyXpCurves(cfg.xpCurvesBySkill);
+        }
+        // Rebuild the index before dropping cached stats, so nothing resolved against the old index
+        // can land in the new cache generation.
+        ItemClassificationIndex.rebuild();
+        ItemStatResolver.invalidateCache();
+        GatheringRewardTables gathering = GatheringRewardTables.current();
+        GatheringRewardConfigRepository gatheringRepository = Hyrune.getGatheringRewardRepository();
+        if (gatheringRepository != null) {
+            gathering = GatheringRewardTables.publish(gatheringRepository.loadOrCreate(GatheringRewardTables.defaultConfig()));
+        }
+        NpcLevelService npcLevels = Hyrune.getNpcLevelService();
+        NpcFamiliesConfigRepository npcFamiliesRepository = Hyrune.getNpcFamiliesRepository();
+        int npcFamilies = 0;
+        if (npcLevels != null && npcFamiliesRepository != null) {
+            npcLevels.reload(npcFamiliesRepository.loadOrCreate());
+            List<?> families = npcLevels.getFamiliesConfig().families;
+            npcFamilies = families == null ? 0 : families.size();
+        }
         HyruneConfig.RegenConfig regen = cfg.regen == null ? new HyruneConfig.RegenConfig() : cfg.regen;
         ctx.sendMessage(Message.raw(
             "Hyrune config reloaded."
@@ -40,6 +70,9 @@ public class ReloadConfigCommand extends AbstractPlayerCommand {
                 + ", seedRules=" + cfg.farmingSeedLevelRequirements.size()
                 + ", animalRules=" + cfg.farmingAnimalLevelRequirements.size()
                 + ", npcNameOverrides=" + cfg.npcNameOverrides.size()
+                + ", xpCurves=" + cfg.xpCurvesBySkill.size()
+                + ", gatheringRewards=v" + gathering.version() + "/" + gathering.rewardCount()
+                + ", npcFamilies=" + npcFamilies
         ));
     }
 
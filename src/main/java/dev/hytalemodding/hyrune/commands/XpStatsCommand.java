@@ -0,0 +1,45 @@
+package dev.hytalemodding.hyrune.commands;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import dev.hytalemodding.hyrune.level.LevelingService;
+import dev.hytalemodding.hyrune.level.XpEventBatcher;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Debug command that reports XP event batching counters.
+ */
+public class XpStatsCommand extends AbstractPlayerCommand {
+
+    public XpStatsCommand() {
+        super("xpstats", "Show XP event batching counters");
+    }
+
+    @Override
+    protected void execute(@Nonnull CommandContext ctx,
+                           @Nonnull Store<EntityStore> store,
+                           @Nonnull Ref<EntityStore> ref,
+                           @Nonnull PlayerRef playerRef,
+                           @Nonnull World world) {
+        LevelingService service = LevelingService.get();
+        if (service == null) {
+            ctx.sendMessage(Message.raw("Leveling service is not available."));
+            return;
+        }
+        XpEventBatcher events = service.getXpEvents();
+        ctx.sendMessage(Message.raw(
+            "XP events: grants=" + events.getGrantsRecorded()
+                + ", dispatched=" + events.getBatchesDispatched()
+                + ", coalesced=" + events.getCoalescedCount()
+                + ", overlayUpdates=" + events.getOverlayUpdates()
+                + ", pendingPlayers=" + events.getPendingPlayerCount()
+        ));
+    }
+}
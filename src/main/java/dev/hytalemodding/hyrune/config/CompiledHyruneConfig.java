@@ -0,0 +1,835 @@
+package dev.hytalemodding.hyrune.config;
+
+import dev.hytalemodding.hyrune.itemization.ItemArchetype;
+import dev.hytalemodding.hyrune.itemization.ItemRollSource;
+import dev.hytalemodding.hyrune.itemization.ItemizedStat;
+import dev.hytalemodding.hyrune.repair.ItemRarity;
+import dev.hytalemodding.hyrune.skills.SkillType;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable, pre-resolved view of a {@link HyruneConfig} for hot paths.
+ * <p>
+ * Built once per {@link HyruneConfigManager#reload()}: string-keyed maps are resolved into arrays
+ * indexed by {@link ItemizedStat}, {@link ItemArchetype}, {@link ItemRarity} and {@link SkillType}
+ * ordinals, keys are normalized up front and gem patterns are parsed, so rolls, tooltips and stat
+ * resolution never re-walk or re-lowercase config maps. Values keep the defaults and clamps the
+ * config helpers applied per call.
+ */
+public final class CompiledHyruneConfig {
+    private static final ItemizedStat[] STATS = ItemizedStat.values();
+    private static final ItemArchetype[] ARCHETYPES = ItemArchetype.values();
+    private static final ItemRarity[] RARITIES = ItemRarity.values();
+    private static final SkillType[] SKILLS = SkillType.values();
+    private static final ItemRollSource[] SOURCES = ItemRollSource.values();
+    private static final int MAX_MEMOIZED_GEM_IDS = 4096;
+
+    private final double flatRollMinScalar;
+    private final double flatRollMaxScalar;
+    private final double durabilityTierInfluence;
+    private final int uiDisplayFlatDecimals;
+    private final int uiDisplayPercentDecimals;
+    private final double flatRollTypeWeight;
+    private final double percentRollTypeWeight;
+    private final double[] rollStatRarityMultiplier;
+    private final int[] statsPerRarity;
+    private final double[] rarityScalar;
+    private final double[] statWeight;
+    private final RollConstraint[] rollConstraint;
+    private final PercentRollDefinition[] percentRoll;
+    private final PercentRollDefinition fallbackPercentRoll;
+    private final List<List<ItemizedStat>> poolByArchetype;
+    private final List<Map<ItemizedStat, Double>> baseStatsByArchetype;
+    private final double[][] baseValueByArchetype;
+    private final Map<String, PrefixPool> poolByPrefix;
+    private final String[] tierKeywords;
+    private final double[] tierScalars;
+
+    private final boolean gemSocketsEnabled;
+    private final double maxHpPerSocketedGem;
+    private final int[] socketsPerRarity;
+    private final GemPattern[] gemItemPatterns;
+    private final GemBonusPattern[] gemBonusPatterns;
+    private final Map<String, GemBonusPattern> gemBonusByItemId = new ConcurrentHashMap<>();
+
+    private final boolean enableDoubleDrops;
+    private final boolean enableRareDrops;
+    private final RareDropTable[] rareDropsBySkill;
+
+    private final RarityModel rarityModel;
+    private final List<String> rollablePrefixWords;
+    private final boolean itemizationDebugLogging;
+    private final boolean dynamicTooltipCacheDebug;
+    private final boolean dynamicTooltipComposeDebug;
+
+    private CompiledHyruneConfig(HyruneConfig config,
+                                 HyruneConfig.ItemizationSpecializedStatsConfig stats,
+                                 HyruneConfig.GemSocketConfig gems,
+                                 HyruneConfig.GatheringUtilityDropConfig drops) {
+        flatRollMinScalar = stats.flatRollMinScalar;
+        flatRollMaxScalar = stats.flatRollMaxScalar;
+        durabilityTierInfluence = clamp(stats.durabilityTierInfluence, 0.0, 1.0);
+        uiDisplayFlatDecimals = clampInt(stats.uiDisplayFlatDecimals, 0, 3);
+        uiDisplayPercentDecimals = clampInt(stats.uiDisplayPercentDecimals, 0, 3);
+        flatRollTypeWeight = rollTypeWeight(stats.rollTypeWeights, "flat");
+        percentRollTypeWeight = rollTypeWeight(stats.rollTypeWeights, "percent");
+
+        rollStatRarityMultiplier = new double[RARITIES.length];
+        statsPerRarity = new int[RARITIES.length];
+        rarityScalar = new double[RARITIES.length];
+        HyruneConfig.RarityScalarConfig scalars = stats.rarityScalar == null ? new HyruneConfig.RarityScalarConfig() : stats.rarityScalar;
+        for (ItemRarity rarity : RARITIES) {
+            int i = rarity.ordinal();
+            rollStatRarityMultiplier[i] = switch (rarity) {
+                case LEGENDARY -> clamp(stats.legendaryRollStatMultiplier, 0.0, 10.0);
+                case MYTHIC -> clamp(stats.mythicRollStatMultiplier, 0.0, 10.0);
+                default -> 1.0;
+            };
+            statsPerRarity[i] = Math.max(1, perRarity(stats.statsPerRarity, rarity, 1));
+            rarityScalar[i] = switch (rarity) {
+                case COMMON -> scalars.common;
+                case UNCOMMON -> scalars.uncommon;
+                case RARE -> scalars.rare;
+                case EPIC -> scalars.epic;
+                case VOCATIONAL -> scalars.vocational;
+                case LEGENDARY -> scalars.legendary;
+                case MYTHIC -> scalars.mythic;
+            };
+        }
+
+        statWeight = new double[STATS.length];
+        rollConstraint = new RollConstraint[STATS.length];
+        percentRoll = new PercentRollDefinition[STATS.length];
+        fallbackPercentRoll = sanitizePercentDefinition(stats.percentRollMin, stats.percentRollMax, stats.percentRollTierInfluence);
+        for (ItemizedStat stat : STATS) {
+            int i = stat.ordinal();
+            Double weight = stats.baseStatWeights == null ? null : stats.baseStatWeights.get(stat.getId());
+            statWeight[i] = weight == null ? 1.0 : Math.max(0.0, weight);
+            rollConstraint[i] = parseRollConstraint(configuredRollConstraintValue(stats.rollTypeConstraintByStat, stat));
+            HyruneConfig.StatDefinitionConfig definition = findIgnoreCase(stats.statDefinitions, stat.getId());
+            percentRoll[i] = definition == null
+                ? fallbackPercentRoll
+                : sanitizePercentDefinition(definition.baseMin, definition.baseMax, definition.scalingWeight);
+        }
+
+        List<List<ItemizedStat>> pools = new ArrayList<>(ARCHETYPES.length);
+        List<Map<ItemizedStat, Double>> baseStats = new ArrayList<>(ARCHETYPES.length);
+        baseValueByArchetype = new double[ARCHETYPES.length][STATS.length];
+        for (ItemArchetype archetype : ARCHETYPES) {
+            pools.add(compileArchetypePool(stats.poolByArchetype, archetype));
+            Map<ItemizedStat, Double> base = compileBaseStats(stats.baseStatsByArchetype, archetype);
+            baseStats.add(base);
+            double[] values = baseValueByArchetype[archetype.ordinal()];
+            for (ItemizedStat stat : STATS) {
+                double configured = base.getOrDefault(stat, 0.0);
+                values[stat.ordinal()] = configured > 0.0 ? configured : Math.max(0.0001, stat.getFlatReference());
+            }
+        }
+        poolByArchetype = Collections.unmodifiableList(pools);
+        baseStatsByArchetype = Collections.unmodifiableList(baseStats);
+        poolByPrefix = compilePrefixPools(stats.poolByPrefix, stats.prefixPriorityWeightByRank);
+
+        List<String> keywords = new ArrayList<>();
+        List<Double> keywordScalars = new ArrayList<>();
+        if (stats.tierScalarByKeyword != null) {
+            for (Map.Entry<String, Double> entry : stats.tierScalarByKeyword.entrySet()) {
+                String key = entry.getKey();
+                Double raw = entry.getValue();
+                if (key == null || key.isBlank() || raw == null || raw <= 0.0 || Double.isNaN(raw) || Double.isInfinite(raw)) {
+                    continue;
+                }
+                keywords.add(key.toLowerCase(Locale.ROOT));
+                keywordScalars.add(raw);
+            }
+        }
+        tierKeywords = keywords.toArray(new String[0]);
+        tierScalars = keywordScalars.stream().mapToDouble(Double::doubleValue).toArray();
+
+        gemSocketsEnabled = gems.enabled;
+        maxHpPerSocketedGem = gems.enabled ? clampFinite(gems.maxHpPerSocketedGem, 0.0, 1000.0) : 0.0;
+        socketsPerRarity = new int[RARITIES.length];
+        for (ItemRarity rarity : RARITIES) {
+            socketsPerRarity[rarity.ordinal()] = gems.enabled ? Math.max(0, perRarity(gems.socketsPerRarity, rarity, 0)) : 0;
+        }
+        List<GemPattern> itemPatterns = new ArrayList<>();
+        if (gems.gemItemIds != null) {
+            for (String raw : gems.gemItemIds) {
+                GemPattern pattern = GemPattern.parse(raw);
+                if (pattern != null) {
+                    itemPatterns.add(pattern);
+                }
+            }
+        }
+        gemItemPatterns = itemPatterns.toArray(new GemPattern[0]);
+        gemBonusPatterns = compileGemBonuses(gems.bonusesByGemPatternAndArchetype);
+
+        enableDoubleDrops = drops.enableDoubleDrops;
+        enableRareDrops = drops.enableRareDrops;
+        rareDropsBySkill = new RareDropTable[SKILLS.length];
+        for (SkillType skill : SKILLS) {
+            rareDropsBySkill[skill.ordinal()] = RareDropTable.compile(resolveSkillConfig(drops.rareDropsBySkill, skill));
+        }
+
+        rarityModel = RarityModel.compile(config.itemizationRarityModel == null
+            ? new HyruneConfig.ItemizationRarityModelConfig()
+            : config.itemizationRarityModel);
+        List<String> prefixWords = config.prefixes == null ? null : config.prefixes.rollableWords;
+        rollablePrefixWords = List.copyOf(prefixWords == null || prefixWords.isEmpty()
+            ? new HyruneConfig.PrefixConfig().rollableWords
+            : prefixWords);
+        itemizationDebugLogging = config.itemizationDebugLogging;
+        dynamicTooltipCacheDebug = config.dynamicTooltipCacheDebug;
+        dynamicTooltipComposeDebug = config.dynamicTooltipComposeDebug;
+    }
+
+    /**
+     * Compiles {@code config}; missing sections compile from their defaults.
+     */
+    public static CompiledHyruneConfig compile(@Nullable HyruneConfig config) {
+        HyruneConfig cfg = config == null ? new HyruneConfig() : config;
+        return new CompiledHyruneConfig(
+            cfg,
+            cfg.itemizationSpecializedStats == null ? new HyruneConfig.ItemizationSpecializedStatsConfig() : cfg.itemizationSpecializedStats,
+            cfg.gemSockets == null ? new HyruneConfig.GemSocketConfig() : cfg.gemSockets,
+            cfg.gatheringUtilityDrops == null ? new HyruneConfig.GatheringUtilityDropConfig() : cfg.gatheringUtilityDrops
+        );
+    }
+
+    public double flatRollMinScalar() {
+        return flatRollMinScalar;
+    }
+
+    public double flatRollMaxScalar() {
+        return flatRollMaxScalar;
+    }
+
+    public double durabilityTierInfluence() {
+        return durabilityTierInfluence;
+    }
+
+    public int uiDisplayFlatDecimals() {
+        return uiDisplayFlatDecimals;
+    }
+
+    public int uiDisplayPercentDecimals() {
+        return uiDisplayPercentDecimals;
+    }
+
+    public double rollTypeWeight(RollType type) {
+        if (type == null) {
+            return 1.0;
+        }
+        return type == RollType.FLAT ? flatRollTypeWeight : percentRollTypeWeight;
+    }
+
+    public double rollStatRarityMultiplier(@Nullable ItemRarity rarity) {
+        return rarity == null ? 1.0 : rollStatRarityMultiplier[rarity.ordinal()];
+    }
+
+    public int statsForRarity(@Nullable ItemRarity rarity) {
+        return statsPerRarity[rarityOrdinal(rarity)];
+    }
+
+    public double rarityScalar(@Nullable ItemRarity rarity) {
+        return rarityScalar[rarityOrdinal(rarity)];
+    }
+
+    public double statWeight(ItemizedStat stat) {
+        return statWeight[stat.ordinal()];
+    }
+
+    public RollConstraint rollConstraint(ItemizedStat stat) {
+        return rollConstraint[stat.ordinal()];
+    }
+
+    /**
+     * Per-stat percent roll range, or the deprecated global range for a null stat.
+     */
+    public PercentRollDefinition percentRollDefinition(@Nullable ItemizedStat stat) {
+        return stat == null ? fallbackPercentRoll : percentRoll[stat.ordinal()];
+    }
+
+    /**
+     * Rollable stats for an archetype, falling back to the generic pool; immutable.
+     */
+    public List<ItemizedStat> poolForArchetype(@Nullable ItemArchetype archetype) {
+        return poolByArchetype.get(archetypeOrdinal(archetype));
+    }
+
+    /**
+     * Configured base stats for an archetype, falling back to the generic entry; immutable.
+     */
+    public Map<ItemizedStat, Double> baseStatsForArchetype(@Nullable ItemArchetype archetype) {
+        return baseStatsByArchetype.get(archetypeOrdinal(archetype));
+    }
+
+    public double baseValueForArchetypeStat(@Nullable ItemArchetype archetype, ItemizedStat stat) {
+        return baseValueByArchetype[archetypeOrdinal(archetype)][stat.ordinal()];
+    }
+
+    /**
+     * Stat pool for a prefix word, matched case-insensitively; immutable.
+     */
+    public List<ItemizedStat> poolForPrefix(String prefixWord) {
+        PrefixPool pool = prefixPool(prefixWord);
+        return pool == null ? List.of() : pool.stats;
+    }
+
+    public double prefixPriorityWeight(String prefixWord, ItemizedStat stat) {
+        PrefixPool pool = prefixPool(prefixWord);
+        return pool == null ? 1.0 : pool.weights[stat.ordinal()];
+    }
+
+    /**
+     * Highest configured tier scalar whose keyword occurs in an already lowercased item id.
+     */
+    public double tierScalar(String normalizedItemId) {
+        double best = 1.0;
+        for (int i = 0; i < tierKeywords.length; i++) {
+            if (normalizedItemId.contains(tierKeywords[i])) {
+                best = Math.max(best, tierScalars[i]);
+            }
+        }
+        if (Double.isNaN(best) || Double.isInfinite(best)) {
+            return 1.0;
+        }
+        return Math.max(0.25, best);
+    }
+
+    public boolean gemSocketsEnabled() {
+        return gemSocketsEnabled;
+    }
+
+    /**
+     * Zero while gem sockets are disabled.
+     */
+    public double maxHpPerSocketedGem() {
+        return maxHpPerSocketedGem;
+    }
+
+    /**
+     * Zero while gem sockets are disabled.
+     */
+    public int socketsForRarity(@Nullable ItemRarity rarity) {
+        return socketsPerRarity[rarityOrdinal(rarity)];
+    }
+
+    public boolean matchesGemItemPattern(String normalizedItemId) {
+        for (GemPattern pattern : gemItemPatterns) {
+            if (pattern.score(normalizedItemId) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Socket bonus of {@code gemItemId} on an item of {@code archetype}: the best matching pattern's
+     * archetype entry, else its generic entry. Null when neither is configured, in which case the
+     * gem grants the flat max HP bonus instead.
+     */
+    @Nullable
+    public GemBonus gemBonus(String gemItemId, @Nullable ItemArchetype archetype) {
+        GemBonusPattern pattern = gemBonusByItemId.get(gemItemId);
+        if (pattern == null) {
+            pattern = bestGemBonusPattern(gemItemId.trim().toLowerCase(Locale.ROOT));
+            if (gemBonusByItemId.size() < MAX_MEMOIZED_GEM_IDS) {
+                gemBonusByItemId.putIfAbsent(gemItemId, pattern);
+            }
+        }
+        return pattern.bonuses[archetypeOrdinal(archetype)];
+    }
+
+    public boolean enableDoubleDrops() {
+        return enableDoubleDrops;
+    }
+
+    public boolean enableRareDrops() {
+        return enableRareDrops;
+    }
+
+    /**
+     * Rare drop table for a skill, or null when the skill has no drops configured.
+     */
+    @Nullable
+    public RareDropTable rareDrops(SkillType skill) {
+        return rareDropsBySkill[skill.ordinal()];
+    }
+
+    public RarityModel rarityModel() {
+        return rarityModel;
+    }
+
+    /**
+     * Prefix words new items may roll, never empty.
+     */
+    public List<String> rollablePrefixWords() {
+        return rollablePrefixWords;
+    }
+
+    public boolean itemizationDebugLogging() {
+        return itemizationDebugLogging;
+    }
+
+    public boolean dynamicTooltipCacheDebug() {
+        return dynamicTooltipCacheDebug;
+    }
+
+    public boolean dynamicTooltipComposeDebug() {
+        return dynamicTooltipComposeDebug;
+    }
+
+    /**
+     * Stat bonuses one socketed gem adds, in config order.
+     */
+    public record GemBonus(ItemizedStat[] stats, double[] values) {
+    }
+
+    /**
+     * A skill's rare drops with null entries removed and the weight total precomputed.
+     */
+    public record RareDropTable(double baseChance, List<HyruneConfig.GatheringRareDropEntry> drops, double totalWeight) {
+        @Nullable
+        static RareDropTable compile(@Nullable HyruneConfig.GatheringRareDropSkillConfig skill) {
+            if (skill == null || skill.drops == null || skill.drops.isEmpty()) {
+                return null;
+            }
+            List<HyruneConfig.GatheringRareDropEntry> entries = new ArrayList<>();
+            double total = 0.0;
+            for (HyruneConfig.GatheringRareDropEntry entry : skill.drops) {
+                if (entry == null) {
+                    continue;
+                }
+                entries.add(entry);
+                total += Math.max(0.0, entry.weight);
+            }
+            return new RareDropTable(skill.baseChance, List.copyOf(entries), total);
+        }
+    }
+
+    /**
+     * Rarity roll tuning with base weights resolved per {@link ItemRollSource} (common to mythic,
+     * negatives clamped to zero) and profession keys uppercased.
+     */
+    public static final class RarityModel {
+        private final double[][] baseWeightsBySource;
+        private final Map<String, Double> professionBonusPerLevel;
+        private final Map<Integer, Double> benchTierBonus;
+        private final double rarityShiftStrength;
+        private final double minRarityScore;
+        private final double maxRarityScore;
+        private final int maxProfessionLevel;
+
+        private RarityModel(double[][] baseWeightsBySource,
+                            Map<String, Double> professionBonusPerLevel,
+                            Map<Integer, Double> benchTierBonus,
+                            HyruneConfig.ItemizationRarityModelConfig model) {
+            this.baseWeightsBySource = baseWeightsBySource;
+            this.professionBonusPerLevel = professionBonusPerLevel;
+            this.benchTierBonus = benchTierBonus;
+            this.rarityShiftStrength = model.rarityShiftStrength;
+            this.minRarityScore = model.minRarityScore;
+            this.maxRarityScore = model.maxRarityScore;
+            this.maxProfessionLevel = Math.max(1, model.maxProfessionLevel);
+        }
+
+        static RarityModel compile(HyruneConfig.ItemizationRarityModelConfig model) {
+            double[][] weights = new double[SOURCES.length][];
+            for (ItemRollSource source : SOURCES) {
+                HyruneConfig.RarityWeights configured = model.baseWeightsBySource == null
+                    ? null
+                    : model.baseWeightsBySource.get(source.name().toLowerCase(Locale.ROOT));
+                HyruneConfig.RarityWeights w = configured == null ? new HyruneConfig.RarityWeights() : configured;
+                weights[source.ordinal()] = new double[]{
+                    Math.max(0.0, w.common),
+                    Math.max(0.0, w.uncommon),
+                    Math.max(0.0, w.rare),
+                    Math.max(0.0, w.epic),
+                    Math.max(0.0, w.legendary),
+                    Math.max(0.0, w.mythic)
+                };
+            }
+            Map<String, Double> profession = new HashMap<>();
+            if (model.professionBonusPerLevel != null) {
+                for (Map.Entry<String, Double> entry : model.professionBonusPerLevel.entrySet()) {
+                    if (entry.getKey() != null && entry.getValue() != null) {
+                        profession.putIfAbsent(entry.getKey().toUpperCase(Locale.ROOT), entry.getValue());
+                    }
+                }
+            }
+            Map<Integer, Double> bench = new HashMap<>();
+            if (model.benchTierBonus != null) {
+                for (Map.Entry<Integer, Double> entry : model.benchTierBonus.entrySet()) {
+                    if (entry.getKey() != null && entry.getValue() != null) {
+                        bench.put(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+            return new RarityModel(weights, profession, bench, model);
+        }
+
+        /**
+         * Base weights for {@code source} (crafted when null); callers must not modify the array.
+         */
+        public double[] baseWeights(@Nullable ItemRollSource source) {
+            return baseWeightsBySource[(source == null ? ItemRollSource.CRAFTED : source).ordinal()];
+        }
+
+        @Nullable
+        public Double professionBonusPerLevel(String skill) {
+            Double perLevel = professionBonusPerLevel.get(skill);
+            // Callers pass SkillType names, so the uppercase retry only runs for odd input.
+            return perLevel != null ? perLevel : professionBonusPerLevel.get(skill.toUpperCase(Locale.ROOT));
+        }
+
+        public double benchTierBonus(int tier) {
+            return benchTierBonus.getOrDefault(tier, 0.0);
+        }
+
+        public double rarityShiftStrength() {
+            return rarityShiftStrength;
+        }
+
+        public double minRarityScore() {
+            return minRarityScore;
+        }
+
+        public double maxRarityScore() {
+            return maxRarityScore;
+        }
+
+        public int maxProfessionLevel() {
+            return maxProfessionLevel;
+        }
+    }
+
+    private record PrefixPool(List<ItemizedStat> stats, double[] weights) {
+    }
+
+    private record GemPattern(String prefix, String suffix, boolean exact) {
+        @Nullable
+        static GemPattern parse(@Nullable String raw) {
+            if (raw == null || raw.isBlank()) {
+                return null;
+            }
+            String normalized = raw.trim().toLowerCase(Locale.ROOT);
+            int wildcard = normalized.indexOf('*');
+            if (wildcard < 0) {
+                return new GemPattern(normalized, "", true);
+            }
+            return new GemPattern(normalized.substring(0, wildcard), normalized.substring(wildcard + 1), false);
+        }
+
+        int score(String normalizedItemId) {
+            if (exact) {
+                return normalizedItemId.equals(prefix) ? 10_000 + prefix.length() : -1;
+            }
+            if (!normalizedItemId.startsWith(prefix) || !normalizedItemId.endsWith(suffix)) {
+                return -1;
+            }
+            return prefix.length() + suffix.length();
+        }
+    }
+
+    private record GemBonusPattern(@Nullable GemPattern pattern, GemBonus[] bonuses) {
+    }
+
+    private GemBonusPattern bestGemBonusPattern(String normalizedGemItemId) {
+        GemBonusPattern best = null;
+        int bestScore = -1;
+        for (GemBonusPattern candidate : gemBonusPatterns) {
+            int score = candidate.pattern == null ? -1 : candidate.pattern.score(normalizedGemItemId);
+            if (score > bestScore) {
+                bestScore = score;
+                best = candidate;
+            }
+        }
+        return best == null ? new GemBonusPattern(null, new GemBonus[ARCHETYPES.length]) : best;
+    }
+
+    @Nullable
+    private PrefixPool prefixPool(String prefixWord) {
+        if (prefixWord == null || prefixWord.isBlank()) {
+            return null;
+        }
+        return poolByPrefix.get(prefixWord.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static List<ItemizedStat> compileArchetypePool(Map<String, List<String>> pools, ItemArchetype archetype) {
+        if (pools == null || pools.isEmpty()) {
+            return List.of();
+        }
+        List<String> raw = pools.get(archetype.getId());
+        if (raw == null || raw.isEmpty()) {
+            raw = pools.get(ItemArchetype.GENERIC.getId());
+        }
+        if (raw == null || raw.isEmpty()) {
+            return List.of();
+        }
+        List<ItemizedStat> out = new ArrayList<>();
+        for (String id : raw) {
+            ItemizedStat stat = ItemizedStat.fromId(id);
+            if (stat != null && archetype.allowsStat(stat) && !out.contains(stat)) {
+                out.add(stat);
+            }
+        }
+        return List.copyOf(out);
+    }
+
+    private static Map<ItemizedStat, Double> compileBaseStats(Map<String, Map<String, Double>> all, ItemArchetype archetype) {
+        if (all == null || all.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Double> raw = all.get(archetype.getId());
+        if (raw == null || raw.isEmpty()) {
+            raw = all.get(ItemArchetype.GENERIC.getId());
+        }
+        if (raw == null || raw.isEmpty()) {
+            return Map.of();
+        }
+        Map<ItemizedStat, Double> out = new LinkedHashMap<>();
+        for (Map.Entry<String, Double> entry : raw.entrySet()) {
+            ItemizedStat stat = ItemizedStat.fromId(entry.getKey());
+            if (stat == null || entry.getValue() == null) {
+                continue;
+            }
+            if (!archetype.allowsStat(stat)) {
+                continue;
+            }
+            out.put(stat, Math.max(0.0, entry.getValue()));
+        }
+        return Collections.unmodifiableMap(out);
+    }
+
+    private static Map<String, PrefixPool> compilePrefixPools(Map<String, List<String>> pools, Map<Integer, Double> rankWeights) {
+        if (pools == null || pools.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, PrefixPool> out = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : pools.entrySet()) {
+            if (entry.getKey() == null) {
+                continue;
+            }
+            String key = entry.getKey().trim().toLowerCase(Locale.ROOT);
+            if (key.isEmpty() || out.containsKey(key)) {
+                continue;
+            }
+            List<ItemizedStat> stats = new ArrayList<>();
+            if (entry.getValue() != null) {
+                for (String id : entry.getValue()) {
+                    ItemizedStat stat = ItemizedStat.fromId(id);
+                    if (stat != null && !stats.contains(stat)) {
+                        stats.add(stat);
+                    }
+                }
+            }
+            double[] weights = new double[STATS.length];
+            Arrays.fill(weights, 1.0);
+            for (int i = 0; i < stats.size(); i++) {
+                weights[stats.get(i).ordinal()] = rankWeight(rankWeights, i + 1);
+            }
+            out.put(key, new PrefixPool(List.copyOf(stats), weights));
+        }
+        return Map.copyOf(out);
+    }
+
+    private static double rankWeight(Map<Integer, Double> rankWeights, int rank) {
+        if (rankWeights == null || rankWeights.isEmpty()) {
+            return 1.0;
+        }
+        Double direct = rankWeights.get(rank);
+        if (direct != null) {
+            return Math.max(0.0, direct);
+        }
+        int maxKnownRank = -1;
+        double maxKnownWeight = 1.0;
+        for (Map.Entry<Integer, Double> entry : rankWeights.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null) {
+                continue;
+            }
+            int key = entry.getKey();
+            if (key > 0 && key > maxKnownRank) {
+                maxKnownRank = key;
+                maxKnownWeight = Math.max(0.0, entry.getValue());
+            }
+        }
+        return maxKnownRank > 0 ? maxKnownWeight : 1.0;
+    }
+
+    private static GemBonusPattern[] compileGemBonuses(Map<String, Map<String, Map<String, Double>>> configured) {
+        if (configured == null || configured.isEmpty()) {
+            return new GemBonusPattern[0];
+        }
+        List<GemBonusPattern> out = new ArrayList<>(configured.size());
+        for (Map.Entry<String, Map<String, Map<String, Double>>> entry : configured.entrySet()) {
+            GemPattern pattern = GemPattern.parse(entry.getKey());
+            if (pattern == null) {
+                continue;
+            }
+            Map<String, Map<String, Double>> byArchetype = entry.getValue();
+            GemBonus[] bonuses = new GemBonus[ARCHETYPES.length];
+            if (byArchetype != null && !byArchetype.isEmpty()) {
+                Map<String, Double> generic = byArchetype.get(ItemArchetype.GENERIC.getId());
+                for (ItemArchetype archetype : ARCHETYPES) {
+                    Map<String, Double> exact = byArchetype.get(archetype.getId());
+                    Map<String, Double> source = exact != null && !exact.isEmpty() ? exact : generic;
+                    bonuses[archetype.ordinal()] = compileGemBonus(source);
+                }
+            }
+            out.add(new GemBonusPattern(pattern, bonuses));
+        }
+        return out.toArray(new GemBonusPattern[0]);
+    }
+
+    @Nullable
+    private static GemBonus compileGemBonus(@Nullable Map<String, Double> raw) {
+        if (raw == null || raw.isEmpty()) {
+            return null;
+        }
+        // Same key normalization as before: later spellings of a stat id overwrite earlier ones.
+        Map<String, Double> sanitized = new LinkedHashMap<>();
+        for (Map.Entry<String, Double> entry : raw.entrySet()) {
+            if (entry.getKey() == null || entry.getKey().isBlank() || entry.getValue() == null) {
+                continue;
+            }
+            double value = entry.getValue();
+            if (Double.isNaN(value) || Double.isInfinite(value) || Math.abs(value) <= 1e-9) {
+                continue;
+            }
+            sanitized.put(entry.getKey().trim().toLowerCase(Locale.ROOT), value);
+        }
+        if (sanitized.isEmpty()) {
+            return null;
+        }
+        List<ItemizedStat> stats = new ArrayList<>(sanitized.size());
+        List<Double> values = new ArrayList<>(sanitized.size());
+        for (Map.Entry<String, Double> entry : sanitized.entrySet()) {
+            ItemizedStat stat = ItemizedStat.fromId(entry.getKey());
+            if (stat != null) {
+                stats.add(stat);
+                values.add(entry.getValue());
+            }
+        }
+        return new GemBonus(stats.toArray(new ItemizedStat[0]), values.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    @Nullable
+    private static HyruneConfig.GatheringRareDropSkillConfig resolveSkillConfig(Map<String, HyruneConfig.GatheringRareDropSkillConfig> bySkill,
+                                                                                 SkillType skill) {
+        if (bySkill == null || bySkill.isEmpty()) {
+            return null;
+        }
+        HyruneConfig.GatheringRareDropSkillConfig direct = bySkill.get(skill.name());
+        if (direct != null) {
+            return direct;
+        }
+        return bySkill.get(skill.name().toLowerCase(Locale.ROOT));
+    }
+
+    @Nullable
+    private static String configuredRollConstraintValue(Map<String, String> map, ItemizedStat stat) {
+        String exact = findIgnoreCase(map, stat.getId());
+        if (exact != null) {
+            return exact;
+        }
+        // Convenience alias for all crit-chance stats.
+        if (stat.getId().endsWith("_crit_chance")) {
+            return findIgnoreCase(map, "crit_chance");
+        }
+        return null;
+    }
+
+    private static RollConstraint parseRollConstraint(@Nullable String raw) {
+        if (raw == null) {
+            return RollConstraint.EITHER;
+        }
+        return switch (raw.trim().toLowerCase(Locale.ROOT)) {
+            case "flat_only", "flat", "flat-only" -> RollConstraint.FLAT_ONLY;
+            case "percent_only", "percent", "percent-only", "pct_only", "pct" -> RollConstraint.PERCENT_ONLY;
+            default -> RollConstraint.EITHER;
+        };
+    }
+
+    @Nullable
+    private static <V> V findIgnoreCase(Map<String, V> map, String key) {
+        if (map == null || map.isEmpty()) {
+            return null;
+        }
+        for (Map.Entry<String, V> entry : map.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null) {
+                continue;
+            }
+            if (entry.getKey().trim().equalsIgnoreCase(key)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static int perRarity(Map<String, Integer> map, ItemRarity rarity, int fallback) {
+        if (map == null || map.isEmpty()) {
+            return fallback;
+        }
+        Integer explicit = map.get(rarity.name());
+        if (explicit != null) {
+            return explicit;
+        }
+        Integer common = map.get(ItemRarity.COMMON.name());
+        return common == null ? fallback : common;
+    }
+
+    private static double rollTypeWeight(Map<String, Double> weights, String key) {
+        if (weights == null || weights.isEmpty()) {
+            return 1.0;
+        }
+        Double raw = weights.get(key);
+        return raw == null ? 1.0 : Math.max(0.0, raw);
+    }
+
+    private static PercentRollDefinition sanitizePercentDefinition(double baseMin, double baseMax, double scalingWeight) {
+        double min = clamp(baseMin, 0.0001, 10.0);
+        double max = clamp(baseMax, 0.0001, 10.0);
+        if (max < min) {
+            double t = min;
+            min = max;
+            max = t;
+        }
+        return new PercentRollDefinition(min, max, clamp(scalingWeight, 0.0, 5.0));
+    }
+
+    private static int rarityOrdinal(@Nullable ItemRarity rarity) {
+        return (rarity == null ? ItemRarity.COMMON : rarity).ordinal();
+    }
+
+    private static int archetypeOrdinal(@Nullable ItemArchetype archetype) {
+        return (archetype == null ? ItemArchetype.GENERIC : archetype).ordinal();
+    }
+
+    private static double clamp(double value, double min, double max) {
+        if (Double.isNaN(value)) {
+            return min;
+        }
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static double clampFinite(double value, double min, double max) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return min;
+        }
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static int clampInt(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -82,6 +82,30 @@ public class HyruneConfig {
         public double bossHealthRegenCapPerSecond = 1000.0;
     }
 
+    public static class PersistenceConfig {
+        // "binary" or "json"; files in the other format are migrated on next save.
+        public String playerDataFormat = "binary";
+        // "store" keeps every player in hyrune_data/store segments; "files" keeps one file per player.
+        public String playerDataStorage = "store";
+        public long storeSegmentMaxMegabytes = 64L;
+        public long storeCompactionIntervalSeconds = 300L;
+        public long joinPrefetchTimeoutMillis = 2000L;
+        public long writeBehindFlushIntervalMillis = 5000L;
+        public int writeBehindDirtyThreshold = 64;
+        public boolean journalLevelData = true;
+        public int journalCompactionThreshold = 512;
+    }
+
+    public static class XpCurveConfig {
+        // "exponential" (RuneScape-style, tuned by base/doublingLevels/divisor) or "table".
+        public String type = "exponential";
+        public double base = 300.0;
+        public double doublingLevels = 7.0;
+        public double divisor = 4.0;
+        // Table curves only: cumulative XP for level 2, 3, ...
+        public List<Long> thresholds = List.of();
+    }
+
     public static class RarityWeights {
         public double common = 0.700;
         public double uncommon = 0.180;
@@ -135,6 +159,9 @@ public class HyruneConfig {
     public Map<String, Integer> farmingAnimalLevelRequirements = defaultAnimalRequirements();
     public Map<String, String> npcNameOverrides = new LinkedHashMap<>();
     public RegenConfig regen = new RegenConfig();
+    public PersistenceConfig persistence = new PersistenceConfig();
+    // Per-skill XP curves keyed by SkillType name; skills not listed use the default curve.
+    public Map<String, XpCurveConfig> xpCurvesBySkill = new LinkedHashMap<>();
     public GatheringUtilityDropConfig gatheringUtilityDrops = new GatheringUtilityDropConfig();
     public PrefixConfig prefixes = new PrefixConfig();
     public GemSocketConfig gemSockets = new GemSocketConfig();
@@ -19,6 +19,9 @@ import java.util.logging.Level;
 
 /**
  * Loads and caches the Hyrune config from ./hyrune_data/gameplay_config.json.
+ * <p>
+ * Each load publishes the raw config together with its {@link CompiledHyruneConfig} in one
+ * volatile write, so readers never see a compiled snapshot from a different load.
  */
 public final class HyruneConfigManager {
     private static final int CURRENT_SCHEMA_VERSION = 2;
@@ -27,17 +30,29 @@ public final class HyruneConfigManager {
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
     private static final File ROOT_FOLDER = new File("./hyrune_data");
     private static final File CONFIG_FILE = new File(ROOT_FOLDER, "gameplay_config.json");
-    private static volatile HyruneConfig config;
+    private static volatile Loaded loaded;
 
     private HyruneConfigManager() {
     }
 
     public static HyruneConfig getConfig() {
-        HyruneConfig local = config;
+        Loaded local = loaded;
         if (local == null) {
             return reload();
         }
-        return local;
+        return local.config();
+    }
+
+    /**
+     * Pre-resolved view of {@link #getConfig()} for hot paths.
+     */
+    public static CompiledHyruneConfig getCompiled() {
+        Loaded local = loaded;
+        if (local == null) {
+            reload();
+            local = loaded;
+        }
+        return local.compiled();
     }
 
     public static synchronized HyruneConfig reload() {
@@ -47,7 +62,7 @@ public final class HyruneConfigManager {
         if (!CONFIG_FILE.exists()) {
             NormalizedConfig normalized = normalizeConfig(new HyruneConfig());
             writeConfig(normalized.config());
-            config = normalized.config();
+            publish(normalized.config());
             LOGGER.at(Level.INFO).log("Gameplay config not found. Wrote defaults.");
             LOGGER.at(Level.INFO).log(summarizeConfig("Gameplay config defaults", normalized.config()));
             return normalized.config();
@@ -59,19 +74,23 @@ public final class HyruneConfigManager {
             if (normalized.changed()) {
                 writeConfig(normalized.config());
             }
-            config = normalized.config();
+            publish(normalized.config());
             LOGGER.at(Level.INFO).log(summarizeConfig("Gameplay config loaded", normalized.config()));
             return normalized.config();
         } catch (IOException | RuntimeException e) {
             LOGGER.at(Level.WARNING).log("Failed to read gameplay config, using defaults: " + e.getMessage());
             NormalizedConfig fallback = normalizeConfig(new HyruneConfig());
             writeConfig(fallback.config());
-            config = fallback.config();
+            publish(fallback.config());
             LOGGER.at(Level.INFO).log(summarizeConfig("Gameplay config fallback", fallback.config()));
             return fallback.config();
         }
     }
 
+    private static void publish(HyruneConfig cfg) {
+        loaded = new Loaded(cfg, CompiledHyruneConfig.compile(cfg));
+    }
+
     private static String summarizeConfig(String label, HyruneConfig cfg) {
         if (cfg == null) {
             return label + ": <null>";
@@ -263,4 +282,7 @@ public final class HyruneConfigManager {
 
     private record NormalizedConfig(HyruneConfig config, boolean changed) {
     }
+
+    private record Loaded(HyruneConfig config, CompiledHyruneConfig compiled) {
+    }
 }
@@ -0,0 +1,7 @@
+package dev.hytalemodding.hyrune.config;
+
+/**
+ * Base range and tier scaling weight for a stat rolled as a percentage.
+ */
+public record PercentRollDefinition(double baseMin, double baseMax, double scalingWeight) {
+}
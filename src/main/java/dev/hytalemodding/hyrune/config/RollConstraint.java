@@ -0,0 +1,10 @@
+package dev.hytalemodding.hyrune.config;
+
+/**
+ * Which {@link RollType}s a stat may roll as.
+ */
+public enum RollConstraint {
+    FLAT_ONLY,
+    PERCENT_ONLY,
+    EITHER
+}
@@ -0,0 +1,9 @@
+package dev.hytalemodding.hyrune.config;
+
+/**
+ * Whether a rolled stat is a flat value or a percentage.
+ */
+public enum RollType {
+    FLAT,
+    PERCENT
+}
@@ -0,0 +1,49 @@
+package dev.hytalemodding.hyrune.database;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Writes files via temp-file + rename so a crash never leaves a truncated document behind.
+ */
+public final class AtomicFileWriter {
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private AtomicFileWriter() {
+    }
+
+    /**
+     * Callback that writes the full document body.
+     */
+    @FunctionalInterface
+    public interface WriteAction {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Writes the target through a synced sibling temp file, then atomically replaces the target.
+     *
+     * @param target file to replace
+     * @param action writes the complete file contents
+     * @throws IOException if writing or renaming fails; the previous target is left untouched
+     */
+    public static void write(File target, WriteAction action) throws IOException {
+        File temp = new File(target.getParentFile(), target.getName() + TEMP_SUFFIX);
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            action.write(out);
+            out.flush();
+            out.getFD().sync();
+        }
+        try {
+            Files.move(temp.toPath(), target.toPath(),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
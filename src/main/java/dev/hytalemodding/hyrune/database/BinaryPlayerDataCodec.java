@@ -0,0 +1,140 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.playerdata.PlayerData;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.UUID;
+
+/**
+ * Base for compact, versioned binary player data codecs.
+ * <p>
+ * Every document starts with a magic number, a kind tag and a format version, so a reader can
+ * reject foreign files and decode older layouts. Enum values are stored by ordinal: new
+ * constants must be appended, and any reorder requires a format version bump.
+ *
+ * @param <T> data type being encoded
+ */
+public abstract class BinaryPlayerDataCodec<T extends PlayerData> implements PlayerDataCodec<T> {
+    private static final int MAGIC = 0x48595250; // "HYRP"
+
+    private final byte kind;
+    private final byte version;
+
+    protected BinaryPlayerDataCodec(byte kind, byte version) {
+        this.kind = kind;
+        this.version = version;
+    }
+
+    @Override
+    public String fileExtension() {
+        return "bin";
+    }
+
+    /**
+     * Tag identifying the data kind, also used as the record kind in {@link SegmentedPlayerStore}.
+     */
+    public byte getKind() {
+        return kind;
+    }
+
+    @Override
+    public final void write(T data, OutputStream out) throws IOException {
+        DataOutputStream output = new DataOutputStream(out);
+        output.writeInt(MAGIC);
+        output.writeByte(kind);
+        output.writeByte(version);
+        writeBody(data, output);
+        output.flush();
+    }
+
+    @Override
+    public final T read(InputStream in) throws IOException {
+        DataInputStream input = new DataInputStream(in);
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a Hyrune player data file");
+        }
+        byte storedKind = input.readByte();
+        if (storedKind != kind) {
+            throw new IOException("Unexpected player data kind " + storedKind + ", expected " + kind);
+        }
+        byte storedVersion = input.readByte();
+        if (storedVersion <= 0 || storedVersion > version) {
+            throw new IOException("Unsupported player data version " + storedVersion);
+        }
+        return readBody(input, storedVersion);
+    }
+
+    protected abstract void writeBody(T data, DataOutput out) throws IOException;
+
+    protected abstract T readBody(DataInput in, int version) throws IOException;
+
+    protected static void writeVarInt(DataOutput out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    protected static int readVarInt(DataInput in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    protected static void writeVarLong(DataOutput out, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0L) {
+            out.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    protected static long readVarLong(DataInput in) throws IOException {
+        long result = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    protected static void writeUuid(DataOutput out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    protected static UUID readUuid(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    protected static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    protected static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Writes an enum as ordinal + 1, reserving 0 for null.
+     */
+    protected static void writeEnum(DataOutput out, Enum<?> value) throws IOException {
+        writeVarInt(out, value == null ? 0 : value.ordinal() + 1);
+    }
+
+    protected static <E extends Enum<E>> E readEnum(DataInput in, E[] values) throws IOException {
+        int encoded = readVarInt(in);
+        if (encoded <= 0 || encoded > values.length) {
+            return null;
+        }
+        return values[encoded - 1];
+    }
+}
@@ -0,0 +1,16 @@
+package dev.hytalemodding.hyrune.database;
+
+import com.google.gson.GsonBuilder;
+import dev.hytalemodding.hyrune.playerdata.PlayerLvlData;
+
+/**
+ * File-backed repository for player level data.
+ */
+public class FileLevelRepository extends FilePlayerDataRepository<PlayerLvlData> implements LevelRepository {
+    public FileLevelRepository(String rootPath, PlayerDataFormat format) {
+        super(rootPath, "players", "level data", format,
+            // Pretty printing makes the JSON easier for us to read/edit manually
+            new JsonPlayerDataCodec<>(new GsonBuilder().setPrettyPrinting().create(), PlayerLvlData.class),
+            new PlayerLvlDataBinaryCodec());
+    }
+}
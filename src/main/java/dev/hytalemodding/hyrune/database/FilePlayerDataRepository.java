@@ -0,0 +1,117 @@
+package dev.hytalemodding.hyrune.database;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import dev.hytalemodding.hyrune.playerdata.PlayerData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * One-file-per-player repository with a pluggable on-disk codec.
+ * <p>
+ * Documents are read with the configured codec first and fall back to the other format, so
+ * switching {@link PlayerDataFormat} migrates players transparently: the next save writes the
+ * new format and removes the old file.
+ *
+ * @param <T> data type being persisted
+ */
+public abstract class FilePlayerDataRepository<T extends PlayerData> implements SnapshotRepository<T> {
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+
+    private final File dataFolder;
+    private final String label;
+    private final PlayerDataCodec<T> codec;
+    private final PlayerDataCodec<T> legacyCodec;
+
+    protected FilePlayerDataRepository(String rootPath,
+                                       String folderName,
+                                       String label,
+                                       PlayerDataFormat format,
+                                       PlayerDataCodec<T> jsonCodec,
+                                       PlayerDataCodec<T> binaryCodec) {
+        this.label = label;
+        boolean binary = format == PlayerDataFormat.BINARY;
+        this.codec = binary ? binaryCodec : jsonCodec;
+        this.legacyCodec = binary ? jsonCodec : binaryCodec;
+
+        this.dataFolder = new File(rootPath, folderName);
+        if (!this.dataFolder.exists() && !this.dataFolder.mkdirs()) {
+            LOGGER.at(Level.WARNING).log("Failed to create " + label + " folder at " + this.dataFolder.getAbsolutePath());
+        }
+    }
+
+    @Override
+    public T load(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        File playerFile = fileFor(uuid, codec);
+        PlayerDataCodec<T> readCodec = codec;
+        if (!playerFile.exists()) {
+            playerFile = fileFor(uuid, legacyCodec);
+            readCodec = legacyCodec;
+            if (!playerFile.exists()) {
+                return null; // Triggers the Service to create a new default profile
+            }
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(playerFile.toPath()))) {
+            return readCodec.read(in);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.at(Level.WARNING).log("Failed to load " + label + " for " + uuid + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void save(T data) {
+        if (data == null || data.getUuid() == null) {
+            return;
+        }
+        try {
+            writeSnapshot(data);
+        } catch (IOException e) {
+            LOGGER.at(Level.WARNING).log("Failed to save " + label + " for " + data.getUuid() + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void writeSnapshot(T data) throws IOException {
+        File playerFile = fileFor(data.getUuid(), codec);
+        AtomicFileWriter.write(playerFile, out -> {
+            BufferedOutputStream buffered = new BufferedOutputStream(out);
+            codec.write(data, buffered);
+            buffered.flush();
+        });
+
+        File legacyFile = fileFor(data.getUuid(), legacyCodec);
+        if (legacyFile.exists() && !legacyFile.delete()) {
+            LOGGER.at(Level.WARNING).log("Failed to remove migrated " + label + " file " + legacyFile.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Removes the player's documents in every format.
+     *
+     * @param uuid player UUID
+     */
+    public void delete(UUID uuid) {
+        for (PlayerDataCodec<T> fileCodec : List.of(codec, legacyCodec)) {
+            File playerFile = fileFor(uuid, fileCodec);
+            if (playerFile.exists() && !playerFile.delete()) {
+                LOGGER.at(Level.WARNING).log("Failed to delete " + label + " file " + playerFile.getAbsolutePath());
+            }
+        }
+    }
+
+    private File fileFor(UUID uuid, PlayerDataCodec<T> fileCodec) {
+        return new File(this.dataFolder, uuid.toString() + "." + fileCodec.fileExtension());
+    }
+}
@@ -0,0 +1,19 @@
+package dev.hytalemodding.hyrune.database;
+
+import com.google.gson.GsonBuilder;
+import dev.hytalemodding.hyrune.playerdata.PlayerQuestData;
+
+/**
+ * File-backed repository for quest progress data.
+ */
+public class FileQuestRepository extends FilePlayerDataRepository<PlayerQuestData> implements QuestRepository {
+    public FileQuestRepository(String rootPath, PlayerDataFormat format) {
+        super(rootPath, "quests", "quest data", format,
+            new JsonPlayerDataCodec<>(new GsonBuilder()
+                .setPrettyPrinting()
+                .excludeFieldsWithModifiers(java.lang.reflect.Modifier.STATIC) // Exclude CODEC
+                .serializeNulls()
+                .create(), PlayerQuestData.class),
+            new PlayerQuestDataBinaryCodec());
+    }
+}
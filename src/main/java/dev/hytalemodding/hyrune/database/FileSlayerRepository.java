@@ -0,0 +1,15 @@
+package dev.hytalemodding.hyrune.database;
+
+import com.google.gson.GsonBuilder;
+import dev.hytalemodding.hyrune.playerdata.SlayerPlayerData;
+
+/**
+ * File-backed repository for Slayer player data.
+ */
+public class FileSlayerRepository extends FilePlayerDataRepository<SlayerPlayerData> implements SlayerRepository {
+    public FileSlayerRepository(String rootPath, PlayerDataFormat format) {
+        super(rootPath, "slayer_players", "Slayer data", format,
+            new JsonPlayerDataCodec<>(new GsonBuilder().setPrettyPrinting().create(), SlayerPlayerData.class),
+            new SlayerPlayerDataBinaryCodec());
+    }
+}
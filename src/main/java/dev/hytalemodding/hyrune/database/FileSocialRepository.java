@@ -0,0 +1,15 @@
+package dev.hytalemodding.hyrune.database;
+
+import com.google.gson.GsonBuilder;
+import dev.hytalemodding.hyrune.playerdata.SocialPlayerData;
+
+/**
+ * File-backed repository for social player data.
+ */
+public class FileSocialRepository extends FilePlayerDataRepository<SocialPlayerData> implements SocialRepository {
+    public FileSocialRepository(String rootPath, PlayerDataFormat format) {
+        super(rootPath, "social", "social data", format,
+            new JsonPlayerDataCodec<>(new GsonBuilder().setPrettyPrinting().create(), SocialPlayerData.class),
+            new SocialPlayerDataBinaryCodec());
+    }
+}
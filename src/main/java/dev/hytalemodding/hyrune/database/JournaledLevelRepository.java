@@ -0,0 +1,346 @@
+package dev.hytalemodding.hyrune.database;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import dev.hytalemodding.hyrune.level.CombatXpStyle;
+import dev.hytalemodding.hyrune.playerdata.ExperienceTrack;
+import dev.hytalemodding.hyrune.playerdata.PlayerLvlData;
+import dev.hytalemodding.hyrune.skills.SkillType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+/**
+ * Level repository that appends changed skill/style fields to a per-player journal and
+ * periodically compacts them into the full snapshot.
+ * <p>
+ * Journal records carry absolute values (level + XP per skill, style per combat slot), so
+ * replaying a journal over a snapshot it was already compacted into is harmless. Each record is
+ * length-prefixed and CRC-checked; a torn tail left by a crash is dropped on replay.
+ */
+public class JournaledLevelRepository implements LevelRepository {
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final int LOCK_STRIPES = 64;
+    private static final int MAX_RECORD_BYTES = 1024;
+
+    private static final byte RECORD_SKILL = 1;
+    private static final byte RECORD_STYLE = 2;
+
+    private static final byte STYLE_SLOT_MELEE = 0;
+    private static final byte STYLE_SLOT_RANGED = 1;
+    private static final byte STYLE_SLOT_MAGIC = 2;
+
+    private static final SkillType[] SKILLS = SkillType.values();
+
+    private final SnapshotRepository<PlayerLvlData> snapshots;
+    private final File journalFolder;
+    private final int compactionThreshold;
+    private final Map<UUID, JournalState> states = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public JournaledLevelRepository(SnapshotRepository<PlayerLvlData> snapshots, String rootPath, int compactionThreshold) {
+        this.snapshots = snapshots;
+        this.compactionThreshold = Math.max(1, compactionThreshold);
+        this.journalFolder = new File(rootPath, "players");
+        if (!this.journalFolder.exists() && !this.journalFolder.mkdirs()) {
+            LOGGER.at(Level.WARNING).log("Failed to create level journal folder at " + this.journalFolder.getAbsolutePath());
+        }
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            this.locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public PlayerLvlData load(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        synchronized (lockFor(uuid)) {
+            PlayerLvlData data = snapshots.load(uuid);
+            File journal = journalFile(uuid);
+            boolean recovered = false;
+            if (journal.exists()) {
+                if (data == null) {
+                    data = new PlayerLvlData(uuid);
+                }
+                replay(journal, data);
+                recovered = true;
+            }
+            if (data != null) {
+                JournalState state = new JournalState();
+                state.latest = data.copy();
+                state.capture(state.latest);
+                states.put(uuid, state);
+                if (recovered) {
+                    // Fold the replayed journal (and any torn tail) into a fresh snapshot before appending again.
+                    compact(uuid, state);
+                }
+            }
+            return data;
+        }
+    }
+
+    @Override
+    public void save(PlayerLvlData data) {
+        if (data == null || data.getUuid() == null) {
+            return;
+        }
+        UUID uuid = data.getUuid();
+        synchronized (lockFor(uuid)) {
+            JournalState state = states.computeIfAbsent(uuid, ignored -> new JournalState());
+            // Journal and compact from one detached copy so the baseline matches exactly what was written.
+            PlayerLvlData copy = data.copy();
+            state.latest = copy;
+            try {
+                int written = appendChanges(uuid, copy, state);
+                state.pendingRecords += written;
+            } catch (IOException e) {
+                // Fall back to a full snapshot so the change is not lost.
+                LOGGER.at(Level.WARNING).log("Failed to append level journal for " + uuid + ": " + e.getMessage());
+                if (!compact(uuid, state)) {
+                    state.invalidate();
+                    state.unsaved = true;
+                }
+                return;
+            }
+            if (state.pendingRecords >= compactionThreshold) {
+                compact(uuid, state);
+            }
+        }
+    }
+
+    /**
+     * Compacts the player's journal into a snapshot and drops its in-memory baseline.
+     */
+    @Override
+    public void flush(UUID uuid) {
+        if (uuid == null) {
+            return;
+        }
+        synchronized (lockFor(uuid)) {
+            JournalState state = states.remove(uuid);
+            if (state != null && (state.pendingRecords > 0 || state.unsaved)) {
+                compact(uuid, state);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        for (UUID uuid : states.keySet()) {
+            flush(uuid);
+        }
+        snapshots.close();
+    }
+
+    private int appendChanges(UUID uuid, PlayerLvlData data, JournalState state) throws IOException {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        int records = 0;
+
+        for (Map.Entry<SkillType, ExperienceTrack> entry : data.getAllTracks().entrySet()) {
+            SkillType skill = entry.getKey();
+            ExperienceTrack track = entry.getValue();
+            if (skill == null || track == null) {
+                continue;
+            }
+            int ordinal = skill.ordinal();
+            int level = track.getLevel();
+            long xp = track.getXp();
+            if (state.levels[ordinal] == level && state.xp[ordinal] == xp) {
+                continue;
+            }
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(payload);
+            out.writeByte(RECORD_SKILL);
+            out.writeUTF(skill.name());
+            out.writeInt(level);
+            out.writeLong(xp);
+            writeRecord(batch, payload.toByteArray());
+            state.levels[ordinal] = level;
+            state.xp[ordinal] = xp;
+            records++;
+        }
+
+        records += appendStyle(batch, state, STYLE_SLOT_MELEE, data.getMeleeXpStyle());
+        records += appendStyle(batch, state, STYLE_SLOT_RANGED, data.getRangedXpStyle());
+        records += appendStyle(batch, state, STYLE_SLOT_MAGIC, data.getMagicXpStyle());
+
+        if (records == 0) {
+            return 0;
+        }
+        try (FileOutputStream out = new FileOutputStream(journalFile(uuid), true)) {
+            batch.writeTo(out);
+            out.getFD().sync();
+        }
+        return records;
+    }
+
+    private int appendStyle(ByteArrayOutputStream batch, JournalState state, byte slot, CombatXpStyle style)
+        throws IOException {
+        if (style == null || state.styles[slot] == style) {
+            return 0;
+        }
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeByte(RECORD_STYLE);
+        out.writeByte(slot);
+        out.writeUTF(style.name());
+        writeRecord(batch, payload.toByteArray());
+        state.styles[slot] = style;
+        return 1;
+    }
+
+    private static void writeRecord(ByteArrayOutputStream batch, byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        DataOutputStream out = new DataOutputStream(batch);
+        out.writeInt(payload.length);
+        out.write(payload);
+        out.writeInt((int) crc.getValue());
+    }
+
+    private void replay(File journal, PlayerLvlData data) {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(journal.toPath()))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException end) {
+                    break;
+                }
+                if (length <= 0 || length > MAX_RECORD_BYTES) {
+                    LOGGER.at(Level.WARNING).log("Discarding corrupt level journal tail for " + data.getUuid());
+                    break;
+                }
+                byte[] payload = new byte[length];
+                int checksum;
+                try {
+                    in.readFully(payload);
+                    checksum = in.readInt();
+                } catch (EOFException torn) {
+                    LOGGER.at(Level.WARNING).log("Discarding torn level journal record for " + data.getUuid());
+                    break;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    LOGGER.at(Level.WARNING).log("Discarding level journal record with bad checksum for " + data.getUuid());
+                    break;
+                }
+                applyRecord(payload, data);
+            }
+        } catch (IOException e) {
+            LOGGER.at(Level.WARNING).log("Failed to replay level journal for " + data.getUuid() + ": " + e.getMessage());
+        }
+    }
+
+    private static void applyRecord(byte[] payload, PlayerLvlData data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = in.readByte();
+        try {
+            if (type == RECORD_SKILL) {
+                SkillType skill = SkillType.valueOf(in.readUTF());
+                data.setSkillLevel(skill, in.readInt());
+                data.setSkillXp(skill, in.readLong());
+            } else if (type == RECORD_STYLE) {
+                byte slot = in.readByte();
+                CombatXpStyle style = CombatXpStyle.valueOf(in.readUTF());
+                switch (slot) {
+                    case STYLE_SLOT_MELEE -> data.setMeleeXpStyle(style);
+                    case STYLE_SLOT_RANGED -> data.setRangedXpStyle(style);
+                    case STYLE_SLOT_MAGIC -> data.setMagicXpStyle(style);
+                    default -> {
+                    }
+                }
+            }
+        } catch (IllegalArgumentException ignored) {
+            // Skill or style was renamed/removed since the record was written.
+        }
+    }
+
+    private boolean compact(UUID uuid, JournalState state) {
+        if (state.latest == null) {
+            return false;
+        }
+        try {
+            snapshots.writeSnapshot(state.latest);
+        } catch (IOException e) {
+            // Keep the journal; it still holds every change since the last good snapshot.
+            LOGGER.at(Level.WARNING).log("Failed to compact level journal for " + uuid + ": " + e.getMessage());
+            return false;
+        }
+        File journal = journalFile(uuid);
+        if (journal.exists() && !journal.delete()) {
+            // Snapshot is current; replaying the stale journal over it is harmless.
+            LOGGER.at(Level.WARNING).log("Failed to truncate level journal at " + journal.getAbsolutePath());
+        }
+        state.capture(state.latest);
+        state.pendingRecords = 0;
+        state.unsaved = false;
+        return true;
+    }
+
+    private File journalFile(UUID uuid) {
+        return new File(this.journalFolder, uuid.toString() + JOURNAL_SUFFIX);
+    }
+
+    private Object lockFor(UUID uuid) {
+        return locks[Math.floorMod(uuid.hashCode(), LOCK_STRIPES)];
+    }
+
+    /**
+     * Last values known to be durable (snapshot + journal) for one player.
+     */
+    private static final class JournalState {
+        private final int[] levels = new int[SKILLS.length];
+        private final long[] xp = new long[SKILLS.length];
+        private final CombatXpStyle[] styles = new CombatXpStyle[3];
+        private int pendingRecords;
+        // Detached copy of the last saved record; never handed back to callers.
+        private PlayerLvlData latest;
+        // Set when the latest record reached neither the journal nor a snapshot.
+        private boolean unsaved;
+
+        private JournalState() {
+            // A fresh track is level 1 / 0 XP; anything else must be journaled.
+            Arrays.fill(levels, 1);
+        }
+
+        private void capture(PlayerLvlData data) {
+            Arrays.fill(levels, 1);
+            Arrays.fill(xp, 0L);
+            for (Map.Entry<SkillType, ExperienceTrack> entry : data.getAllTracks().entrySet()) {
+                if (entry.getKey() == null || entry.getValue() == null) {
+                    continue;
+                }
+                int ordinal = entry.getKey().ordinal();
+                levels[ordinal] = entry.getValue().getLevel();
+                xp[ordinal] = entry.getValue().getXp();
+            }
+            styles[STYLE_SLOT_MELEE] = data.getMeleeXpStyle();
+            styles[STYLE_SLOT_RANGED] = data.getRangedXpStyle();
+            styles[STYLE_SLOT_MAGIC] = data.getMagicXpStyle();
+        }
+
+        /**
+         * Forgets the durable baseline so the next save journals every field again.
+         */
+        private void invalidate() {
+            Arrays.fill(levels, Integer.MIN_VALUE);
+            Arrays.fill(styles, null);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package dev.hytalemodding.hyrune.database;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import dev.hytalemodding.hyrune.playerdata.PlayerData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Gson-backed codec producing the original human-editable JSON documents.
+ *
+ * @param <T> data type being encoded
+ */
+public class JsonPlayerDataCodec<T extends PlayerData> implements PlayerDataCodec<T> {
+    private final Gson gson;
+    private final Class<T> type;
+
+    public JsonPlayerDataCodec(Gson gson, Class<T> type) {
+        this.gson = gson;
+        this.type = type;
+    }
+
+    @Override
+    public String fileExtension() {
+        return "json";
+    }
+
+    @Override
+    public void write(T data, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        gson.toJson(data, writer);
+        writer.flush();
+    }
+
+    @Override
+    public T read(InputStream in) throws IOException {
+        Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        try {
+            return gson.fromJson(reader, type);
+        } catch (JsonParseException e) {
+            throw new IOException("Malformed JSON: " + e.getMessage(), e);
+        }
+    }
+}
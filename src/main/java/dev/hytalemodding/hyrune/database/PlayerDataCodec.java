@@ -0,0 +1,39 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.playerdata.PlayerData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Serializes one kind of player data to and from a stream.
+ *
+ * @param <T> data type being encoded
+ */
+public interface PlayerDataCodec<T extends PlayerData> {
+    /**
+     * File extension (without the dot) used for documents written by this codec.
+     *
+     * @return file extension
+     */
+    String fileExtension();
+
+    /**
+     * Writes the full document for one player.
+     *
+     * @param data data to encode
+     * @param out  destination stream; left open
+     * @throws IOException if writing fails
+     */
+    void write(T data, OutputStream out) throws IOException;
+
+    /**
+     * Reads the full document for one player.
+     *
+     * @param in source stream; left open
+     * @return decoded data
+     * @throws IOException if the document is unreadable
+     */
+    T read(InputStream in) throws IOException;
+}
@@ -0,0 +1,25 @@
+package dev.hytalemodding.hyrune.database;
+
+import java.util.Locale;
+
+/**
+ * On-disk formats for per-player documents.
+ */
+public enum PlayerDataFormat {
+    JSON,
+    BINARY;
+
+    /**
+     * Parses a config value, defaulting to {@link #BINARY}.
+     */
+    public static PlayerDataFormat fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return BINARY;
+        }
+        try {
+            return PlayerDataFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return BINARY;
+        }
+    }
+}
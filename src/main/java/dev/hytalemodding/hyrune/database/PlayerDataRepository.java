@@ -24,4 +24,20 @@ public interface PlayerDataRepository<T extends PlayerData> {
      * @param data data to persist
      */
     void save(T data);
+
+    /**
+     * Forces any buffered writes for one player to be persisted.
+     * Write-through repositories have nothing to flush.
+     *
+     * @param uuid player UUID
+     */
+    default void flush(UUID uuid) {
+    }
+
+    /**
+     * Persists all buffered writes and releases background resources.
+     * Write-through repositories have nothing to close.
+     */
+    default void close() {
+    }
 }
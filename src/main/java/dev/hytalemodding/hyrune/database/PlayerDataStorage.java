@@ -0,0 +1,108 @@
+package dev.hytalemodding.hyrune.database;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import dev.hytalemodding.hyrune.config.HyruneConfig;
+import dev.hytalemodding.hyrune.playerdata.PlayerLvlData;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.logging.Level;
+
+/**
+ * Builds the player data repositories selected by the persistence config and owns their shared store.
+ */
+public final class PlayerDataStorage {
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final String STORAGE_STORE = "store";
+
+    private final String rootPath;
+    private final HyruneConfig.PersistenceConfig settings;
+    private final PlayerDataFormat format;
+    private final SegmentedPlayerStore store;
+
+    private PlayerDataStorage(String rootPath, HyruneConfig.PersistenceConfig settings, SegmentedPlayerStore store) {
+        this.rootPath = rootPath;
+        this.settings = settings;
+        this.format = PlayerDataFormat.fromString(settings.playerDataFormat);
+        this.store = store;
+    }
+
+    /**
+     * Opens player data storage, falling back to per-player files if the embedded store cannot open.
+     *
+     * @param rootPath data root, e.g. ./hyrune_data
+     * @param settings persistence settings
+     * @return storage facade
+     */
+    public static PlayerDataStorage open(String rootPath, HyruneConfig.PersistenceConfig settings) {
+        HyruneConfig.PersistenceConfig resolved = settings != null ? settings : new HyruneConfig.PersistenceConfig();
+        SegmentedPlayerStore store = null;
+        String storage = resolved.playerDataStorage == null ? "" : resolved.playerDataStorage.trim().toLowerCase(Locale.ROOT);
+        if (STORAGE_STORE.equals(storage)) {
+            try {
+                store = SegmentedPlayerStore.open(
+                    new File(rootPath, "store"),
+                    Math.max(1L, resolved.storeSegmentMaxMegabytes) * 1024L * 1024L,
+                    resolved.storeCompactionIntervalSeconds
+                );
+            } catch (IOException e) {
+                LOGGER.at(Level.WARNING).log("Failed to open player store, using per-player files: " + e.getMessage());
+            }
+        }
+        return new PlayerDataStorage(rootPath, resolved, store);
+    }
+
+    /**
+     * Level repository wrapped in the journal (if enabled) and write-behind layers.
+     */
+    public LevelRepository createLevelRepository() {
+        FileLevelRepository files = new FileLevelRepository(rootPath, format);
+        LevelRepository levelStore = store != null
+            ? withJournal(new StoreLevelRepository(store, files))
+            : withJournal(files);
+        return new WriteBehindLevelRepository(
+            levelStore,
+            settings.writeBehindFlushIntervalMillis,
+            settings.writeBehindDirtyThreshold
+        );
+    }
+
+    public SlayerRepository createSlayerRepository() {
+        FileSlayerRepository files = new FileSlayerRepository(rootPath, format);
+        return store != null ? new StoreSlayerRepository(store, files) : files;
+    }
+
+    public QuestRepository createQuestRepository() {
+        FileQuestRepository files = new FileQuestRepository(rootPath, format);
+        return store != null ? new StoreQuestRepository(store, files) : files;
+    }
+
+    public SocialRepository createSocialRepository() {
+        FileSocialRepository files = new FileSocialRepository(rootPath, format);
+        return store != null ? new StoreSocialRepository(store, files) : files;
+    }
+
+    private <R extends LevelRepository & SnapshotRepository<PlayerLvlData>> LevelRepository withJournal(R snapshots) {
+        if (!settings.journalLevelData) {
+            return snapshots;
+        }
+        return new JournaledLevelRepository(snapshots, rootPath, settings.journalCompactionThreshold);
+    }
+
+    /**
+     * Returns the embedded store, or null when per-player files are in use.
+     */
+    public SegmentedPlayerStore getStore() {
+        return store;
+    }
+
+    /**
+     * Closes the embedded store. Call after every service has flushed its repositories.
+     */
+    public void close() {
+        if (store != null) {
+            store.close();
+        }
+    }
+}
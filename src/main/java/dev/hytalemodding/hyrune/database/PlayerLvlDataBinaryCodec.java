@@ -0,0 +1,58 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.level.CombatXpStyle;
+import dev.hytalemodding.hyrune.playerdata.ExperienceTrack;
+import dev.hytalemodding.hyrune.playerdata.PlayerLvlData;
+import dev.hytalemodding.hyrune.skills.SkillType;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Binary codec for skill levels/XP: varint level + XP per skill ordinal, then combat styles.
+ */
+public class PlayerLvlDataBinaryCodec extends BinaryPlayerDataCodec<PlayerLvlData> {
+    private static final SkillType[] SKILLS = SkillType.values();
+    private static final CombatXpStyle[] STYLES = CombatXpStyle.values();
+
+    public PlayerLvlDataBinaryCodec() {
+        super((byte) 1, (byte) 1);
+    }
+
+    @Override
+    protected void writeBody(PlayerLvlData data, DataOutput out) throws IOException {
+        writeUuid(out, data.getUuid());
+        Map<SkillType, ExperienceTrack> tracks = data.getAllTracks();
+        writeVarInt(out, tracks.size());
+        for (Map.Entry<SkillType, ExperienceTrack> entry : tracks.entrySet()) {
+            writeVarInt(out, entry.getKey().ordinal());
+            writeVarInt(out, entry.getValue().getLevel());
+            writeVarLong(out, entry.getValue().getXp());
+        }
+        writeEnum(out, data.getMeleeXpStyle());
+        writeEnum(out, data.getRangedXpStyle());
+        writeEnum(out, data.getMagicXpStyle());
+    }
+
+    @Override
+    protected PlayerLvlData readBody(DataInput in, int version) throws IOException {
+        PlayerLvlData data = new PlayerLvlData(readUuid(in));
+        int trackCount = readVarInt(in);
+        for (int i = 0; i < trackCount; i++) {
+            int ordinal = readVarInt(in);
+            int level = readVarInt(in);
+            long xp = readVarLong(in);
+            if (ordinal < 0 || ordinal >= SKILLS.length) {
+                continue;
+            }
+            data.setSkillLevel(SKILLS[ordinal], level);
+            data.setSkillXp(SKILLS[ordinal], xp);
+        }
+        data.setMeleeXpStyle(readEnum(in, STYLES));
+        data.setRangedXpStyle(readEnum(in, STYLES));
+        data.setMagicXpStyle(readEnum(in, STYLES));
+        return data;
+    }
+}
@@ -0,0 +1,90 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.playerdata.PlayerQuestData;
+import dev.hytalemodding.hyrune.playerdata.QuestProgress;
+import dev.hytalemodding.hyrune.playerdata.QuestStatus;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Binary codec for quest progress, quest points and quest list preferences.
+ */
+public class PlayerQuestDataBinaryCodec extends BinaryPlayerDataCodec<PlayerQuestData> {
+    private static final QuestStatus[] STATUSES = QuestStatus.values();
+
+    public PlayerQuestDataBinaryCodec() {
+        super((byte) 2, (byte) 1);
+    }
+
+    @Override
+    protected void writeBody(PlayerQuestData data, DataOutput out) throws IOException {
+        writeUuid(out, data.getUuid());
+        writeVarInt(out, data.getQuestPoints());
+        writeNullableString(out, data.getQuestListFilter());
+        out.writeBoolean(data.isHideCompleted());
+        out.writeBoolean(data.isHideUnavailable());
+
+        Map<String, QuestProgress> progressById = data.getQuestProgress();
+        writeVarInt(out, progressById.size());
+        for (Map.Entry<String, QuestProgress> entry : progressById.entrySet()) {
+            out.writeUTF(entry.getKey());
+            QuestProgress progress = entry.getValue();
+            out.writeBoolean(progress != null);
+            if (progress == null) {
+                continue;
+            }
+            writeNullableString(out, progress.getQuestId());
+            writeEnum(out, progress.getStatus());
+            writeNullableString(out, progress.getCurrentStage());
+            Map<String, String> stageData = progress.getStageData();
+            writeVarInt(out, stageData == null ? 0 : stageData.size());
+            if (stageData != null) {
+                for (Map.Entry<String, String> stageEntry : stageData.entrySet()) {
+                    out.writeUTF(stageEntry.getKey());
+                    writeNullableString(out, stageEntry.getValue());
+                }
+            }
+            out.writeLong(progress.getStartedAt());
+            out.writeLong(progress.getCompletedAt());
+        }
+    }
+
+    @Override
+    protected PlayerQuestData readBody(DataInput in, int version) throws IOException {
+        PlayerQuestData data = new PlayerQuestData(readUuid(in));
+        data.setQuestPoints(readVarInt(in));
+        data.setQuestListFilter(readNullableString(in));
+        data.setHideCompleted(in.readBoolean());
+        data.setHideUnavailable(in.readBoolean());
+
+        int progressCount = readVarInt(in);
+        Map<String, QuestProgress> progressById = new HashMap<>();
+        for (int i = 0; i < progressCount; i++) {
+            String key = in.readUTF();
+            if (!in.readBoolean()) {
+                progressById.put(key, null);
+                continue;
+            }
+            QuestProgress progress = new QuestProgress();
+            progress.setQuestId(readNullableString(in));
+            QuestStatus status = readEnum(in, STATUSES);
+            progress.setStatus(status != null ? status : QuestStatus.NOT_STARTED);
+            progress.setCurrentStage(readNullableString(in));
+            int stageEntries = readVarInt(in);
+            Map<String, String> stageData = new HashMap<>();
+            for (int j = 0; j < stageEntries; j++) {
+                stageData.put(in.readUTF(), readNullableString(in));
+            }
+            progress.setStageData(stageData);
+            progress.setStartedAt(in.readLong());
+            progress.setCompletedAt(in.readLong());
+            progressById.put(key, progress);
+        }
+        data.setQuestProgress(progressById);
+        return data;
+    }
+}
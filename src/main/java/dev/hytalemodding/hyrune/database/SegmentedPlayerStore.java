@@ -0,0 +1,481 @@
+package dev.hytalemodding.hyrune.database;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+/**
+ * Embedded, append-only store holding every kind of player document in a handful of segment files.
+ * <p>
+ * Each write appends a CRC-checked record keyed by (kind, UUID) to the active segment and points
+ * the in-memory index at it. Sealed segments are read through read-only memory maps. A background
+ * task rewrites the live records of mostly-stale segments into the active segment and deletes them.
+ * The index is rebuilt by scanning segments in order at open time; a torn tail on the last segment
+ * is truncated.
+ */
+public final class SegmentedPlayerStore {
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+
+    private static final int SEGMENT_MAGIC = 0x48595253; // "HYRS"
+    private static final int SEGMENT_VERSION = 1;
+    private static final int SEGMENT_HEADER_BYTES = 8;
+    // length(4) + kind(1) + uuid(16), payload, crc(4)
+    private static final int RECORD_HEADER_BYTES = 21;
+    private static final int RECORD_TRAILER_BYTES = 4;
+    private static final int MAX_PAYLOAD_BYTES = 16 * 1024 * 1024;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final double COMPACTION_LIVE_RATIO = 0.5;
+
+    private final File folder;
+    private final long maxSegmentBytes;
+    private final Map<RecordKey, RecordLocation> index = new ConcurrentHashMap<>();
+    private final Map<Integer, Segment> segments = new ConcurrentHashMap<>();
+    private final List<File> pendingDeletes = new ArrayList<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService compactor;
+    private Segment active;
+    private volatile boolean closed;
+
+    private SegmentedPlayerStore(File folder, long maxSegmentBytes, long compactionIntervalSeconds) throws IOException {
+        this.folder = folder;
+        this.maxSegmentBytes = Math.max(1024L * 1024L, maxSegmentBytes);
+        if (!folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Failed to create player store folder at " + folder.getAbsolutePath());
+        }
+        recover();
+
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Hyrune-PlayerStore-Compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1L, compactionIntervalSeconds);
+        this.compactor.scheduleWithFixedDelay(this::compactSafely, interval, interval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Opens (or creates) a store, rebuilding its index from the segment files.
+     *
+     * @param folder                    directory holding the segment files
+     * @param maxSegmentBytes           size at which the active segment is sealed
+     * @param compactionIntervalSeconds delay between background compaction passes
+     * @return opened store
+     * @throws IOException if the folder or segments cannot be opened
+     */
+    public static SegmentedPlayerStore open(File folder, long maxSegmentBytes, long compactionIntervalSeconds)
+        throws IOException {
+        return new SegmentedPlayerStore(Objects.requireNonNull(folder, "folder"), maxSegmentBytes, compactionIntervalSeconds);
+    }
+
+    /**
+     * Reads the latest payload stored for a player, or null if none exists.
+     */
+    public byte[] read(byte kind, UUID uuid) throws IOException {
+        if (uuid == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            RecordLocation location = index.get(new RecordKey(kind, uuid));
+            return location == null ? null : readPayload(location);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Appends a new payload for a player; it supersedes any earlier record with the same key.
+     */
+    public void write(byte kind, UUID uuid, byte[] payload) throws IOException {
+        Objects.requireNonNull(uuid, "uuid");
+        Objects.requireNonNull(payload, "payload");
+        if (payload.length > MAX_PAYLOAD_BYTES) {
+            throw new IOException("Player record too large: " + payload.length + " bytes");
+        }
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            append(new RecordKey(kind, uuid), payload, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Iterates the latest payload of every player of one kind. Intended for offline tooling and
+     * audits; holds the read lock for the whole pass.
+     */
+    public void forEach(byte kind, BiConsumer<UUID, byte[]> consumer) throws IOException {
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<RecordKey, RecordLocation> entry : index.entrySet()) {
+                if (entry.getKey().kind() == kind) {
+                    consumer.accept(entry.getKey().uuid(), readPayload(entry.getValue()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of live records of one kind.
+     */
+    public int count(byte kind) {
+        int count = 0;
+        for (RecordKey key : index.keySet()) {
+            if (key.kind() == kind) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Rewrites the live records of mostly-stale sealed segments and deletes those segments.
+     */
+    public void compact() throws IOException {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            retryPendingDeletes();
+            List<Segment> candidates = new ArrayList<>();
+            for (Segment segment : segments.values()) {
+                if (segment != active && segment.liveRatio() < COMPACTION_LIVE_RATIO) {
+                    candidates.add(segment);
+                }
+            }
+            candidates.sort(Comparator.comparingInt(segment -> segment.id));
+            for (Segment segment : candidates) {
+                compactSegment(segment);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stops background compaction, syncs the active segment and closes every file.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        compactor.shutdown();
+        try {
+            if (!compactor.awaitTermination(10L, TimeUnit.SECONDS)) {
+                compactor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            compactor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        lock.writeLock().lock();
+        try {
+            closed = true;
+            for (Segment segment : segments.values()) {
+                segment.close();
+            }
+            segments.clear();
+            index.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactSafely() {
+        try {
+            compact();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.at(Level.WARNING).log("Player store compaction failed: " + e.getMessage());
+        }
+    }
+
+    private void compactSegment(Segment segment) throws IOException {
+        int moved = 0;
+        for (Map.Entry<RecordKey, RecordLocation> entry : index.entrySet()) {
+            RecordLocation location = entry.getValue();
+            if (location.segmentId() != segment.id) {
+                continue;
+            }
+            append(entry.getKey(), readPayload(location), false);
+            moved++;
+        }
+        active.channel.force(false);
+        segments.remove(segment.id);
+        segment.close();
+        if (!segment.file.delete()) {
+            // Typically a live memory map on Windows; the stale records are harmless until deleted.
+            pendingDeletes.add(segment.file);
+        }
+        LOGGER.at(Level.INFO).log("Compacted player store segment " + segment.id + " (" + moved + " live records moved).");
+    }
+
+    private void retryPendingDeletes() {
+        pendingDeletes.removeIf(File::delete);
+    }
+
+    private void append(RecordKey key, byte[] payload, boolean sync) throws IOException {
+        int recordBytes = RECORD_HEADER_BYTES + payload.length + RECORD_TRAILER_BYTES;
+        if (active.size > SEGMENT_HEADER_BYTES && active.size + recordBytes > maxSegmentBytes) {
+            rollActiveSegment();
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(recordBytes);
+        record.putInt(payload.length);
+        record.put(key.kind());
+        record.putLong(key.uuid().getMostSignificantBits());
+        record.putLong(key.uuid().getLeastSignificantBits());
+        record.put(payload);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 4, RECORD_HEADER_BYTES - 4 + payload.length);
+        record.putInt((int) crc.getValue());
+        record.flip();
+
+        long recordStart = active.size;
+        while (record.hasRemaining()) {
+            active.channel.write(record, recordStart + record.position());
+        }
+        if (sync) {
+            active.channel.force(false);
+        }
+        active.size += recordBytes;
+        active.liveBytes += recordBytes;
+        track(key, new RecordLocation(active.id, recordStart + RECORD_HEADER_BYTES, payload.length));
+    }
+
+    private void track(RecordKey key, RecordLocation location) {
+        RecordLocation previous = index.put(key, location);
+        if (previous != null) {
+            Segment previousSegment = segments.get(previous.segmentId());
+            if (previousSegment != null) {
+                previousSegment.liveBytes -= RECORD_HEADER_BYTES + previous.length() + RECORD_TRAILER_BYTES;
+            }
+        }
+    }
+
+    private byte[] readPayload(RecordLocation location) throws IOException {
+        Segment segment = segments.get(location.segmentId());
+        if (segment == null) {
+            throw new IOException("Missing player store segment " + location.segmentId());
+        }
+        byte[] payload = new byte[location.length()];
+        if (segment == active) {
+            ByteBuffer target = ByteBuffer.wrap(payload);
+            long position = location.offset();
+            while (target.hasRemaining()) {
+                int read = segment.channel.read(target, position + target.position());
+                if (read < 0) {
+                    throw new IOException("Unexpected end of player store segment " + segment.id);
+                }
+            }
+            return payload;
+        }
+        segment.mapped().get((int) location.offset(), payload);
+        return payload;
+    }
+
+    private void rollActiveSegment() throws IOException {
+        active.channel.force(false);
+        active = createSegment(active.id + 1);
+    }
+
+    private Segment createSegment(int id) throws IOException {
+        File file = new File(folder, segmentName(id));
+        FileChannel channel = FileChannel.open(file.toPath(),
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_BYTES);
+        header.putInt(SEGMENT_MAGIC);
+        header.putInt(SEGMENT_VERSION);
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+        Segment segment = new Segment(id, file, channel, SEGMENT_HEADER_BYTES);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private void recover() throws IOException {
+        File[] files = folder.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+        int[] ids = files == null ? new int[0] : Arrays.stream(files)
+            .mapToInt(file -> parseSegmentId(file.getName()))
+            .filter(id -> id > 0)
+            .sorted()
+            .toArray();
+
+        for (int i = 0; i < ids.length; i++) {
+            boolean last = i == ids.length - 1;
+            File file = new File(folder, segmentName(ids[i]));
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Segment segment = new Segment(ids[i], file, channel, channel.size());
+            segments.put(segment.id, segment);
+            long validEnd = scanSegment(segment);
+            if (validEnd < segment.size) {
+                if (last) {
+                    LOGGER.at(Level.WARNING).log("Truncating torn tail of player store segment " + segment.id
+                        + " at byte " + validEnd + " (was " + segment.size + ").");
+                    channel.truncate(validEnd);
+                    channel.force(true);
+                    segment.size = validEnd;
+                } else {
+                    LOGGER.at(Level.WARNING).log("Ignoring corrupt bytes after " + validEnd + " in player store segment " + segment.id);
+                }
+            }
+        }
+
+        if (ids.length == 0) {
+            active = createSegment(1);
+        } else {
+            Segment last = segments.get(ids[ids.length - 1]);
+            active = last.size < SEGMENT_HEADER_BYTES || last.size >= maxSegmentBytes
+                ? createSegment(last.id + 1)
+                : last;
+        }
+        LOGGER.at(Level.INFO).log("Opened player store at " + folder.getAbsolutePath()
+            + " with " + segments.size() + " segment(s) and " + index.size() + " record(s).");
+    }
+
+    /**
+     * Indexes every valid record of a segment and returns the offset just past the last one.
+     */
+    private long scanSegment(Segment segment) throws IOException {
+        FileChannel channel = segment.channel;
+        if (segment.size < SEGMENT_HEADER_BYTES) {
+            return 0L;
+        }
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_BYTES);
+        readFully(channel, header, 0L);
+        header.flip();
+        if (header.getInt() != SEGMENT_MAGIC || header.getInt() != SEGMENT_VERSION) {
+            LOGGER.at(Level.WARNING).log("Player store segment " + segment.id + " has an unknown header; skipping.");
+            return segment.size;
+        }
+
+        long position = SEGMENT_HEADER_BYTES;
+        ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        while (position + RECORD_HEADER_BYTES + RECORD_TRAILER_BYTES <= segment.size) {
+            recordHeader.clear();
+            readFully(channel, recordHeader, position);
+            recordHeader.flip();
+            int length = recordHeader.getInt();
+            if (length < 0 || length > MAX_PAYLOAD_BYTES
+                || position + RECORD_HEADER_BYTES + length + RECORD_TRAILER_BYTES > segment.size) {
+                break;
+            }
+            byte kind = recordHeader.get();
+            UUID uuid = new UUID(recordHeader.getLong(), recordHeader.getLong());
+
+            ByteBuffer body = ByteBuffer.allocate(length + RECORD_TRAILER_BYTES);
+            readFully(channel, body, position + RECORD_HEADER_BYTES);
+            body.flip();
+            CRC32 crc = new CRC32();
+            crc.update(recordHeader.array(), 4, RECORD_HEADER_BYTES - 4);
+            crc.update(body.array(), 0, length);
+            body.position(length);
+            if (body.getInt() != (int) crc.getValue()) {
+                break;
+            }
+
+            int recordBytes = RECORD_HEADER_BYTES + length + RECORD_TRAILER_BYTES;
+            segment.liveBytes += recordBytes;
+            track(new RecordKey(kind, uuid), new RecordLocation(segment.id, position + RECORD_HEADER_BYTES, length));
+            position += recordBytes;
+        }
+        return position;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target, position + target.position()) < 0) {
+                throw new IOException("Unexpected end of player store segment");
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Player store is closed");
+        }
+    }
+
+    private static String segmentName(int id) {
+        return String.format("%s%06d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX);
+    }
+
+    private static int parseSegmentId(String name) {
+        try {
+            return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private record RecordKey(byte kind, UUID uuid) {
+    }
+
+    private record RecordLocation(int segmentId, long offset, int length) {
+    }
+
+    private static final class Segment {
+        private final int id;
+        private final File file;
+        private final FileChannel channel;
+        private long size;
+        private long liveBytes;
+        private MappedByteBuffer mapped;
+
+        private Segment(int id, File file, FileChannel channel, long size) {
+            this.id = id;
+            this.file = file;
+            this.channel = channel;
+            this.size = size;
+        }
+
+        /**
+         * Lazily maps a sealed segment. Called under the store read lock, hence synchronized.
+         */
+        private synchronized MappedByteBuffer mapped() throws IOException {
+            if (mapped == null) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+            }
+            return mapped;
+        }
+
+        private double liveRatio() {
+            long payloadBytes = size - SEGMENT_HEADER_BYTES;
+            return payloadBytes <= 0 ? 1.0 : (double) liveBytes / (double) payloadBytes;
+        }
+
+        private void close() {
+            mapped = null;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.at(Level.WARNING).log("Failed to close player store segment " + id + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.playerdata.SlayerPlayerData;
+import dev.hytalemodding.hyrune.slayer.SlayerTaskAssignment;
+import dev.hytalemodding.hyrune.slayer.SlayerTaskState;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary codec for Slayer points, streaks and the active task assignment.
+ */
+public class SlayerPlayerDataBinaryCodec extends BinaryPlayerDataCodec<SlayerPlayerData> {
+    private static final SlayerTaskState[] STATES = SlayerTaskState.values();
+
+    public SlayerPlayerDataBinaryCodec() {
+        super((byte) 3, (byte) 1);
+    }
+
+    @Override
+    protected void writeBody(SlayerPlayerData data, DataOutput out) throws IOException {
+        writeUuid(out, data.getUuid());
+        writeVarInt(out, data.getSlayerPoints());
+        writeVarInt(out, data.getCompletedTasks());
+        writeVarInt(out, data.getCurrentStreak());
+
+        SlayerTaskAssignment assignment = data.getAssignment();
+        out.writeBoolean(assignment != null);
+        if (assignment != null) {
+            writeNullableString(out, assignment.getMasterId());
+            writeNullableString(out, assignment.getTaskId());
+            writeNullableString(out, assignment.getTargetNpcTypeId());
+            writeVarInt(out, assignment.getTotalKills());
+            writeVarInt(out, assignment.getRemainingKills());
+            writeEnum(out, assignment.getState());
+        }
+    }
+
+    @Override
+    protected SlayerPlayerData readBody(DataInput in, int version) throws IOException {
+        SlayerPlayerData data = new SlayerPlayerData(readUuid(in));
+        data.setSlayerPoints(readVarInt(in));
+        data.setCompletedTasks(readVarInt(in));
+        data.setCurrentStreak(readVarInt(in));
+
+        if (in.readBoolean()) {
+            String masterId = readNullableString(in);
+            String taskId = readNullableString(in);
+            String targetNpcTypeId = readNullableString(in);
+            int totalKills = readVarInt(in);
+            int remainingKills = readVarInt(in);
+            SlayerTaskState state = readEnum(in, STATES);
+            data.setAssignment(SlayerTaskAssignment.restore(
+                masterId, taskId, targetNpcTypeId, totalKills, remainingKills, state));
+        }
+        return data;
+    }
+}
@@ -0,0 +1,20 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.playerdata.PlayerData;
+
+import java.io.IOException;
+
+/**
+ * Repository that can report whether a full snapshot write actually reached disk.
+ *
+ * @param <T> data type being persisted
+ */
+public interface SnapshotRepository<T extends PlayerData> extends PlayerDataRepository<T> {
+    /**
+     * Atomically replaces the player's snapshot, surfacing failures to the caller.
+     *
+     * @param data data to persist
+     * @throws IOException if the snapshot could not be written
+     */
+    void writeSnapshot(T data) throws IOException;
+}
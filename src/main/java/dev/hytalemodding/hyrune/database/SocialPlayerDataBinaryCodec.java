@@ -0,0 +1,66 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.playerdata.SocialPlayerData;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Binary codec for friend, ignore and pending request lists.
+ */
+public class SocialPlayerDataBinaryCodec extends BinaryPlayerDataCodec<SocialPlayerData> {
+    public SocialPlayerDataBinaryCodec() {
+        super((byte) 4, (byte) 1);
+    }
+
+    @Override
+    protected void writeBody(SocialPlayerData data, DataOutput out) throws IOException {
+        writeUuid(out, data.getUuid());
+        writeUuidSet(out, data.getFriends());
+        writeUuidSet(out, data.getIgnored());
+        writeUuidSet(out, data.getIncomingFriendRequests());
+        writeUuidSet(out, data.getOutgoingFriendRequests());
+    }
+
+    @Override
+    protected SocialPlayerData readBody(DataInput in, int version) throws IOException {
+        SocialPlayerData data = new SocialPlayerData(readUuid(in));
+        data.setFriends(readUuidSet(in));
+        data.setIgnored(readUuidSet(in));
+        data.setIncomingFriendRequests(readUuidSet(in));
+        data.setOutgoingFriendRequests(readUuidSet(in));
+        return data;
+    }
+
+    private static void writeUuidSet(DataOutput out, Set<UUID> values) throws IOException {
+        if (values == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        int count = 0;
+        for (UUID value : values) {
+            if (value != null) {
+                count++;
+            }
+        }
+        writeVarInt(out, count);
+        for (UUID value : values) {
+            if (value != null) {
+                writeUuid(out, value);
+            }
+        }
+    }
+
+    private static Set<UUID> readUuidSet(DataInput in) throws IOException {
+        int count = readVarInt(in);
+        Set<UUID> values = new HashSet<>(Math.max(4, count * 2));
+        for (int i = 0; i < count; i++) {
+            values.add(readUuid(in));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,12 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.playerdata.PlayerLvlData;
+
+/**
+ * Embedded-store repository for level data.
+ */
+public class StoreLevelRepository extends StorePlayerDataRepository<PlayerLvlData> implements LevelRepository {
+    public StoreLevelRepository(SegmentedPlayerStore store, FileLevelRepository legacy) {
+        super(store, "level data", new PlayerLvlDataBinaryCodec(), legacy);
+    }
+}
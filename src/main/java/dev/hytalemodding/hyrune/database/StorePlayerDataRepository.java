@@ -0,0 +1,109 @@
+package dev.hytalemodding.hyrune.database;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import dev.hytalemodding.hyrune.playerdata.PlayerData;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Repository storing one kind of player document in the shared {@link SegmentedPlayerStore}.
+ * <p>
+ * Players missing from the store are read from the legacy per-player files; their next save goes
+ * into the store and the legacy files are deleted.
+ *
+ * @param <T> data type being persisted
+ */
+public abstract class StorePlayerDataRepository<T extends PlayerData> implements SnapshotRepository<T> {
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+
+    private final SegmentedPlayerStore store;
+    private final String label;
+    private final BinaryPlayerDataCodec<T> codec;
+    private final FilePlayerDataRepository<T> legacy;
+    private final Set<UUID> loadedFromLegacy = ConcurrentHashMap.newKeySet();
+
+    protected StorePlayerDataRepository(SegmentedPlayerStore store,
+                                        String label,
+                                        BinaryPlayerDataCodec<T> codec,
+                                        FilePlayerDataRepository<T> legacy) {
+        this.store = Objects.requireNonNull(store, "store");
+        this.label = label;
+        this.codec = Objects.requireNonNull(codec, "codec");
+        this.legacy = legacy;
+    }
+
+    @Override
+    public T load(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        try {
+            byte[] payload = store.read(codec.getKind(), uuid);
+            if (payload != null) {
+                return decode(payload);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.at(Level.WARNING).log("Failed to load " + label + " for " + uuid + ": " + e.getMessage());
+            return null;
+        }
+        if (legacy == null) {
+            return null;
+        }
+        T migrated = legacy.load(uuid);
+        if (migrated != null) {
+            loadedFromLegacy.add(uuid);
+        }
+        return migrated;
+    }
+
+    @Override
+    public void save(T data) {
+        if (data == null || data.getUuid() == null) {
+            return;
+        }
+        try {
+            writeSnapshot(data);
+        } catch (IOException e) {
+            LOGGER.at(Level.WARNING).log("Failed to save " + label + " for " + data.getUuid() + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void writeSnapshot(T data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        codec.write(data, out);
+        store.write(codec.getKind(), data.getUuid(), out.toByteArray());
+        if (legacy != null && loadedFromLegacy.remove(data.getUuid())) {
+            legacy.delete(data.getUuid());
+        }
+    }
+
+    /**
+     * Decodes every stored player of this kind, e.g. for offline audits or exports.
+     * Players still only present as legacy files are not visited.
+     *
+     * @param consumer receives each decoded record
+     * @throws IOException if the store cannot be read
+     */
+    public void forEach(Consumer<T> consumer) throws IOException {
+        store.forEach(codec.getKind(), (uuid, payload) -> {
+            try {
+                consumer.accept(decode(payload));
+            } catch (IOException e) {
+                LOGGER.at(Level.WARNING).log("Skipping unreadable " + label + " for " + uuid + ": " + e.getMessage());
+            }
+        });
+    }
+
+    private T decode(byte[] payload) throws IOException {
+        return codec.read(new ByteArrayInputStream(payload));
+    }
+}
@@ -0,0 +1,12 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.playerdata.PlayerQuestData;
+
+/**
+ * Embedded-store repository for quest data.
+ */
+public class StoreQuestRepository extends StorePlayerDataRepository<PlayerQuestData> implements QuestRepository {
+    public StoreQuestRepository(SegmentedPlayerStore store, FileQuestRepository legacy) {
+        super(store, "quest data", new PlayerQuestDataBinaryCodec(), legacy);
+    }
+}
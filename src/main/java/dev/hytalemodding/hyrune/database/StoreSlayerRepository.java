@@ -0,0 +1,12 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.playerdata.SlayerPlayerData;
+
+/**
+ * Embedded-store repository for Slayer data.
+ */
+public class StoreSlayerRepository extends StorePlayerDataRepository<SlayerPlayerData> implements SlayerRepository {
+    public StoreSlayerRepository(SegmentedPlayerStore store, FileSlayerRepository legacy) {
+        super(store, "Slayer data", new SlayerPlayerDataBinaryCodec(), legacy);
+    }
+}
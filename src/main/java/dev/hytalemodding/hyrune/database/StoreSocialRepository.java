@@ -0,0 +1,12 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.playerdata.SocialPlayerData;
+
+/**
+ * Embedded-store repository for social data.
+ */
+public class StoreSocialRepository extends StorePlayerDataRepository<SocialPlayerData> implements SocialRepository {
+    public StoreSocialRepository(SegmentedPlayerStore store, FileSocialRepository legacy) {
+        super(store, "social data", new SocialPlayerDataBinaryCodec(), legacy);
+    }
+}
@@ -0,0 +1,12 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.playerdata.PlayerLvlData;
+
+/**
+ * Write-behind level repository that buffers XP saves off the world thread.
+ */
+public class WriteBehindLevelRepository extends WriteBehindRepository<PlayerLvlData> implements LevelRepository {
+    public WriteBehindLevelRepository(LevelRepository delegate, long flushIntervalMillis, int dirtyThreshold) {
+        super(delegate, "level", PlayerLvlData::copy, flushIntervalMillis, dirtyThreshold);
+    }
+}
@@ -0,0 +1,181 @@
+package dev.hytalemodding.hyrune.database;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import dev.hytalemodding.hyrune.playerdata.PlayerData;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+
+/**
+ * Write-behind decorator that coalesces saves and persists them from a dedicated I/O thread.
+ * <p>
+ * {@link #save(PlayerData)} takes a snapshot of the record on the calling thread and marks it dirty.
+ * Dirty snapshots are written to the delegate on a fixed interval, or as soon as the dirty count
+ * reaches the configured threshold. {@link #flush(UUID)} and {@link #close()} force pending writes out.
+ * Because only snapshots are queued, the I/O thread never serializes an object the world thread
+ * is still mutating.
+ *
+ * @param <T> data type being persisted
+ */
+public class WriteBehindRepository<T extends PlayerData> implements PlayerDataRepository<T> {
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final long CLOSE_TIMEOUT_SECONDS = 10L;
+
+    private final PlayerDataRepository<T> delegate;
+    private final String label;
+    private final UnaryOperator<T> snapshot;
+    private final int dirtyThreshold;
+    private final ScheduledExecutorService ioExecutor;
+
+    // Snapshots waiting to be written, keyed by owner. Re-saving a dirty record just replaces the entry.
+    private final Map<UUID, T> dirty = new ConcurrentHashMap<>();
+    // Snapshots currently being written; keeps load() from reading a half-written file.
+    private final Map<UUID, T> inFlight = new ConcurrentHashMap<>();
+    private final AtomicBoolean thresholdFlushQueued = new AtomicBoolean();
+    private volatile boolean closed;
+
+    public WriteBehindRepository(PlayerDataRepository<T> delegate,
+                                 String label,
+                                 UnaryOperator<T> snapshot,
+                                 long flushIntervalMillis,
+                                 int dirtyThreshold) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.label = label != null ? label : "player data";
+        this.snapshot = Objects.requireNonNull(snapshot, "snapshot");
+        this.dirtyThreshold = Math.max(1, dirtyThreshold);
+        long interval = Math.max(50L, flushIntervalMillis);
+
+        String threadName = "Hyrune-WriteBehind-" + this.label;
+        this.ioExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ioExecutor.scheduleWithFixedDelay(this::flushAllSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public T load(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        // A pending or in-flight snapshot is newer than whatever is on disk. Hand out a copy so the
+        // caller can mutate it while the queued snapshot is being written.
+        T pending = dirty.get(uuid);
+        if (pending == null) {
+            pending = inFlight.get(uuid);
+        }
+        if (pending != null) {
+            return snapshot.apply(pending);
+        }
+        return delegate.load(uuid);
+    }
+
+    @Override
+    public void save(T data) {
+        if (data == null || data.getUuid() == null) {
+            return;
+        }
+        if (closed) {
+            delegate.save(data);
+            return;
+        }
+        dirty.put(data.getUuid(), snapshot.apply(data));
+        if (dirty.size() >= dirtyThreshold && thresholdFlushQueued.compareAndSet(false, true)) {
+            submit(() -> {
+                thresholdFlushQueued.set(false);
+                flushAllSafely();
+            });
+        }
+    }
+
+    /**
+     * Queues an immediate write of the player's pending record on the I/O thread.
+     */
+    @Override
+    public void flush(UUID uuid) {
+        if (uuid == null) {
+            return;
+        }
+        if (closed) {
+            writeEntry(uuid);
+            delegate.flush(uuid);
+            return;
+        }
+        submit(() -> {
+            writeEntry(uuid);
+            delegate.flush(uuid);
+        });
+    }
+
+    /**
+     * Stops the I/O thread and synchronously writes everything still pending.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        ioExecutor.shutdown();
+        try {
+            if (!ioExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.at(Level.WARNING).log("Write-behind I/O thread for " + label + " did not stop in time.");
+                ioExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            ioExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        flushAllSafely();
+        delegate.close();
+    }
+
+    /**
+     * Returns the number of records waiting to be written.
+     */
+    public int getDirtyCount() {
+        return dirty.size();
+    }
+
+    private void submit(Runnable task) {
+        try {
+            ioExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Closing concurrently; close() drains whatever is left.
+        }
+    }
+
+    private void flushAllSafely() {
+        for (UUID uuid : dirty.keySet()) {
+            writeEntry(uuid);
+        }
+    }
+
+    private void writeEntry(UUID uuid) {
+        T data = dirty.get(uuid);
+        if (data == null) {
+            return;
+        }
+        inFlight.put(uuid, data);
+        dirty.remove(uuid, data);
+        try {
+            delegate.save(data);
+        } catch (RuntimeException e) {
+            // Keep the snapshot unless a newer save replaced it; retry on the next pass.
+            dirty.putIfAbsent(uuid, data);
+            LOGGER.at(Level.WARNING).log("Write-behind save failed for " + label + " " + uuid + ": " + e.getMessage());
+        } finally {
+            inFlight.remove(uuid, data);
+        }
+    }
+}
@@ -2,23 +2,19 @@ package dev.hytalemodding.hyrune.events;
 
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.entity.ItemUtils;
-import com.hypixel.hytale.server.core.entity.LivingEntity;
 import com.hypixel.hytale.server.core.entity.entities.Player;
-import com.hypixel.hytale.server.core.event.events.entity.LivingEntityInventoryChangeEvent;
 import com.hypixel.hytale.server.core.inventory.Inventory;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.world.World;
-import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import dev.hytalemodding.Hyrune;
 import dev.hytalemodding.hyrune.level.LevelingService;
 import dev.hytalemodding.hyrune.skills.SkillType;
 import dev.hytalemodding.hyrune.registry.CombatRequirementRegistry;
 import dev.hytalemodding.hyrune.util.PlayerEntityAccess;
 
+import java.util.BitSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -28,49 +24,27 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ArmorRequirementListener {
     private static final long ARMOR_WARNING_COOLDOWN_MS = 2000;
     private static final Map<UUID, Long> LAST_ARMOR_WARNING = new ConcurrentHashMap<>();
-    private static final Set<UUID> ACTIVE = ConcurrentHashMap.newKeySet();
     private static final Map<UUID, ItemStack[]> LAST_VALID_ARMOR = new ConcurrentHashMap<>();
 
-    public void onInventoryChange(LivingEntityInventoryChangeEvent event) {
-        LivingEntity entity = event.getEntity();
-        if (!(entity instanceof Player player)) {
-            return;
-        }
-
-        UUID uuid = PlayerEntityAccess.getPlayerUuid(player);
-        if (uuid == null) {
-            return;
-        }
-        if (!ACTIVE.add(uuid)) {
-            return;
-        }
-
-        World world = player.getReference() != null ? player.getReference().getStore().getExternalData().getWorld() : null;
-        if (world == null) {
-            ACTIVE.remove(uuid);
-            return;
-        }
-
-        world.execute(() -> {
-            try {
-                handleArmorChange(player);
-            } finally {
-                ACTIVE.remove(uuid);
-            }
-        });
-    }
-
-    private void handleArmorChange(Player player) {
+    /**
+     * Dispatcher stage: rejects newly equipped armor the player lacks the Defence level for.
+     * Only armor slots changed in this batch are checked; a change made through a combined
+     * container that includes the armor section checks every armor slot.
+     */
+    void onInventoryChanged(InventoryChangeBatch batch) {
+        Player player = batch.player();
         Inventory inventory = player.getInventory();
         if (inventory == null) {
             return;
         }
-
         ItemContainer armor = inventory.getArmor();
-        if (armor == null) {
+        if (!batch.touched(armor)) {
             return;
         }
+        handleArmorChange(player, inventory, armor, batch.changedSlots(armor));
+    }
 
+    private void handleArmorChange(Player player, Inventory inventory, ItemContainer armor, BitSet changedSlots) {
         PlayerRef playerRef = PlayerEntityAccess.getPlayerRef(player);
         if (playerRef == null) {
             return;
@@ -83,7 +57,8 @@ public class ArmorRequirementListener {
         ItemStack[] cached = getOrInitLastValidArmor(playerUuid, armor);
         boolean warned = false;
         short capacity = armor.getCapacity();
-        for (short slot = 0; slot < capacity; slot++) {
+        for (int next = changedSlots.nextSetBit(0); next >= 0 && next < capacity; next = changedSlots.nextSetBit(next + 1)) {
+            short slot = (short) next;
             ItemStack stack = armor.getItemStack(slot);
             if (stack == null || stack.isEmpty() || stack.getItemId() == null) {
                 cached[slot] = null;
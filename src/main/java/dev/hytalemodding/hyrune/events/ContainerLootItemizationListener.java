@@ -1,9 +1,7 @@
 package dev.hytalemodding.hyrune.events;
 
 import com.hypixel.hytale.logger.HytaleLogger;
-import com.hypixel.hytale.server.core.entity.LivingEntity;
 import com.hypixel.hytale.server.core.entity.entities.Player;
-import com.hypixel.hytale.server.core.event.events.entity.LivingEntityInventoryChangeEvent;
 import com.hypixel.hytale.server.core.inventory.Inventory;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
@@ -11,18 +9,16 @@ import com.hypixel.hytale.server.core.inventory.transaction.ListTransaction;
 import com.hypixel.hytale.server.core.inventory.transaction.MoveTransaction;
 import com.hypixel.hytale.server.core.inventory.transaction.MoveType;
 import com.hypixel.hytale.server.core.inventory.transaction.Transaction;
-import com.hypixel.hytale.server.core.universe.world.World;
 import dev.hytalemodding.hyrune.config.HyruneConfigManager;
 import dev.hytalemodding.hyrune.itemization.ItemGenerationService;
 import dev.hytalemodding.hyrune.itemization.ItemInstanceMetadata;
 import dev.hytalemodding.hyrune.itemization.ItemRarityRollModel;
 import dev.hytalemodding.hyrune.itemization.ItemRollSource;
 import dev.hytalemodding.hyrune.itemization.ItemizationEligibilityService;
-import dev.hytalemodding.hyrune.util.PlayerEntityAccess;
 
-import java.util.Set;
+import java.util.BitSet;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 /**
@@ -30,78 +26,49 @@ import java.util.logging.Level;
  */
 public class ContainerLootItemizationListener {
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
-    private static final Set<UUID> ACTIVE = ConcurrentHashMap.newKeySet();
 
-    public void onInventoryChange(LivingEntityInventoryChangeEvent event) {
-        if (event == null) {
-            return;
-        }
-        LivingEntity entity = event.getEntity();
-        if (!(entity instanceof Player player)) {
-            return;
-        }
-
-        Transaction tx = event.getTransaction();
-        if (!isExternalMoveToSelf(tx, player)) {
-            return;
-        }
-
-        UUID uuid = PlayerEntityAccess.getPlayerUuid(player);
-        if (uuid == null || !ACTIVE.add(uuid)) {
+    /**
+     * Dispatcher stage: rolls eligible, unrolled stacks that arrived from external containers.
+     */
+    void onInventoryChanged(InventoryChangeBatch batch) {
+        if (batch.externalLootSlots().isEmpty()) {
             return;
         }
+        int rolledCount = 0;
+        for (Map.Entry<ItemContainer, BitSet> entry : batch.externalLootSlots().entrySet()) {
+            ItemContainer container = entry.getKey();
+            BitSet slots = entry.getValue();
+            short capacity = container.getCapacity();
+            for (int next = slots.nextSetBit(0); next >= 0 && next < capacity; next = slots.nextSetBit(next + 1)) {
+                short slot = (short) next;
+                ItemStack current = container.getItemStack(slot);
+                if (current == null || current.isEmpty()) {
+                    continue;
+                }
+                if (!ItemizationEligibilityService.isEligible(current)) {
+                    continue;
+                }
+                if (current.getFromMetadataOrNull(ItemInstanceMetadata.KEYED_CODEC) != null) {
+                    continue;
+                }
 
-        ItemContainer container = event.getItemContainer();
-        if (container == null) {
-            ACTIVE.remove(uuid);
-            return;
+                ItemRarityRollModel.GenerationContext context = ItemRarityRollModel.GenerationContext.of("container_move_to_player");
+                ItemStack rolled = ItemGenerationService.rollIfEligible(
+                    current,
+                    ItemRollSource.CONTAINER_LOOT,
+                    context
+                );
+                container.replaceItemStackInSlot(slot, current, rolled);
+                rolledCount++;
+            }
         }
 
-        World world = player.getReference() != null ? player.getReference().getStore().getExternalData().getWorld() : null;
-        if (world == null) {
-            ACTIVE.remove(uuid);
-            return;
+        if (rolledCount > 0 && HyruneConfigManager.getConfig().itemizationDebugLogging) {
+            LOGGER.at(Level.INFO).log("[Itemization][ContainerLoot] p=" + shortUuid(batch.uuid()) + ", rolledStacks=" + rolledCount);
         }
-
-        world.execute(() -> {
-            int rolledCount = 0;
-            try {
-                short capacity = container.getCapacity();
-                for (short slot = 0; slot < capacity; slot++) {
-                    if (tx == null || !tx.wasSlotModified(slot)) {
-                        continue;
-                    }
-                    ItemStack current = container.getItemStack(slot);
-                    if (current == null || current.isEmpty()) {
-                        continue;
-                    }
-                    if (!ItemizationEligibilityService.isEligible(current)) {
-                        continue;
-                    }
-                    if (current.getFromMetadataOrNull(ItemInstanceMetadata.KEYED_CODEC) != null) {
-                        continue;
-                    }
-
-                    ItemRarityRollModel.GenerationContext context = ItemRarityRollModel.GenerationContext.of("container_move_to_player");
-                    ItemStack rolled = ItemGenerationService.rollIfEligible(
-                        current,
-                        ItemRollSource.CONTAINER_LOOT,
-                        context
-                    );
-                    container.replaceItemStackInSlot(slot, current, rolled);
-                    rolledCount++;
-                }
-
-                if (rolledCount > 0 && HyruneConfigManager.getConfig().itemizationDebugLogging) {
-                    LOGGER.at(Level.INFO).log("[Itemization][ContainerLoot] p=" + shortUuid(uuid) + ", rolledStacks=" + rolledCount);
-                }
-            } finally {
-                ACTIVE.remove(uuid);
-            }
-        });
     }
 
-    private static boolean isExternalMoveToSelf(Transaction tx, Player player) {
+    static boolean isExternalMoveToSelf(Transaction tx, Player player) {
         if (player == null || tx == null) {
             return false;
         }
@@ -14,12 +14,13 @@ import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
 import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import dev.hytalemodding.hyrune.gathering.GatheringReward;
 import dev.hytalemodding.hyrune.level.LevelingService;
 import dev.hytalemodding.hyrune.skills.SkillType;
+import dev.hytalemodding.hyrune.system.BlockClassificationIndex;
 import dev.hytalemodding.hyrune.system.GatheringXpSystem;
 
 import javax.annotation.Nullable;
-import java.util.Locale;
 
 /**
  * Event listener for farming harvest.
@@ -67,7 +68,6 @@ public class FarmingHarvestListener {
             return;
         }
 
-        String blockId = blockType.getId().toLowerCase(Locale.ROOT);
         if (action != InteractionType.Use
                 && action != InteractionType.Primary
                 && action != InteractionType.Secondary
@@ -75,7 +75,7 @@ public class FarmingHarvestListener {
             return;
         }
 
-        GatheringXpSystem.Reward farmingReward = GatheringXpSystem.findFarmingReward(blockId);
+        GatheringReward farmingReward = BlockClassificationIndex.classify(blockType).farmingReward();
         if (farmingReward == null) {
             return;
         }
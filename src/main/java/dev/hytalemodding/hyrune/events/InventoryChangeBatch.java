@@ -0,0 +1,155 @@
+package dev.hytalemodding.hyrune.events;
+
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.inventory.container.CombinedItemContainer;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+import com.hypixel.hytale.server.core.inventory.transaction.Transaction;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Inventory changes coalesced for one player between two dispatcher passes.
+ * <p>
+ * Records which slots of which containers changed (from each event's transaction), which of
+ * those came from an external container, and whether any equipment slot was touched.
+ * A change reported against a combined view (or with no container at all) cannot be mapped back
+ * to section slots, so every section it covers counts as fully changed.
+ * Written under the batch lock by the dispatcher; read on the world thread once the batch is closed.
+ */
+public final class InventoryChangeBatch {
+    private final Player player;
+    private final UUID uuid;
+    private final Map<ItemContainer, BitSet> changedSlots = new IdentityHashMap<>();
+    private final Map<ItemContainer, BitSet> externalLootSlots = new IdentityHashMap<>();
+    private boolean equipmentChanged;
+    // An event without a container: treat every section as changed.
+    private boolean unmappedChange;
+    private int eventCount;
+    private boolean scheduled;
+    private boolean closed;
+
+    InventoryChangeBatch(Player player, UUID uuid) {
+        this.player = player;
+        this.uuid = uuid;
+    }
+
+    public Player player() {
+        return player;
+    }
+
+    public UUID uuid() {
+        return uuid;
+    }
+
+    public int eventCount() {
+        return eventCount;
+    }
+
+    public boolean equipmentChanged() {
+        return equipmentChanged;
+    }
+
+    /**
+     * Whether {@code container} was changed directly or through a combined view that includes it.
+     */
+    public boolean touched(ItemContainer container) {
+        return container != null
+            && (changedSlots.containsKey(container) || coveredByUnmappedChange(container));
+    }
+
+    /**
+     * Slots changed in {@code container}, or an empty set if it was not touched. Changes made
+     * through a combined view mark every slot.
+     */
+    public BitSet changedSlots(ItemContainer container) {
+        if (container == null) {
+            return new BitSet();
+        }
+        if (coveredByUnmappedChange(container)) {
+            BitSet all = new BitSet(container.getCapacity());
+            all.set(0, container.getCapacity());
+            return all;
+        }
+        BitSet slots = changedSlots.get(container);
+        return slots == null ? new BitSet() : (BitSet) slots.clone();
+    }
+
+    public Map<ItemContainer, BitSet> changedSlots() {
+        return changedSlots;
+    }
+
+    /**
+     * Slots that received items moved in from a container outside the player's inventory.
+     */
+    public Map<ItemContainer, BitSet> externalLootSlots() {
+        return externalLootSlots;
+    }
+
+    void record(ItemContainer container, Transaction tx, boolean externalMoveToSelf) {
+        eventCount++;
+        if (container == null) {
+            unmappedChange = true;
+            return;
+        }
+        BitSet slots = modifiedSlots(container, tx);
+        changedSlots.computeIfAbsent(container, ignored -> new BitSet()).or(slots);
+        if (externalMoveToSelf) {
+            externalLootSlots.computeIfAbsent(container, ignored -> new BitSet()).or(slots);
+        }
+    }
+
+    void markEquipmentChanged() {
+        equipmentChanged = true;
+    }
+
+    /**
+     * @return true the first time only, i.e. when the caller must schedule the pass
+     */
+    boolean markScheduled() {
+        if (scheduled) {
+            return false;
+        }
+        scheduled = true;
+        return true;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    private boolean coveredByUnmappedChange(ItemContainer section) {
+        if (unmappedChange) {
+            return true;
+        }
+        for (ItemContainer container : changedSlots.keySet()) {
+            if (container != section
+                && container instanceof CombinedItemContainer combined
+                && combined.containsContainer(section)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static BitSet modifiedSlots(ItemContainer container, Transaction tx) {
+        short capacity = container.getCapacity();
+        BitSet slots = new BitSet(capacity);
+        if (tx == null) {
+            slots.set(0, capacity);
+            return slots;
+        }
+        for (short slot = 0; slot < capacity; slot++) {
+            if (tx.wasSlotModified(slot)) {
+                slots.set(slot);
+            }
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,132 @@
+package dev.hytalemodding.hyrune.events;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.server.core.entity.LivingEntity;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.event.events.entity.LivingEntityInventoryChangeEvent;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+import com.hypixel.hytale.server.core.inventory.transaction.Transaction;
+import com.hypixel.hytale.server.core.universe.world.World;
+import dev.hytalemodding.hyrune.itemization.PlayerItemizationStatsService;
+import dev.hytalemodding.hyrune.util.PlayerEntityAccess;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Single {@link LivingEntityInventoryChangeEvent} listener for all inventory reactions.
+ * <p>
+ * Events only record what changed into a per-player {@link InventoryChangeBatch}; the first
+ * event of a batch schedules one pass on the world thread, which runs every stage once over the
+ * coalesced changes. Changes made by the stages themselves open a new batch for the next pass.
+ */
+public class InventoryChangeDispatcher {
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+
+    private final Map<UUID, InventoryChangeBatch> pending = new ConcurrentHashMap<>();
+    private final List<Stage> stages;
+
+    public InventoryChangeDispatcher() {
+        this(List.of(
+            // Armor rejection first: it moves items, and later stages should see the result.
+            new Stage("armor-requirements", new ArmorRequirementListener()::onInventoryChanged),
+            new Stage("container-loot", new ContainerLootItemizationListener()::onInventoryChanged),
+            new Stage("trade-packs", new TradePackInventoryListener()::onInventoryChanged),
+            new Stage("itemization", new ItemizationInventoryListener()::onInventoryChanged)
+        ));
+    }
+
+    InventoryChangeDispatcher(List<Stage> stages) {
+        this.stages = List.copyOf(stages);
+    }
+
+    public void onInventoryChange(LivingEntityInventoryChangeEvent event) {
+        if (event == null) {
+            return;
+        }
+        LivingEntity entity = event.getEntity();
+        if (!(entity instanceof Player player)) {
+            return;
+        }
+        UUID uuid = PlayerEntityAccess.getPlayerUuid(player);
+        if (uuid == null) {
+            return;
+        }
+        World world = player.getReference() != null ? player.getReference().getStore().getExternalData().getWorld() : null;
+        if (world == null) {
+            return;
+        }
+
+        ItemContainer container = event.getItemContainer();
+        Transaction tx = event.getTransaction();
+        boolean externalMoveToSelf = ContainerLootItemizationListener.isExternalMoveToSelf(tx, player);
+        // Slot-level stat invalidation must happen per event, not per pass.
+        boolean equipment = PlayerItemizationStatsService.onContainerChanged(uuid, player.getInventory(), container, tx);
+        record(player, uuid, container, tx, externalMoveToSelf, equipment, world::execute);
+    }
+
+    /**
+     * Adds one change to the player's open batch, scheduling a pass on {@code worldThread} if the
+     * batch was empty.
+     */
+    void record(Player player,
+                UUID uuid,
+                ItemContainer container,
+                Transaction tx,
+                boolean externalMoveToSelf,
+                boolean equipment,
+                Executor worldThread) {
+        while (true) {
+            InventoryChangeBatch batch = pending.computeIfAbsent(uuid, id -> new InventoryChangeBatch(player, id));
+            boolean schedule;
+            synchronized (batch) {
+                if (batch.isClosed()) {
+                    // Lost a race with the pass that just drained this batch; open a new one.
+                    continue;
+                }
+                batch.record(container, tx, externalMoveToSelf);
+                if (equipment) {
+                    batch.markEquipmentChanged();
+                }
+                schedule = batch.markScheduled();
+            }
+            if (schedule) {
+                worldThread.execute(() -> runPass(uuid));
+            }
+            return;
+        }
+    }
+
+    private void runPass(UUID uuid) {
+        InventoryChangeBatch batch = pending.remove(uuid);
+        if (batch == null) {
+            return;
+        }
+        synchronized (batch) {
+            batch.close();
+        }
+
+        for (Stage stage : stages) {
+            try {
+                stage.action().accept(batch);
+            } catch (RuntimeException e) {
+                LOGGER.at(Level.WARNING).log("Inventory stage " + stage.label() + " failed for " + batch.uuid() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    List<String> stageLabels() {
+        return stages.stream().map(Stage::label).toList();
+    }
+
+    /**
+     * One reaction run per pass, in list order.
+     */
+    record Stage(String label, Consumer<InventoryChangeBatch> action) {
+    }
+}
@@ -1,10 +1,7 @@
 package dev.hytalemodding.hyrune.events;
 
 import com.hypixel.hytale.logger.HytaleLogger;
-import com.hypixel.hytale.server.core.entity.LivingEntity;
 import com.hypixel.hytale.server.core.entity.entities.Player;
-import com.hypixel.hytale.server.core.event.events.entity.LivingEntityInventoryChangeEvent;
-import com.hypixel.hytale.server.core.universe.world.World;
 import dev.hytalemodding.Hyrune;
 import dev.hytalemodding.hyrune.bonus.SkillStatBonusApplier;
 import dev.hytalemodding.hyrune.config.HyruneConfigManager;
@@ -13,9 +10,7 @@ import dev.hytalemodding.hyrune.itemization.PlayerItemizationStatsService;
 import dev.hytalemodding.hyrune.itemization.tooltip.HyruneDynamicTooltipService;
 import dev.hytalemodding.hyrune.util.PlayerEntityAccess;
 
-import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 /**
@@ -23,53 +18,39 @@ import java.util.logging.Level;
  */
 public class ItemizationInventoryListener {
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
-    private static final Set<UUID> ACTIVE = ConcurrentHashMap.newKeySet();
 
-    public void onInventoryChange(LivingEntityInventoryChangeEvent event) {
-        LivingEntity entity = event.getEntity();
-        if (!(entity instanceof Player player)) {
-            return;
+    /**
+     * Dispatcher stage: applies pending craft rolls, refreshes item stats when equipment changed,
+     * and refreshes tooltips.
+     */
+    void onInventoryChanged(InventoryChangeBatch batch) {
+        Player player = batch.player();
+        UUID uuid = batch.uuid();
+        long startedAt = System.currentTimeMillis();
+        int appliedStacks = ItemRollCoordinator.applyPendingCraftRolls(player);
+        boolean equipmentChanged = batch.equipmentChanged();
+        if (equipmentChanged) {
+            // Only re-resolves the slots the events marked dirty.
+            PlayerItemizationStatsService.getOrRecompute(player);
+            var playerRef = PlayerEntityAccess.getPlayerRef(player);
+            if (playerRef != null) {
+                SkillStatBonusApplier.apply(playerRef);
+                SkillStatBonusApplier.applyMovementSpeed(playerRef);
+            }
         }
-
-        UUID uuid = PlayerEntityAccess.getPlayerUuid(player);
-        if (uuid == null) {
-            return;
+        boolean refreshed = false;
+        HyruneDynamicTooltipService tooltipService = Hyrune.getDynamicTooltipService();
+        if (tooltipService != null) {
+            refreshed = tooltipService.refreshChangedSlots(uuid);
         }
-        if (!ACTIVE.add(uuid)) {
-            return;
+        if (HyruneConfigManager.getConfig().itemizationDebugLogging) {
+            LOGGER.at(Level.INFO).log("[Itemization][Inventory] p=" + shortUuid(uuid)
+                + ", events=" + batch.eventCount()
+                + ", rolled=" + appliedStacks
+                + ", equipmentChanged=" + equipmentChanged
+                + ", tooltipRefresh=" + refreshed
+                + ", ms=" + Math.max(0, System.currentTimeMillis() - startedAt));
         }
-
-        World world = player.getReference() != null ? player.getReference().getStore().getExternalData().getWorld() : null;
-        if (world == null) {
-            ACTIVE.remove(uuid);
-            return;
-        }
-
-        world.execute(() -> {
-            long startedAt = System.currentTimeMillis();
-            try {
-                int appliedStacks = ItemRollCoordinator.applyPendingCraftRolls(player);
-                PlayerItemizationStatsService.recompute(player);
-                var playerRef = PlayerEntityAccess.getPlayerRef(player);
-                if (playerRef != null) {
-                    SkillStatBonusApplier.apply(playerRef);
-                    SkillStatBonusApplier.applyMovementSpeed(playerRef);
-                }
-                boolean refreshed = false;
-                HyruneDynamicTooltipService tooltipService = Hyrune.getDynamicTooltipService();
-                if (tooltipService != null) {
-                    refreshed = tooltipService.invalidateAndRefreshPlayer(uuid);
-                }
-                if (HyruneConfigManager.getConfig().itemizationDebugLogging) {
-                    LOGGER.at(Level.INFO).log("[Itemization][Inventory] p=" + shortUuid(uuid)
-                        + ", rolled=" + appliedStacks
-                        + ", tooltipRefresh=" + refreshed
-                        + ", ms=" + Math.max(0, System.currentTimeMillis() - startedAt));
-                }
-            } finally {
-                ACTIVE.remove(uuid);
-            }
-        });
     }
 
     private static String shortUuid(UUID uuid) {
@@ -0,0 +1,173 @@
+package dev.hytalemodding.hyrune.events;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import dev.hytalemodding.hyrune.level.LevelingService;
+import dev.hytalemodding.hyrune.quests.QuestManager;
+import dev.hytalemodding.hyrune.slayer.SlayerService;
+import dev.hytalemodding.hyrune.social.SocialService;
+import dev.hytalemodding.hyrune.util.SyncManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Loads all persisted player data in parallel as soon as a player connects, so the
+ * world-join path never blocks on disk.
+ * <p>
+ * Each connection gets a {@link Session} tagged with a fresh token. Work handed back to the
+ * world thread checks that its session is still the player's current one, so a late completion
+ * from an earlier connection never touches a reconnected player's data.
+ */
+public class PlayerDataPrefetcher {
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+
+    private final Map<String, Consumer<UUID>> loaders;
+    private final Consumer<Runnable> syncQueue;
+    private final long awaitTimeoutMillis;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<UUID, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextToken = new AtomicLong();
+
+    public PlayerDataPrefetcher(LevelingService service,
+                                SlayerService slayerService,
+                                QuestManager questManager,
+                                SocialService socialService,
+                                long awaitTimeoutMillis) {
+        this(loaders(service, slayerService, questManager, socialService), SyncManager::runSync, awaitTimeoutMillis);
+    }
+
+    PlayerDataPrefetcher(Map<String, Consumer<UUID>> loaders, Consumer<Runnable> syncQueue, long awaitTimeoutMillis) {
+        this.loaders = loaders;
+        this.syncQueue = syncQueue;
+        this.awaitTimeoutMillis = Math.max(0L, awaitTimeoutMillis);
+    }
+
+    /**
+     * Starts loading every data kind for the player. Repeated calls for one connection share a session.
+     */
+    public Session prefetch(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        return sessions.computeIfAbsent(uuid, id -> {
+            CompletableFuture<?>[] loads = loaders.entrySet().stream()
+                .map(entry -> loadAsync(id, entry.getKey(), entry.getValue()))
+                .toArray(CompletableFuture[]::new);
+            return new Session(nextToken.incrementAndGet(), CompletableFuture.allOf(loads));
+        });
+    }
+
+    /**
+     * Returns true when the player's data can be used right away: the prefetch finished, or there
+     * was none and the caller's own loads will read from disk.
+     */
+    public boolean isReady(UUID uuid) {
+        Session session = uuid != null ? sessions.get(uuid) : null;
+        return session == null || session.future().isDone();
+    }
+
+    /**
+     * Runs {@code task} once the player's data is loaded. If it is already loaded the task runs
+     * inline. Otherwise it is handed to {@code worldThread}, the thread of the world the player
+     * joined, when the prefetch finishes or the configured timeout passes, whichever is first;
+     * after a timeout the task's own loads fall back to reading synchronously. The task is
+     * dropped if the player disconnected in the meantime.
+     */
+    public void whenLoaded(UUID uuid, Executor worldThread, Runnable task) {
+        Session session = uuid != null ? sessions.get(uuid) : null;
+        if (session == null || session.future().isDone()) {
+            task.run();
+            return;
+        }
+        session.future().copy()
+            .orTimeout(awaitTimeoutMillis, TimeUnit.MILLISECONDS)
+            .whenComplete((ignored, error) -> {
+                if (error instanceof TimeoutException) {
+                    LOGGER.at(Level.WARNING).log("Player data prefetch for " + uuid + " exceeded " + awaitTimeoutMillis + "ms.");
+                }
+                worldThread.execute(() -> {
+                    if (isCurrent(uuid, session.token())) {
+                        task.run();
+                    }
+                });
+            });
+    }
+
+    /**
+     * Runs {@code task} through the sync queue once a cancelled session's loads finish, unless the
+     * player has reconnected by then. Used to drop whatever the late loads cached.
+     */
+    public void whenAbandoned(UUID uuid, Session session, Runnable task) {
+        if (uuid == null || session == null || session.future().isDone()) {
+            return;
+        }
+        session.future().whenComplete((ignored, error) -> syncQueue.accept(() -> {
+            if (!sessions.containsKey(uuid)) {
+                task.run();
+            }
+        }));
+    }
+
+    /**
+     * Returns true if {@code token} belongs to the player's current session.
+     */
+    public boolean isCurrent(UUID uuid, long token) {
+        Session session = uuid != null ? sessions.get(uuid) : null;
+        return session != null && session.token() == token;
+    }
+
+    /**
+     * Ends the player's session on disconnect.
+     *
+     * @return the ended session, or null if none was open
+     */
+    public Session cancel(UUID uuid) {
+        return uuid == null ? null : sessions.remove(uuid);
+    }
+
+    public void shutdown() {
+        sessions.clear();
+        executor.shutdown();
+    }
+
+    private CompletableFuture<Void> loadAsync(UUID uuid, String label, Consumer<UUID> loader) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                loader.accept(uuid);
+            } catch (RuntimeException e) {
+                LOGGER.at(Level.WARNING).log(label + " prefetch failed for " + uuid + ": " + e.getMessage());
+                throw e;
+            }
+        }, executor);
+    }
+
+    private static Map<String, Consumer<UUID>> loaders(LevelingService service,
+                                                       SlayerService slayerService,
+                                                       QuestManager questManager,
+                                                       SocialService socialService) {
+        Map<String, Consumer<UUID>> loaders = new LinkedHashMap<>();
+        loaders.put("LevelingService", service::load);
+        loaders.put("SlayerService", slayerService::load);
+        loaders.put("QuestManager", questManager::load);
+        loaders.put("SocialService", socialService::load);
+        return loaders;
+    }
+
+    /**
+     * One connection's prefetch, tagged with a token unique to that connection.
+     */
+    public record Session(long token, CompletableFuture<Void> future) {
+    }
+}
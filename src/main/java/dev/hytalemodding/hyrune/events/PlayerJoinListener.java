@@ -5,8 +5,10 @@ import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.events.player.AddPlayerToWorldEvent;
 import com.hypixel.hytale.server.core.event.events.player.DrainPlayerFromWorldEvent;
+import com.hypixel.hytale.server.core.event.events.player.PlayerConnectEvent;
 import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import dev.hytalemodding.hyrune.bonus.SkillStatBonusApplier;
 import dev.hytalemodding.hyrune.itemization.PlayerItemizationStatsService;
@@ -30,15 +32,28 @@ public class PlayerJoinListener {
     private final SlayerService slayerService;
     private final QuestManager questManager;
     private final SocialService socialService;
+    private final PlayerDataPrefetcher prefetcher;
 
     public PlayerJoinListener(LevelingService service,
                               SlayerService slayerService,
                               QuestManager questManager,
-                              SocialService socialService) {
+                              SocialService socialService,
+                              PlayerDataPrefetcher prefetcher) {
         this.service = service;
         this.slayerService = slayerService;
         this.questManager = questManager;
         this.socialService = socialService;
+        this.prefetcher = prefetcher;
+    }
+
+    /**
+     * Starts loading player data off the world thread as soon as the connection is accepted.
+     */
+    public void onPlayerConnect(PlayerConnectEvent event) {
+        PlayerRef playerRef = event.getPlayerRef();
+        if (playerRef != null) {
+            prefetcher.prefetch(playerRef.getUuid());
+        }
     }
 
     /**
@@ -51,19 +66,31 @@ public class PlayerJoinListener {
 
         if (playerComp != null && playerRef != null) {
             UUID uuid = playerRef.getUuid();
-            service.load(uuid);
-            slayerService.load(uuid);
-            questManager.load(uuid);
-            socialService.load(uuid);
-            NameplateManager.update(uuid);
-            SkillStatBonusApplier.apply(holder, uuid);
-            TradePackManager.sync(playerComp);
-            PlayerItemizationStatsService.recompute(playerComp);
-            SkillStatBonusApplier.apply(playerRef);
-            SkillStatBonusApplier.applyMovementSpeed(playerRef);
+            if (prefetcher.isReady(uuid)) {
+                // Usually already finished; the loads below are then cache hits.
+                completeJoin(uuid, holder, playerRef, playerComp);
+                return;
+            }
+            // Still loading: finish on a later tick of the joined world instead of blocking it.
+            // By then the entity has left the holder, so only the live ref is updated.
+            World world = event.getWorld();
+            prefetcher.whenLoaded(uuid, world::execute, () -> completeJoin(uuid, null, playerRef, playerComp));
         }
     }
 
+    private void completeJoin(UUID uuid, Holder<EntityStore> holder, PlayerRef playerRef, Player playerComp) {
+        service.load(uuid);
+        slayerService.load(uuid);
+        questManager.load(uuid);
+        socialService.load(uuid);
+        NameplateManager.update(uuid);
+        SkillStatBonusApplier.apply(holder, uuid);
+        TradePackManager.sync(playerComp);
+        PlayerItemizationStatsService.recompute(playerComp);
+        SkillStatBonusApplier.apply(playerRef);
+        SkillStatBonusApplier.applyMovementSpeed(playerRef);
+    }
+
     public void onPlayerLeave(DrainPlayerFromWorldEvent event) {
         handlePlayerDataSave(event.getHolder());
     }
@@ -71,7 +98,10 @@ public class PlayerJoinListener {
     public void onPlayerDisconnect(PlayerDisconnectEvent event) {
         PlayerRef playerRef = event.getPlayerRef();
         UUID uuid = playerRef.getUuid();
+        PlayerDataPrefetcher.Session session = prefetcher.cancel(uuid);
         persistAll(uuid);
+        // Left mid-prefetch: drop whatever the late loads cache, unless the player is back already.
+        prefetcher.whenAbandoned(uuid, session, () -> persistAll(uuid));
         PlayerItemizationStatsService.clear(uuid);
         safelyRun(uuid, "TradePackManager", () -> TradePackManager.clear(uuid));
     }
@@ -0,0 +1,14 @@
+package dev.hytalemodding.hyrune.gathering;
+
+/**
+ * Level gate and XP for breaking or harvesting a matching block.
+ */
+public final class GatheringReward {
+    public final int minLevel;
+    public final long xp;
+
+    public GatheringReward(int minLevel, long xp) {
+        this.minLevel = minLevel;
+        this.xp = xp;
+    }
+}
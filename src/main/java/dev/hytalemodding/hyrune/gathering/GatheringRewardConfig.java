@@ -0,0 +1,19 @@
+package dev.hytalemodding.hyrune.gathering;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Root JSON payload for gathering reward configuration.
+ * <p>
+ * Keyword rules are tried in file order and the first one contained in a block id wins, so list
+ * specific keywords before generic ones. {@code version} is reported on reload so designers can
+ * confirm which revision is live.
+ */
+public class GatheringRewardConfig {
+    public int version = 1;
+    public List<GatheringRewardDefinition> rewards = new ArrayList<>();
+    public Map<String, Integer> toolLevels = new LinkedHashMap<>();
+}
@@ -0,0 +1,59 @@
+package dev.hytalemodding.hyrune.gathering;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.hypixel.hytale.logger.HytaleLogger;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+
+/**
+ * Loads/writes gathering reward tables for data-driven balancing.
+ * <p>
+ * Defaults are only written when the file is missing; a file that fails to parse is left
+ * untouched so a typo during a live edit never wipes the designer's tables.
+ */
+public class GatheringRewardConfigRepository {
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final String FILE_NAME = "gathering_rewards.json";
+
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private final File configFile;
+
+    public GatheringRewardConfigRepository(String rootPath) {
+        File root = new File(rootPath);
+        if (!root.exists() && !root.mkdirs()) {
+            LOGGER.at(Level.WARNING).log("Failed to create root config directory at " + root.getAbsolutePath());
+        }
+        this.configFile = new File(root, FILE_NAME);
+    }
+
+    /**
+     * @return the parsed config, the defaults if no file existed yet, or null if the file is unreadable
+     */
+    public GatheringRewardConfig loadOrCreate(GatheringRewardConfig defaults) {
+        if (!configFile.exists()) {
+            save(defaults);
+            return defaults;
+        }
+        try (FileReader reader = new FileReader(configFile, StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, GatheringRewardConfig.class);
+        } catch (IOException | JsonParseException e) {
+            LOGGER.at(Level.WARNING).log("Failed to load gathering rewards: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void save(GatheringRewardConfig config) {
+        try (FileWriter writer = new FileWriter(configFile, StandardCharsets.UTF_8)) {
+            gson.toJson(config, writer);
+        } catch (IOException e) {
+            LOGGER.at(Level.WARNING).log("Failed to save gathering rewards: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package dev.hytalemodding.hyrune.gathering;
+
+/**
+ * Serializable gathering reward rule.
+ */
+public class GatheringRewardDefinition {
+    public String skill;
+    public String keyword;
+    public String matchType = "contains";
+    public int minLevel = 1;
+    public long xp;
+}
@@ -0,0 +1,235 @@
+package dev.hytalemodding.hyrune.gathering;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import dev.hytalemodding.hyrune.skills.SkillType;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Compiled, immutable gathering reward and tool requirement tables.
+ * <p>
+ * {@link #publish(GatheringRewardConfig)} validates a config into a new instance and swaps it in
+ * with a single volatile write, so event paths read {@link #current()} without locking and a
+ * reload never exposes half-applied tables. Derived caches key off the instance identity.
+ */
+public final class GatheringRewardTables {
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final List<SkillType> SKILLS = List.of(SkillType.MINING, SkillType.WOODCUTTING, SkillType.FARMING);
+    private static final int NO_REQUIREMENT = -1;
+
+    private static volatile GatheringRewardTables current = compile(defaultConfig());
+
+    private final int version;
+    private final int rewardCount;
+    private final Map<SkillType, Map<String, GatheringReward>> exactRewards;
+    private final Map<SkillType, Map<String, GatheringReward>> keywordRewards;
+    private final Map<String, Integer> toolLevels;
+    private final Map<String, Integer> toolLevelByItemId = new ConcurrentHashMap<>();
+
+    private GatheringRewardTables(int version,
+                                  int rewardCount,
+                                  Map<SkillType, Map<String, GatheringReward>> exactRewards,
+                                  Map<SkillType, Map<String, GatheringReward>> keywordRewards,
+                                  Map<String, Integer> toolLevels) {
+        this.version = version;
+        this.rewardCount = rewardCount;
+        this.exactRewards = exactRewards;
+        this.keywordRewards = keywordRewards;
+        this.toolLevels = toolLevels;
+    }
+
+    public static GatheringRewardTables current() {
+        return current;
+    }
+
+    /**
+     * Compiles {@code config} and makes it live. A missing config, or one without a single valid
+     * reward rule, keeps the current tables.
+     *
+     * @return the tables live after the call
+     */
+    public static GatheringRewardTables publish(@Nullable GatheringRewardConfig config) {
+        if (config == null) {
+            LOGGER.at(Level.WARNING).log("No gathering reward config to publish; keeping v" + current.version + ".");
+            return current;
+        }
+        GatheringRewardTables compiled = compile(config);
+        if (compiled.rewardCount == 0) {
+            LOGGER.at(Level.WARNING).log("Gathering reward config v" + config.version
+                + " has no valid rewards; keeping v" + current.version + ".");
+            return current;
+        }
+        current = compiled;
+        LOGGER.at(Level.INFO).log("Gathering reward tables v" + compiled.version + " live: "
+            + compiled.rewardCount + " rewards, " + compiled.toolLevels.size() + " tool levels.");
+        return compiled;
+    }
+
+    public int version() {
+        return version;
+    }
+
+    public int rewardCount() {
+        return rewardCount;
+    }
+
+    /**
+     * Exact block-id rules for a gathering skill; keys are lowercase.
+     */
+    public Map<String, GatheringReward> exactRewards(SkillType skill) {
+        return exactRewards.getOrDefault(skill, Map.of());
+    }
+
+    /**
+     * Keyword rules for a gathering skill, in match order; keys are lowercase.
+     */
+    public Map<String, GatheringReward> keywordRewards(SkillType skill) {
+        return keywordRewards.getOrDefault(skill, Map.of());
+    }
+
+    /**
+     * Skill level needed to use a gathering tool, from the first tool keyword in its id.
+     */
+    @Nullable
+    public Integer toolLevel(@Nullable String itemId) {
+        if (itemId == null) {
+            return null;
+        }
+        int level = toolLevelByItemId.computeIfAbsent(itemId, this::scanToolLevel);
+        return level == NO_REQUIREMENT ? null : level;
+    }
+
+    private int scanToolLevel(String itemId) {
+        String id = itemId.toLowerCase(Locale.ROOT);
+        for (Map.Entry<String, Integer> entry : toolLevels.entrySet()) {
+            if (id.contains(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return NO_REQUIREMENT;
+    }
+
+    static GatheringRewardTables compile(GatheringRewardConfig config) {
+        Map<SkillType, Map<String, GatheringReward>> exact = new EnumMap<>(SkillType.class);
+        Map<SkillType, Map<String, GatheringReward>> keywords = new EnumMap<>(SkillType.class);
+        for (SkillType skill : SKILLS) {
+            exact.put(skill, new LinkedHashMap<>());
+            keywords.put(skill, new LinkedHashMap<>());
+        }
+
+        int rewardCount = 0;
+        List<GatheringRewardDefinition> rewards = config.rewards == null ? List.of() : config.rewards;
+        for (GatheringRewardDefinition definition : rewards) {
+            SkillType skill = parseSkill(definition);
+            if (skill == null || definition.keyword == null || definition.keyword.isBlank() || definition.xp < 0L) {
+                LOGGER.at(Level.WARNING).log("Skipping invalid gathering reward: skill=" + (definition == null ? null : definition.skill)
+                    + ", keyword=" + (definition == null ? null : definition.keyword));
+                continue;
+            }
+            String keyword = definition.keyword.trim().toLowerCase(Locale.ROOT);
+            boolean exactMatch = "exact".equalsIgnoreCase(definition.matchType);
+            Map<String, GatheringReward> target = (exactMatch ? exact : keywords).get(skill);
+            if (target.putIfAbsent(keyword, new GatheringReward(Math.max(0, definition.minLevel), definition.xp)) == null) {
+                rewardCount++;
+            }
+        }
+
+        Map<String, Integer> toolLevels = new LinkedHashMap<>();
+        if (config.toolLevels != null) {
+            for (Map.Entry<String, Integer> entry : config.toolLevels.entrySet()) {
+                if (entry.getKey() == null || entry.getKey().isBlank() || entry.getValue() == null) {
+                    continue;
+                }
+                toolLevels.putIfAbsent(entry.getKey().trim().toLowerCase(Locale.ROOT), Math.max(0, entry.getValue()));
+            }
+        }
+
+        exact.replaceAll((skill, table) -> Collections.unmodifiableMap(table));
+        keywords.replaceAll((skill, table) -> Collections.unmodifiableMap(table));
+        return new GatheringRewardTables(
+            config.version,
+            rewardCount,
+            Collections.unmodifiableMap(exact),
+            Collections.unmodifiableMap(keywords),
+            Collections.unmodifiableMap(toolLevels)
+        );
+    }
+
+    @Nullable
+    private static SkillType parseSkill(@Nullable GatheringRewardDefinition definition) {
+        if (definition == null || definition.skill == null) {
+            return null;
+        }
+        try {
+            SkillType skill = SkillType.valueOf(definition.skill.trim().toUpperCase(Locale.ROOT));
+            return SKILLS.contains(skill) ? skill : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Built-in tables, written to {@code gathering_rewards.json} on first start. Keywords are
+     * listed in the order the former hardcoded tables were scanned, so first-match results are
+     * unchanged (e.g. {@code rock} is tried before the ore names).
+     */
+    public static GatheringRewardConfig defaultConfig() {
+        GatheringRewardConfig config = new GatheringRewardConfig();
+        List<GatheringRewardDefinition> rewards = config.rewards;
+
+        rewards.add(def(SkillType.MINING, "gold", 25, 54));
+        rewards.add(def(SkillType.MINING, "adamantite", 40, 90));
+        rewards.add(def(SkillType.MINING, "rock", 1, 2));
+        rewards.add(def(SkillType.MINING, "mithril", 60, 315));
+        rewards.add(def(SkillType.MINING, "thorium", 50, 165));
+        rewards.add(def(SkillType.MINING, "copper", 1, 8));
+        rewards.add(def(SkillType.MINING, "iron", 10, 17));
+        rewards.add(def(SkillType.MINING, "coal", 15, 35));
+        rewards.add(def(SkillType.MINING, "onyxium", 70, 620));
+        rewards.add(def(SkillType.MINING, "silver", 10, 24));
+        rewards.add(def(SkillType.MINING, "cobalt", 30, 62));
+
+        rewards.add(def(SkillType.WOODCUTTING, "palo", 1, 8));
+        rewards.add(def(SkillType.WOODCUTTING, "pine", 5, 12));
+        for (String keyword : List.of("palm", "crystal", "ice", "fir", "gnarled", "wisteria", "cedar", "bottletree",
+            "oak", "fire", "gumboab", "burnt", "azure", "petrified", "redwood", "birch", "fig_blue", "spiral",
+            "camphor", "dry", "amber", "poisoned", "aspen", "sallow", "bamboo", "stormbark", "windwillow",
+            "banyan", "beech", "ash", "maple", "jungle")) {
+            rewards.add(def(SkillType.WOODCUTTING, keyword, 1, 8));
+        }
+
+        // Farming rewards apply to mature crops only.
+        for (String keyword : List.of("cauliflower", "berry", "onion", "corn", "fruit", "cotton", "tomato", "apple",
+            "fern", "potato", "coral", "cactus", "wheat", "mushroom", "chilli", "hay", "fiber", "rice", "lettuce",
+            "flower", "turnip", "pumpkin", "crop", "aubergine", "carrot")) {
+            rewards.add(def(SkillType.FARMING, keyword, 1, 10));
+        }
+
+        config.toolLevels.put("adamantite", 40);
+        config.toolLevels.put("mithril", 60);
+        config.toolLevels.put("thorium", 50);
+        config.toolLevels.put("copper", 10);
+        config.toolLevels.put("iron", 15);
+        config.toolLevels.put("onyxium", 70);
+        config.toolLevels.put("cobalt", 30);
+        config.toolLevels.put("crude", 1);
+        return config;
+    }
+
+    private static GatheringRewardDefinition def(SkillType skill, String keyword, int minLevel, long xp) {
+        GatheringRewardDefinition definition = new GatheringRewardDefinition();
+        definition.skill = skill.name();
+        definition.keyword = keyword;
+        definition.minLevel = minLevel;
+        definition.xp = xp;
+        return definition;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Data-driven gathering reward and tool requirement tables for Mining, Woodcutting and Farming.
+ */
+package dev.hytalemodding.hyrune.gathering;
@@ -6,13 +6,13 @@ import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.HarvestingDropType;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.modules.item.ItemModule;
+import dev.hytalemodding.hyrune.config.CompiledHyruneConfig;
 import dev.hytalemodding.hyrune.config.HyruneConfig;
 import dev.hytalemodding.hyrune.config.HyruneConfigManager;
 import dev.hytalemodding.hyrune.skills.SkillType;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -57,23 +57,22 @@ public final class GatheringUtilityDropService {
             return List.of();
         }
 
-        HyruneConfig cfg = HyruneConfigManager.getConfig();
-        HyruneConfig.GatheringUtilityDropConfig utilityCfg = cfg == null ? null : cfg.gatheringUtilityDrops;
-        if (utilityCfg == null || !utilityCfg.enableRareDrops) {
+        CompiledHyruneConfig cfg = HyruneConfigManager.getCompiled();
+        if (!cfg.enableRareDrops()) {
             return List.of();
         }
 
-        HyruneConfig.GatheringRareDropSkillConfig skillCfg = resolveSkillConfig(utilityCfg.rareDropsBySkill, skill);
-        if (skillCfg == null || skillCfg.drops == null || skillCfg.drops.isEmpty()) {
+        CompiledHyruneConfig.RareDropTable table = cfg.rareDrops(skill);
+        if (table == null) {
             return List.of();
         }
 
-        double chance = clamp(skillCfg.baseChance + clamp(rareDropChanceBonus, 0.0, 1.0), 0.0, MAX_RARE_DROP_CHANCE);
+        double chance = clamp(table.baseChance() + clamp(rareDropChanceBonus, 0.0, 1.0), 0.0, MAX_RARE_DROP_CHANCE);
         if (chance <= 0.0 || random.nextDouble() >= chance) {
             return List.of();
         }
 
-        HyruneConfig.GatheringRareDropEntry picked = weightedPick(skillCfg.drops, random);
+        HyruneConfig.GatheringRareDropEntry picked = weightedPick(table, random);
         if (picked == null || picked.itemId == null || picked.itemId.isBlank() || !ItemModule.exists(picked.itemId)) {
             return List.of();
         }
@@ -89,8 +88,7 @@ public final class GatheringUtilityDropService {
     }
 
     public static boolean shouldDoubleDropForGathering(double chance, ThreadLocalRandom random) {
-        HyruneConfig cfg = HyruneConfigManager.getConfig();
-        if (cfg == null || cfg.gatheringUtilityDrops == null || !cfg.gatheringUtilityDrops.enableDoubleDrops) {
+        if (!HyruneConfigManager.getCompiled().enableDoubleDrops()) {
             return false;
         }
         return shouldDoubleDrop(chance, random);
@@ -157,45 +155,20 @@ public final class GatheringUtilityDropService {
         return out;
     }
 
-    private static HyruneConfig.GatheringRareDropSkillConfig resolveSkillConfig(Map<String, HyruneConfig.GatheringRareDropSkillConfig> bySkill,
-                                                                                 SkillType skill) {
-        if (bySkill == null || bySkill.isEmpty() || skill == null) {
-            return null;
-        }
-        HyruneConfig.GatheringRareDropSkillConfig direct = bySkill.get(skill.name());
-        if (direct != null) {
-            return direct;
-        }
-        return bySkill.get(skill.name().toLowerCase(java.util.Locale.ROOT));
-    }
-
-    private static HyruneConfig.GatheringRareDropEntry weightedPick(List<HyruneConfig.GatheringRareDropEntry> entries,
+    private static HyruneConfig.GatheringRareDropEntry weightedPick(CompiledHyruneConfig.RareDropTable table,
                                                                     ThreadLocalRandom random) {
-        if (entries == null || entries.isEmpty()) {
+        List<HyruneConfig.GatheringRareDropEntry> entries = table.drops();
+        if (entries.isEmpty()) {
             return null;
         }
-        double total = 0.0;
-        for (HyruneConfig.GatheringRareDropEntry entry : entries) {
-            if (entry == null) {
-                continue;
-            }
-            total += Math.max(0.0, entry.weight);
-        }
+        double total = table.totalWeight();
         if (total <= 0.0) {
-            for (HyruneConfig.GatheringRareDropEntry entry : entries) {
-                if (entry != null) {
-                    return entry;
-                }
-            }
-            return null;
+            return entries.get(0);
         }
 
         double roll = random.nextDouble(total);
         double cursor = 0.0;
         for (HyruneConfig.GatheringRareDropEntry entry : entries) {
-            if (entry == null) {
-                continue;
-            }
             cursor += Math.max(0.0, entry.weight);
             if (roll <= cursor) {
                 return entry;
@@ -1,14 +1,13 @@
 package dev.hytalemodding.hyrune.itemization;
 
-import dev.hytalemodding.hyrune.config.HyruneConfig;
+import dev.hytalemodding.hyrune.config.CompiledHyruneConfig;
 import dev.hytalemodding.hyrune.config.HyruneConfigManager;
+import dev.hytalemodding.hyrune.config.RollConstraint;
 import dev.hytalemodding.hyrune.repair.ItemRarity;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 
 /**
  * Config helper for socket capacity and gem stat stubs.
@@ -18,29 +17,11 @@ public final class GemSocketConfigHelper {
     }
 
     public static int socketsForRarity(ItemRarity rarity) {
-        HyruneConfig.GemSocketConfig cfg = config();
-        if (!cfg.enabled) {
-            return 0;
-        }
-        Map<String, Integer> map = cfg.socketsPerRarity;
-        if (map == null || map.isEmpty()) {
-            return 0;
-        }
-        String key = rarity == null ? ItemRarity.COMMON.name() : rarity.name();
-        Integer value = map.get(key);
-        if (value != null) {
-            return Math.max(0, value);
-        }
-        Integer fallback = map.get(ItemRarity.COMMON.name());
-        return Math.max(0, fallback == null ? 0 : fallback);
+        return compiled().socketsForRarity(rarity);
     }
 
     public static double maxHpPerSocketedGem() {
-        HyruneConfig.GemSocketConfig cfg = config();
-        if (!cfg.enabled) {
-            return 0.0;
-        }
-        return clamp(cfg.maxHpPerSocketedGem, 0.0, 1000.0);
+        return compiled().maxHpPerSocketedGem();
     }
 
     public static boolean isGemItemId(String itemId) {
@@ -48,15 +29,7 @@ public final class GemSocketConfigHelper {
             return false;
         }
         String normalized = itemId.trim().toLowerCase(Locale.ROOT);
-        List<String> configured = config().gemItemIds;
-        if (configured != null) {
-            for (String candidate : configured) {
-                if (matchesGemPattern(normalized, candidate)) {
-                    return true;
-                }
-            }
-        }
-        return normalized.startsWith("rock_gem_");
+        return compiled().matchesGemItemPattern(normalized) || normalized.startsWith("rock_gem_");
     }
 
     public static ItemizedStatBlock socketBonusesForItem(String itemId, List<String> socketedGemItemIds) {
@@ -64,23 +37,21 @@ public final class GemSocketConfigHelper {
         if (socketedGemItemIds == null || socketedGemItemIds.isEmpty()) {
             return out;
         }
+        CompiledHyruneConfig compiled = compiled();
         ItemArchetype archetype = ItemArchetypeResolver.resolve(itemId);
         for (String gemItemId : socketedGemItemIds) {
             if (gemItemId == null || gemItemId.isBlank()) {
                 continue;
             }
-            Map<String, Double> perStat = resolveGemArchetypeBonuses(gemItemId, archetype);
-            if (perStat.isEmpty()) {
-                out.add(ItemizedStat.MAX_HP, maxHpPerSocketedGem());
+            CompiledHyruneConfig.GemBonus bonus = compiled.gemBonus(gemItemId, archetype);
+            if (bonus == null) {
+                out.add(ItemizedStat.MAX_HP, compiled.maxHpPerSocketedGem());
                 continue;
             }
-            for (Map.Entry<String, Double> entry : perStat.entrySet()) {
-                ItemizedStat stat = ItemizedStat.fromId(entry.getKey());
-                Double value = entry.getValue();
-                if (stat == null || value == null || Double.isNaN(value) || Double.isInfinite(value)) {
-                    continue;
-                }
-                out.add(stat, value);
+            ItemizedStat[] stats = bonus.stats();
+            double[] values = bonus.values();
+            for (int i = 0; i < stats.length; i++) {
+                out.add(stats[i], values[i]);
             }
         }
         return out;
@@ -129,101 +100,16 @@ public final class GemSocketConfigHelper {
         return titleCase(token.replace('_', ' '));
     }
 
-    private static Map<String, Double> resolveGemArchetypeBonuses(String gemItemId, ItemArchetype archetype) {
-        Map<String, Map<String, Map<String, Double>>> configured = config().bonusesByGemPatternAndArchetype;
-        if (configured == null || configured.isEmpty()) {
-            return Map.of();
-        }
-        String normalizedGemItemId = gemItemId.trim().toLowerCase(Locale.ROOT);
-
-        String bestPattern = null;
-        int bestScore = -1;
-        for (String pattern : configured.keySet()) {
-            int score = patternMatchScore(normalizedGemItemId, pattern);
-            if (score > bestScore) {
-                bestScore = score;
-                bestPattern = pattern;
-            }
-        }
-        if (bestPattern == null || bestScore < 0) {
-            return Map.of();
-        }
-
-        Map<String, Map<String, Double>> byArchetype = configured.get(bestPattern);
-        if (byArchetype == null || byArchetype.isEmpty()) {
-            return Map.of();
-        }
-        String archetypeKey = archetype == null ? ItemArchetype.GENERIC.getId() : archetype.getId();
-        Map<String, Double> exact = byArchetype.get(archetypeKey);
-        if (exact != null && !exact.isEmpty()) {
-            return sanitizeStatMap(exact);
-        }
-        Map<String, Double> fallback = byArchetype.get(ItemArchetype.GENERIC.getId());
-        if (fallback != null && !fallback.isEmpty()) {
-            return sanitizeStatMap(fallback);
-        }
-        return Map.of();
-    }
-
-    private static Map<String, Double> sanitizeStatMap(Map<String, Double> raw) {
-        if (raw == null || raw.isEmpty()) {
-            return Map.of();
-        }
-        Map<String, Double> out = new LinkedHashMap<>();
-        for (Map.Entry<String, Double> entry : raw.entrySet()) {
-            if (entry.getKey() == null || entry.getKey().isBlank() || entry.getValue() == null) {
-                continue;
-            }
-            double value = entry.getValue();
-            if (Double.isNaN(value) || Double.isInfinite(value) || Math.abs(value) <= 1e-9) {
-                continue;
-            }
-            out.put(entry.getKey().trim().toLowerCase(Locale.ROOT), value);
-        }
-        return out;
-    }
-
-    private static int patternMatchScore(String normalizedItemId, String configuredPattern) {
-        if (configuredPattern == null || configuredPattern.isBlank()) {
-            return -1;
-        }
-        String normalizedPattern = configuredPattern.trim().toLowerCase(Locale.ROOT);
-        int wildcard = normalizedPattern.indexOf('*');
-        if (wildcard < 0) {
-            return normalizedItemId.equals(normalizedPattern) ? 10_000 + normalizedPattern.length() : -1;
-        }
-        String prefix = normalizedPattern.substring(0, wildcard);
-        String suffix = normalizedPattern.substring(wildcard + 1);
-        if (!normalizedItemId.startsWith(prefix) || !normalizedItemId.endsWith(suffix)) {
-            return -1;
-        }
-        return prefix.length() + suffix.length();
-    }
-
-    private static boolean matchesGemPattern(String normalizedItemId, String configuredPattern) {
-        if (configuredPattern == null || configuredPattern.isBlank()) {
-            return false;
-        }
-        return patternMatchScore(normalizedItemId, configuredPattern) >= 0;
-    }
-
     private static String formatGemBonusValue(ItemizedStat stat, double value) {
-        ItemizationSpecializedStatConfigHelper.RollConstraint constraint =
+        RollConstraint constraint =
             ItemizationSpecializedStatConfigHelper.rollConstraintForStat(stat);
-        if (constraint == ItemizationSpecializedStatConfigHelper.RollConstraint.PERCENT_ONLY
+        if (constraint == RollConstraint.PERCENT_ONLY
             || (stat != null && stat.isPercentPrimary())) {
             return ItemStatDisplayFormatter.formatPercent(value);
         }
         return ItemStatDisplayFormatter.formatFlat(stat, value);
     }
 
-    private static double clamp(double value, double min, double max) {
-        if (Double.isNaN(value) || Double.isInfinite(value)) {
-            return min;
-        }
-        return Math.max(min, Math.min(max, value));
-    }
-
     private static String titleCase(String text) {
         if (text == null || text.isBlank()) {
             return "Gem";
@@ -246,15 +132,11 @@ public final class GemSocketConfigHelper {
         return out.length() == 0 ? "Gem" : out.toString();
     }
 
-    private static HyruneConfig.GemSocketConfig config() {
+    private static CompiledHyruneConfig compiled() {
         try {
-            HyruneConfig cfg = HyruneConfigManager.getConfig();
-            if (cfg == null || cfg.gemSockets == null) {
-                return new HyruneConfig.GemSocketConfig();
-            }
-            return cfg.gemSockets;
+            return HyruneConfigManager.getCompiled();
         } catch (Throwable ignored) {
-            return new HyruneConfig.GemSocketConfig();
+            return CompiledHyruneConfig.compile(null);
         }
     }
 }
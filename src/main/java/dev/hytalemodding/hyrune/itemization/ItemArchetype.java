@@ -23,4 +23,29 @@ public enum ItemArchetype {
     public String getId() {
         return id;
     }
+
+    /**
+     * Stat gates that apply regardless of config pools, e.g. block efficiency only on shields.
+     */
+    public boolean allowsStat(ItemizedStat stat) {
+        if (stat == null) {
+            return false;
+        }
+        if (stat == ItemizedStat.CRIT_REDUCTION) {
+            return isArmor();
+        }
+        if (stat == ItemizedStat.BLOCK_EFFICIENCY) {
+            return this == WEAPON_SHIELD;
+        }
+        if (stat == ItemizedStat.BLOCK_BREAK_SPEED
+            || stat == ItemizedStat.RARE_DROP_CHANCE
+            || stat == ItemizedStat.DOUBLE_DROP_CHANCE) {
+            return this == TOOL;
+        }
+        return true;
+    }
+
+    private boolean isArmor() {
+        return this == ARMOR_HEAVY || this == ARMOR_LIGHT || this == ARMOR_MAGIC;
+    }
 }
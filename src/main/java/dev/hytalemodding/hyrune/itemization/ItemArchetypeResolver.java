@@ -1,7 +1,5 @@
 package dev.hytalemodding.hyrune.itemization;
 
-import java.util.Locale;
-
 /**
  * Resolves item IDs to itemization archetypes used by roll pools and base stat profiles.
  */
@@ -13,8 +11,11 @@ public final class ItemArchetypeResolver {
         if (itemId == null || itemId.isBlank()) {
             return ItemArchetype.GENERIC;
         }
-        String id = itemId.toLowerCase(Locale.ROOT);
+        return ItemClassificationIndex.classify(itemId).archetype();
+    }
 
+    // Archetype for a lowercased item id.
+    static ItemArchetype resolveNormalized(String id) {
         if (id.startsWith("weapon_")) {
             if (isShieldWeaponId(id)) {
                 return ItemArchetype.WEAPON_SHIELD;
@@ -0,0 +1,33 @@
+package dev.hytalemodding.hyrune.itemization;
+
+import dev.hytalemodding.hyrune.registry.FishingRegistry;
+import dev.hytalemodding.hyrune.repair.RepairProfile;
+
+import javax.annotation.Nullable;
+
+/**
+ * Everything Hyrune derives from an item id alone, computed once per id by {@link ItemClassificationIndex}.
+ *
+ * @param requiredLevel combat level needed to equip/wield, or null if unrestricted
+ * @param bait          bait definition when the item is fishing bait, otherwise null
+ */
+public record ItemClassification(ItemArchetype archetype,
+                                 double tierScalar,
+                                 CombatCategory combatCategory,
+                                 @Nullable Integer requiredLevel,
+                                 RepairProfile repairProfile,
+                                 boolean eligible,
+                                 boolean tool,
+                                 boolean fishingRod,
+                                 boolean shield,
+                                 @Nullable FishingRegistry.BaitDefinition bait) {
+
+    /**
+     * Skill family a held item trains on kill.
+     */
+    public enum CombatCategory {
+        MELEE,
+        RANGED,
+        MAGIC
+    }
+}
@@ -0,0 +1,108 @@
+package dev.hytalemodding.hyrune.itemization;
+
+import com.hypixel.hytale.assetstore.map.DefaultAssetMap;
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.server.core.asset.type.item.config.Item;
+import dev.hytalemodding.hyrune.config.HyruneConfigManager;
+import dev.hytalemodding.hyrune.registry.CombatRequirementRegistry;
+import dev.hytalemodding.hyrune.registry.FishingRegistry;
+import dev.hytalemodding.hyrune.repair.RepairProfileRegistry;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Item id to {@link ItemClassification} lookup, so hot paths never lowercase or keyword-scan ids.
+ * <p>
+ * {@link #rebuild()} classifies every item in the asset map into an immutable table; ids that are
+ * not in it (assets not loaded yet, runtime-only ids) are classified on first use and memoized.
+ * Classifications depend on the itemization and repair config, so the index must be rebuilt (or
+ * at least {@link #invalidate()}d) whenever either is reloaded.
+ */
+public final class ItemClassificationIndex {
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+
+    private static volatile Snapshot snapshot = new Snapshot(Map.of());
+
+    private ItemClassificationIndex() {
+    }
+
+    public static ItemClassification classify(String itemId) {
+        String key = itemId == null ? "" : itemId;
+        Snapshot current = snapshot;
+        ItemClassification classification = current.byId.get(key);
+        if (classification != null) {
+            return classification;
+        }
+        return current.late.computeIfAbsent(key, ItemClassificationIndex::compute);
+    }
+
+    /**
+     * Re-classifies every known item against the current config.
+     *
+     * @return number of items classified up front
+     */
+    public static int rebuild() {
+        Map<String, ItemClassification> built = new HashMap<>();
+        try {
+            DefaultAssetMap<String, Item> assets = Item.getAssetMap();
+            if (assets != null && assets.getAssetMap() != null) {
+                for (String itemId : assets.getAssetMap().keySet()) {
+                    if (itemId != null) {
+                        built.put(itemId, compute(itemId));
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.at(Level.WARNING).log("Item classification prebuild failed, falling back to lazy classification: " + e.getMessage());
+        }
+        snapshot = new Snapshot(Map.copyOf(built));
+        return built.size();
+    }
+
+    /**
+     * Drops all classifications; they are recomputed lazily on next use.
+     */
+    public static void invalidate() {
+        snapshot = new Snapshot(Map.of());
+    }
+
+    static ItemClassification compute(String itemId) {
+        String normalized = itemId.toLowerCase(Locale.ROOT);
+        ItemArchetype archetype = ItemArchetypeResolver.resolveNormalized(normalized);
+        return new ItemClassification(
+            archetype,
+            ItemizationSpecializedStatConfigHelper.tierScalarNormalized(normalized),
+            combatCategory(normalized),
+            CombatRequirementRegistry.requiredLevelNormalized(normalized),
+            RepairProfileRegistry.resolve(itemId),
+            ItemizationEligibilityService.isEligibleItemId(itemId, HyruneConfigManager.getConfig()),
+            archetype == ItemArchetype.TOOL,
+            FishingRegistry.isFishingRodIdNormalized(normalized),
+            normalized.contains("shield") || normalized.contains("buckler"),
+            FishingRegistry.baitNormalized(normalized)
+        );
+    }
+
+    private static ItemClassification.CombatCategory combatCategory(String normalized) {
+        if (normalized.contains("bow") || normalized.contains("gun") || normalized.contains("sling")) {
+            return ItemClassification.CombatCategory.RANGED;
+        }
+        if (normalized.contains("wand") || normalized.contains("staff") || normalized.contains("spellbook") || normalized.contains("scepter")) {
+            return ItemClassification.CombatCategory.MAGIC;
+        }
+        return ItemClassification.CombatCategory.MELEE;
+    }
+
+    private static final class Snapshot {
+        private final Map<String, ItemClassification> byId;
+        private final ConcurrentHashMap<String, ItemClassification> late = new ConcurrentHashMap<>();
+
+        private Snapshot(Map<String, ItemClassification> byId) {
+            this.byId = byId;
+        }
+    }
+}
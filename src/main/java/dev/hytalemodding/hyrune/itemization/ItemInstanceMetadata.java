@@ -5,10 +5,14 @@ import com.google.gson.reflect.TypeToken;
 import com.hypixel.hytale.codec.Codec;
 import com.hypixel.hytale.codec.KeyedCodec;
 import com.hypixel.hytale.codec.builder.BuilderCodec;
+import com.hypixel.hytale.codec.codecs.map.MapCodec;
 import dev.hytalemodding.hyrune.repair.ItemRarity;
+import dev.hytalemodding.hyrune.util.Hash64;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -16,10 +20,16 @@ import java.util.Map;
 
 /**
  * Per-item rolled metadata for rarity and specialized stat variation.
+ * <p>
+ * Since schema 7 socketed gems are stored as a native string array and stat rolls as native
+ * documents keyed by stat id, so decoding an item never runs a JSON parser. Schema 6 and older
+ * items carried those fields as JSON strings; the legacy keys are still read (once, at decode) and
+ * are dropped when {@link ItemInstanceMetadataMigration} re-writes the item.
  */
 public class ItemInstanceMetadata {
     public static final String KEY = "HyruneItemInstance";
-    public static final int CURRENT_SCHEMA_VERSION = 6;
+    public static final int CURRENT_SCHEMA_VERSION = 7;
+    private static final MapCodec<Double, Map<String, Double>> ROLL_MAP_CODEC = new MapCodec<>(Codec.DOUBLE, LinkedHashMap::new);
     public static final BuilderCodec<ItemInstanceMetadata> CODEC = BuilderCodec.builder(ItemInstanceMetadata.class, ItemInstanceMetadata::new)
         .append(new KeyedCodec<>("Version", Codec.LONG), ItemInstanceMetadata::setVersion, ItemInstanceMetadata::getVersion).add()
         .append(new KeyedCodec<>("Rarity", Codec.STRING), ItemInstanceMetadata::setRarityRaw, ItemInstanceMetadata::getRarityRaw).add()
@@ -27,9 +37,13 @@ public class ItemInstanceMetadata {
         .append(new KeyedCodec<>("Source", Codec.STRING), ItemInstanceMetadata::setSourceRaw, ItemInstanceMetadata::getSourceRaw).add()
         .append(new KeyedCodec<>("Seed", Codec.LONG), ItemInstanceMetadata::setSeed, ItemInstanceMetadata::getSeed).add()
         .append(new KeyedCodec<>("SocketCapacity", Codec.LONG), ItemInstanceMetadata::setSocketCapacityRaw, ItemInstanceMetadata::getSocketCapacityRaw).add()
-        .append(new KeyedCodec<>("SocketedGems", Codec.STRING), ItemInstanceMetadata::setSocketedGemsJson, ItemInstanceMetadata::getSocketedGemsJson).add()
-        .append(new KeyedCodec<>("StatFlatRolls", Codec.STRING), ItemInstanceMetadata::setStatFlatRollsJson, ItemInstanceMetadata::getStatFlatRollsJson).add()
-        .append(new KeyedCodec<>("StatPercentRolls", Codec.STRING), ItemInstanceMetadata::setStatPercentRollsJson, ItemInstanceMetadata::getStatPercentRollsJson).add()
+        // Schema <= 6 JSON fields: read-only, never written back.
+        .append(new KeyedCodec<>("SocketedGems", Codec.STRING), ItemInstanceMetadata::setSocketedGemsJson, metadata -> null).add()
+        .append(new KeyedCodec<>("StatFlatRolls", Codec.STRING), ItemInstanceMetadata::setStatFlatRollsJson, metadata -> null).add()
+        .append(new KeyedCodec<>("StatPercentRolls", Codec.STRING), ItemInstanceMetadata::setStatPercentRollsJson, metadata -> null).add()
+        .append(new KeyedCodec<>("Gems", Codec.STRING_ARRAY), ItemInstanceMetadata::setSocketedGemsArray, ItemInstanceMetadata::getSocketedGemsArray).add()
+        .append(new KeyedCodec<>("FlatRolls", ROLL_MAP_CODEC), ItemInstanceMetadata::setStatFlatRollsRaw, ItemInstanceMetadata::getStatFlatRollsRaw).add()
+        .append(new KeyedCodec<>("PercentRolls", ROLL_MAP_CODEC), ItemInstanceMetadata::setStatPercentRollsRaw, ItemInstanceMetadata::getStatPercentRollsRaw).add()
         .append(new KeyedCodec<>("DroppedPenalty", Codec.DOUBLE), ItemInstanceMetadata::setDroppedPenalty, ItemInstanceMetadata::getDroppedPenalty).add()
         .build();
     public static final KeyedCodec<ItemInstanceMetadata> KEYED_CODEC = new KeyedCodec<>(KEY, CODEC);
@@ -39,6 +53,8 @@ public class ItemInstanceMetadata {
     }.getType();
     private static final Type LIST_TYPE = new TypeToken<List<String>>() {
     }.getType();
+    private static final ItemizedStat[] STATS = ItemizedStat.values();
+    private static final double[] NO_ROLLS = new double[0];
 
     private long version;
     private String rarityRaw = ItemRarity.COMMON.name();
@@ -46,15 +62,13 @@ public class ItemInstanceMetadata {
     private String sourceRaw = ItemRollSource.CRAFTED.name();
     private long seed = 0L;
     private long socketCapacityRaw = 0L;
-    private String socketedGemsJson = "[]";
-    private String statFlatRollsJson = "{}";
-    private String statPercentRollsJson = "{}";
+    private List<String> socketedGems = List.of();
+    private Map<String, Double> statFlatRolls = Map.of();
+    private Map<String, Double> statPercentRolls = Map.of();
+    private double[] flatRollsByOrdinal = NO_ROLLS;
+    private double[] percentRollsByOrdinal = NO_ROLLS;
     private double droppedPenalty;
 
-    private transient Map<String, Double> statFlatRollCache;
-    private transient Map<String, Double> statPercentRollCache;
-    private transient List<String> socketedGemsCache;
-
     public long getVersion() {
         return version;
     }
@@ -135,21 +149,34 @@ public class ItemInstanceMetadata {
         this.socketCapacityRaw = Math.max(0L, socketCapacityRaw);
     }
 
+    /**
+     * JSON view of the socketed gems, kept for diagnostics and legacy callers.
+     */
     public String getSocketedGemsJson() {
-        return socketedGemsJson;
+        return GSON.toJson(socketedGems, LIST_TYPE);
     }
 
+    /**
+     * Reads a schema 6 (or older) JSON gem list.
+     */
     public void setSocketedGemsJson(String socketedGemsJson) {
-        this.socketedGemsJson = (socketedGemsJson == null || socketedGemsJson.isBlank()) ? "[]" : socketedGemsJson;
-        this.socketedGemsCache = null;
+        setSocketedGems(parseSocketedGemsJson(socketedGemsJson));
+    }
+
+    public String[] getSocketedGemsArray() {
+        return socketedGems.toArray(new String[0]);
+    }
+
+    public void setSocketedGemsArray(String[] socketedGems) {
+        setSocketedGems(socketedGems == null ? null : Arrays.asList(socketedGems));
     }
 
     public List<String> getSocketedGems() {
-        return new ArrayList<>(loadSocketedGemsCache());
+        return new ArrayList<>(socketedGems);
     }
 
     public int getSocketedGemCount() {
-        return loadSocketedGemsCache().size();
+        return socketedGems.size();
     }
 
     public int getOpenSocketCount() {
@@ -157,9 +184,7 @@ public class ItemInstanceMetadata {
     }
 
     public void setSocketedGems(List<String> socketedGems) {
-        List<String> sanitized = sanitizeSocketedGems(socketedGems);
-        this.socketedGemsCache = sanitized;
-        this.socketedGemsJson = GSON.toJson(sanitized, LIST_TYPE);
+        this.socketedGems = sanitizeSocketedGems(socketedGems);
     }
 
     public boolean addSocketedGem(String gemItemId) {
@@ -170,69 +195,71 @@ public class ItemInstanceMetadata {
         if (getSocketedGemCount() >= getSocketCapacity()) {
             return false;
         }
-        List<String> mutable = new ArrayList<>(loadSocketedGemsCache());
+        List<String> mutable = new ArrayList<>(socketedGems);
         mutable.add(normalized);
         setSocketedGems(mutable);
         return true;
     }
 
+    /**
+     * JSON view of the flat rolls, kept for diagnostics and legacy callers.
+     */
     public String getStatFlatRollsJson() {
-        return statFlatRollsJson;
+        return GSON.toJson(statFlatRolls, MAP_TYPE);
     }
 
+    /**
+     * Reads a schema 6 (or older) JSON flat roll map.
+     */
     public void setStatFlatRollsJson(String statFlatRollsJson) {
-        this.statFlatRollsJson = (statFlatRollsJson == null || statFlatRollsJson.isBlank()) ? "{}" : statFlatRollsJson;
-        this.statFlatRollCache = null;
+        setStatFlatRollsRaw(parseRollJson(statFlatRollsJson));
     }
 
+    /**
+     * JSON view of the percent rolls, kept for diagnostics and legacy callers.
+     */
     public String getStatPercentRollsJson() {
-        return statPercentRollsJson;
+        return GSON.toJson(statPercentRolls, MAP_TYPE);
     }
 
+    /**
+     * Reads a schema 6 (or older) JSON percent roll map.
+     */
     public void setStatPercentRollsJson(String statPercentRollsJson) {
-        this.statPercentRollsJson = (statPercentRollsJson == null || statPercentRollsJson.isBlank()) ? "{}" : statPercentRollsJson;
-        this.statPercentRollCache = null;
+        setStatPercentRollsRaw(parseRollJson(statPercentRollsJson));
     }
 
     public Map<String, Double> getStatFlatRollsRaw() {
-        return new LinkedHashMap<>(loadFlatRollCache());
+        return new LinkedHashMap<>(statFlatRolls);
     }
 
     public Map<String, Double> getStatPercentRollsRaw() {
-        return new LinkedHashMap<>(loadPercentRollCache());
+        return new LinkedHashMap<>(statPercentRolls);
     }
 
     public double getFlatStatRoll(ItemizedStat stat) {
-        if (stat == null) {
-            return 0.0;
-        }
-        return loadFlatRollCache().getOrDefault(stat.getId(), 0.0);
+        return rollAt(flatRollsByOrdinal, stat);
     }
 
     public double getPercentStatRoll(ItemizedStat stat) {
-        if (stat == null) {
-            return 0.0;
-        }
-        return loadPercentRollCache().getOrDefault(stat.getId(), 0.0);
+        return rollAt(percentRollsByOrdinal, stat);
     }
 
     public void setStatFlatRollsRaw(Map<String, Double> rolls) {
-        Map<String, Double> sanitized = sanitizeRolls(rolls);
-        this.statFlatRollCache = sanitized;
-        this.statFlatRollsJson = GSON.toJson(sanitized, MAP_TYPE);
+        this.statFlatRolls = sanitizeRolls(rolls);
+        this.flatRollsByOrdinal = packRolls(this.statFlatRolls);
     }
 
     public void setStatPercentRollsRaw(Map<String, Double> rolls) {
-        Map<String, Double> sanitized = sanitizeRolls(rolls);
-        this.statPercentRollCache = sanitized;
-        this.statPercentRollsJson = GSON.toJson(sanitized, MAP_TYPE);
+        this.statPercentRolls = sanitizeRolls(rolls);
+        this.percentRollsByOrdinal = packRolls(this.statPercentRolls);
     }
 
     public void setFlatStatRoll(ItemizedStat stat, double value) {
         if (stat == null) {
             return;
         }
-        Map<String, Double> mutable = new LinkedHashMap<>(loadFlatRollCache());
+        Map<String, Double> mutable = new LinkedHashMap<>(statFlatRolls);
         updateMapRoll(mutable, stat, value);
         setStatFlatRollsRaw(mutable);
     }
@@ -241,7 +268,7 @@ public class ItemInstanceMetadata {
         if (stat == null) {
             return;
         }
-        Map<String, Double> mutable = new LinkedHashMap<>(loadPercentRollCache());
+        Map<String, Double> mutable = new LinkedHashMap<>(statPercentRolls);
         updateMapRoll(mutable, stat, value);
         setStatPercentRollsRaw(mutable);
     }
@@ -254,31 +281,76 @@ public class ItemInstanceMetadata {
         this.droppedPenalty = droppedPenalty;
     }
 
-    private Map<String, Double> loadFlatRollCache() {
-        if (statFlatRollCache != null) {
-            return statFlatRollCache;
+    /**
+     * Hash of the socketed gems and stat rolls, for fingerprints and cache keys.
+     */
+    public int rollContentHash() {
+        int hash = socketedGems.hashCode();
+        hash = hash * 31 + statFlatRolls.hashCode();
+        hash = hash * 31 + statPercentRolls.hashCode();
+        return hash;
+    }
+
+    /**
+     * 64-bit hash of everything a tooltip shows: rarity, prefix, source, sockets, gems, rolls and
+     * drop penalty. The roll seed and schema version are deliberately left out.
+     */
+    public long contentHash64() {
+        Hash64 hash = Hash64.start()
+            .putInt(getRarity().ordinal())
+            .putString(getPrefixRaw())
+            .putInt(getSource().ordinal())
+            .putInt(getSocketCapacity())
+            .putInt(socketedGems.size());
+        for (String gem : socketedGems) {
+            hash.putString(gem);
         }
-        Map<String, Double> parsed = parseRollJson(statFlatRollsJson);
-        statFlatRollCache = sanitizeRolls(parsed);
-        return statFlatRollCache;
+        putRolls(hash, statFlatRolls);
+        putRolls(hash, statPercentRolls);
+        return hash.putDouble(droppedPenalty).finish();
     }
 
-    private Map<String, Double> loadPercentRollCache() {
-        if (statPercentRollCache != null) {
-            return statPercentRollCache;
+    private static void putRolls(Hash64 hash, Map<String, Double> rolls) {
+        hash.putInt(rolls.size());
+        for (Map.Entry<String, Double> entry : rolls.entrySet()) {
+            hash.putString(entry.getKey());
+            hash.putDouble(entry.getValue() == null ? 0.0 : entry.getValue());
         }
-        Map<String, Double> parsed = parseRollJson(statPercentRollsJson);
-        statPercentRollCache = sanitizeRolls(parsed);
-        return statPercentRollCache;
     }
 
-    private List<String> loadSocketedGemsCache() {
-        if (socketedGemsCache != null) {
-            return socketedGemsCache;
+    List<String> socketedGemsView() {
+        return socketedGems;
+    }
+
+    Map<String, Double> statFlatRollsView() {
+        return statFlatRolls;
+    }
+
+    Map<String, Double> statPercentRollsView() {
+        return statPercentRolls;
+    }
+
+    private static double rollAt(double[] rolls, ItemizedStat stat) {
+        if (stat == null) {
+            return 0.0;
         }
-        List<String> parsed = parseSocketedGemsJson(socketedGemsJson);
-        socketedGemsCache = sanitizeSocketedGems(parsed);
-        return socketedGemsCache;
+        int ordinal = stat.ordinal();
+        return ordinal < rolls.length ? rolls[ordinal] : 0.0;
+    }
+
+    private static double[] packRolls(Map<String, Double> rolls) {
+        if (rolls.isEmpty()) {
+            return NO_ROLLS;
+        }
+        double[] packed = new double[STATS.length];
+        for (Map.Entry<String, Double> entry : rolls.entrySet()) {
+            // Unknown ids stay in the map so they survive a round trip, but never resolve to a stat.
+            ItemizedStat stat = ItemizedStat.fromId(entry.getKey());
+            if (stat != null) {
+                packed[stat.ordinal()] = entry.getValue();
+            }
+        }
+        return packed;
     }
 
     private static void updateMapRoll(Map<String, Double> map, ItemizedStat stat, double value) {
@@ -315,10 +387,10 @@ public class ItemInstanceMetadata {
     }
 
     private static Map<String, Double> sanitizeRolls(Map<String, Double> input) {
-        Map<String, Double> out = new LinkedHashMap<>();
-        if (input == null) {
-            return out;
+        if (input == null || input.isEmpty()) {
+            return Map.of();
         }
+        Map<String, Double> out = new LinkedHashMap<>();
         for (Map.Entry<String, Double> entry : input.entrySet()) {
             String key = normalizeId(entry.getKey());
             if (key == null) {
@@ -330,7 +402,7 @@ public class ItemInstanceMetadata {
             }
             out.put(key, value);
         }
-        return out;
+        return out.isEmpty() ? Map.of() : Collections.unmodifiableMap(out);
     }
 
     private static String normalizeId(String raw) {
@@ -341,17 +413,17 @@ public class ItemInstanceMetadata {
     }
 
     private static List<String> sanitizeSocketedGems(List<String> input) {
-        List<String> out = new ArrayList<>();
-        if (input == null) {
-            return out;
+        if (input == null || input.isEmpty()) {
+            return List.of();
         }
+        List<String> out = new ArrayList<>(input.size());
         for (String gemItemId : input) {
             String normalized = normalizeGemItemId(gemItemId);
             if (normalized != null) {
                 out.add(normalized);
             }
         }
-        return out;
+        return List.copyOf(out);
     }
 
     private static String normalizeGemItemId(String raw) {
@@ -368,4 +440,3 @@ public class ItemInstanceMetadata {
         return value;
     }
 }
-
@@ -32,9 +32,8 @@ public final class ItemInstanceMetadataMigration {
         if (metadata.getSocketCapacity() <= 0) {
             metadata.setSocketCapacity(GemSocketConfigHelper.socketsForRarity(metadata.getRarity()));
         }
-        metadata.setSocketedGems(metadata.getSocketedGems());
-        metadata.setStatFlatRollsRaw(metadata.getStatFlatRollsRaw());
-        metadata.setStatPercentRollsRaw(metadata.getStatPercentRollsRaw());
+        // Schema 7: legacy JSON gem/roll fields were already converted to typed storage at decode;
+        // re-writing the stack with the bumped version persists them as native arrays/documents.
 
         return metadata;
     }
@@ -125,11 +125,7 @@ public final class ItemPrefixService {
 
     private static List<String> prefixWords() {
         try {
-            HyruneConfig cfg = HyruneConfigManager.getConfig();
-            if (cfg == null || cfg.prefixes == null || cfg.prefixes.rollableWords == null || cfg.prefixes.rollableWords.isEmpty()) {
-                return new HyruneConfig.PrefixConfig().rollableWords;
-            }
-            return cfg.prefixes.rollableWords;
+            return HyruneConfigManager.getCompiled().rollablePrefixWords();
         } catch (Throwable ignored) {
             return new HyruneConfig.PrefixConfig().rollableWords;
         }
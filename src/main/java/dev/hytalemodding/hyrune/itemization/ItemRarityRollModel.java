@@ -1,11 +1,10 @@
 package dev.hytalemodding.hyrune.itemization;
 
-import dev.hytalemodding.hyrune.config.HyruneConfig;
+import dev.hytalemodding.hyrune.config.CompiledHyruneConfig;
 import dev.hytalemodding.hyrune.config.HyruneConfigManager;
 import dev.hytalemodding.hyrune.repair.ItemRarity;
 
 import java.util.LinkedHashMap;
-import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -26,18 +25,14 @@ public final class ItemRarityRollModel {
     }
 
     public static Result roll(ItemRollSource source, GenerationContext context, ThreadLocalRandom random) {
-        HyruneConfig cfg = HyruneConfigManager.getConfig();
-        HyruneConfig.ItemizationRarityModelConfig model = cfg.itemizationRarityModel == null
-            ? new HyruneConfig.ItemizationRarityModelConfig()
-            : cfg.itemizationRarityModel;
+        CompiledHyruneConfig.RarityModel model = HyruneConfigManager.getCompiled().rarityModel();
 
         double professionBonus = computeProfessionBonus(model, context);
         double benchBonus = computeBenchBonus(model, context);
         double rawScore = professionBonus + benchBonus;
-        double clampedScore = clamp(rawScore, model.minRarityScore, model.maxRarityScore);
+        double clampedScore = clamp(rawScore, model.minRarityScore(), model.maxRarityScore());
 
-        double[] weights = resolveBaseWeights(model, source);
-        double[] adjusted = adjustWeights(weights, clampedScore, model.rarityShiftStrength);
+        double[] adjusted = adjustWeights(model.baseWeights(source), clampedScore, model.rarityShiftStrength());
         ItemRarity rolled = sample(adjusted, random.nextDouble());
 
         Map<String, Double> debug = new LinkedHashMap<>();
@@ -54,44 +49,23 @@ public final class ItemRarityRollModel {
         return new Result(rolled, debug);
     }
 
-    private static double computeProfessionBonus(HyruneConfig.ItemizationRarityModelConfig model, GenerationContext context) {
+    private static double computeProfessionBonus(CompiledHyruneConfig.RarityModel model, GenerationContext context) {
         if (context == null || context.professionSkill() == null || context.professionLevel() == null) {
             return 0.0;
         }
-        String skillKey = context.professionSkill().toUpperCase(Locale.ROOT);
-        Double perLevel = model.professionBonusPerLevel == null ? null : model.professionBonusPerLevel.get(skillKey);
+        Double perLevel = model.professionBonusPerLevel(context.professionSkill());
         if (perLevel == null) {
             return 0.0;
         }
-        int levelCap = Math.max(1, model.maxProfessionLevel);
-        int effectiveLevel = Math.max(0, Math.min(levelCap, context.professionLevel()));
+        int effectiveLevel = Math.max(0, Math.min(model.maxProfessionLevel(), context.professionLevel()));
         return perLevel * effectiveLevel;
     }
 
-    private static double computeBenchBonus(HyruneConfig.ItemizationRarityModelConfig model, GenerationContext context) {
-        if (context == null || context.benchTier() == null || model.benchTierBonus == null) {
+    private static double computeBenchBonus(CompiledHyruneConfig.RarityModel model, GenerationContext context) {
+        if (context == null || context.benchTier() == null) {
             return 0.0;
         }
-        return model.benchTierBonus.getOrDefault(context.benchTier(), 0.0);
-    }
-
-    private static double[] resolveBaseWeights(HyruneConfig.ItemizationRarityModelConfig model, ItemRollSource source) {
-        String sourceKey = (source == null ? ItemRollSource.CRAFTED : source).name().toLowerCase(Locale.ROOT);
-        HyruneConfig.RarityWeights weights = null;
-        if (model.baseWeightsBySource != null) {
-            weights = model.baseWeightsBySource.get(sourceKey);
-        }
-        if (weights == null) {
-            weights = new HyruneConfig.RarityWeights();
-        }
-        return new double[]{
-            Math.max(0.0, weights.common),
-            Math.max(0.0, weights.uncommon),
-            Math.max(0.0, weights.rare),
-            Math.max(0.0, weights.epic),
-            Math.max(0.0, weights.legendary),
-            Math.max(0.0, weights.mythic)
-        };
+        return model.benchTierBonus(context.benchTier());
     }
 
     private static double[] adjustWeights(double[] baseWeights, double rarityScore, double shiftStrength) {
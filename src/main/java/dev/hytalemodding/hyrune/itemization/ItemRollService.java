@@ -3,6 +3,9 @@ package dev.hytalemodding.hyrune.itemization;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import dev.hytalemodding.hyrune.config.HyruneConfigManager;
+import dev.hytalemodding.hyrune.config.PercentRollDefinition;
+import dev.hytalemodding.hyrune.config.RollConstraint;
+import dev.hytalemodding.hyrune.config.RollType;
 import dev.hytalemodding.hyrune.repair.DurabilityPolicy;
 import dev.hytalemodding.hyrune.repair.ItemRarity;
 
@@ -155,7 +158,7 @@ public final class ItemRollService {
                 break;
             }
             selected.add(chosen);
-            ItemizationSpecializedStatConfigHelper.RollType type = resolveRollTypeForStat(chosen, random);
+            RollType type = resolveRollTypeForStat(chosen, random);
             rows.add(new RowSelection(row, targetLane, chosen.getId(), type));
             switch (type) {
                 case FLAT -> flatOut.put(chosen.getId(), rollFlatBonus(itemId, archetype, chosen, random));
@@ -237,32 +240,32 @@ public final class ItemRollService {
         return out;
     }
 
-    private static ItemizationSpecializedStatConfigHelper.RollType weightedRollType(ThreadLocalRandom random) {
-        double flatWeight = Math.max(0.0, ItemizationSpecializedStatConfigHelper.rollTypeWeight(ItemizationSpecializedStatConfigHelper.RollType.FLAT));
-        double percentWeight = Math.max(0.0, ItemizationSpecializedStatConfigHelper.rollTypeWeight(ItemizationSpecializedStatConfigHelper.RollType.PERCENT));
+    private static RollType weightedRollType(ThreadLocalRandom random) {
+        double flatWeight = Math.max(0.0, ItemizationSpecializedStatConfigHelper.rollTypeWeight(RollType.FLAT));
+        double percentWeight = Math.max(0.0, ItemizationSpecializedStatConfigHelper.rollTypeWeight(RollType.PERCENT));
         double total = flatWeight + percentWeight;
         if (total <= 1e-9) {
-            return ItemizationSpecializedStatConfigHelper.RollType.FLAT;
+            return RollType.FLAT;
         }
 
         double pick = random.nextDouble(total);
         if (pick < flatWeight) {
-            return ItemizationSpecializedStatConfigHelper.RollType.FLAT;
+            return RollType.FLAT;
         }
         pick -= flatWeight;
         if (pick < percentWeight) {
-            return ItemizationSpecializedStatConfigHelper.RollType.PERCENT;
+            return RollType.PERCENT;
         }
-        return ItemizationSpecializedStatConfigHelper.RollType.FLAT;
+        return RollType.FLAT;
     }
 
-    private static ItemizationSpecializedStatConfigHelper.RollType resolveRollTypeForStat(ItemizedStat stat,
+    private static RollType resolveRollTypeForStat(ItemizedStat stat,
                                                                                             ThreadLocalRandom random) {
-        ItemizationSpecializedStatConfigHelper.RollConstraint constraint =
+        RollConstraint constraint =
             ItemizationSpecializedStatConfigHelper.rollConstraintForStat(stat);
         return switch (constraint) {
-            case FLAT_ONLY -> ItemizationSpecializedStatConfigHelper.RollType.FLAT;
-            case PERCENT_ONLY -> ItemizationSpecializedStatConfigHelper.RollType.PERCENT;
+            case FLAT_ONLY -> RollType.FLAT;
+            case PERCENT_ONLY -> RollType.PERCENT;
             case EITHER -> weightedRollType(random);
         };
     }
@@ -283,7 +286,7 @@ public final class ItemRollService {
     }
 
     private static double rollPercentBonus(String itemId, ItemizedStat stat, ThreadLocalRandom random) {
-        ItemizationSpecializedStatConfigHelper.PercentRollDefinition definition =
+        PercentRollDefinition definition =
             ItemizationSpecializedStatConfigHelper.percentRollDefinition(stat);
         double baseRoll = randomBetween(definition.baseMin(), definition.baseMax(), random);
         double tierScalar = ItemizationSpecializedStatConfigHelper.tierScalar(itemId);
@@ -390,7 +393,7 @@ public final class ItemRollService {
                 .append(row.lane())
                 .append(":")
                 .append(row.statId())
-                .append(row.rollType() == ItemizationSpecializedStatConfigHelper.RollType.PERCENT ? "%" : "F");
+                .append(row.rollType() == RollType.PERCENT ? "%" : "F");
         }
         return out.toString();
     }
@@ -403,7 +406,7 @@ public final class ItemRollService {
     private record RowSelection(int row,
                                 String lane,
                                 String statId,
-                                ItemizationSpecializedStatConfigHelper.RollType rollType) {
+                                RollType rollType) {
     }
 }
 
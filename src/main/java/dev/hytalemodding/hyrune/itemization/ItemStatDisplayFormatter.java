@@ -1,6 +1,7 @@
 package dev.hytalemodding.hyrune.itemization;
 
 import dev.hytalemodding.hyrune.bonus.SkillStatBonusApplier;
+import dev.hytalemodding.hyrune.config.RollConstraint;
 
 import java.util.Locale;
 
@@ -22,12 +23,12 @@ public final class ItemStatDisplayFormatter {
             adjustedPercentRaw = SkillStatBonusApplier.applyItemMovementSpeedSoftCap(percentRaw);
         }
 
-        ItemizationSpecializedStatConfigHelper.RollConstraint constraint =
+        RollConstraint constraint =
             ItemizationSpecializedStatConfigHelper.rollConstraintForStat(stat);
-        if (constraint == ItemizationSpecializedStatConfigHelper.RollConstraint.PERCENT_ONLY) {
+        if (constraint == RollConstraint.PERCENT_ONLY) {
             return formatPercent(adjustedFlatRaw + adjustedPercentRaw);
         }
-        if (constraint == ItemizationSpecializedStatConfigHelper.RollConstraint.FLAT_ONLY) {
+        if (constraint == RollConstraint.FLAT_ONLY) {
             return formatFlat(stat, adjustedFlatRaw + adjustedPercentRaw);
         }
 
@@ -0,0 +1,175 @@
+package dev.hytalemodding.hyrune.itemization;
+
+import dev.hytalemodding.hyrune.repair.ItemRarity;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Bounded LRU of immutable {@link ItemStatResolution}s keyed by item id + rolled content.
+ * <p>
+ * Keys compare the full stat-relevant content (rarity, dropped penalty, gems, rolls), so two
+ * identically rolled stacks share one resolution and hash collisions can never return the wrong
+ * stats. Entries are weighted by how many gems and rolls they carry; the least recently used
+ * entries are evicted once the total weight exceeds the budget.
+ */
+public final class ItemStatResolutionCache {
+    public static final int DEFAULT_MAX_WEIGHT = 16_384;
+
+    private final int maxWeight;
+    private final BiFunction<String, ItemInstanceMetadata, ItemStatResolution> loader;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long totalWeight;
+    private long generation;
+
+    public ItemStatResolutionCache(int maxWeight,
+                                   BiFunction<String, ItemInstanceMetadata, ItemStatResolution> loader) {
+        this.maxWeight = Math.max(1, maxWeight);
+        this.loader = loader;
+    }
+
+    public ItemStatResolution resolve(String itemId, ItemInstanceMetadata metadata) {
+        Key key = Key.of(itemId, metadata);
+        long observedGeneration;
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached.resolution;
+            }
+            observedGeneration = generation;
+        }
+        misses.increment();
+
+        // Resolve outside the lock; racing misses for the same key keep whichever landed first.
+        ItemStatResolution resolved = loader.apply(itemId, metadata);
+        synchronized (this) {
+            if (observedGeneration != generation) {
+                // Config reloaded while resolving; don't cache a result built from stale config.
+                return resolved;
+            }
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                return existing.resolution;
+            }
+            Entry entry = new Entry(resolved, key.weight());
+            entries.put(key, entry);
+            totalWeight += entry.weight;
+            evictOverBudget();
+        }
+        return resolved;
+    }
+
+    /**
+     * Drops every cached resolution, e.g. after the stat config was reloaded.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        totalWeight = 0L;
+        generation++;
+    }
+
+    public synchronized Stats snapshot() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), totalWeight, maxWeight);
+    }
+
+    private void evictOverBudget() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            iterator.remove();
+            totalWeight -= eldest.weight;
+            evictions.increment();
+        }
+    }
+
+    public record Stats(long hits, long misses, long evictions, int entries, long weight, int maxWeight) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0L ? 0.0 : (double) hits / total;
+        }
+    }
+
+    private record Entry(ItemStatResolution resolution, int weight) {
+    }
+
+    private static final class Key {
+        private final String itemId;
+        private final ItemRarity rarity;
+        private final long droppedPenaltyBits;
+        private final List<String> gems;
+        private final Map<String, Double> flatRolls;
+        private final Map<String, Double> percentRolls;
+        private final int hash;
+
+        private Key(String itemId,
+                    ItemRarity rarity,
+                    long droppedPenaltyBits,
+                    List<String> gems,
+                    Map<String, Double> flatRolls,
+                    Map<String, Double> percentRolls) {
+            this.itemId = itemId;
+            this.rarity = rarity;
+            this.droppedPenaltyBits = droppedPenaltyBits;
+            this.gems = gems;
+            this.flatRolls = flatRolls;
+            this.percentRolls = percentRolls;
+            int h = Objects.hashCode(itemId);
+            h = h * 31 + Objects.hashCode(rarity);
+            h = h * 31 + Long.hashCode(droppedPenaltyBits);
+            h = h * 31 + gems.hashCode();
+            h = h * 31 + flatRolls.hashCode();
+            h = h * 31 + percentRolls.hashCode();
+            this.hash = h;
+        }
+
+        // The metadata views are immutable, so holding them in the key is safe.
+        private static Key of(String itemId, ItemInstanceMetadata metadata) {
+            if (metadata == null) {
+                return new Key(itemId, null, 0L, List.of(), Map.of(), Map.of());
+            }
+            return new Key(
+                itemId,
+                metadata.getRarity(),
+                Double.doubleToLongBits(metadata.getDroppedPenalty()),
+                metadata.socketedGemsView(),
+                metadata.statFlatRollsView(),
+                metadata.statPercentRollsView()
+            );
+        }
+
+        private int weight() {
+            return 1 + gems.size() + flatRolls.size() + percentRolls.size();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return hash == other.hash
+                && droppedPenaltyBits == other.droppedPenaltyBits
+                && rarity == other.rarity
+                && Objects.equals(itemId, other.itemId)
+                && gems.equals(other.gems)
+                && flatRolls.equals(other.flatRolls)
+                && percentRolls.equals(other.percentRolls);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -9,6 +9,9 @@ import java.util.Map;
  * Resolves effective specialized stats from base archetype + rolled metadata.
  */
 public final class ItemStatResolver {
+    private static final ItemStatResolutionCache CACHE =
+        new ItemStatResolutionCache(ItemStatResolutionCache.DEFAULT_MAX_WEIGHT, ItemStatResolver::computeDetailed);
+
     private ItemStatResolver() {
     }
 
@@ -24,7 +27,25 @@ public final class ItemStatResolver {
         return resolveDetailed(itemId, metadata);
     }
 
+    /**
+     * Returns the shared, immutable resolution for this item id and rolled content.
+     */
     public static ItemStatResolution resolveDetailed(String itemId, ItemInstanceMetadata metadata) {
+        return CACHE.resolve(itemId, metadata);
+    }
+
+    /**
+     * Forgets cached resolutions; call after stat/archetype config changes.
+     */
+    public static void invalidateCache() {
+        CACHE.invalidateAll();
+    }
+
+    public static ItemStatResolutionCache.Stats cacheStats() {
+        return CACHE.snapshot();
+    }
+
+    static ItemStatResolution computeDetailed(String itemId, ItemInstanceMetadata metadata) {
         ItemArchetype archetype = ItemArchetypeResolver.resolve(itemId);
         double tierScalar = ItemizationSpecializedStatConfigHelper.tierScalar(itemId);
 
@@ -51,6 +72,8 @@ public final class ItemStatResolver {
 
         EffectiveItemStats baseSummary = summarize(base);
         EffectiveItemStats resolvedSummary = summarize(resolved);
+        base.freeze();
+        resolved.freeze();
 
         return new ItemStatResolution(
             itemId,
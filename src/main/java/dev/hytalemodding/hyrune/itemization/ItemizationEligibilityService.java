@@ -2,7 +2,6 @@ package dev.hytalemodding.hyrune.itemization;
 
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import dev.hytalemodding.hyrune.config.HyruneConfig;
-import dev.hytalemodding.hyrune.config.HyruneConfigManager;
 
 import java.util.List;
 import java.util.Locale;
@@ -22,7 +21,10 @@ public final class ItemizationEligibilityService {
     }
 
     public static boolean isEligibleItemId(String itemId) {
-        return isEligibleItemId(itemId, HyruneConfigManager.getConfig());
+        if (itemId == null || itemId.isBlank()) {
+            return false;
+        }
+        return ItemClassificationIndex.classify(itemId).eligible();
     }
 
     static boolean isEligibleItemId(String itemId, HyruneConfig config) {
@@ -1,60 +1,177 @@
 package dev.hytalemodding.hyrune.itemization;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
 
 /**
- * Immutable-ish specialized stat container used by resolver and player cache.
+ * Specialized stat container used by resolver and player cache, backed by a flat
+ * {@code double[]} indexed by {@link ItemizedStat} ordinal.
+ * <p>
+ * Blocks are mutable until {@link #freeze()}d; frozen blocks (e.g. cached resolutions) can be
+ * shared freely and reject writes. Values within {@code 1e-9} of zero are stored as zero.
  */
 public final class ItemizedStatBlock {
-    private final EnumMap<ItemizedStat, Double> values = new EnumMap<>(ItemizedStat.class);
+    private static final ItemizedStat[] STATS = ItemizedStat.values();
+    private static final double EPSILON = 1e-9;
+
+    private final double[] values;
+    private boolean frozen;
+
+    private ItemizedStatBlock(double[] values) {
+        this.values = values;
+    }
 
     public static ItemizedStatBlock empty() {
-        return new ItemizedStatBlock();
+        return new ItemizedStatBlock(new double[STATS.length]);
     }
 
     public double get(ItemizedStat stat) {
         if (stat == null) {
             return 0.0;
         }
-        return values.getOrDefault(stat, 0.0);
+        return values[stat.ordinal()];
     }
 
     public void set(ItemizedStat stat, double value) {
         if (stat == null) {
             return;
         }
-        if (Math.abs(value) <= 1e-9) {
-            values.remove(stat);
-            return;
-        }
-        values.put(stat, value);
+        checkMutable();
+        values[stat.ordinal()] = snap(value);
     }
 
     public void add(ItemizedStat stat, double value) {
-        if (stat == null || Math.abs(value) <= 1e-9) {
+        if (stat == null || Math.abs(value) <= EPSILON) {
             return;
         }
-        set(stat, get(stat) + value);
+        checkMutable();
+        int ordinal = stat.ordinal();
+        values[ordinal] = snap(values[ordinal] + value);
     }
 
     public void addAll(ItemizedStatBlock other) {
         if (other == null) {
             return;
         }
-        for (Map.Entry<ItemizedStat, Double> entry : other.values.entrySet()) {
-            add(entry.getKey(), entry.getValue());
+        checkMutable();
+        double[] source = other.values;
+        for (int i = 0; i < values.length; i++) {
+            values[i] += source[i];
+        }
+        snapAll();
+    }
+
+    /**
+     * Adds {@code other * factor} to every stat.
+     */
+    public void addScaled(ItemizedStatBlock other, double factor) {
+        if (other == null) {
+            return;
+        }
+        checkMutable();
+        double[] source = other.values;
+        for (int i = 0; i < values.length; i++) {
+            values[i] += source[i] * factor;
+        }
+        snapAll();
+    }
+
+    public void scale(double factor) {
+        checkMutable();
+        for (int i = 0; i < values.length; i++) {
+            values[i] *= factor;
+        }
+        snapAll();
+    }
+
+    /**
+     * Clamps every stat into {@code [min, max]}.
+     */
+    public void clamp(double min, double max) {
+        checkMutable();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.max(min, Math.min(max, values[i]));
         }
+        snapAll();
+    }
+
+    /**
+     * Marks this block read-only so it can be shared (e.g. from the resolution cache).
+     */
+    public ItemizedStatBlock freeze() {
+        frozen = true;
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
     }
 
+    /**
+     * Returns a mutable copy, even when this block is frozen.
+     */
     public ItemizedStatBlock copy() {
-        ItemizedStatBlock out = new ItemizedStatBlock();
-        out.values.putAll(this.values);
-        return out;
+        return new ItemizedStatBlock(values.clone());
+    }
+
+    /**
+     * Returns a frozen copy, or this block if it is already frozen.
+     */
+    public ItemizedStatBlock frozenCopy() {
+        return frozen ? this : copy().freeze();
+    }
+
+    public boolean isEmpty() {
+        for (double value : values) {
+            if (value != 0.0) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * Non-zero stats in ordinal order.
+     */
     public Map<ItemizedStat, Double> asMap() {
-        return Collections.unmodifiableMap(values);
+        EnumMap<ItemizedStat, Double> out = new EnumMap<>(ItemizedStat.class);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != 0.0) {
+                out.put(STATS[i], values[i]);
+            }
+        }
+        return Collections.unmodifiableMap(out);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof ItemizedStatBlock other && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    // Separate pass keeps the arithmetic loops above branch-free.
+    private void snapAll() {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = snap(values[i]);
+        }
+    }
+
+    private static double snap(double value) {
+        return Math.abs(value) <= EPSILON ? 0.0 : value;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new IllegalStateException("ItemizedStatBlock is frozen");
+        }
     }
 }
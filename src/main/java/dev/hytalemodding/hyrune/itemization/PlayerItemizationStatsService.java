@@ -5,13 +5,14 @@ import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.inventory.Inventory;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
-import dev.hytalemodding.hyrune.config.HyruneConfig;
+import com.hypixel.hytale.server.core.inventory.transaction.Transaction;
 import dev.hytalemodding.hyrune.config.HyruneConfigManager;
 import dev.hytalemodding.hyrune.util.PlayerEntityAccess;
 
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 
 /**
@@ -20,6 +21,7 @@ import java.util.logging.Level;
 public final class PlayerItemizationStatsService {
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
     private static final Map<UUID, PlayerItemizationStats> CACHE = new ConcurrentHashMap<>();
+    private static final Map<UUID, EquipmentState> EQUIPMENT = new ConcurrentHashMap<>();
     private static final PlayerItemizationStats EMPTY = new PlayerItemizationStats(
         0L,
         new EffectiveItemStats(0, 0, 0, 0),
@@ -28,9 +30,9 @@ public final class PlayerItemizationStatsService {
         new EffectiveItemStats(0, 0, 0, 0),
         new EffectiveItemStats(0, 0, 0, 0),
         new EffectiveItemStats(0, 0, 0, 0),
-        ItemizedStatBlock.empty(),
-        ItemizedStatBlock.empty(),
-        ItemizedStatBlock.empty(),
+        ItemizedStatBlock.empty().freeze(),
+        ItemizedStatBlock.empty().freeze(),
+        ItemizedStatBlock.empty().freeze(),
         1.0,
         1.0,
         0.0,
@@ -69,7 +71,7 @@ public final class PlayerItemizationStatsService {
         if (uuid == null) {
             return EMPTY;
         }
-        long fingerprint = computeFingerprint(inventory);
+        long fingerprint = equipmentKey(uuid, inventory);
         PlayerItemizationStats cached = CACHE.get(uuid);
         if (cached != null && cached.getEquipmentFingerprint() == fingerprint) {
             return cached;
@@ -89,7 +91,9 @@ public final class PlayerItemizationStatsService {
         if (playerUuid == null) {
             return EMPTY;
         }
-        return recompute(player, computeFingerprint(inventory));
+        // Explicit full refresh: forget every cached slot resolution.
+        markEquipmentChanged(playerUuid);
+        return recompute(player, equipmentKey(playerUuid, inventory));
     }
 
     public static PlayerItemizationStats getCached(UUID uuid) {
@@ -103,11 +107,63 @@ public final class PlayerItemizationStatsService {
         return getCached(uuid).getItemUtilityMoveSpeedBonus();
     }
 
+    /**
+     * Invalidates every cached equipment slot for the player.
+     * Cheap enough to call from every inventory event; the recompute happens lazily.
+     */
+    public static void markEquipmentChanged(UUID uuid) {
+        if (uuid == null) {
+            return;
+        }
+        equipmentState(uuid).markAllDirty();
+    }
+
+    /**
+     * Records which equipment slots an inventory change touched, using the event's transaction.
+     * Changes to storage, or to hotbar/tools slots that are not active, are ignored.
+     *
+     * @return true if the change can affect armor or held-item stats
+     */
+    public static boolean onContainerChanged(UUID uuid, Inventory inventory, ItemContainer container, Transaction tx) {
+        if (uuid == null) {
+            return false;
+        }
+        if (inventory == null || container == null) {
+            markEquipmentChanged(uuid);
+            return true;
+        }
+        if (container == inventory.getStorage()) {
+            return false;
+        }
+        if (container == inventory.getArmor()) {
+            EquipmentState state = equipmentState(uuid);
+            boolean touched = false;
+            short capacity = container.getCapacity();
+            for (short slot = 0; slot < capacity; slot++) {
+                if (tx == null || tx.wasSlotModified(slot)) {
+                    state.markArmorSlotDirty(slot);
+                    touched = true;
+                }
+            }
+            return touched;
+        }
+        if (container == inventory.getHotbar()) {
+            return markHeldIfModified(uuid, tx, inventory.getActiveHotbarSlot());
+        }
+        if (container == inventory.getTools()) {
+            return markHeldIfModified(uuid, tx, inventory.getActiveToolsSlot());
+        }
+        // Combined or unrecognised view: we can't map its slots, so assume the worst.
+        markEquipmentChanged(uuid);
+        return true;
+    }
+
     public static void clear(UUID uuid) {
         if (uuid == null) {
             return;
         }
         CACHE.remove(uuid);
+        EQUIPMENT.remove(uuid);
     }
 
     public static double getDefensiveStat(Player player, PlayerItemizationStats stats, ItemizedStat stat) {
@@ -132,24 +188,25 @@ public final class PlayerItemizationStatsService {
             return EMPTY;
         }
 
-        ItemStatResolution held = ItemStatResolver.resolveDetailed(inventory.getItemInHand());
+        // Only slots marked dirty since the last recompute are re-resolved; the rest reuse
+        // their cached resolution and are just re-summed.
+        EquipmentState state = equipmentState(playerUuid);
+        ItemStatResolution held;
+        ItemStatResolution[] armorSlots;
+        synchronized (state) {
+            held = state.resolveHeld(inventory);
+            armorSlots = state.resolveArmor(inventory.getArmor());
+        }
         EffectiveItemStats armorBase = new EffectiveItemStats(0, 0, 0, 0);
         EffectiveItemStats armorResolved = new EffectiveItemStats(0, 0, 0, 0);
         ItemizedStatBlock armorSpecialized = ItemizedStatBlock.empty();
-
-        ItemContainer armorContainer = inventory.getArmor();
-        if (armorContainer != null) {
-            short capacity = armorContainer.getCapacity();
-            for (short slot = 0; slot < capacity; slot++) {
-                ItemStack stack = armorContainer.getItemStack(slot);
-                if (stack == null || stack.isEmpty()) {
-                    continue;
-                }
-                ItemStatResolution res = ItemStatResolver.resolveDetailed(stack);
-                armorBase = add(armorBase, res.getBaseStats());
-                armorResolved = add(armorResolved, res.getResolvedStats());
-                armorSpecialized.addAll(res.getResolvedSpecializedStats());
+        for (ItemStatResolution res : armorSlots) {
+            if (res == null) {
+                continue;
             }
+            armorBase = add(armorBase, res.getBaseStats());
+            armorResolved = add(armorResolved, res.getResolvedStats());
+            armorSpecialized.addAll(res.getResolvedSpecializedStats());
         }
 
         EffectiveItemStats heldBase = held.getBaseStats();
@@ -208,8 +265,8 @@ public final class PlayerItemizationStatsService {
             totalBase,
             totalResolved,
             heldSpecialized,
-            armorSpecialized,
-            totalSpecialized,
+            armorSpecialized.freeze(),
+            totalSpecialized.freeze(),
             physicalDamageMultiplier,
             magicalDamageMultiplier,
             physicalDefenceReductionBonus,
@@ -233,8 +290,7 @@ public final class PlayerItemizationStatsService {
         );
         CACHE.put(playerUuid, out);
 
-        HyruneConfig cfg = HyruneConfigManager.getConfig();
-        if (cfg != null && cfg.itemizationDebugLogging) {
+        if (HyruneConfigManager.getCompiled().itemizationDebugLogging()) {
             LOGGER.at(Level.INFO).log("[Itemization][Stats] p=" + shortUuid(playerUuid)
                 + ", dmg=" + fmt(out.getPhysicalDamageMultiplier()) + "/" + fmt(out.getMagicalDamageMultiplier())
                 + ", def=" + fmt(out.getPhysicalDefenceReductionBonus()) + "/" + fmt(out.getMagicalDefenceReductionBonus())
@@ -246,43 +302,31 @@ public final class PlayerItemizationStatsService {
         return out;
     }
 
-    private static long computeFingerprint(Inventory inventory) {
-        if (inventory == null) {
-            return 0L;
-        }
-        long hash = 17L;
-        hash = hash * 31 + stackHash(inventory.getItemInHand());
+    /**
+     * Cache key for the player's current equipment: the event-driven version plus the active
+     * hotbar/tools slots, so switching slots needs no inventory event to invalidate.
+     */
+    private static long equipmentKey(UUID uuid, Inventory inventory) {
+        EquipmentState state = EQUIPMENT.get(uuid);
+        long base = state == null ? 0L : state.version.get();
+        return (base << 16)
+            | ((inventory.getActiveHotbarSlot() & 0xFFL) << 8)
+            | (inventory.getActiveToolsSlot() & 0xFFL);
+    }
 
-        ItemContainer armor = inventory.getArmor();
-        if (armor != null) {
-            short capacity = armor.getCapacity();
-            for (short slot = 0; slot < capacity; slot++) {
-                hash = hash * 31 + stackHash(armor.getItemStack(slot));
-            }
+    private static boolean markHeldIfModified(UUID uuid, Transaction tx, int activeSlot) {
+        if (activeSlot < 0) {
+            return false;
         }
-        return hash;
+        if (tx != null && !tx.wasSlotModified((short) activeSlot)) {
+            return false;
+        }
+        equipmentState(uuid).markHeldDirty();
+        return true;
     }
 
-    private static long stackHash(ItemStack stack) {
-        if (stack == null || stack.isEmpty() || stack.getItemId() == null) {
-            return 0L;
-        }
-
-        long hash = stack.getItemId().hashCode();
-        hash = hash * 31 + stack.getQuantity();
-        ItemInstanceMetadata metadata = stack.getFromMetadataOrNull(ItemInstanceMetadata.KEYED_CODEC);
-        if (metadata == null) {
-            return hash;
-        }
-        hash = hash * 31 + metadata.getVersion();
-        hash = hash * 31 + safeHash(metadata.getRarityRaw());
-        hash = hash * 31 + metadata.getSeed();
-        hash = hash * 31 + metadata.getSocketCapacityRaw();
-        hash = hash * 31 + safeHash(metadata.getSocketedGemsJson());
-        hash = hash * 31 + safeHash(metadata.getStatFlatRollsJson());
-        hash = hash * 31 + safeHash(metadata.getStatPercentRollsJson());
-        hash = hash * 31 + Double.doubleToLongBits(metadata.getDroppedPenalty());
-        return hash;
+    private static EquipmentState equipmentState(UUID uuid) {
+        return EQUIPMENT.computeIfAbsent(uuid, ignored -> new EquipmentState());
     }
 
     private static EffectiveItemStats add(EffectiveItemStats left, EffectiveItemStats right) {
@@ -307,10 +351,6 @@ public final class PlayerItemizationStatsService {
         return String.format(java.util.Locale.US, "%.4f", value);
     }
 
-    private static int safeHash(String value) {
-        return value == null ? 0 : value.hashCode();
-    }
-
     private static String shortUuid(UUID uuid) {
         if (uuid == null) {
             return "null";
@@ -323,8 +363,7 @@ public final class PlayerItemizationStatsService {
         if (stack == null || stack.isEmpty() || stack.getItemId() == null) {
             return false;
         }
-        String id = stack.getItemId().toLowerCase(java.util.Locale.ROOT);
-        return id.contains("shield") || id.contains("buckler");
+        return ItemClassificationIndex.classify(stack.getItemId()).shield();
     }
 
     private static void addShieldDefensiveStats(ItemizedStatBlock destination, ItemizedStatBlock source) {
@@ -338,5 +377,71 @@ public final class PlayerItemizationStatsService {
         destination.add(ItemizedStat.HP_REGEN, source.get(ItemizedStat.HP_REGEN));
         destination.add(ItemizedStat.REFLECT_DAMAGE, source.get(ItemizedStat.REFLECT_DAMAGE));
     }
-}
 
+    /**
+     * Per-player cached slot resolutions plus the version that keys the stats snapshot.
+     * Mark and resolve methods are called while holding the instance lock.
+     */
+    private static final class EquipmentState {
+        private static final ItemStatResolution[] NO_ARMOR = new ItemStatResolution[0];
+        private static final long ALL_SLOTS = -1L;
+
+        private final AtomicLong version = new AtomicLong();
+        private ItemStatResolution[] armor = NO_ARMOR;
+        private long dirtyArmorSlots = ALL_SLOTS;
+        private ItemStatResolution held;
+        private boolean heldDirty = true;
+        private int heldHotbarSlot = Integer.MIN_VALUE;
+        private int heldToolsSlot = Integer.MIN_VALUE;
+
+        private synchronized void markAllDirty() {
+            dirtyArmorSlots = ALL_SLOTS;
+            heldDirty = true;
+            version.incrementAndGet();
+        }
+
+        private synchronized void markArmorSlotDirty(int slot) {
+            dirtyArmorSlots |= slot < Long.SIZE ? 1L << slot : ALL_SLOTS;
+            version.incrementAndGet();
+        }
+
+        private synchronized void markHeldDirty() {
+            heldDirty = true;
+            version.incrementAndGet();
+        }
+
+        private ItemStatResolution resolveHeld(Inventory inventory) {
+            int hotbarSlot = inventory.getActiveHotbarSlot();
+            int toolsSlot = inventory.getActiveToolsSlot();
+            if (heldDirty || held == null || hotbarSlot != heldHotbarSlot || toolsSlot != heldToolsSlot) {
+                held = ItemStatResolver.resolveDetailed(inventory.getItemInHand());
+                heldHotbarSlot = hotbarSlot;
+                heldToolsSlot = toolsSlot;
+                heldDirty = false;
+            }
+            return held;
+        }
+
+        private ItemStatResolution[] resolveArmor(ItemContainer container) {
+            if (container == null) {
+                armor = NO_ARMOR;
+                return armor;
+            }
+            short capacity = container.getCapacity();
+            if (armor.length != capacity) {
+                armor = new ItemStatResolution[capacity];
+                dirtyArmorSlots = ALL_SLOTS;
+            }
+            for (short slot = 0; slot < capacity; slot++) {
+                boolean dirty = slot >= Long.SIZE || (dirtyArmorSlots & (1L << slot)) != 0L;
+                if (!dirty) {
+                    continue;
+                }
+                ItemStack stack = container.getItemStack(slot);
+                armor[slot] = stack == null || stack.isEmpty() ? null : ItemStatResolver.resolveDetailed(stack);
+            }
+            dirtyArmorSlots = 0L;
+            return armor.clone();
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package dev.hytalemodding.hyrune.itemization.tooltip;
 
 import com.hypixel.hytale.logger.HytaleLogger;
-import dev.hytalemodding.hyrune.config.HyruneConfig;
 import dev.hytalemodding.hyrune.config.HyruneConfigManager;
+import dev.hytalemodding.hyrune.config.PercentRollDefinition;
+import dev.hytalemodding.hyrune.config.RollConstraint;
 import dev.hytalemodding.hyrune.itemization.ItemPrefixService;
 import dev.hytalemodding.hyrune.itemization.ItemArchetype;
 import dev.hytalemodding.hyrune.itemization.ItemArchetypeResolver;
@@ -17,11 +18,10 @@ import dev.hytalemodding.hyrune.itemization.ItemizedStatBlock;
 import dev.hytalemodding.hyrune.itemization.GemSocketConfigHelper;
 import dev.hytalemodding.hyrune.itemization.ItemRarityRollModel;
 import dev.hytalemodding.hyrune.repair.ItemRarity;
+import dev.hytalemodding.hyrune.util.Hash64;
 import org.bson.BsonDocument;
 
 import javax.annotation.Nullable;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -29,35 +29,37 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 
 /**
  * Composes dynamic tooltip lines from item metadata with per-item-state caching.
+ * <p>
+ * Tooltips depend only on the item id and its metadata, never on who holds the item, so both
+ * caches are shared by all players: one maps raw item states to tooltips, the other dedupes
+ * states that differ only in fields the tooltip ignores (e.g. the roll seed).
  */
 public final class HyruneDynamicTooltipComposer {
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
-    private static final int STATE_CACHE_MAX = 4096;
+    private static final int STATE_CACHE_MAX = 8192;
+    private static final int COMPOSED_CACHE_MAX = 4096;
     private static final long COMPOSE_SUMMARY_INTERVAL_MS = 5000L;
-    private static final ComposedTooltip EMPTY_SENTINEL = new ComposedTooltip(List.of(), ItemRarity.COMMON, "", null);
+    private static final ComposedTooltip EMPTY_SENTINEL = new ComposedTooltip(List.of(), ItemRarity.COMMON, 0L, "", null);
 
-    private final ConcurrentHashMap<String, ComposedTooltip> itemStateCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, ComposedTooltip> composedCache = new ConcurrentHashMap<>();
+    private final TooltipCache<StateKey, ComposedTooltip> itemStateCache = new TooltipCache<>(STATE_CACHE_MAX);
+    private final TooltipCache<Long, ComposedTooltip> composedCache = new TooltipCache<>(COMPOSED_CACHE_MAX);
     private final LongAdder composeHits = new LongAdder();
     private final LongAdder composeMisses = new LongAdder();
     private final LongAdder parseFailures = new LongAdder();
     private volatile long lastComposeSummaryMs = 0L;
 
     @Nullable
-    public ComposedTooltip compose(@Nullable UUID playerUuid, String itemId, String metadataJson) {
+    public ComposedTooltip compose(String itemId, String metadataJson) {
         if (itemId == null || itemId.isBlank() || metadataJson == null || metadataJson.isBlank()) {
             return null;
         }
 
-        String playerKey = playerUuid == null ? "no-player" : playerUuid.toString();
-        String stateKey = playerKey + "|" + itemId + "|" + shortHash(metadataJson);
+        StateKey stateKey = new StateKey(itemId, metadataJson);
         ComposedTooltip cached = itemStateCache.get(stateKey);
         if (cached != null) {
             noteCompose(true);
@@ -68,28 +70,31 @@ public final class HyruneDynamicTooltipComposer {
 
         ItemInstanceMetadata metadata = parseMetadata(metadataJson);
         if (metadata == null) {
-            cacheState(stateKey, EMPTY_SENTINEL);
+            itemStateCache.put(stateKey, EMPTY_SENTINEL);
             return null;
         }
 
-        String stableInput = buildStableInput(playerUuid, itemId, metadata);
-        String combinedHash = shortHash(stableInput);
-        ComposedTooltip composed = composedCache.computeIfAbsent(combinedHash, hash -> buildTooltip(itemId, hash, metadata));
-        cacheState(stateKey, composed);
+        long combinedHash = contentHash(itemId, metadata);
+        ComposedTooltip composed = composedCache.get(combinedHash);
+        if (composed == null) {
+            composed = composedCache.putIfAbsent(combinedHash, buildTooltip(itemId, combinedHash, metadata));
+        }
+        itemStateCache.put(stateKey, composed);
         return composed;
     }
 
     public void clearCache() {
         itemStateCache.clear();
         composedCache.clear();
+        logCache("caches-cleared");
     }
 
-    private void cacheState(String stateKey, ComposedTooltip value) {
-        if (itemStateCache.size() >= STATE_CACHE_MAX) {
-            itemStateCache.clear();
-            logCache("state-cache-cleared");
-        }
-        itemStateCache.put(stateKey, value);
+    public TooltipCache.Stats stateCacheStats() {
+        return itemStateCache.snapshot();
+    }
+
+    public TooltipCache.Stats composedCacheStats() {
+        return composedCache.snapshot();
     }
 
     @Nullable
@@ -100,8 +105,7 @@ public final class HyruneDynamicTooltipComposer {
             return ItemInstanceMetadataMigration.migrateToCurrent(metadata);
         } catch (Exception ex) {
             parseFailures.increment();
-            HyruneConfig cfg = HyruneConfigManager.getConfig();
-            if (cfg.dynamicTooltipComposeDebug) {
+            if (HyruneConfigManager.getCompiled().dynamicTooltipComposeDebug()) {
                 LOGGER.at(Level.INFO).log("[DynamicTooltip] metadata-parse-failed: " + ex.getMessage());
             }
             return null;
@@ -109,7 +113,7 @@ public final class HyruneDynamicTooltipComposer {
     }
 
     private ComposedTooltip buildTooltip(String itemId,
-                                         String combinedHash,
+                                         long combinedHash,
                                          ItemInstanceMetadata metadata) {
         ItemRarity rarity = metadata.getRarity();
         ItemRarity resolvedRarity = rarity == null ? ItemRarity.COMMON : rarity;
@@ -132,20 +136,18 @@ public final class HyruneDynamicTooltipComposer {
             lines.add("<color is=\"#D08A8A\">Drop Penalty: -" + pct(metadata.getDroppedPenalty()) + "</color>");
         }
 
-        return new ComposedTooltip(lines, resolvedRarity, combinedHash, displayNameOverride);
+        String virtualId = HyruneVirtualItemRegistry.generateVirtualId(itemId, combinedHash);
+        return new ComposedTooltip(lines, resolvedRarity, combinedHash, virtualId, displayNameOverride);
     }
 
-    private static String buildStableInput(@Nullable UUID playerUuid, String itemId, ItemInstanceMetadata metadata) {
-        return itemId
-            + "|player=" + (playerUuid == null ? "no-player" : playerUuid)
-            + "|r=" + metadata.getRarity().name()
-            + "|prefix=" + metadata.getPrefixRaw()
-            + "|s=" + metadata.getSource().name()
-            + "|sockets=" + metadata.getSocketCapacity()
-            + ":" + metadata.getSocketedGemsJson()
-            + "|flat=" + metadata.getStatFlatRollsJson()
-            + "|pct=" + metadata.getStatPercentRollsJson()
-            + "|dp=" + fmt(metadata.getDroppedPenalty());
+    /**
+     * 64-bit hash of the item id and every metadata field the tooltip shows.
+     */
+    static long contentHash(String itemId, ItemInstanceMetadata metadata) {
+        return Hash64.start()
+            .putString(itemId)
+            .putLong(metadata.contentHash64())
+            .finish();
     }
 
     private static List<String> buildRollLines(String itemId, ItemInstanceMetadata metadata) {
@@ -237,10 +239,6 @@ public final class HyruneDynamicTooltipComposer {
         return value;
     }
 
-    private static String fmt(double value) {
-        return String.format(Locale.US, "%.6f", value);
-    }
-
     @Nullable
     private static String buildWeaponDamageLine(ItemStatResolution resolution) {
         if (resolution == null) {
@@ -312,7 +310,7 @@ public final class HyruneDynamicTooltipComposer {
             return entry;
         }
 
-        ItemizationSpecializedStatConfigHelper.RollConstraint constraint =
+        RollConstraint constraint =
             ItemizationSpecializedStatConfigHelper.rollConstraintForStat(stat);
         return switch (constraint) {
             case FLAT_ONLY -> new RollLineData(entry.statId(), entry.flatRoll(), 0.0);
@@ -347,7 +345,7 @@ public final class HyruneDynamicTooltipComposer {
 
     private static String percentRange(ItemizedStat stat, String itemId, ItemRarity rarity) {
         double tierScalar = ItemizationSpecializedStatConfigHelper.tierScalar(itemId);
-        ItemizationSpecializedStatConfigHelper.PercentRollDefinition definition =
+        PercentRollDefinition definition =
             ItemizationSpecializedStatConfigHelper.percentRollDefinition(stat);
         double rarityRollMultiplier = ItemRarityRollModel.rollStatMultiplierPercent(rarity);
         double min = round4(definition.baseMin() * (1.0 + (Math.max(0.0, tierScalar) * definition.scalingWeight())) * rarityRollMultiplier);
@@ -377,30 +375,14 @@ public final class HyruneDynamicTooltipComposer {
         return Math.round(value * 10000.0) / 10000.0;
     }
 
-    private static String shortHash(String input) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("MD5");
-            byte[] bytes = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            StringBuilder out = new StringBuilder(8);
-            for (int i = 0; i < 4; i++) {
-                out.append(String.format(Locale.US, "%02x", bytes[i]));
-            }
-            return out.toString();
-        } catch (Exception ex) {
-            return String.format(Locale.US, "%08x", input.hashCode());
-        }
-    }
-
     private static void logCache(String message) {
-        HyruneConfig cfg = HyruneConfigManager.getConfig();
-        if (cfg.dynamicTooltipCacheDebug) {
+        if (HyruneConfigManager.getCompiled().dynamicTooltipCacheDebug()) {
             LOGGER.at(Level.INFO).log("[DynamicTooltip] " + message);
         }
     }
 
     private static void logCompose(String message) {
-        HyruneConfig cfg = HyruneConfigManager.getConfig();
-        if (cfg.dynamicTooltipComposeDebug) {
+        if (HyruneConfigManager.getCompiled().dynamicTooltipComposeDebug()) {
             LOGGER.at(Level.INFO).log("[DynamicTooltip] " + message);
         }
     }
@@ -412,8 +394,7 @@ public final class HyruneDynamicTooltipComposer {
             composeMisses.increment();
         }
 
-        HyruneConfig cfg = HyruneConfigManager.getConfig();
-        if (cfg == null || !cfg.dynamicTooltipComposeDebug) {
+        if (!HyruneConfigManager.getCompiled().dynamicTooltipComposeDebug()) {
             return;
         }
 
@@ -441,13 +422,19 @@ public final class HyruneDynamicTooltipComposer {
     public static final class ComposedTooltip {
         private final List<String> additiveLines;
         private final ItemRarity rarity;
-        private final String combinedHash;
+        private final long combinedHash;
+        private final String virtualId;
         private final String displayNameOverride;
 
-        private ComposedTooltip(List<String> additiveLines, ItemRarity rarity, String combinedHash, @Nullable String displayNameOverride) {
+        private ComposedTooltip(List<String> additiveLines,
+                                ItemRarity rarity,
+                                long combinedHash,
+                                String virtualId,
+                                @Nullable String displayNameOverride) {
             this.additiveLines = List.copyOf(additiveLines);
             this.rarity = rarity;
             this.combinedHash = combinedHash;
+            this.virtualId = virtualId;
             this.displayNameOverride = (displayNameOverride == null || displayNameOverride.isBlank()) ? null : displayNameOverride;
         }
 
@@ -455,10 +442,17 @@ public final class HyruneDynamicTooltipComposer {
             return rarity;
         }
 
-        public String getCombinedHash() {
+        public long getCombinedHash() {
             return combinedHash;
         }
 
+        /**
+         * Virtual item id for this tooltip, built once when the tooltip is composed.
+         */
+        public String getVirtualId() {
+            return virtualId;
+        }
+
         @Nullable
         public String getDisplayNameOverride() {
             return displayNameOverride;
@@ -485,6 +479,12 @@ public final class HyruneDynamicTooltipComposer {
         }
     }
 
+    /**
+     * Exact raw item state; compares the full metadata text, so distinct states never share an entry.
+     */
+    private record StateKey(String itemId, String metadataJson) {
+    }
+
     private record RollLineData(String statId, double flatRoll, double percentRoll) {
     }
 
@@ -30,6 +30,7 @@ import com.hypixel.hytale.server.core.io.adapter.PacketAdapters;
 import com.hypixel.hytale.server.core.io.adapter.PacketFilter;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import dev.hytalemodding.hyrune.config.HyruneConfigManager;
+import dev.hytalemodding.hyrune.itemization.ItemInstanceMetadata;
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonString;
@@ -37,7 +38,6 @@ import org.bson.BsonType;
 import org.bson.BsonValue;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -61,6 +61,7 @@ public final class HyruneDynamicTooltipPacketAdapter {
     private PacketFilter inboundFilter;
 
     private final ThreadLocal<Boolean> isProcessing = ThreadLocal.withInitial(() -> false);
+    private final ThreadLocal<RewriteScratch> rewriteScratch = ThreadLocal.withInitial(RewriteScratch::new);
     private final ConcurrentHashMap<UUID, Map<String, String>> lastSentTranslations = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<UUID, UpdatePlayerInventory> lastRawInventory = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<UUID, PlayerRef> knownPlayerRefs = new ConcurrentHashMap<>();
@@ -134,8 +135,8 @@ public final class HyruneDynamicTooltipPacketAdapter {
         }
 
         try {
-            UpdatePlayerInventory clone = deepCloneInventory(raw);
-            playerRef.getPacketHandler().writeNoCache(clone);
+            // Rewriting is copy-on-write, so the outbound filter never mutates the raw sections we hand it.
+            playerRef.getPacketHandler().writeNoCache(copySections(raw));
             logCache("refresh-player=" + playerUuid);
             return true;
         } catch (Exception ex) {
@@ -144,6 +145,76 @@ public final class HyruneDynamicTooltipPacketAdapter {
         }
     }
 
+    /**
+     * Re-sends only the inventory sections whose slot virtual ids no longer match what the client
+     * was last sent. Sends nothing when every tooltip is still current.
+     *
+     * @return true if a (partial) inventory packet was written
+     */
+    public boolean refreshChangedSections(UUID playerUuid) {
+        PlayerRef playerRef = knownPlayerRefs.get(playerUuid);
+        if (playerRef == null || !playerRef.isValid()) {
+            return false;
+        }
+        if (!lastRawInventory.containsKey(playerUuid)) {
+            return false;
+        }
+
+        try {
+            UpdatePlayerInventory delta = changedSections(playerUuid);
+            if (delta == null) {
+                logCache("refresh-delta-skip player=" + playerUuid);
+                return false;
+            }
+            playerRef.getPacketHandler().writeNoCache(delta);
+            logCache("refresh-delta player=" + playerUuid);
+            return true;
+        } catch (Exception ex) {
+            LOGGER.at(Level.WARNING).log("[DynamicTooltip] Failed delta refresh player=" + playerUuid + ": " + ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Partial inventory packet holding the raw sections that {@link #refreshChangedSections} would
+     * resend, or null if none changed or no inventory was seen for the player yet.
+     */
+    @Nullable
+    UpdatePlayerInventory changedSections(UUID playerUuid) {
+        UpdatePlayerInventory raw = lastRawInventory.get(playerUuid);
+        if (raw == null) {
+            return null;
+        }
+        // The client replaces a section's contents wholesale, so sections are the smallest unit we can resend.
+        UpdatePlayerInventory delta = new UpdatePlayerInventory();
+        delta.sortType = raw.sortType;
+        delta.hotbar = changedSection(playerUuid, "hotbar", raw.hotbar);
+        delta.utility = changedSection(playerUuid, "utility", raw.utility);
+        delta.tools = changedSection(playerUuid, "tools", raw.tools);
+        delta.armor = changedSection(playerUuid, "armor", raw.armor);
+        delta.storage = changedSection(playerUuid, "storage", raw.storage);
+        delta.backpack = changedSection(playerUuid, "backpack", raw.backpack);
+        delta.builderMaterial = changedSection(playerUuid, "builderMaterial", raw.builderMaterial);
+        if (delta.hotbar == null && delta.utility == null && delta.tools == null && delta.armor == null
+            && delta.storage == null && delta.backpack == null && delta.builderMaterial == null) {
+            return null;
+        }
+        return delta;
+    }
+
+    /**
+     * Folds an outgoing inventory packet into the player's raw inventory, before it is rewritten.
+     */
+    void recordRawInventory(UUID playerUuid, UpdatePlayerInventory inventoryPacket) {
+        lastRawInventory.merge(playerUuid, copySections(inventoryPacket),
+            HyruneDynamicTooltipPacketAdapter::mergeRawInventory);
+    }
+
+    @Nullable
+    UpdatePlayerInventory rawInventory(UUID playerUuid) {
+        return lastRawInventory.get(playerUuid);
+    }
+
     public int refreshAllPlayers() {
         int refreshed = 0;
         for (UUID playerUuid : knownPlayerRefs.keySet()) {
@@ -246,24 +317,22 @@ public final class HyruneDynamicTooltipPacketAdapter {
 
             if (packet instanceof JoinWorld) {
                 worldTransitioning.add(playerUuid);
-            } else if (packet instanceof SetClientId setClientId) {
+                return false;
+            }
+            if (packet instanceof SetClientId setClientId) {
                 playerEntityIds.put(playerUuid, setClientId.clientId);
-            } else if (packet instanceof EntityUpdates entityUpdates) {
-                processEntityUpdates(playerRef, entityUpdates);
-            } else if (packet instanceof UpdatePlayerInventory inventoryPacket) {
-                lastRawInventory.put(playerUuid, deepCloneInventory(inventoryPacket));
+                return false;
+            }
+            if (packet instanceof UpdatePlayerInventory inventoryPacket) {
+                recordRawInventory(playerUuid, inventoryPacket);
                 if (worldTransitioning.remove(playerUuid)) {
                     schedulePostTransitionRefresh(playerUuid);
-                } else {
-                    processPlayerInventory(playerRef, inventoryPacket);
+                    return false;
                 }
-            } else if (packet instanceof OpenWindow openWindow) {
-                processWindowInventory(playerRef, openWindow.inventory);
-            } else if (packet instanceof UpdateWindow updateWindow) {
-                processWindowInventory(playerRef, updateWindow.inventory);
-            } else if (packet instanceof CustomPage customPage) {
-                processCustomPage(playerRef, customPage);
             }
+
+            RewriteScratch scratch = rewriteOutbound(playerUuid, playerRef.getLanguage(), packet);
+            sendAuxiliaryPackets(playerRef, scratch.virtualItems, scratch.translations);
         } catch (Exception ex) {
             LOGGER.at(Level.WARNING).log("[DynamicTooltip] Outbound processing failed for "
                 + playerRef.getUuid() + ": " + ex.getMessage());
@@ -273,73 +342,72 @@ public final class HyruneDynamicTooltipPacketAdapter {
         return false;
     }
 
-    private void processPlayerInventory(PlayerRef playerRef, UpdatePlayerInventory inventoryPacket) {
-        UUID playerUuid = playerRef.getUuid();
-        String language = playerRef.getLanguage();
-
-        Map<String, ItemBase> virtualItems = new LinkedHashMap<>();
-        Map<String, String> translations = new LinkedHashMap<>();
-
-        processSection(playerUuid, "hotbar", inventoryPacket.hotbar, language, virtualItems, translations);
-        processSection(playerUuid, "utility", inventoryPacket.utility, language, virtualItems, translations);
-        processSection(playerUuid, "tools", inventoryPacket.tools, language, virtualItems, translations);
-        processSection(playerUuid, "armor", inventoryPacket.armor, language, virtualItems, translations);
-        processSection(playerUuid, "storage", inventoryPacket.storage, language, virtualItems, translations);
-        processSection(playerUuid, "backpack", inventoryPacket.backpack, language, virtualItems, translations);
-        processSection(playerUuid, "builderMaterial", inventoryPacket.builderMaterial, language, virtualItems, translations);
-
-        sendAuxiliaryPackets(playerRef, virtualItems, translations);
-    }
-
-    private void processWindowInventory(PlayerRef playerRef, InventorySection inventorySection) {
-        if (inventorySection == null) {
-            return;
-        }
-
-        UUID playerUuid = playerRef.getUuid();
-        String language = playerRef.getLanguage();
-
-        Map<String, ItemBase> virtualItems = new LinkedHashMap<>();
-        Map<String, String> translations = new LinkedHashMap<>();
-
-        processSection(playerUuid, null, inventorySection, language, virtualItems, translations);
-        sendAuxiliaryPackets(playerRef, virtualItems, translations);
-    }
-
-    private void processCustomPage(PlayerRef playerRef, CustomPage customPage) {
+    /**
+     * Rewrites item ids in {@code packet} to virtual ids, copy-on-write: only sections and items
+     * that actually carry itemized stacks are copied, everything else is left shared.
+     *
+     * @return this thread's scratch holding the virtual items and translations the packet needs;
+     * valid until the next call on the same thread
+     */
+    RewriteScratch rewriteOutbound(UUID playerUuid, String language, Packet packet) {
+        RewriteScratch scratch = rewriteScratch.get().reset();
+        if (packet instanceof EntityUpdates entityUpdates) {
+            processEntityUpdates(playerUuid, language, entityUpdates, scratch);
+        } else if (packet instanceof UpdatePlayerInventory inventoryPacket) {
+            processPlayerInventory(playerUuid, language, inventoryPacket, scratch);
+        } else if (packet instanceof OpenWindow openWindow) {
+            openWindow.inventory = processSection(playerUuid, null, openWindow.inventory, language, scratch);
+        } else if (packet instanceof UpdateWindow updateWindow) {
+            updateWindow.inventory = processSection(playerUuid, null, updateWindow.inventory, language, scratch);
+        } else if (packet instanceof CustomPage customPage) {
+            processCustomPage(playerUuid, language, customPage, scratch);
+        }
+        return scratch;
+    }
+
+    private void processPlayerInventory(UUID playerUuid,
+                                        String language,
+                                        UpdatePlayerInventory inventoryPacket,
+                                        RewriteScratch scratch) {
+        inventoryPacket.hotbar = processSection(playerUuid, "hotbar", inventoryPacket.hotbar, language, scratch);
+        inventoryPacket.utility = processSection(playerUuid, "utility", inventoryPacket.utility, language, scratch);
+        inventoryPacket.tools = processSection(playerUuid, "tools", inventoryPacket.tools, language, scratch);
+        inventoryPacket.armor = processSection(playerUuid, "armor", inventoryPacket.armor, language, scratch);
+        inventoryPacket.storage = processSection(playerUuid, "storage", inventoryPacket.storage, language, scratch);
+        inventoryPacket.backpack = processSection(playerUuid, "backpack", inventoryPacket.backpack, language, scratch);
+        inventoryPacket.builderMaterial = processSection(playerUuid, "builderMaterial", inventoryPacket.builderMaterial, language, scratch);
+    }
+
+    private void processCustomPage(UUID playerUuid, String language, CustomPage customPage, RewriteScratch scratch) {
         if (customPage.commands == null || customPage.commands.length == 0) {
             return;
         }
 
-        UUID playerUuid = playerRef.getUuid();
-        String language = playerRef.getLanguage();
-        Map<String, ItemBase> virtualItems = new LinkedHashMap<>();
-        Map<String, String> translations = new LinkedHashMap<>();
-
         for (CustomUICommand command : customPage.commands) {
             if (command == null || command.data == null || command.data.isEmpty()) {
                 continue;
             }
-            String updated = processCustomUICommandData(playerUuid, language, command.data, virtualItems, translations);
+            // Only tracked base ids are ever rewritten; skip the BSON parse when none appear in the text.
+            if (!virtualItemRegistry.mentionsTrackedBaseItem(playerUuid, command.data)) {
+                continue;
+            }
+            String updated = processCustomUICommandData(playerUuid, language, command.data, scratch);
             if (updated != null) {
                 command.data = updated;
             }
         }
-
-        sendAuxiliaryPackets(playerRef, virtualItems, translations);
     }
 
     @Nullable
     private String processCustomUICommandData(UUID playerUuid,
                                               String language,
                                               String rawData,
-                                              Map<String, ItemBase> virtualItems,
-                                              Map<String, String> translations) {
+                                              RewriteScratch scratch) {
         try {
             BsonDocument document = BsonDocument.parse(rawData);
-            boolean[] changed = new boolean[]{false};
-            rewriteBsonDocument(playerUuid, language, document, virtualItems, translations, changed);
-            if (!changed[0]) {
+            scratch.documentChanged = false;
+            rewriteBsonDocument(playerUuid, language, document, scratch);
+            if (!scratch.documentChanged) {
                 return null;
             }
             return document.toJson();
@@ -351,15 +419,12 @@ public final class HyruneDynamicTooltipPacketAdapter {
     private void rewriteBsonDocument(UUID playerUuid,
                                      String language,
                                      BsonDocument document,
-                                     Map<String, ItemBase> virtualItems,
-                                     Map<String, String> translations,
-                                     boolean[] changed) {
-        ArrayList<String> keys = new ArrayList<>(document.keySet());
-        for (String key : keys) {
-            BsonValue value = document.get(key);
-            BsonValue rewritten = rewriteBsonValue(playerUuid, language, value, virtualItems, translations, changed);
+                                     RewriteScratch scratch) {
+        for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+            BsonValue value = entry.getValue();
+            BsonValue rewritten = rewriteBsonValue(playerUuid, language, value, scratch);
             if (rewritten != value) {
-                document.put(key, rewritten);
+                entry.setValue(rewritten);
             }
         }
     }
@@ -367,12 +432,10 @@ public final class HyruneDynamicTooltipPacketAdapter {
     private void rewriteBsonArray(UUID playerUuid,
                                   String language,
                                   BsonArray array,
-                                  Map<String, ItemBase> virtualItems,
-                                  Map<String, String> translations,
-                                  boolean[] changed) {
+                                  RewriteScratch scratch) {
         for (int i = 0; i < array.size(); i++) {
             BsonValue value = array.get(i);
-            BsonValue rewritten = rewriteBsonValue(playerUuid, language, value, virtualItems, translations, changed);
+            BsonValue rewritten = rewriteBsonValue(playerUuid, language, value, scratch);
             if (rewritten != value) {
                 array.set(i, rewritten);
             }
@@ -382,20 +445,18 @@ public final class HyruneDynamicTooltipPacketAdapter {
     private BsonValue rewriteBsonValue(UUID playerUuid,
                                        String language,
                                        BsonValue value,
-                                       Map<String, ItemBase> virtualItems,
-                                       Map<String, String> translations,
-                                       boolean[] changed) {
+                                       RewriteScratch scratch) {
         if (value == null) {
             return value;
         }
 
         BsonType type = value.getBsonType();
         if (type == BsonType.DOCUMENT) {
-            rewriteBsonDocument(playerUuid, language, value.asDocument(), virtualItems, translations, changed);
+            rewriteBsonDocument(playerUuid, language, value.asDocument(), scratch);
             return value;
         }
         if (type == BsonType.ARRAY) {
-            rewriteBsonArray(playerUuid, language, value.asArray(), virtualItems, translations, changed);
+            rewriteBsonArray(playerUuid, language, value.asArray(), scratch);
             return value;
         }
         if (type != BsonType.STRING) {
@@ -407,11 +468,11 @@ public final class HyruneDynamicTooltipPacketAdapter {
             return value;
         }
 
-        String virtualId = findVirtualIdForItem(playerUuid, raw, language, virtualItems, translations);
+        String virtualId = findVirtualIdForItem(playerUuid, raw, language, scratch);
         if (virtualId == null) {
             return value;
         }
-        changed[0] = true;
+        scratch.documentChanged = true;
         return new BsonString(virtualId);
     }
 
@@ -419,8 +480,7 @@ public final class HyruneDynamicTooltipPacketAdapter {
     private String findVirtualIdForItem(UUID playerUuid,
                                         String baseItemId,
                                         String language,
-                                        Map<String, ItemBase> virtualItems,
-                                        Map<String, String> translations) {
+                                        RewriteScratch scratch) {
         if (baseItemId == null || baseItemId.isBlank() || HyruneVirtualItemRegistry.isVirtualId(baseItemId)) {
             return null;
         }
@@ -430,31 +490,27 @@ public final class HyruneDynamicTooltipPacketAdapter {
             return null;
         }
 
-        if (virtualItems.containsKey(mapped)) {
+        if (scratch.virtualItems.containsKey(mapped) || virtualItemRegistry.isSent(playerUuid, mapped)) {
             return mapped;
         }
 
         ItemBase virtualBase = virtualItemRegistry.getOrCreateVirtualItemBase(baseItemId, mapped, null);
         if (virtualBase != null) {
-            virtualItems.put(mapped, virtualBase);
+            scratch.virtualItems.put(mapped, virtualBase);
             String baseDescription = virtualItemRegistry.getOriginalDescription(baseItemId, language);
-            translations.put(HyruneVirtualItemRegistry.getVirtualDescriptionKey(mapped), baseDescription);
+            scratch.translations.put(HyruneVirtualItemRegistry.getVirtualDescriptionKey(mapped), baseDescription);
             String baseName = virtualItemRegistry.getOriginalName(baseItemId, language);
-            translations.put(HyruneVirtualItemRegistry.getVirtualNameKey(mapped), baseName);
+            scratch.translations.put(HyruneVirtualItemRegistry.getVirtualNameKey(mapped), baseName);
         }
         return mapped;
     }
 
-    private void processEntityUpdates(PlayerRef playerRef, EntityUpdates entityUpdates) {
+    private void processEntityUpdates(UUID playerUuid, String language, EntityUpdates entityUpdates, RewriteScratch scratch) {
         if (entityUpdates.updates == null || entityUpdates.updates.length == 0) {
             return;
         }
 
-        UUID playerUuid = playerRef.getUuid();
-        String language = playerRef.getLanguage();
-        Map<String, ItemBase> virtualItems = new LinkedHashMap<>();
-        Map<String, String> translations = new LinkedHashMap<>();
-        Integer localEntityId = playerEntityIds.get(playerRef.getUuid());
+        Integer localEntityId = playerEntityIds.get(playerUuid);
 
         for (EntityUpdate entityUpdate : entityUpdates.updates) {
             if (entityUpdate == null || entityUpdate.updates == null) {
@@ -464,59 +520,20 @@ public final class HyruneDynamicTooltipPacketAdapter {
             boolean isLocalPlayer = localEntityId != null && entityUpdate.networkId == localEntityId;
             for (ComponentUpdate update : entityUpdate.updates) {
                 if (isLocalPlayer && update instanceof EquipmentUpdate equipmentUpdate) {
-                    processEquipmentUpdate(playerRef, equipmentUpdate);
+                    processEquipmentUpdate(playerUuid, equipmentUpdate);
                     continue;
                 }
-                if (update instanceof ItemUpdate itemUpdate) {
-                    processEntityItemUpdate(playerUuid, language, itemUpdate, virtualItems, translations);
+                if (update instanceof ItemUpdate itemUpdate && isItemizedCandidate(itemUpdate.item)) {
+                    String virtualId = resolveVirtualItem(playerUuid, itemUpdate.item, language, scratch);
+                    if (virtualId != null) {
+                        itemUpdate.item = withItemId(itemUpdate.item, virtualId);
+                    }
                 }
             }
         }
-
-        sendAuxiliaryPackets(playerRef, virtualItems, translations);
-    }
-
-    private void processEntityItemUpdate(UUID playerUuid,
-                                         String language,
-                                         ItemUpdate itemUpdate,
-                                         Map<String, ItemBase> virtualItems,
-                                         Map<String, String> translations) {
-        if (itemUpdate.item == null || itemUpdate.item.itemId == null || itemUpdate.item.itemId.isBlank()) {
-            return;
-        }
-        if (HyruneVirtualItemRegistry.isVirtualId(itemUpdate.item.itemId)) {
-            return;
-        }
-
-        HyruneDynamicTooltipComposer.ComposedTooltip composed =
-            tooltipComposer.compose(playerUuid, itemUpdate.item.itemId, itemUpdate.item.metadata);
-        if (composed == null) {
-            return;
-        }
-
-        String virtualId = virtualItemRegistry.generateVirtualId(itemUpdate.item.itemId, composed.getCombinedHash());
-        ItemBase virtualBase = virtualItemRegistry.getOrCreateVirtualItemBase(itemUpdate.item.itemId, virtualId, composed.getRarity());
-        if (virtualBase == null) {
-            return;
-        }
-
-        virtualItems.put(virtualId, virtualBase);
-
-        String baseDescription = virtualItemRegistry.getOriginalDescription(itemUpdate.item.itemId, language);
-        String fullDescription = composed.buildDescription(baseDescription);
-        translations.put(HyruneVirtualItemRegistry.getVirtualDescriptionKey(virtualId), fullDescription);
-        String baseName = virtualItemRegistry.getOriginalName(itemUpdate.item.itemId, language);
-        String resolvedName = composed.getDisplayNameOverride() == null ? baseName : composed.getDisplayNameOverride();
-        translations.put(HyruneVirtualItemRegistry.getVirtualNameKey(virtualId), resolvedName);
-
-        ItemWithAllMetadata clone = itemUpdate.item.clone();
-        clone.itemId = virtualId;
-        itemUpdate.item = clone;
     }
 
-    private void processEquipmentUpdate(PlayerRef playerRef, EquipmentUpdate equipment) {
-        UUID playerUuid = playerRef.getUuid();
-
+    private void processEquipmentUpdate(UUID playerUuid, EquipmentUpdate equipment) {
         if (equipment.rightHandItemId != null && !HyruneVirtualItemRegistry.isVirtualId(equipment.rightHandItemId)) {
             int activeSlot = playerActiveHotbarSlots.getOrDefault(playerUuid, 0);
             String virtualId = virtualItemRegistry.getSlotVirtualId(playerUuid, "hotbar:" + activeSlot);
@@ -556,70 +573,158 @@ public final class HyruneDynamicTooltipPacketAdapter {
         }
     }
 
-    private void processSection(UUID playerUuid,
-                                @Nullable String sectionName,
-                                InventorySection inventorySection,
-                                String language,
-                                Map<String, ItemBase> virtualItems,
-                                Map<String, String> translations) {
-        if (inventorySection == null || inventorySection.items == null || inventorySection.items.isEmpty()) {
-            return;
+    /**
+     * Returns {@code inventorySection} itself when nothing in it is itemized, otherwise a copy
+     * whose itemized stacks carry virtual ids. The input section is never modified.
+     */
+    @Nullable
+    private InventorySection processSection(UUID playerUuid,
+                                            @Nullable String sectionName,
+                                            @Nullable InventorySection inventorySection,
+                                            String language,
+                                            RewriteScratch scratch) {
+        if (inventorySection == null) {
+            return null;
+        }
+        if (!containsItemizedCandidate(inventorySection)) {
+            if (sectionName != null) {
+                virtualItemRegistry.retainSectionSlots(playerUuid, sectionName, Set.of());
+            }
+            return inventorySection;
         }
 
+        Map<Integer, ItemWithAllMetadata> rewritten = null;
         for (Map.Entry<Integer, ItemWithAllMetadata> entry : inventorySection.items.entrySet()) {
             Integer slot = entry.getKey();
             ItemWithAllMetadata item = entry.getValue();
-            String slotKey = sectionName != null ? sectionName + ":" + slot : null;
-
-            if (item == null || item.itemId == null || item.itemId.isEmpty()) {
-                if (slotKey != null) {
-                    virtualItemRegistry.trackSlotVirtualId(playerUuid, slotKey, null);
-                }
-                continue;
+            String virtualId = isItemizedCandidate(item) ? resolveVirtualItem(playerUuid, item, language, scratch) : null;
+            if (sectionName != null) {
+                virtualItemRegistry.trackSlotVirtualId(playerUuid, sectionName + ":" + slot, virtualId);
             }
-
-            if (HyruneVirtualItemRegistry.isVirtualId(item.itemId)) {
-                if (slotKey != null) {
-                    virtualItemRegistry.trackSlotVirtualId(playerUuid, slotKey, item.itemId);
-                }
+            if (virtualId == null) {
                 continue;
             }
-
-            HyruneDynamicTooltipComposer.ComposedTooltip composed = tooltipComposer.compose(playerUuid, item.itemId, item.metadata);
-            if (composed == null) {
-                if (slotKey != null) {
-                    virtualItemRegistry.trackSlotVirtualId(playerUuid, slotKey, null);
-                }
-                continue;
+            if (rewritten == null) {
+                rewritten = new HashMap<>(inventorySection.items);
             }
+            rewritten.put(slot, withItemId(item, virtualId));
+        }
 
-            String virtualId = virtualItemRegistry.generateVirtualId(item.itemId, composed.getCombinedHash());
-            ItemBase virtualBase = virtualItemRegistry.getOrCreateVirtualItemBase(item.itemId, virtualId, composed.getRarity());
-            if (virtualBase == null) {
-                if (slotKey != null) {
-                    virtualItemRegistry.trackSlotVirtualId(playerUuid, slotKey, null);
-                }
-                continue;
-            }
+        if (sectionName != null) {
+            virtualItemRegistry.retainSectionSlots(playerUuid, sectionName, inventorySection.items.keySet());
+        }
+        if (rewritten == null) {
+            return inventorySection;
+        }
+        InventorySection copy = new InventorySection();
+        copy.capacity = inventorySection.capacity;
+        copy.items = rewritten;
+        return copy;
+    }
+
+    /**
+     * Composes the tooltip for {@code item} and records its virtual item and translations in
+     * {@code scratch} unless the player already has them.
+     *
+     * @return the virtual id to send instead of the item's id, or null to leave the item as is
+     */
+    @Nullable
+    private String resolveVirtualItem(UUID playerUuid, ItemWithAllMetadata item, String language, RewriteScratch scratch) {
+        HyruneDynamicTooltipComposer.ComposedTooltip composed = tooltipComposer.compose(item.itemId, item.metadata);
+        if (composed == null) {
+            return null;
+        }
+
+        String virtualId = composed.getVirtualId();
+        if (scratch.virtualItems.containsKey(virtualId) || virtualItemRegistry.isSent(playerUuid, virtualId)) {
+            // Virtual ids are content hashes, so a sent id's item and translations are still current.
+            return virtualId;
+        }
+        ItemBase virtualBase = virtualItemRegistry.getOrCreateVirtualItemBase(item.itemId, virtualId, composed.getRarity());
+        if (virtualBase == null) {
+            return null;
+        }
+
+        scratch.virtualItems.put(virtualId, virtualBase);
+
+        String baseDescription = virtualItemRegistry.getOriginalDescription(item.itemId, language);
+        String fullDescription = composed.buildDescription(baseDescription);
+        scratch.translations.put(HyruneVirtualItemRegistry.getVirtualDescriptionKey(virtualId), fullDescription);
+        String baseName = virtualItemRegistry.getOriginalName(item.itemId, language);
+        String resolvedName = composed.getDisplayNameOverride() == null ? baseName : composed.getDisplayNameOverride();
+        scratch.translations.put(HyruneVirtualItemRegistry.getVirtualNameKey(virtualId), resolvedName);
+        return virtualId;
+    }
 
-            virtualItems.put(virtualId, virtualBase);
+    private static ItemWithAllMetadata withItemId(ItemWithAllMetadata item, String itemId) {
+        ItemWithAllMetadata clone = item.clone();
+        clone.itemId = itemId;
+        return clone;
+    }
 
-            String baseDescription = virtualItemRegistry.getOriginalDescription(item.itemId, language);
-            String fullDescription = composed.buildDescription(baseDescription);
-            translations.put(HyruneVirtualItemRegistry.getVirtualDescriptionKey(virtualId), fullDescription);
-            String baseName = virtualItemRegistry.getOriginalName(item.itemId, language);
-            String resolvedName = composed.getDisplayNameOverride() == null ? baseName : composed.getDisplayNameOverride();
-            translations.put(HyruneVirtualItemRegistry.getVirtualNameKey(virtualId), resolvedName);
+    /**
+     * Cheap pre-scan: a stack can only get a dynamic tooltip if its metadata carries the
+     * Hyrune item instance document.
+     */
+    static boolean isItemizedCandidate(@Nullable ItemWithAllMetadata item) {
+        return item != null
+            && item.itemId != null
+            && !item.itemId.isEmpty()
+            && item.metadata != null
+            && item.metadata.contains(ItemInstanceMetadata.KEY)
+            && !HyruneVirtualItemRegistry.isVirtualId(item.itemId);
+    }
 
-            ItemWithAllMetadata clone = item.clone();
-            clone.itemId = virtualId;
-            inventorySection.items.put(slot, clone);
+    private static boolean containsItemizedCandidate(InventorySection section) {
+        if (section.items == null || section.items.isEmpty()) {
+            return false;
+        }
+        for (ItemWithAllMetadata item : section.items.values()) {
+            if (isItemizedCandidate(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-            if (slotKey != null) {
-                virtualItemRegistry.trackSlotVirtualId(playerUuid, slotKey, virtualId);
+    /**
+     * Returns a copy of {@code rawSection} if any of its slots would map to a different virtual id
+     * than the one last tracked for the player, otherwise null.
+     */
+    @Nullable
+    private InventorySection changedSection(UUID playerUuid, String sectionName, @Nullable InventorySection rawSection) {
+        if (rawSection == null) {
+            return null;
+        }
+        Map<Integer, String> expected = new HashMap<>();
+        if (rawSection.items != null) {
+            for (Map.Entry<Integer, ItemWithAllMetadata> entry : rawSection.items.entrySet()) {
+                String virtualId = expectedVirtualId(playerUuid, entry.getValue());
+                if (virtualId != null) {
+                    expected.put(entry.getKey(), virtualId);
+                }
             }
-            //logMapping("mapped " + item.itemId + " -> " + virtualId + " slot=" + slotKey);
         }
+        if (virtualItemRegistry.sectionMatches(playerUuid, sectionName, expected)) {
+            return null;
+        }
+        return rawSection;
+    }
+
+    @Nullable
+    private String expectedVirtualId(UUID playerUuid, @Nullable ItemWithAllMetadata item) {
+        if (!isItemizedCandidate(item)) {
+            return null;
+        }
+        HyruneDynamicTooltipComposer.ComposedTooltip composed = tooltipComposer.compose(item.itemId, item.metadata);
+        if (composed == null) {
+            return null;
+        }
+        String virtualId = composed.getVirtualId();
+        if (virtualItemRegistry.getOrCreateVirtualItemBase(item.itemId, virtualId, composed.getRarity()) == null) {
+            return null;
+        }
+        return virtualId;
     }
 
     private void sendAuxiliaryPackets(PlayerRef playerRef,
@@ -684,7 +789,8 @@ public final class HyruneDynamicTooltipPacketAdapter {
     private Map<String, String> computeTranslationDelta(@Nullable Map<String, String> previous,
                                                         Map<String, String> current) {
         if (previous == null || previous.isEmpty()) {
-            return current;
+            // current is per-thread scratch; the packet needs its own map.
+            return new LinkedHashMap<>(current);
         }
 
         Map<String, String> delta = new LinkedHashMap<>();
@@ -697,33 +803,38 @@ public final class HyruneDynamicTooltipPacketAdapter {
         return delta;
     }
 
-    private static UpdatePlayerInventory deepCloneInventory(UpdatePlayerInventory inventory) {
-        UpdatePlayerInventory clone = new UpdatePlayerInventory();
-        clone.hotbar = cloneSection(inventory.hotbar);
-        clone.utility = cloneSection(inventory.utility);
-        clone.tools = cloneSection(inventory.tools);
-        clone.armor = cloneSection(inventory.armor);
-        clone.storage = cloneSection(inventory.storage);
-        clone.backpack = cloneSection(inventory.backpack);
-        clone.builderMaterial = cloneSection(inventory.builderMaterial);
-        clone.sortType = inventory.sortType;
-        return clone;
-    }
-
-    private static InventorySection cloneSection(InventorySection source) {
-        if (source == null) {
-            return null;
-        }
-
-        InventorySection clone = new InventorySection();
-        clone.capacity = source.capacity;
-        if (source.items != null) {
-            clone.items = new HashMap<>();
-            for (Map.Entry<Integer, ItemWithAllMetadata> entry : source.items.entrySet()) {
-                clone.items.put(entry.getKey(), entry.getValue() != null ? entry.getValue().clone() : null);
-            }
-        }
-        return clone;
+    /**
+     * New packet sharing {@code inventory}'s sections. Safe to keep as the raw snapshot because the
+     * rewrite replaces sections on the outgoing packet instead of modifying them.
+     */
+    private static UpdatePlayerInventory copySections(UpdatePlayerInventory inventory) {
+        UpdatePlayerInventory copy = new UpdatePlayerInventory();
+        copy.hotbar = inventory.hotbar;
+        copy.utility = inventory.utility;
+        copy.tools = inventory.tools;
+        copy.armor = inventory.armor;
+        copy.storage = inventory.storage;
+        copy.backpack = inventory.backpack;
+        copy.builderMaterial = inventory.builderMaterial;
+        copy.sortType = inventory.sortType;
+        return copy;
+    }
+
+    /**
+     * Folds a (possibly partial) inventory packet into the last known raw inventory; null
+     * sections in {@code update} were not sent and keep their previous contents.
+     */
+    private static UpdatePlayerInventory mergeRawInventory(UpdatePlayerInventory previous, UpdatePlayerInventory update) {
+        UpdatePlayerInventory merged = new UpdatePlayerInventory();
+        merged.hotbar = update.hotbar != null ? update.hotbar : previous.hotbar;
+        merged.utility = update.utility != null ? update.utility : previous.utility;
+        merged.tools = update.tools != null ? update.tools : previous.tools;
+        merged.armor = update.armor != null ? update.armor : previous.armor;
+        merged.storage = update.storage != null ? update.storage : previous.storage;
+        merged.backpack = update.backpack != null ? update.backpack : previous.backpack;
+        merged.builderMaterial = update.builderMaterial != null ? update.builderMaterial : previous.builderMaterial;
+        merged.sortType = update.sortType;
+        return merged;
     }
 
     private static void logMapping(String message) {
@@ -737,4 +848,20 @@ public final class HyruneDynamicTooltipPacketAdapter {
             LOGGER.at(Level.INFO).log("[DynamicTooltip] " + message);
         }
     }
+
+    /**
+     * Per-thread buffers reused across outbound packets; cleared at the start of each rewrite.
+     */
+    static final class RewriteScratch {
+        final Map<String, ItemBase> virtualItems = new LinkedHashMap<>();
+        final Map<String, String> translations = new LinkedHashMap<>();
+        boolean documentChanged;
+
+        RewriteScratch reset() {
+            virtualItems.clear();
+            translations.clear();
+            documentChanged = false;
+            return this;
+        }
+    }
 }
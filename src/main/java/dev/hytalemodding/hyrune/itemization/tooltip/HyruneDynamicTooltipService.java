@@ -42,6 +42,24 @@ public final class HyruneDynamicTooltipService {
         return packetAdapter.refreshPlayer(playerUuid);
     }
 
+    /**
+     * Re-sends only the inventory sections whose tooltips changed, keeping per-player sent state.
+     */
+    public boolean refreshChangedSlots(UUID playerUuid) {
+        if (playerUuid == null) {
+            return false;
+        }
+        return packetAdapter.refreshChangedSections(playerUuid);
+    }
+
+    public TooltipCache.Stats stateCacheStats() {
+        return composer.stateCacheStats();
+    }
+
+    public TooltipCache.Stats composedCacheStats() {
+        return composer.composedCacheStats();
+    }
+
     public void invalidateAllPlayers() {
         packetAdapter.invalidateAllPlayers();
     }
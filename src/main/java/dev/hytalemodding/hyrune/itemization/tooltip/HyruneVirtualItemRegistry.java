@@ -32,6 +32,7 @@ public final class HyruneVirtualItemRegistry {
     public static final String VIRTUAL_SEPARATOR = "__hyrunedtt_";
     private static final String DESCRIPTION_KEY_PREFIX = "server.tooltip.dynamic.description.";
     private static final String NAME_KEY_PREFIX = "server.tooltip.dynamic.name.";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
 
     private final Map<String, ItemBase> virtualItemCache =
         Collections.synchronizedMap(new LruCache<>(10_000));
@@ -44,8 +45,21 @@ public final class HyruneVirtualItemRegistry {
     private volatile int cachedQualityCount = -1;
     private final Object qualityLock = new Object();
 
-    public String generateVirtualId(String baseItemId, String hash) {
-        return baseItemId + VIRTUAL_SEPARATOR + hash;
+    /**
+     * {@code baseItemId + VIRTUAL_SEPARATOR + 16 hex digits of hash}, written straight into one char array.
+     */
+    public static String generateVirtualId(String baseItemId, long hash) {
+        int baseLength = baseItemId.length();
+        int separatorLength = VIRTUAL_SEPARATOR.length();
+        char[] out = new char[baseLength + separatorLength + 16];
+        baseItemId.getChars(0, baseLength, out, 0);
+        VIRTUAL_SEPARATOR.getChars(0, separatorLength, out, baseLength);
+        int end = out.length;
+        for (int i = end - 1; i >= baseLength + separatorLength; i--) {
+            out[i] = HEX_DIGITS[(int) (hash & 0xF)];
+            hash >>>= 4;
+        }
+        return new String(out);
     }
 
     public static boolean isVirtualId(String itemId) {
@@ -75,15 +89,62 @@ public final class HyruneVirtualItemRegistry {
         return virtualItemCache.computeIfAbsent(virtualId, key -> buildVirtualItem(baseItemId, virtualId, rarity));
     }
 
+    /**
+     * Caches a prebuilt virtual base, for benchmarks and tests that run without a loaded item asset store.
+     */
+    void putVirtualItemBase(String virtualId, ItemBase base) {
+        virtualItemCache.put(virtualId, base);
+    }
+
     public Set<String> markAndGetUnsent(UUID playerUuid, Set<String> virtualIds) {
+        if (virtualIds.isEmpty()) {
+            return Set.of();
+        }
         Set<String> sent = sentToPlayer.computeIfAbsent(playerUuid, ignored -> ConcurrentHashMap.newKeySet());
-        Set<String> unsent = new HashSet<>();
+        Set<String> unsent = null;
         for (String id : virtualIds) {
             if (sent.add(id)) {
+                if (unsent == null) {
+                    unsent = new HashSet<>();
+                }
                 unsent.add(id);
             }
         }
-        return unsent;
+        return unsent == null ? Set.of() : unsent;
+    }
+
+    public boolean isSent(UUID playerUuid, String virtualId) {
+        Set<String> sent = sentToPlayer.get(playerUuid);
+        return sent != null && sent.contains(virtualId);
+    }
+
+    /**
+     * Whether {@code text} contains the base item id of any slot tracked for the player, i.e.
+     * whether {@link #findVirtualIdForBaseItem} could match anything in it.
+     */
+    public boolean mentionsTrackedBaseItem(UUID playerUuid, String text) {
+        Map<String, String> slots = playerSlotVirtualIds.get(playerUuid);
+        if (slots == null || slots.isEmpty() || text == null || text.isEmpty()) {
+            return false;
+        }
+        for (String virtualId : slots.values()) {
+            int baseLength = virtualId.indexOf(VIRTUAL_SEPARATOR);
+            if (baseLength > 0 && containsRegion(text, virtualId, baseLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsRegion(String text, String source, int length) {
+        char first = source.charAt(0);
+        int last = text.length() - length;
+        for (int i = 0; i <= last; i++) {
+            if (text.charAt(i) == first && text.regionMatches(i, source, 0, length)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public void trackSlotVirtualId(UUID playerUuid, String slotKey, String virtualId) {
@@ -96,6 +157,47 @@ public final class HyruneVirtualItemRegistry {
         slots.put(slotKey, virtualId);
     }
 
+    /**
+     * Drops tracked slots of {@code sectionName} that are no longer present in the section.
+     */
+    public void retainSectionSlots(UUID playerUuid, String sectionName, Set<Integer> presentSlots) {
+        Map<String, String> slots = playerSlotVirtualIds.get(playerUuid);
+        if (slots == null || slots.isEmpty()) {
+            return;
+        }
+        String prefix = sectionName + ":";
+        slots.keySet().removeIf(key -> {
+            if (!key.startsWith(prefix)) {
+                return false;
+            }
+            Integer slot = parseSlot(key, prefix.length());
+            return slot == null || !presentSlots.contains(slot);
+        });
+    }
+
+    /**
+     * Whether the tracked virtual ids of {@code sectionName} are exactly {@code expected} (slot to virtual id).
+     */
+    public boolean sectionMatches(UUID playerUuid, String sectionName, Map<Integer, String> expected) {
+        Map<String, String> slots = playerSlotVirtualIds.get(playerUuid);
+        if (slots == null || slots.isEmpty()) {
+            return expected.isEmpty();
+        }
+        String prefix = sectionName + ":";
+        for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+            if (!entry.getValue().equals(slots.get(prefix + entry.getKey()))) {
+                return false;
+            }
+        }
+        int tracked = 0;
+        for (String key : slots.keySet()) {
+            if (key.startsWith(prefix)) {
+                tracked++;
+            }
+        }
+        return tracked == expected.size();
+    }
+
     public String getSlotVirtualId(UUID playerUuid, String slotKey) {
         Map<String, String> slots = playerSlotVirtualIds.get(playerUuid);
         return slots != null ? slots.get(slotKey) : null;
@@ -126,6 +228,14 @@ public final class HyruneVirtualItemRegistry {
         return null;
     }
 
+    private static Integer parseSlot(String slotKey, int offset) {
+        try {
+            return Integer.parseInt(slotKey, offset, slotKey.length(), 10);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
     public String getOriginalDescription(String itemId, String language) {
         String safeLanguage = language == null || language.isBlank() ? I18nModule.DEFAULT_LANGUAGE : language;
         String cacheKey = safeLanguage + "|" + itemId;
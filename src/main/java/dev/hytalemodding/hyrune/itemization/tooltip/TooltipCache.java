@@ -0,0 +1,83 @@
+package dev.hytalemodding.hyrune.itemization.tooltip;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded LRU used by the tooltip composer, with hit/miss/eviction counters.
+ * <p>
+ * Only the least recently used entries are evicted when full, so a busy server keeps its hot
+ * tooltips instead of periodically starting from an empty cache.
+ */
+public final class TooltipCache<K, V> {
+    private final int maxEntries;
+    private final LinkedHashMap<K, V> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TooltipCache(int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > TooltipCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key) {
+        V value;
+        synchronized (this) {
+            value = entries.get(key);
+        }
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    /**
+     * Stores {@code value} unless another thread cached one for {@code key} first.
+     *
+     * @return the cached value for {@code key}
+     */
+    public synchronized V putIfAbsent(K key, V value) {
+        V existing = entries.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        entries.put(key, value);
+        return value;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized Stats snapshot() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size(), maxEntries);
+    }
+
+    public record Stats(long hits, long misses, long evictions, int entries, int maxEntries) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0L ? 0.0 : (double) hits / total;
+        }
+    }
+}
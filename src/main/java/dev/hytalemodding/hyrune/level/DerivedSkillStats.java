@@ -0,0 +1,77 @@
+package dev.hytalemodding.hyrune.level;
+
+import dev.hytalemodding.hyrune.playerdata.ExperienceTrack;
+import dev.hytalemodding.hyrune.playerdata.PlayerLvlData;
+import dev.hytalemodding.hyrune.skills.SkillType;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of a player's skill levels and the values derived from them.
+ * <p>
+ * Rebuilt only when a level changes, so combat and regen hot paths read a primitive array
+ * instead of going through the player's track map.
+ */
+public final class DerivedSkillStats {
+    private static final int SKILL_COUNT = SkillType.values().length;
+
+    private final int[] levels;
+    private final int totalLevel;
+    private final int combatLevel;
+
+    private DerivedSkillStats(int[] levels) {
+        this.levels = levels;
+        int total = 0;
+        for (int level : levels) {
+            total += level;
+        }
+        this.totalLevel = total;
+        this.combatLevel = computeCombatLevel(
+            levels[SkillType.DEFENCE.ordinal()],
+            levels[SkillType.CONSTITUTION.ordinal()],
+            levels[SkillType.RESTORATION.ordinal()],
+            levels[SkillType.ATTACK.ordinal()],
+            levels[SkillType.STRENGTH.ordinal()],
+            levels[SkillType.RANGED.ordinal()],
+            levels[SkillType.MAGIC.ordinal()]
+        );
+    }
+
+    static DerivedSkillStats of(PlayerLvlData data) {
+        int[] levels = new int[SKILL_COUNT];
+        Arrays.fill(levels, 1);
+        // Read the existing tracks only; getSkillLevel would create missing ones.
+        for (Map.Entry<SkillType, ExperienceTrack> entry : data.getAllTracks().entrySet()) {
+            if (entry.getKey() != null && entry.getValue() != null) {
+                levels[entry.getKey().ordinal()] = entry.getValue().getLevel();
+            }
+        }
+        return new DerivedSkillStats(levels);
+    }
+
+    public int getLevel(SkillType skill) {
+        return skill == null ? 1 : levels[skill.ordinal()];
+    }
+
+    public int getTotalLevel() {
+        return totalLevel;
+    }
+
+    public int getCombatLevel() {
+        return combatLevel;
+    }
+
+    /**
+     * RuneScape combat level formula.
+     */
+    static int computeCombatLevel(int def, int hp, int res, int att, int str, int range, int magic) {
+        double base = 0.25 * (def + hp + res);
+        double melee = 0.325 * (att + str);
+        double ranged = 0.325 * (1.5 * range);
+        double mage = 0.325 * (1.5 * magic);
+
+        double maxOffense = Math.max(melee, Math.max(ranged, mage));
+        return (int) (base + maxOffense);
+    }
+}
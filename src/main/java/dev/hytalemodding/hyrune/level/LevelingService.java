@@ -1,6 +1,7 @@
 package dev.hytalemodding.hyrune.level;
 
 import com.hypixel.hytale.logger.HytaleLogger;
+import dev.hytalemodding.hyrune.config.HyruneConfig;
 import dev.hytalemodding.hyrune.database.LevelRepository;
 import dev.hytalemodding.hyrune.events.LevelUpListener;
 import dev.hytalemodding.hyrune.events.XpGainListener;
@@ -10,12 +11,15 @@ import dev.hytalemodding.hyrune.skills.SkillType;
 import dev.hytalemodding.hyrune.util.XPDropManager;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 
 /**
@@ -40,11 +44,15 @@ public class LevelingService {
 
     private final LevelFormula formula;
     private final LevelRepository repository;
+    // Replaced wholesale on config reload; readers never see a partially built map.
+    private volatile Map<SkillType, LevelFormula> skillFormulas = new EnumMap<>(SkillType.class);
 
     private final Map<UUID, PlayerLvlData> cache = new ConcurrentHashMap<>();
 
     private final List<LevelUpListener> levelUpListeners = new ArrayList<>();
     private final List<XpGainListener> xpGainListeners = new ArrayList<>();
+    private final XpEventBatcher xpEvents = new XpEventBatcher();
+    private final Map<UUID, DerivedSkillStats> derivedStats = new ConcurrentHashMap<>();
 
     public LevelingService(LevelFormula formula, LevelRepository repository) {
         this.formula = Objects.requireNonNull(formula, "formula");
@@ -81,7 +89,7 @@ public class LevelingService {
         if (skill == null) {
             return MIN_LEVEL;
         }
-        return this.getOrCreate(id).getSkillLevel(skill);
+        return this.getDerivedStats(id).getLevel(skill);
     }
 
     /**
@@ -167,33 +175,29 @@ public class LevelingService {
      * Calculates the total level across all skills.
      */
     public int getTotalLevel(UUID id) {
-        int total = 0;
-        for (SkillType s : SkillType.values()) {
-            total += getSkillLevel(id, s);
-        }
-        return total;
+        return getDerivedStats(id).getTotalLevel();
     }
 
     /**
      * Calculates the combat level using the RuneScape formula.
      */
     public int getCombatLevel(UUID id) {
-        int def = getSkillLevel(id, SkillType.DEFENCE);
-        int hp = getSkillLevel(id, SkillType.CONSTITUTION);
-        int res = getSkillLevel(id, SkillType.RESTORATION);
-
-        int att = getSkillLevel(id, SkillType.ATTACK);
-        int str = getSkillLevel(id, SkillType.STRENGTH);
-        int range = getSkillLevel(id, SkillType.RANGED);
-        int magic = getSkillLevel(id, SkillType.MAGIC);
-
-        double base = 0.25 * (def + hp + res);
-        double melee = 0.325 * (att + str);
-        double ranged = 0.325 * (1.5 * range);
-        double mage = 0.325 * (1.5 * magic);
+        return getDerivedStats(id).getCombatLevel();
+    }
 
-        double maxOffense = Math.max(melee, Math.max(ranged, mage));
-        return (int) (base + maxOffense);
+    /**
+     * Returns the player's level snapshot, building it on first use after a level change.
+     */
+    public DerivedSkillStats getDerivedStats(UUID id) {
+        Objects.requireNonNull(id, "id");
+        DerivedSkillStats stats = this.derivedStats.get(id);
+        if (stats != null) {
+            return stats;
+        }
+        stats = DerivedSkillStats.of(this.getOrCreate(id));
+        // A level change that raced us has already stored a newer snapshot; keep it.
+        DerivedSkillStats existing = this.derivedStats.putIfAbsent(id, stats);
+        return existing != null ? existing : stats;
     }
 
     /**
@@ -211,20 +215,32 @@ public class LevelingService {
         data.addSkillXp(skill, amount);
 
         long newXp = currentXp + amount;
-        int newLevel = this.formula.getLevelForXp(newXp);
+        LevelFormula skillFormula = getLevelFormula(skill);
+        int newLevel = skillFormula.getLevelForXp(newXp);
 
         if (newLevel > currentLevel) {
-            for (int i = currentLevel + 1; i <= newLevel; i++) {
-                int level = i;
-                this.levelUpListeners.forEach(l -> l.onLevelUp(id, level, skill.getDisplayName()));
-            }
             data.setSkillLevel(skill, newLevel);
+            refreshDerivedStats(data);
         }
 
         persist(data);
-        this.xpGainListeners.forEach(l -> l.onXpGain(id, amount, skill));
-        float progress = calculateSkillProgress(newXp, newLevel);
-        XPDropManager.get().handleXpGain(id, skill.getDisplayName(), amount, progress);
+        // Listeners and the XP drop overlay are notified once per tick from flushXpEvents.
+        this.xpEvents.record(id, skill, amount, currentLevel, Math.max(currentLevel, newLevel));
+    }
+
+    /**
+     * Dispatches XP gained since the last flush: one XP gain event per (player, skill), one
+     * level-up event carrying the final level when a skill leveled, and one overlay update per
+     * player. Called from the world tick.
+     *
+     * @param include players to flush now; others stay pending for their own world's tick
+     */
+    public void flushXpEvents(Predicate<UUID> include) {
+        this.xpEvents.drain(include, this::dispatchXpBatches);
+    }
+
+    public XpEventBatcher getXpEvents() {
+        return this.xpEvents;
     }
 
     /**
@@ -237,10 +253,11 @@ public class LevelingService {
         int boundedLevel = Math.min(MAX_LEVEL, Math.max(MIN_LEVEL, level));
 
         PlayerLvlData data = this.getOrCreate(id);
-        long targetXp = this.formula.getXpForLevel(boundedLevel);
+        long targetXp = getLevelFormula(skill).getXpForLevel(boundedLevel);
 
         data.setSkillXp(skill, targetXp);
         data.setSkillLevel(skill, boundedLevel);
+        refreshDerivedStats(data);
 
         persist(data);
     }
@@ -249,6 +266,33 @@ public class LevelingService {
         return this.formula;
     }
 
+    /**
+     * Returns the skill's configured curve, or the default formula if it has none.
+     */
+    public LevelFormula getLevelFormula(SkillType skill) {
+        LevelFormula override = skill == null ? null : this.skillFormulas.get(skill);
+        return override != null ? override : this.formula;
+    }
+
+    /**
+     * Compiles per-skill XP curves from config. Existing levels are kept; they only move
+     * on the next XP gain that crosses a threshold of the new curve.
+     */
+    public void applyXpCurves(Map<String, HyruneConfig.XpCurveConfig> curvesBySkill) {
+        Map<SkillType, LevelFormula> compiled = new EnumMap<>(SkillType.class);
+        if (curvesBySkill != null) {
+            for (Map.Entry<String, HyruneConfig.XpCurveConfig> entry : curvesBySkill.entrySet()) {
+                SkillType skill = parseSkill(entry.getKey());
+                if (skill == null) {
+                    LOGGER.at(Level.WARNING).log("Ignoring XP curve for unknown skill: " + entry.getKey());
+                    continue;
+                }
+                compiled.put(skill, LevelFormula.fromConfig(entry.getValue()));
+            }
+        }
+        this.skillFormulas = compiled;
+    }
+
     /**
      * Saves the player's data to disk and removes it from the cache.
      * Call this on player disconnect.
@@ -257,9 +301,27 @@ public class LevelingService {
         if (id == null) {
             return;
         }
+        this.xpEvents.discard(id);
+        this.derivedStats.remove(id);
         PlayerLvlData data = this.cache.remove(id);
         if (data != null) {
             persist(data);
+            flush(id);
+        }
+    }
+
+    /**
+     * Persists every cached player and closes the repository.
+     * Call this on plugin shutdown.
+     */
+    public void shutdown() {
+        for (PlayerLvlData data : this.cache.values()) {
+            persist(data);
+        }
+        try {
+            repository.close();
+        } catch (RuntimeException e) {
+            LOGGER.at(Level.WARNING).log("Failed to close level repository: " + e.getMessage());
         }
     }
 
@@ -275,18 +337,64 @@ public class LevelingService {
         }
     }
 
+    private void refreshDerivedStats(PlayerLvlData data) {
+        this.derivedStats.put(data.getUuid(), DerivedSkillStats.of(data));
+    }
+
+    private void dispatchXpBatches(List<XpEventBatcher.XpBatch> batches) {
+        XpEventBatcher.XpBatch overlayBatch = null;
+        for (XpEventBatcher.XpBatch batch : batches) {
+            UUID id = batch.playerId();
+            SkillType skill = batch.skill();
+            try {
+                if (batch.leveledUp()) {
+                    this.levelUpListeners.forEach(l -> l.onLevelUp(id, batch.levelAfter(), skill.getDisplayName()));
+                }
+                this.xpGainListeners.forEach(l -> l.onXpGain(id, batch.amount(), skill));
+            } catch (RuntimeException e) {
+                LOGGER.at(Level.WARNING).log("XP listener failed for " + id + " (" + skill + "): " + e.getMessage());
+            }
+            if (XPDropManager.showsDropsFor(skill.getDisplayName())) {
+                overlayBatch = batch;
+            }
+        }
+        if (overlayBatch == null) {
+            return;
+        }
+        // Only the most recently trained skill is shown; the overlay holds a single skill.
+        PlayerLvlData data = this.cache.get(overlayBatch.playerId());
+        if (data == null) {
+            return;
+        }
+        SkillType skill = overlayBatch.skill();
+        float progress = calculateSkillProgress(getLevelFormula(skill), data.getSkillXp(skill), data.getSkillLevel(skill));
+        XPDropManager.get().handleXpGain(overlayBatch.playerId(), skill.getDisplayName(), overlayBatch.amount(), progress);
+        this.xpEvents.markOverlayUpdate();
+    }
+
     private PlayerLvlData loadOrCreate(UUID uuid) {
         PlayerLvlData stored = this.repository.load(uuid);
         return stored != null ? stored : new PlayerLvlData(uuid);
     }
 
-    private float calculateSkillProgress(long currentXp, int currentLevel) {
+    private static SkillType parseSkill(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        try {
+            return SkillType.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static float calculateSkillProgress(LevelFormula formula, long currentXp, int currentLevel) {
         if (currentLevel >= MAX_LEVEL) {
             return 1.0f;
         }
 
-        long xpForCurrentLevel = this.formula.getXpForLevel(currentLevel);
-        long xpForNextLevel = this.formula.getXpForLevel(currentLevel + 1);
+        long xpForCurrentLevel = formula.getXpForLevel(currentLevel);
+        long xpForNextLevel = formula.getXpForLevel(currentLevel + 1);
         long xpIntoLevel = currentXp - xpForCurrentLevel;
         long xpNeededForLevel = xpForNextLevel - xpForCurrentLevel;
 
@@ -297,6 +405,14 @@ public class LevelingService {
         return (float) xpIntoLevel / (float) xpNeededForLevel;
     }
 
+    private void flush(UUID id) {
+        try {
+            repository.flush(id);
+        } catch (RuntimeException e) {
+            LOGGER.at(Level.WARNING).log("Failed to flush level data for " + id + ": " + e.getMessage());
+        }
+    }
+
     private void persist(PlayerLvlData data) {
         if (data == null) {
             return;
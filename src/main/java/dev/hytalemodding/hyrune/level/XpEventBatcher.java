@@ -0,0 +1,149 @@
+package dev.hytalemodding.hyrune.level;
+
+import dev.hytalemodding.hyrune.skills.SkillType;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Coalesces XP grants per (player, skill) until the next tick drains them, so listeners and
+ * the XP drop overlay see one event per skill per tick instead of one per grant.
+ */
+public class XpEventBatcher {
+    private final Map<UUID, PendingPlayer> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong grantsRecorded = new AtomicLong();
+    private final AtomicLong grantsDispatched = new AtomicLong();
+    private final AtomicLong batchesDispatched = new AtomicLong();
+    private final AtomicLong overlayUpdates = new AtomicLong();
+
+    /**
+     * Aggregated XP for one skill of one player within a tick.
+     *
+     * @param levelBefore level before the first grant of the tick
+     * @param levelAfter  level after the last grant of the tick
+     */
+    public record XpBatch(UUID playerId, SkillType skill, long amount, int grants, int levelBefore, int levelAfter) {
+        public boolean leveledUp() {
+            return levelAfter > levelBefore;
+        }
+    }
+
+    public void record(UUID playerId, SkillType skill, long amount, int levelBefore, int levelAfter) {
+        if (playerId == null || skill == null || amount <= 0) {
+            return;
+        }
+        pending.compute(playerId, (id, player) -> {
+            PendingPlayer target = player != null ? player : new PendingPlayer();
+            target.add(skill, amount, levelBefore, levelAfter);
+            return target;
+        });
+        grantsRecorded.incrementAndGet();
+    }
+
+    /**
+     * Removes the pending batches of every player accepted by {@code include} and hands each
+     * player's batches, oldest skill first, to {@code dispatcher}.
+     */
+    public void drain(Predicate<UUID> include, Consumer<List<XpBatch>> dispatcher) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Iterator<UUID> iterator = pending.keySet().iterator();
+        while (iterator.hasNext()) {
+            UUID playerId = iterator.next();
+            if (include != null && !include.test(playerId)) {
+                continue;
+            }
+            PendingPlayer player = pending.remove(playerId);
+            if (player == null) {
+                continue;
+            }
+            List<XpBatch> batches = player.toBatches(playerId);
+            grantsDispatched.addAndGet(player.grants);
+            batchesDispatched.addAndGet(batches.size());
+            dispatcher.accept(batches);
+        }
+    }
+
+    public void discard(UUID playerId) {
+        if (playerId != null) {
+            pending.remove(playerId);
+        }
+    }
+
+    public void markOverlayUpdate() {
+        overlayUpdates.incrementAndGet();
+    }
+
+    public long getGrantsRecorded() {
+        return grantsRecorded.get();
+    }
+
+    public long getBatchesDispatched() {
+        return batchesDispatched.get();
+    }
+
+    /**
+     * Grants that were folded into another grant's event instead of being dispatched alone.
+     */
+    public long getCoalescedCount() {
+        return grantsDispatched.get() - batchesDispatched.get();
+    }
+
+    public long getOverlayUpdates() {
+        return overlayUpdates.get();
+    }
+
+    public int getPendingPlayerCount() {
+        return pending.size();
+    }
+
+    private static final class PendingPlayer {
+        // Re-inserted on every grant so iteration order ends with the most recent skill.
+        private final LinkedHashMap<SkillType, PendingSkill> skills = new LinkedHashMap<>();
+        private int grants;
+
+        private void add(SkillType skill, long amount, int levelBefore, int levelAfter) {
+            PendingSkill entry = skills.remove(skill);
+            if (entry == null) {
+                entry = new PendingSkill(levelBefore);
+            }
+            entry.amount += amount;
+            entry.grants++;
+            entry.levelAfter = levelAfter;
+            skills.put(skill, entry);
+            grants++;
+        }
+
+        private List<XpBatch> toBatches(UUID playerId) {
+            List<XpBatch> batches = new ArrayList<>(skills.size());
+            for (Map.Entry<SkillType, PendingSkill> entry : skills.entrySet()) {
+                PendingSkill skill = entry.getValue();
+                batches.add(new XpBatch(playerId, entry.getKey(), skill.amount, skill.grants,
+                    skill.levelBefore, skill.levelAfter));
+            }
+            return batches;
+        }
+    }
+
+    private static final class PendingSkill {
+        private final int levelBefore;
+        private int levelAfter;
+        private long amount;
+        private int grants;
+
+        private PendingSkill(int levelBefore) {
+            this.levelBefore = levelBefore;
+            this.levelAfter = levelBefore;
+        }
+    }
+}
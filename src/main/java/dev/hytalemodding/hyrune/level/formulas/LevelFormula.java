@@ -1,31 +1,84 @@
 package dev.hytalemodding.hyrune.level.formulas;
 
+import dev.hytalemodding.hyrune.config.HyruneConfig;
+
+import java.util.List;
+import java.util.Locale;
+
 /**
- * 
+ * XP/level formula compiled once into an immutable threshold table.
+ * <p>
+ * {@link #getXpForLevel(int)} is an array read and {@link #getLevelForXp(long)} a binary search,
+ * so the per-XP-event cost does not depend on the player's level.
  */
 public class LevelFormula {
+    public static final int MAX_LEVEL = 120;
+
+    private final XpCurve curve;
+    // thresholds[level] = XP needed to reach level, for 1..MAX_LEVEL + 1.
+    private final long[] thresholds;
 
     // Standard "Runescape-like" curve constants
     // Level 1 = 0 XP
     // Level 99 ~ 13,000,000 XP
+    public LevelFormula() {
+        this(XpCurve.runescape());
+    }
+
+    public LevelFormula(XpCurve curve) {
+        this.curve = curve;
+        this.thresholds = new long[MAX_LEVEL + 2];
+        for (int level = 2; level < this.thresholds.length; level++) {
+            // Clamp so a misconfigured curve can never make the table non-monotonic.
+            this.thresholds[level] = Math.max(this.thresholds[level - 1], curve.xpForLevel(level));
+        }
+    }
+
+    /**
+     * Compiles a config-defined curve, falling back to the default curve when unset or invalid.
+     */
+    public static LevelFormula fromConfig(HyruneConfig.XpCurveConfig config) {
+        if (config == null) {
+            return new LevelFormula();
+        }
+        String type = config.type == null ? "" : config.type.trim().toLowerCase(Locale.ROOT);
+        if ("table".equals(type)) {
+            List<Long> values = config.thresholds;
+            if (values == null || values.isEmpty()) {
+                return new LevelFormula();
+            }
+            long[] table = new long[values.size()];
+            for (int i = 0; i < table.length; i++) {
+                Long value = values.get(i);
+                table[i] = value == null ? 0L : Math.max(0L, value);
+            }
+            return new LevelFormula(XpCurve.table(table));
+        }
+        return new LevelFormula(XpCurve.exponential(config.base, config.doublingLevels, config.divisor));
+    }
+
     public long getXpForLevel(int level) {
         if (level <= 1) {
             return 0;
         }
-        long total = 0;
-        for (int i = 1; i < level; i++) {
-            total += (long) Math.floor(i + 300 * Math.pow(2, i / 7.0));
+        if (level < thresholds.length) {
+            return thresholds[level];
         }
-        return (long) Math.floor(total / 4.0);
+        return Math.max(thresholds[thresholds.length - 1], curve.xpForLevel(level));
     }
 
     public int getLevelForXp(long xp) {
-        // Cap at 120 to keep the loop bounded.
-        for (int i = 1; i < 120; i++) {
-            if (xp < getXpForLevel(i + 1)) {
-                return i;
+        // Highest level whose threshold is <= xp, capped at MAX_LEVEL.
+        int low = 1;
+        int high = MAX_LEVEL;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (thresholds[mid] <= xp) {
+                low = mid;
+            } else {
+                high = mid - 1;
             }
         }
-        return 120;
+        return low;
     }
 }
@@ -0,0 +1,55 @@
+package dev.hytalemodding.hyrune.level.formulas;
+
+import java.util.Arrays;
+
+/**
+ * Cumulative XP required to reach a level. Curves are only evaluated when a
+ * {@link LevelFormula} is compiled, never on the XP hot path.
+ */
+@FunctionalInterface
+public interface XpCurve {
+    long xpForLevel(int level);
+
+    /**
+     * RuneScape-style exponential curve: {@code floor(sum(floor(i + base * 2^(i / doublingLevels))) / divisor)}.
+     * The defaults (300, 7, 4) give level 99 at roughly 13,000,000 XP.
+     */
+    static XpCurve exponential(double base, double doublingLevels, double divisor) {
+        double safeDoubling = doublingLevels > 0.0 ? doublingLevels : 7.0;
+        double safeDivisor = divisor > 0.0 ? divisor : 4.0;
+        return level -> {
+            if (level <= 1) {
+                return 0L;
+            }
+            long total = 0;
+            for (int i = 1; i < level; i++) {
+                total += (long) Math.floor(i + base * Math.pow(2, i / safeDoubling));
+            }
+            return (long) Math.floor(total / safeDivisor);
+        };
+    }
+
+    static XpCurve runescape() {
+        return exponential(300.0, 7.0, 4.0);
+    }
+
+    /**
+     * Explicit thresholds where {@code thresholds[0]} is the XP for level 2. Levels past the end
+     * keep the last step size.
+     */
+    static XpCurve table(long[] thresholds) {
+        long[] copy = Arrays.copyOf(thresholds, thresholds.length);
+        return level -> {
+            if (level <= 1 || copy.length == 0) {
+                return 0L;
+            }
+            int index = level - 2;
+            if (index < copy.length) {
+                return copy[index];
+            }
+            long last = copy[copy.length - 1];
+            long step = copy.length > 1 ? Math.max(1L, last - copy[copy.length - 2]) : Math.max(1L, last);
+            return last + step * (index - copy.length + 1);
+        };
+    }
+}
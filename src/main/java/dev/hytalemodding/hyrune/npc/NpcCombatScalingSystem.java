@@ -15,12 +15,14 @@ import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
 import com.hypixel.hytale.server.core.modules.entity.damage.DamageCause;
 import com.hypixel.hytale.server.core.modules.entity.damage.DamageModule;
 import com.hypixel.hytale.server.core.modules.entity.damage.DamageSystems;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.npc.entities.NPCEntity;
 import dev.hytalemodding.Hyrune;
 import dev.hytalemodding.hyrune.itemization.ItemizedStat;
 import dev.hytalemodding.hyrune.itemization.PlayerItemizationStats;
 import dev.hytalemodding.hyrune.itemization.PlayerItemizationStatsService;
+import dev.hytalemodding.hyrune.system.QueryAudit;
 import dev.hytalemodding.hyrune.system.SkillCombatBonusSystem;
 
 import javax.annotation.Nonnull;
@@ -31,6 +33,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * ECS system for npc combat scaling.
  */
 public class NpcCombatScalingSystem extends EntityEventSystem<EntityStore, Damage> {
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(NpcCombatScalingSystem.class);
 
     private final NpcLevelService levelService;
 
@@ -49,7 +52,7 @@ public class NpcCombatScalingSystem extends EntityEventSystem<EntityStore, Damag
 
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return EntityStatMap.getComponentType();
     }
 
     @Override
@@ -58,6 +61,7 @@ public class NpcCombatScalingSystem extends EntityEventSystem<EntityStore, Damag
                        @Nonnull Store<EntityStore> store,
                        @Nonnull CommandBuffer<EntityStore> commandBuffer,
                        @Nonnull Damage damage) {
+        VISITS.visit();
         if (damage.isCancelled()) {
             return;
         }
@@ -13,6 +13,7 @@ import com.hypixel.hytale.server.core.modules.entity.component.DisplayNameCompon
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.npc.entities.NPCEntity;
 import dev.hytalemodding.Hyrune;
+import dev.hytalemodding.hyrune.system.QueryAudit;
 
 import javax.annotation.Nonnull;
 
@@ -20,6 +21,7 @@ import javax.annotation.Nonnull;
  * ECS system for npc level assignment.
  */
 public class NpcLevelAssignmentSystem extends EntityTickingSystem<EntityStore> implements QuerySystem<EntityStore> {
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(NpcLevelAssignmentSystem.class);
 
     private final NpcLevelService levelService;
 
@@ -29,7 +31,7 @@ public class NpcLevelAssignmentSystem extends EntityTickingSystem<EntityStore> i
 
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return Query.and(NPCEntity.getComponentType(), Query.not(Hyrune.getNpcLevelComponentType()));
     }
 
     @Override
@@ -38,6 +40,7 @@ public class NpcLevelAssignmentSystem extends EntityTickingSystem<EntityStore> i
                      @Nonnull ArchetypeChunk<EntityStore> chunk,
                      @Nonnull Store<EntityStore> store,
                      @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        VISITS.visit();
         Ref<EntityStore> ref = chunk.getReferenceTo(index);
         if (ref == null || !ref.isValid()) {
             return;
@@ -13,6 +13,7 @@ import com.hypixel.hytale.server.core.entity.nameplate.Nameplate;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.npc.entities.NPCEntity;
 import dev.hytalemodding.Hyrune;
+import dev.hytalemodding.hyrune.system.QueryAudit;
 
 import javax.annotation.Nonnull;
 
@@ -20,12 +21,14 @@ import javax.annotation.Nonnull;
  * ECS system for npc level display.
  */
 public class NpcLevelDisplaySystem extends EntityTickingSystem<EntityStore> implements QuerySystem<EntityStore> {
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(NpcLevelDisplaySystem.class);
+
     private static final int TICK_INTERVAL = 5;
     private int tickCounter = 0;
 
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return Query.and(NPCEntity.getComponentType(), Hyrune.getNpcLevelComponentType());
     }
 
     @Override
@@ -34,6 +37,7 @@ public class NpcLevelDisplaySystem extends EntityTickingSystem<EntityStore> impl
                      @Nonnull ArchetypeChunk<EntityStore> chunk,
                      @Nonnull Store<EntityStore> store,
                      @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        VISITS.visit();
         Ref<EntityStore> ref = chunk.getReferenceTo(index);
         if (ref == null || !ref.isValid()) {
             return;
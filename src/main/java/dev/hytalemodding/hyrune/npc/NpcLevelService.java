@@ -2,6 +2,7 @@ package dev.hytalemodding.hyrune.npc;
 
 import com.hypixel.hytale.server.npc.entities.NPCEntity;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -10,13 +11,20 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Service for npc level.
+ * <p>
+ * Config-derived indexes live in one immutable state swapped by {@link #reload(NpcFamiliesConfig)}.
+ * Each state memoizes the family, exclusion and profile resolution per NPC type id, so spawn and
+ * display paths do one map lookup per NPC instead of re-running the family matcher.
  */
 public class NpcLevelService {
     private static final String DEFAULT_ARCHETYPE_ID = "DPS";
+    // Display names are not bounded by the asset set the way type ids are.
+    private static final int MAX_MEMOIZED_NAMES = 4096;
 
     public record NpcCombatStats(double damageMultiplier,
                                  double defenceReduction,
@@ -27,48 +35,68 @@ public class NpcLevelService {
                                  String archetypeId) {
     }
 
-    private final NpcFamiliesConfig familiesConfig;
-    private final Map<String, NpcFamiliesConfig.NpcArchetypeProfile> archetypeProfilesById;
-    private final Map<String, NpcFamiliesConfig.NpcFamilyDefinition> familyById;
-    private final Map<String, NpcFamiliesConfig.NpcRankProfile> rankProfileById;
-    private final List<NpcFamiliesConfig.NpcFamilyDefinition> orderedFamilies;
+    /**
+     * Everything a spawn needs to know about one NPC type id. {@code family} is null when no
+     * family matches, in which case the rank and archetype are the config defaults.
+     */
+    public record NpcTypeResolution(@Nullable NpcFamiliesConfig.NpcFamilyDefinition family,
+                                    boolean excluded,
+                                    NpcRank rank,
+                                    NpcFamiliesConfig.NpcRankProfile rankProfile,
+                                    String archetypeId,
+                                    NpcFamiliesConfig.NpcArchetypeProfile archetypeProfile,
+                                    CombatStyle weakness) {
+    }
+
+    private volatile State state;
     private final Random random = new Random();
 
     public NpcLevelService(NpcFamiliesConfig familiesConfig) {
-        this.familiesConfig = familiesConfig == null ? new NpcFamiliesConfig() : familiesConfig;
-        this.archetypeProfilesById = indexProfiles(this.familiesConfig);
-        this.familyById = indexFamilies(this.familiesConfig);
-        this.rankProfileById = indexRankProfiles(this.familiesConfig);
-        this.orderedFamilies = orderFamilies(this.familiesConfig);
+        this.state = new State(familiesConfig);
+    }
+
+    /**
+     * Swaps in {@code familiesConfig}; the resolution table starts empty and refills lazily.
+     */
+    public void reload(NpcFamiliesConfig familiesConfig) {
+        this.state = new State(familiesConfig);
     }
 
     public NpcFamiliesConfig getFamiliesConfig() {
-        return familiesConfig;
+        return state.config;
     }
 
     public String getDefaultWeakness() {
-        return familiesConfig.defaultWeakness;
+        return state.config.defaultWeakness;
     }
 
     public double getWeaknessMultiplier() {
-        return familiesConfig.weaknessMultiplier;
+        return state.config.weaknessMultiplier;
     }
 
     public double getResistanceMultiplier() {
-        return familiesConfig.resistanceMultiplier;
+        return state.config.resistanceMultiplier;
     }
 
     public NpcLevelComponent buildComponent(String npcTypeId, String baseName) {
-        if (isExcluded(npcTypeId, baseName)) {
+        State current = state;
+        if (current.isExcluded(npcTypeId, baseName)) {
             return null;
         }
 
-        ResolvedFamilyAssignment familyAssignment = findFamilyAssignment(npcTypeId);
-        if (familyAssignment != null) {
-            return buildFromFamilyAssignment(familyAssignment, baseName);
+        NpcTypeResolution resolution = current.resolve(npcTypeId);
+        if (resolution.family() != null) {
+            return buildFromFamilyAssignment(resolution, baseName);
         }
 
-        return buildFromConfigDefault(baseName);
+        return buildFromConfigDefault(current.config, resolution, baseName);
+    }
+
+    /**
+     * Memoized family, exclusion and profile resolution for a type id under the current config.
+     */
+    public NpcTypeResolution resolve(String npcTypeId) {
+        return state.resolve(npcTypeId);
     }
 
     public int getCombatLevel(int level) {
@@ -93,13 +121,14 @@ public class NpcLevelService {
     }
 
     public NpcCombatStats resolveCombatStats(NpcLevelComponent component, CombatStyle style) {
+        State current = state;
         CombatStyle resolvedStyle = style == null ? CombatStyle.MELEE : style;
         String archetypeId = component == null
-            ? normalizeArchetypeOrDefault(familiesConfig.defaultArchetype)
-            : normalizeArchetypeOrDefault(component.getArchetypeId());
+            ? current.normalizeArchetypeOrDefault(current.config.defaultArchetype)
+            : current.normalizeArchetypeOrDefault(component.getArchetypeId());
         String rankId = component == null ? NpcRank.NORMAL.name() : normalizeRank(component.getRankId());
-        NpcFamiliesConfig.NpcRankProfile rankProfile = resolveRankProfile(rankId);
-        NpcFamiliesConfig.NpcArchetypeProfile profile = resolveArchetypeProfile(archetypeId);
+        NpcFamiliesConfig.NpcRankProfile rankProfile = current.resolveRankProfile(rankId);
+        NpcFamiliesConfig.NpcArchetypeProfile profile = current.resolveArchetypeProfile(archetypeId);
         int level = component == null ? 1 : Math.max(1, Math.min(99, component.getLevel()));
         int effectiveLevel = level;
 
@@ -158,40 +187,31 @@ public class NpcLevelService {
             return false;
         }
         String normalized = npcTypeId.toLowerCase(Locale.ROOT);
-        NpcFamiliesConfig.NpcFamilyDefinition family = familyById.get(groupId.toLowerCase(Locale.ROOT));
+        NpcFamiliesConfig.NpcFamilyDefinition family = state.familyById.get(groupId.toLowerCase(Locale.ROOT));
         return family != null && NpcFamilyMatcher.matchesFamily(family, normalized);
     }
 
-    private NpcLevelComponent buildFromFamilyAssignment(ResolvedFamilyAssignment resolved, String baseName) {
-        if (resolved == null || resolved.family == null) {
-            return null;
-        }
-        NpcFamiliesConfig.NpcFamilyDefinition family = resolved.family;
+    private NpcLevelComponent buildFromFamilyAssignment(NpcTypeResolution resolved, String baseName) {
+        NpcFamiliesConfig.NpcFamilyDefinition family = resolved.family();
         int level = rollLevel(family.baseLevel, family.variance);
-        NpcRank rank = NpcRank.fromString(family.rank, NpcRank.NORMAL);
-        NpcFamiliesConfig.NpcRankProfile rankProfile = resolveRankProfile(rank.name());
-        int adjustedLevel = Math.max(1, Math.min(99, level + rankProfile.levelOffset));
-        CombatStyle weakness = CombatStyle.fromString(family.weakness, CombatStyle.MELEE);
-        String archetypeId = normalizeArchetypeOrDefault(family.archetype);
+        int adjustedLevel = Math.max(1, Math.min(99, level + resolved.rankProfile().levelOffset));
         String groupId = family.id == null || family.id.isBlank()
             ? "family"
             : family.id;
         return new NpcLevelComponent(
             adjustedLevel,
             groupId,
-            weakness,
-            archetypeId,
-            rank.name(),
+            resolved.weakness(),
+            resolved.archetypeId(),
+            resolved.rank().name(),
             family.elite,
             baseName
         );
     }
 
-    private NpcLevelComponent buildFromConfigDefault(String baseName) {
-        int level = rollLevel(familiesConfig.defaultLevel, familiesConfig.defaultVariance);
-        CombatStyle weakness = CombatStyle.fromString(familiesConfig.defaultWeakness, CombatStyle.MELEE);
-        String archetypeId = normalizeArchetypeOrDefault(familiesConfig.defaultArchetype);
-        return new NpcLevelComponent(level, "default", weakness, archetypeId, NpcRank.NORMAL.name(), false, baseName);
+    private NpcLevelComponent buildFromConfigDefault(NpcFamiliesConfig config, NpcTypeResolution resolved, String baseName) {
+        int level = rollLevel(config.defaultLevel, config.defaultVariance);
+        return new NpcLevelComponent(level, "default", resolved.weakness(), resolved.archetypeId(), NpcRank.NORMAL.name(), false, baseName);
     }
 
     private int rollLevel(int baseLevel, int variance) {
@@ -206,21 +226,7 @@ public class NpcLevelService {
     }
 
     public boolean isExcluded(String npcTypeId, String baseName) {
-        if (npcTypeId == null && baseName == null) {
-            return true;
-        }
-        for (String excluded : familiesConfig.excludedNpcIds) {
-            if (excluded == null || excluded.isBlank()) {
-                continue;
-            }
-            if (npcTypeId != null && matchesExclude(npcTypeId, excluded)) {
-                return true;
-            }
-            if (baseName != null && matchesExclude(baseName, excluded)) {
-                return true;
-            }
-        }
-        return false;
+        return state.isExcluded(npcTypeId, baseName);
     }
 
     /**
@@ -231,7 +237,7 @@ public class NpcLevelService {
         if (groupId == null || groupId.isBlank()) {
             return null;
         }
-        NpcFamiliesConfig.NpcFamilyDefinition family = familyById.get(groupId.toLowerCase(Locale.ROOT));
+        NpcFamiliesConfig.NpcFamilyDefinition family = state.familyById.get(groupId.toLowerCase(Locale.ROOT));
         if (family == null) {
             return null;
         }
@@ -245,73 +251,15 @@ public class NpcLevelService {
         if (groupId == null || groupId.isBlank()) {
             return null;
         }
-        return familyById.get(groupId.toLowerCase(Locale.ROOT));
+        return state.familyById.get(groupId.toLowerCase(Locale.ROOT));
     }
 
     public NpcFamiliesConfig.NpcArchetypeProfile getArchetypeProfile(String archetypeId) {
-        return resolveArchetypeProfile(archetypeId);
+        return state.resolveArchetypeProfile(archetypeId);
     }
 
     public NpcFamiliesConfig.NpcRankProfile getRankProfile(String rankId) {
-        return resolveRankProfile(rankId);
-    }
-
-    private boolean matchesExclude(String value, String excluded) {
-        if (value == null || excluded == null) {
-            return false;
-        }
-        String needle = excluded.toLowerCase(Locale.ROOT);
-        String haystack = value.toLowerCase(Locale.ROOT);
-        return haystack.equals(needle) || haystack.contains(needle);
-    }
-
-    private NpcFamiliesConfig.NpcArchetypeProfile resolveArchetypeProfile(String archetypeId) {
-        String normalized = normalizeArchetype(archetypeId);
-        NpcFamiliesConfig.NpcArchetypeProfile profile = archetypeProfilesById.get(normalized);
-        if (profile != null) {
-            return profile;
-        }
-
-        profile = archetypeProfilesById.get(normalizeArchetype(familiesConfig.defaultArchetype));
-        if (profile != null) {
-            return profile;
-        }
-
-        profile = archetypeProfilesById.get(DEFAULT_ARCHETYPE_ID);
-        if (profile != null) {
-            return profile;
-        }
-
-        return new NpcFamiliesConfig.NpcArchetypeProfile();
-    }
-
-    private String normalizeArchetypeOrDefault(String archetypeId) {
-        String normalized = normalizeArchetype(archetypeId);
-        if (archetypeProfilesById.containsKey(normalized)) {
-            return normalized;
-        }
-        String configuredDefault = normalizeArchetype(familiesConfig.defaultArchetype);
-        if (archetypeProfilesById.containsKey(configuredDefault)) {
-            return configuredDefault;
-        }
-        return DEFAULT_ARCHETYPE_ID;
-    }
-
-    private ResolvedFamilyAssignment findFamilyAssignment(String npcTypeId) {
-        if (npcTypeId == null || npcTypeId.isBlank() || orderedFamilies.isEmpty()) {
-            return null;
-        }
-        String normalized = npcTypeId.toLowerCase(Locale.ROOT);
-        for (NpcFamiliesConfig.NpcFamilyDefinition family : orderedFamilies) {
-            if (family == null || family.id == null) {
-                continue;
-            }
-            if (!NpcFamilyMatcher.matchesFamily(family, normalized)) {
-                continue;
-            }
-            return new ResolvedFamilyAssignment(family);
-        }
-        return null;
+        return state.resolveRankProfile(rankId);
     }
 
     private static String normalizeArchetype(String archetypeId) {
@@ -321,27 +269,10 @@ public class NpcLevelService {
         return archetypeId.trim().toUpperCase(Locale.ROOT);
     }
 
-    private String normalizeRank(String rankId) {
+    private static String normalizeRank(String rankId) {
         return NpcRank.fromString(rankId, NpcRank.NORMAL).name();
     }
 
-    private NpcFamiliesConfig.NpcRankProfile resolveRankProfile(String rankId) {
-        String normalized = normalizeRank(rankId);
-        NpcFamiliesConfig.NpcRankProfile profile = rankProfileById.get(normalized);
-        if (profile != null) {
-            return profile;
-        }
-        profile = rankProfileById.get(NpcRank.NORMAL.name());
-        if (profile != null) {
-            return profile;
-        }
-        NpcFamiliesConfig.NpcRankProfile fallback = new NpcFamiliesConfig.NpcRankProfile();
-        fallback.id = NpcRank.NORMAL.name();
-        fallback.levelOffset = 0;
-        fallback.statMultiplier = 1.0;
-        return fallback;
-    }
-
     private static Map<String, NpcFamiliesConfig.NpcArchetypeProfile> indexProfiles(NpcFamiliesConfig config) {
         Map<String, NpcFamiliesConfig.NpcArchetypeProfile> out = new LinkedHashMap<>();
         if (config != null && config.archetypeProfiles != null) {
@@ -411,6 +342,177 @@ public class NpcLevelService {
         return Math.max(0.0, base) * Math.pow(Math.max(0.0, growthRate), Math.max(0, level));
     }
 
-    private record ResolvedFamilyAssignment(NpcFamiliesConfig.NpcFamilyDefinition family) {
+    private static final class State {
+        private final NpcFamiliesConfig config;
+        private final Map<String, NpcFamiliesConfig.NpcArchetypeProfile> archetypeProfilesById;
+        private final Map<String, NpcFamiliesConfig.NpcFamilyDefinition> familyById;
+        private final Map<String, NpcFamiliesConfig.NpcRankProfile> rankProfileById;
+        private final List<NpcFamiliesConfig.NpcFamilyDefinition> orderedFamilies;
+        private final List<String> excludedNeedles;
+        private final NpcTypeResolution unmatched;
+        private final Map<String, NpcTypeResolution> resolutionByTypeId = new ConcurrentHashMap<>();
+        private final Map<String, Boolean> excludedByName = new ConcurrentHashMap<>();
+
+        private State(NpcFamiliesConfig familiesConfig) {
+            this.config = familiesConfig == null ? new NpcFamiliesConfig() : familiesConfig;
+            this.archetypeProfilesById = indexProfiles(config);
+            this.familyById = indexFamilies(config);
+            this.rankProfileById = indexRankProfiles(config);
+            this.orderedFamilies = orderFamilies(config);
+            this.excludedNeedles = lowercaseNeedles(config.excludedNpcIds);
+            String archetypeId = normalizeArchetypeOrDefault(config.defaultArchetype);
+            this.unmatched = new NpcTypeResolution(
+                null,
+                false,
+                NpcRank.NORMAL,
+                resolveRankProfile(NpcRank.NORMAL.name()),
+                archetypeId,
+                resolveArchetypeProfile(archetypeId),
+                CombatStyle.fromString(config.defaultWeakness, CombatStyle.MELEE)
+            );
+        }
+
+        NpcTypeResolution resolve(String npcTypeId) {
+            if (npcTypeId == null) {
+                return unmatched;
+            }
+            return resolutionByTypeId.computeIfAbsent(npcTypeId, this::compute);
+        }
+
+        boolean isExcluded(String npcTypeId, String baseName) {
+            if (npcTypeId == null && baseName == null) {
+                return true;
+            }
+            if (npcTypeId != null && resolve(npcTypeId).excluded()) {
+                return true;
+            }
+            return baseName != null && isExcludedName(baseName);
+        }
+
+        private boolean isExcludedName(String name) {
+            Boolean cached = excludedByName.get(name);
+            if (cached != null) {
+                return cached;
+            }
+            boolean excluded = matchesExclude(name);
+            if (excludedByName.size() < MAX_MEMOIZED_NAMES) {
+                excludedByName.put(name, excluded);
+            }
+            return excluded;
+        }
+
+        private NpcTypeResolution compute(String npcTypeId) {
+            boolean excluded = matchesExclude(npcTypeId);
+            NpcFamiliesConfig.NpcFamilyDefinition family = findFamily(npcTypeId);
+            if (family == null) {
+                return excluded
+                    ? new NpcTypeResolution(null, true, unmatched.rank(), unmatched.rankProfile(),
+                        unmatched.archetypeId(), unmatched.archetypeProfile(), unmatched.weakness())
+                    : unmatched;
+            }
+            NpcRank rank = NpcRank.fromString(family.rank, NpcRank.NORMAL);
+            String archetypeId = normalizeArchetypeOrDefault(family.archetype);
+            return new NpcTypeResolution(
+                family,
+                excluded,
+                rank,
+                resolveRankProfile(rank.name()),
+                archetypeId,
+                resolveArchetypeProfile(archetypeId),
+                CombatStyle.fromString(family.weakness, CombatStyle.MELEE)
+            );
+        }
+
+        private boolean matchesExclude(String value) {
+            if (excludedNeedles.isEmpty()) {
+                return false;
+            }
+            String haystack = value.toLowerCase(Locale.ROOT);
+            for (String needle : excludedNeedles) {
+                if (haystack.contains(needle)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Nullable
+        private NpcFamiliesConfig.NpcFamilyDefinition findFamily(String npcTypeId) {
+            if (npcTypeId.isBlank() || orderedFamilies.isEmpty()) {
+                return null;
+            }
+            String normalized = npcTypeId.toLowerCase(Locale.ROOT);
+            for (NpcFamiliesConfig.NpcFamilyDefinition family : orderedFamilies) {
+                if (family == null || family.id == null) {
+                    continue;
+                }
+                if (NpcFamilyMatcher.matchesFamily(family, normalized)) {
+                    return family;
+                }
+            }
+            return null;
+        }
+
+        private NpcFamiliesConfig.NpcArchetypeProfile resolveArchetypeProfile(String archetypeId) {
+            String normalized = normalizeArchetype(archetypeId);
+            NpcFamiliesConfig.NpcArchetypeProfile profile = archetypeProfilesById.get(normalized);
+            if (profile != null) {
+                return profile;
+            }
+
+            profile = archetypeProfilesById.get(normalizeArchetype(config.defaultArchetype));
+            if (profile != null) {
+                return profile;
+            }
+
+            profile = archetypeProfilesById.get(DEFAULT_ARCHETYPE_ID);
+            if (profile != null) {
+                return profile;
+            }
+
+            return new NpcFamiliesConfig.NpcArchetypeProfile();
+        }
+
+        private String normalizeArchetypeOrDefault(String archetypeId) {
+            String normalized = normalizeArchetype(archetypeId);
+            if (archetypeProfilesById.containsKey(normalized)) {
+                return normalized;
+            }
+            String configuredDefault = normalizeArchetype(config.defaultArchetype);
+            if (archetypeProfilesById.containsKey(configuredDefault)) {
+                return configuredDefault;
+            }
+            return DEFAULT_ARCHETYPE_ID;
+        }
+
+        private NpcFamiliesConfig.NpcRankProfile resolveRankProfile(String rankId) {
+            String normalized = normalizeRank(rankId);
+            NpcFamiliesConfig.NpcRankProfile profile = rankProfileById.get(normalized);
+            if (profile != null) {
+                return profile;
+            }
+            profile = rankProfileById.get(NpcRank.NORMAL.name());
+            if (profile != null) {
+                return profile;
+            }
+            NpcFamiliesConfig.NpcRankProfile fallback = new NpcFamiliesConfig.NpcRankProfile();
+            fallback.id = NpcRank.NORMAL.name();
+            fallback.levelOffset = 0;
+            fallback.statMultiplier = 1.0;
+            return fallback;
+        }
+
+        private static List<String> lowercaseNeedles(List<String> excludedIds) {
+            if (excludedIds == null || excludedIds.isEmpty()) {
+                return List.of();
+            }
+            List<String> out = new ArrayList<>(excludedIds.size());
+            for (String excluded : excludedIds) {
+                if (excluded != null && !excluded.isBlank()) {
+                    out.add(excluded.toLowerCase(Locale.ROOT));
+                }
+            }
+            return List.copyOf(out);
+        }
     }
 }
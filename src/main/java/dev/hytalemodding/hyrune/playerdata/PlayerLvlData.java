@@ -104,4 +104,26 @@ public class PlayerLvlData implements PlayerData {
         return this.skillTracks;
     }
 
+    /**
+     * Returns a detached deep copy for persistence, so a writer on another thread never
+     * observes the world thread mutating this instance.
+     */
+    public PlayerLvlData copy() {
+        PlayerLvlData copy = new PlayerLvlData(uuid);
+        for (Map.Entry<SkillType, ExperienceTrack> entry : skillTracks.entrySet()) {
+            ExperienceTrack source = entry.getValue();
+            if (source == null) {
+                continue;
+            }
+            ExperienceTrack track = new ExperienceTrack();
+            track.setLevel(source.getLevel());
+            track.setXp(source.getXp());
+            copy.skillTracks.put(entry.getKey(), track);
+        }
+        copy.meleeXpStyle = meleeXpStyle;
+        copy.rangedXpStyle = rangedXpStyle;
+        copy.magicXpStyle = magicXpStyle;
+        return copy;
+    }
+
 }
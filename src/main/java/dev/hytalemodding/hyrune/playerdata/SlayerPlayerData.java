@@ -44,6 +44,10 @@ public class SlayerPlayerData implements PlayerData {
         return slayerPoints;
     }
 
+    public void setSlayerPoints(int slayerPoints) {
+        this.slayerPoints = Math.max(0, slayerPoints);
+    }
+
     public void addSlayerPoints(int points) {
         if (points > 0) {
             this.slayerPoints += points;
@@ -60,6 +64,10 @@ public class SlayerPlayerData implements PlayerData {
         return completedTasks;
     }
 
+    public void setCompletedTasks(int completedTasks) {
+        this.completedTasks = Math.max(0, completedTasks);
+    }
+
     public void incrementCompletedTasks() {
         this.completedTasks++;
     }
@@ -68,6 +76,10 @@ public class SlayerPlayerData implements PlayerData {
         return currentStreak;
     }
 
+    public void setCurrentStreak(int currentStreak) {
+        this.currentStreak = Math.max(0, currentStreak);
+    }
+
     public void incrementStreak() {
         this.currentStreak++;
     }
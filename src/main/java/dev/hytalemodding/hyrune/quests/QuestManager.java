@@ -275,23 +275,13 @@ public class QuestManager {
     }
 
     /**
-     * Loads player quest data from storage.
+     * Loads player quest data from storage unless it is already cached (e.g. by a prefetch).
      */
     public void load(UUID playerId) {
         if (playerId == null || repository == null) {
             return;
         }
-        PlayerQuestData data = repository.load(playerId);
-        if (data == null) {
-            data = new PlayerQuestData(playerId);
-        }
-        if (data.getUuid() == null) {
-            data.setUuid(playerId);
-        }
-        if (data.getQuestProgress() == null) {
-            data.setQuestProgress(new HashMap<>());
-        }
-        playerData.put(playerId, data);
+        playerData.computeIfAbsent(playerId, this::loadOrCreate);
     }
 
     public void unload(UUID playerId) {
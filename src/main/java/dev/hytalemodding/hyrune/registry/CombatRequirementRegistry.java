@@ -1,8 +1,9 @@
 package dev.hytalemodding.hyrune.registry;
 
+import dev.hytalemodding.hyrune.itemization.ItemClassificationIndex;
+
 import javax.annotation.Nullable;
 import java.util.LinkedHashMap;
-import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -49,7 +50,12 @@ public final class CombatRequirementRegistry {
         if (itemId == null || itemId.isBlank()) {
             return null;
         }
-        String id = itemId.toLowerCase(Locale.ROOT);
+        return ItemClassificationIndex.classify(itemId).requiredLevel();
+    }
+
+    // Combat level required for a lowercased item id, or null when no material matches.
+    @Nullable
+    public static Integer requiredLevelNormalized(String id) {
         for (Map.Entry<String, Integer> entry : LEVELS.entrySet()) {
             if (id.contains(entry.getKey())) {
                 return entry.getValue();
@@ -3,10 +3,10 @@ package dev.hytalemodding.hyrune.registry;
 import com.hypixel.hytale.server.core.inventory.Inventory;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+import dev.hytalemodding.hyrune.itemization.ItemClassificationIndex;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -72,7 +72,11 @@ public final class FishingRegistry {
         if (stack == null || stack.getItemId() == null) {
             return false;
         }
-        String id = stack.getItemId().toLowerCase(Locale.ROOT);
+        return ItemClassificationIndex.classify(stack.getItemId()).fishingRod();
+    }
+
+    // Whether a lowercased item id names a fishing rod.
+    public static boolean isFishingRodIdNormalized(String id) {
         for (String keyword : FISHING_ROD_KEYWORDS) {
             if (id.contains(keyword)) {
                 return true;
@@ -81,6 +85,16 @@ public final class FishingRegistry {
         return false;
     }
 
+    // Bait matching a lowercased item id, or null if it is not bait.
+    public static BaitDefinition baitNormalized(String id) {
+        for (BaitDefinition bait : BAITS) {
+            if (id.contains(bait.keyword)) {
+                return bait;
+            }
+        }
+        return null;
+    }
+
     public static Optional<BaitStack> findBait(Inventory inventory) {
         if (inventory == null) {
             return Optional.empty();
@@ -95,12 +109,9 @@ public final class FishingRegistry {
             if (result[0] != null || stack == null || stack.getItemId() == null) {
                 return;
             }
-            String id = stack.getItemId().toLowerCase(Locale.ROOT);
-            for (BaitDefinition bait : BAITS) {
-                if (id.contains(bait.keyword)) {
-                    result[0] = new BaitStack(bait, stack.getItemId());
-                    return;
-                }
+            BaitDefinition bait = ItemClassificationIndex.classify(stack.getItemId()).bait();
+            if (bait != null) {
+                result[0] = new BaitStack(bait, stack.getItemId());
             }
         });
 
@@ -32,6 +32,7 @@ public class HyruneSystems {
         registry.registerSystem(new CraftingRestrictionSystem());
         registry.registerSystem(new CraftingXpSystem());
         registry.registerSystem(new TimedCraftingXpSystem());
+        registry.registerSystem(new XpEventFlushSystem());
 
         // Syncing
         registry.registerSystem(new SyncTaskSystem());
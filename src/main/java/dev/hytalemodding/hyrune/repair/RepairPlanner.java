@@ -1,6 +1,7 @@
 package dev.hytalemodding.hyrune.repair;
 
 import com.hypixel.hytale.server.core.inventory.ItemStack;
+import dev.hytalemodding.hyrune.itemization.ItemClassificationIndex;
 
 /**
  * Computes bench repair plans using profile + rarity + missing durability.
@@ -21,7 +22,7 @@ public final class RepairPlanner {
 
         String itemId = stack.getItemId();
         ItemRarity rarity = ItemRarity.fromItemId(itemId);
-        RepairProfile profile = RepairProfileRegistry.resolve(itemId);
+        RepairProfile profile = ItemClassificationIndex.classify(itemId).repairProfile();
 
         double missingRatio = (maxDurability - currentDurability) / maxDurability;
         int restoreAmount = (int) Math.ceil(maxDurability - currentDurability);
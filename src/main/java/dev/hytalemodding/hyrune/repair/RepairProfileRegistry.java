@@ -6,6 +6,9 @@ import java.util.Locale;
 
 /**
  * Central resolver from item IDs to repair profiles.
+ * <p>
+ * Hot paths read profiles through {@code ItemClassificationIndex}, which memoizes them; callers
+ * that reload the rules here must rebuild or invalidate that index afterwards.
  */
 public final class RepairProfileRegistry {
     private static final List<Rule> RULES = new ArrayList<>();
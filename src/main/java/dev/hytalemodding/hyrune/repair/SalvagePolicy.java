@@ -1,6 +1,7 @@
 package dev.hytalemodding.hyrune.repair;
 
 import com.hypixel.hytale.server.core.inventory.ItemStack;
+import dev.hytalemodding.hyrune.itemization.ItemClassificationIndex;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -42,7 +43,7 @@ public final class SalvagePolicy {
         if (stack == null || stack.isEmpty() || stack.getItemId() == null) {
             return Collections.emptyList();
         }
-        RepairProfile profile = RepairProfileRegistry.resolve(stack.getItemId());
+        RepairProfile profile = ItemClassificationIndex.classify(stack.getItemId()).repairProfile();
         List<RepairMaterialCost> fullBuildCosts = profile.buildCosts(1.0, rarity);
         return estimateSalvageReturns(fullBuildCosts, benchTier);
     }
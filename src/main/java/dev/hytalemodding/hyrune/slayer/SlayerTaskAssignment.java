@@ -23,6 +23,25 @@ public class SlayerTaskAssignment {
         this.state = SlayerTaskState.ACCEPTED;
     }
 
+    /**
+     * Rebuilds an assignment exactly as it was persisted.
+     */
+    public static SlayerTaskAssignment restore(String masterId,
+                                               String taskId,
+                                               String targetNpcTypeId,
+                                               int totalKills,
+                                               int remainingKills,
+                                               SlayerTaskState state) {
+        SlayerTaskAssignment assignment = new SlayerTaskAssignment();
+        assignment.masterId = masterId;
+        assignment.taskId = taskId;
+        assignment.targetNpcTypeId = targetNpcTypeId;
+        assignment.totalKills = totalKills;
+        assignment.remainingKills = remainingKills;
+        assignment.state = state;
+        return assignment;
+    }
+
     public String getMasterId() {
         return masterId;
     }
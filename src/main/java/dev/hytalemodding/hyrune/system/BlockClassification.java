@@ -0,0 +1,49 @@
+package dev.hytalemodding.hyrune.system;
+
+import dev.hytalemodding.hyrune.gathering.GatheringReward;
+import dev.hytalemodding.hyrune.skills.SkillType;
+
+import javax.annotation.Nullable;
+
+/**
+ * Everything the gathering systems derive from a block id, computed once per block type by
+ * {@link BlockClassificationIndex}.
+ *
+ * @param miningReward      mining reward rule, or null if the block gives no Mining XP
+ * @param woodcuttingReward woodcutting reward rule, or null
+ * @param farmingReward     farming reward rule, or null
+ * @param woodBlock         needs an axe; woodcutting durability rules apply
+ * @param stoneOrOreBlock   needs a pickaxe; mining durability rules apply
+ * @param finalStage        the id itself marks the last farming growth stage
+ */
+public record BlockClassification(@Nullable GatheringReward miningReward,
+                                  @Nullable GatheringReward woodcuttingReward,
+                                  @Nullable GatheringReward farmingReward,
+                                  boolean woodBlock,
+                                  boolean stoneOrOreBlock,
+                                  boolean finalStage) {
+
+    static final BlockClassification NONE = new BlockClassification(null, null, null, false, false, false);
+
+    /**
+     * Skill a break awards XP in; mining wins over woodcutting, which wins over farming.
+     */
+    @Nullable
+    public SkillType skill() {
+        if (miningReward != null) {
+            return SkillType.MINING;
+        }
+        if (woodcuttingReward != null) {
+            return SkillType.WOODCUTTING;
+        }
+        return farmingReward != null ? SkillType.FARMING : null;
+    }
+
+    @Nullable
+    public GatheringReward reward() {
+        if (miningReward != null) {
+            return miningReward;
+        }
+        return woodcuttingReward != null ? woodcuttingReward : farmingReward;
+    }
+}
@@ -0,0 +1,167 @@
+package dev.hytalemodding.hyrune.system;
+
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+import dev.hytalemodding.hyrune.gathering.GatheringReward;
+import dev.hytalemodding.hyrune.gathering.GatheringRewardTables;
+import dev.hytalemodding.hyrune.skills.SkillType;
+import dev.hytalemodding.hyrune.util.KeywordAutomaton;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@link BlockType} to {@link BlockClassification} lookup shared by the gathering, tool-gate,
+ * speed and durability systems.
+ * <p>
+ * All reward and block-family keywords are compiled into one {@link KeywordAutomaton}, so a
+ * block id is classified in a single pass; results are memoized per block type instance, so a
+ * break or damage event costs one identity lookup. Everything is rebuilt when a new
+ * {@link GatheringRewardTables} instance is published.
+ */
+public final class BlockClassificationIndex {
+    private static final List<String> WOOD_KEYWORDS = List.of(
+        "wood", "log", "plank", "leaf", "leaves", "sapling", "bark", "branch"
+    );
+    private static final List<String> STONE_OR_ORE_KEYWORDS = List.of(
+        "stone", "ore", "rock", "metal", "cobblestone"
+    );
+    private static final String FINAL_STAGE_KEYWORD = "stagefinal";
+
+    private static volatile Snapshot snapshot;
+
+    private BlockClassificationIndex() {
+    }
+
+    public static BlockClassification classify(BlockType blockType) {
+        if (blockType == null) {
+            return BlockClassification.NONE;
+        }
+        Snapshot current = current();
+        BlockClassification classification = current.byType.get(blockType);
+        if (classification != null) {
+            return classification;
+        }
+        classification = current.classifyId(blockType.getId());
+        synchronized (current) {
+            BlockClassification raced = current.byType.get(blockType);
+            if (raced != null) {
+                return raced;
+            }
+            // Copy-on-write: readers never lock, and the set of block types is small and stable.
+            Map<BlockType, BlockClassification> copy = new IdentityHashMap<>(current.byType);
+            copy.put(blockType, classification);
+            current.byType = copy;
+        }
+        return classification;
+    }
+
+    /**
+     * Classifies a raw id (block or harvested item) without memoizing it.
+     */
+    public static BlockClassification classifyId(String id) {
+        return current().classifyId(id);
+    }
+
+    private static Snapshot current() {
+        GatheringRewardTables tables = GatheringRewardTables.current();
+        Snapshot current = snapshot;
+        if (current == null || current.tables != tables) {
+            synchronized (BlockClassificationIndex.class) {
+                current = snapshot;
+                if (current == null || current.tables != tables) {
+                    current = new Snapshot(tables);
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static final class Snapshot {
+        private final GatheringRewardTables tables;
+        private final List<String> keywords = new ArrayList<>();
+        private final List<GatheringReward> rewards = new ArrayList<>();
+        private final Map<String, GatheringReward> miningBlocks;
+        private final Map<String, GatheringReward> woodcuttingBlocks;
+        private final Map<String, GatheringReward> farmingBlocks;
+        private final int miningStart;
+        private final int woodcuttingStart;
+        private final int farmingStart;
+        private final int woodStart;
+        private final int stoneStart;
+        private final int finalStage;
+        private final KeywordAutomaton automaton;
+        private volatile Map<BlockType, BlockClassification> byType = new IdentityHashMap<>();
+
+        private Snapshot(GatheringRewardTables tables) {
+            this.tables = tables;
+            miningBlocks = tables.exactRewards(SkillType.MINING);
+            woodcuttingBlocks = tables.exactRewards(SkillType.WOODCUTTING);
+            farmingBlocks = tables.exactRewards(SkillType.FARMING);
+            // Keyword rewards keep their table order, so the first listed match still wins.
+            miningStart = addRewards(tables.keywordRewards(SkillType.MINING));
+            woodcuttingStart = addRewards(tables.keywordRewards(SkillType.WOODCUTTING));
+            farmingStart = addRewards(tables.keywordRewards(SkillType.FARMING));
+            woodStart = addMarkers(WOOD_KEYWORDS);
+            stoneStart = addMarkers(STONE_OR_ORE_KEYWORDS);
+            finalStage = addMarkers(List.of(FINAL_STAGE_KEYWORD));
+            automaton = KeywordAutomaton.build(keywords);
+        }
+
+        private int addRewards(Map<String, GatheringReward> table) {
+            int start = keywords.size();
+            for (Map.Entry<String, GatheringReward> entry : table.entrySet()) {
+                keywords.add(entry.getKey());
+                rewards.add(entry.getValue());
+            }
+            return start;
+        }
+
+        private int addMarkers(List<String> markers) {
+            int start = keywords.size();
+            for (String marker : markers) {
+                keywords.add(marker);
+                rewards.add(null);
+            }
+            return start;
+        }
+
+        private BlockClassification classifyId(String id) {
+            if (id == null || id.isEmpty()) {
+                return BlockClassification.NONE;
+            }
+            BitSet matched = automaton.matches(id);
+            String normalized = id.toLowerCase(Locale.ROOT);
+            return new BlockClassification(
+                reward(normalized, matched, miningBlocks, miningStart, woodcuttingStart),
+                reward(normalized, matched, woodcuttingBlocks, woodcuttingStart, farmingStart),
+                reward(normalized, matched, farmingBlocks, farmingStart, woodStart),
+                anyIn(matched, woodStart, stoneStart),
+                anyIn(matched, stoneStart, finalStage),
+                matched.get(finalStage)
+            );
+        }
+
+        private GatheringReward reward(String normalized,
+                                       BitSet matched,
+                                       Map<String, GatheringReward> exact,
+                                       int from,
+                                       int to) {
+            GatheringReward reward = exact.get(normalized);
+            if (reward != null) {
+                return reward;
+            }
+            int first = matched.nextSetBit(from);
+            return first >= 0 && first < to ? rewards.get(first) : null;
+        }
+
+        private static boolean anyIn(BitSet matched, int from, int to) {
+            int first = matched.nextSetBit(from);
+            return first >= 0 && first < to;
+        }
+    }
+}
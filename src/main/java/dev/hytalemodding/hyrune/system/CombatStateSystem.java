@@ -6,10 +6,10 @@ import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.system.EntityEventSystem;
 import com.hypixel.hytale.component.query.Query;
-import com.hypixel.hytale.server.core.entity.EntityUtils;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
 import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import dev.hytalemodding.hyrune.combat.CombatStateTracker;
 import dev.hytalemodding.hyrune.util.PlayerEntityAccess;
@@ -22,13 +22,16 @@ import javax.annotation.Nonnull;
  * ECS system for combat state.
  */
 public class CombatStateSystem extends EntityEventSystem<EntityStore, Damage> {
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(CombatStateSystem.class);
+
     public CombatStateSystem() {
         super(Damage.class);
     }
 
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        // Any damageable entity; the attacker is marked even when the victim has no UUID.
+        return EntityStatMap.getComponentType();
     }
 
     @Override
@@ -37,13 +40,13 @@ public class CombatStateSystem extends EntityEventSystem<EntityStore, Damage> {
                        @Nonnull Store<EntityStore> store,
                        @Nonnull CommandBuffer<EntityStore> commandBuffer,
                        @Nonnull Damage damage) {
+        VISITS.visit();
         if (damage.isCancelled()) {
             return;
         }
 
         // Victim (players and NPCs/entities with UUID component).
-        var holder = EntityUtils.toHolder(index, archetypeChunk);
-        UUIDComponent victimUuidComponent = holder.getComponent(UUIDComponent.getComponentType());
+        UUIDComponent victimUuidComponent = archetypeChunk.getComponent(index, UUIDComponent.getComponentType());
         if (victimUuidComponent != null && victimUuidComponent.getUuid() != null) {
             CombatStateTracker.markCombat(victimUuidComponent.getUuid());
         }
@@ -19,6 +19,8 @@ import com.hypixel.hytale.server.core.modules.entitystats.EntityStatValue;
 import com.hypixel.hytale.server.core.modules.entitystats.asset.EntityStatType;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.npc.entities.NPCEntity;
+import dev.hytalemodding.hyrune.itemization.ItemClassification.CombatCategory;
+import dev.hytalemodding.hyrune.itemization.ItemClassificationIndex;
 import dev.hytalemodding.hyrune.level.CombatXpStyle;
 import dev.hytalemodding.hyrune.level.LevelingService;
 import dev.hytalemodding.hyrune.skills.SkillType;
@@ -34,6 +36,7 @@ import java.util.logging.Level;
  */
 public class CombatXpSystem extends DeathSystems.OnDeathSystem {
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(CombatXpSystem.class);
     private static final long DEFAULT_BASE_XP = 10L;
     private static final long CONSTITUTION_XP_DIVISOR = 3L;
     private static final String DEFAULT_WEAPON_ID = "bare_hands";
@@ -46,7 +49,7 @@ public class CombatXpSystem extends DeathSystems.OnDeathSystem {
 
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return EntityStatMap.getComponentType();
     }
 
     @Override
@@ -54,6 +57,7 @@ public class CombatXpSystem extends DeathSystems.OnDeathSystem {
                                  @Nonnull DeathComponent deathComponent,
                                  @Nonnull Store<EntityStore> store,
                                  @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        VISITS.visit();
 
         Damage deathInfo = deathComponent.getDeathInfo();
         if (deathInfo == null) {
@@ -90,7 +94,7 @@ public class CombatXpSystem extends DeathSystems.OnDeathSystem {
         }
 
         String weaponId = getHeldItemIdentifier(player);
-        CombatCategory combatCategory = determineCombatCategory(weaponId);
+        CombatCategory combatCategory = ItemClassificationIndex.classify(weaponId).combatCategory();
         UUID playerUuid = PlayerEntityAccess.getPlayerUuid(player);
         if (playerUuid == null) {
             return;
@@ -115,23 +119,6 @@ public class CombatXpSystem extends DeathSystems.OnDeathSystem {
         }
     }
 
-    /**
-     * Determines which combat category to use based on the weapon identifier.
-     */
-    private CombatCategory determineCombatCategory(String weaponId) {
-        String id = weaponId.toLowerCase();
-
-        if (id.contains("bow") || id.contains("crossbow") || id.contains("gun") || id.contains("sling")) {
-            return CombatCategory.RANGED;
-        }
-
-        if (id.contains("wand") || id.contains("staff") || id.contains("spellbook") || id.contains("scepter")) {
-            return CombatCategory.MAGIC;
-        }
-
-        return CombatCategory.MELEE;
-    }
-
 
     private String getVictimIdentifier(Ref<EntityStore> victimRef, Store<EntityStore> store) {
         try {
@@ -272,10 +259,4 @@ public class CombatXpSystem extends DeathSystems.OnDeathSystem {
             }
         }
     }
-
-    private enum CombatCategory {
-        MELEE,
-        RANGED,
-        MAGIC
-    }
 }
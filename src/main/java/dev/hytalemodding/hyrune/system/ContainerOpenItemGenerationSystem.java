@@ -18,6 +18,7 @@ import com.hypixel.hytale.server.core.universe.world.chunk.BlockComponentChunk;
 import com.hypixel.hytale.server.core.universe.world.meta.state.ItemContainerState;
 import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
 import dev.hytalemodding.hyrune.itemization.ItemGenerationService;
 import dev.hytalemodding.hyrune.itemization.ItemInstanceMetadata;
 import dev.hytalemodding.hyrune.itemization.ItemRarityRollModel;
@@ -30,13 +31,15 @@ import javax.annotation.Nonnull;
  * Rolls container loot before a block container window opens, so players see final rolled items immediately.
  */
 public class ContainerOpenItemGenerationSystem extends EntityEventSystem<EntityStore, UseBlockEvent.Pre> {
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(ContainerOpenItemGenerationSystem.class);
+
     public ContainerOpenItemGenerationSystem() {
         super(UseBlockEvent.Pre.class);
     }
 
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return PlayerRef.getComponentType();
     }
 
     @Override
@@ -45,6 +48,7 @@ public class ContainerOpenItemGenerationSystem extends EntityEventSystem<EntityS
                        @Nonnull Store<EntityStore> store,
                        @Nonnull CommandBuffer<EntityStore> commandBuffer,
                        @Nonnull UseBlockEvent.Pre event) {
+        VISITS.visit();
         World world = store.getExternalData().getWorld();
         if (world == null || event.getTargetBlock() == null) {
             return;
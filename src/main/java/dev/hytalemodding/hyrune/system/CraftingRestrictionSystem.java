@@ -6,7 +6,6 @@ import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.EntityEventSystem;
 import com.hypixel.hytale.server.core.asset.type.item.config.CraftingRecipe;
-import com.hypixel.hytale.server.core.entity.EntityUtils;
 import com.hypixel.hytale.server.core.event.events.ecs.CraftRecipeEvent;
 import com.hypixel.hytale.server.core.inventory.MaterialQuantity;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
@@ -22,6 +21,7 @@ import java.util.Locale;
  * ECS system for crafting restriction.
  */
 public class CraftingRestrictionSystem extends EntityEventSystem<EntityStore, CraftRecipeEvent.Pre> {
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(CraftingRestrictionSystem.class);
 
     public CraftingRestrictionSystem() {
         super(CraftRecipeEvent.Pre.class);
@@ -30,7 +30,7 @@ public class CraftingRestrictionSystem extends EntityEventSystem<EntityStore, Cr
     @Override
     @Nullable
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return PlayerRef.getComponentType();
     }
 
     @Override
@@ -39,9 +39,9 @@ public class CraftingRestrictionSystem extends EntityEventSystem<EntityStore, Cr
                        @Nonnull Store<EntityStore> store,
                        @Nonnull CommandBuffer<EntityStore> commandBuffer,
                        @Nonnull CraftRecipeEvent.Pre event) {
+        VISITS.visit();
 
-        var holder = EntityUtils.toHolder(index, archetypeChunk);
-        PlayerRef playerRef = holder.getComponent(PlayerRef.getComponentType());
+        PlayerRef playerRef = archetypeChunk.getComponent(index, PlayerRef.getComponentType());
         if (playerRef == null) {
             return;
         }
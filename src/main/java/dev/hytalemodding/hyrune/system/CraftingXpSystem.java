@@ -6,7 +6,6 @@ import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.EntityEventSystem;
 import com.hypixel.hytale.server.core.asset.type.item.config.CraftingRecipe;
-import com.hypixel.hytale.server.core.entity.EntityUtils;
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.events.ecs.CraftRecipeEvent;
@@ -32,6 +31,7 @@ import java.util.UUID;
  * ECS system for crafting xp.
  */
 public class CraftingXpSystem extends EntityEventSystem<EntityStore, CraftRecipeEvent.Post> {
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(CraftingXpSystem.class);
 
     private static Method benchTierMethod;
     private static boolean benchTierReady;
@@ -43,7 +43,7 @@ public class CraftingXpSystem extends EntityEventSystem<EntityStore, CraftRecipe
     @Override
     @Nullable
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return Query.and(Player.getComponentType(), UUIDComponent.getComponentType());
     }
 
     @Override
@@ -52,14 +52,14 @@ public class CraftingXpSystem extends EntityEventSystem<EntityStore, CraftRecipe
                        @Nonnull Store<EntityStore> store,
                        @Nonnull CommandBuffer<EntityStore> commandBuffer,
                        @Nonnull CraftRecipeEvent.Post event) {
+        VISITS.visit();
 
-        var holder = EntityUtils.toHolder(index, archetypeChunk);
-        Player player = holder.getComponent(Player.getComponentType());
+        Player player = archetypeChunk.getComponent(index, Player.getComponentType());
         if (player == null) {
             return;
         }
 
-        UUIDComponent uuidComponent = holder.getComponent(UUIDComponent.getComponentType());
+        UUIDComponent uuidComponent = archetypeChunk.getComponent(index, UUIDComponent.getComponentType());
         if (uuidComponent == null) {
             return;
         }
@@ -11,6 +11,7 @@ import com.hypixel.hytale.server.core.event.events.ecs.InteractivelyPickupItemEv
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import dev.hytalemodding.hyrune.gathering.GatheringReward;
 import dev.hytalemodding.hyrune.itemization.GatheringUtilityDropService;
 import dev.hytalemodding.hyrune.itemization.PlayerItemizationStatsService;
 import dev.hytalemodding.hyrune.level.LevelingService;
@@ -63,7 +64,7 @@ import java.util.concurrent.ThreadLocalRandom;
             return;
         }
 
-        GatheringXpSystem.Reward reward = GatheringXpSystem.findFarmingHarvestReward(itemId);
+        GatheringReward reward = GatheringXpSystem.findFarmingHarvestReward(itemId);
         if (reward == null) {
             return;
         }
@@ -22,6 +22,7 @@ import com.hypixel.hytale.server.core.universe.world.chunk.section.BlockSection;
 import com.hypixel.hytale.server.core.universe.world.storage.ChunkStore;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+import dev.hytalemodding.hyrune.gathering.GatheringReward;
 import dev.hytalemodding.hyrune.itemization.GatheringUtilityDropService;
 import dev.hytalemodding.hyrune.itemization.PlayerItemizationStatsService;
 import dev.hytalemodding.hyrune.level.LevelingService;
@@ -30,9 +31,7 @@ import dev.hytalemodding.hyrune.registry.ToolRequirementRegistry;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -40,98 +39,6 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public class GatheringXpSystem extends EntityEventSystem<EntityStore, BreakBlockEvent> {
 
-    private static final Map<String, Reward> MINING_BLOCKS = new HashMap<>();
-    private static final Map<String, Reward> MINING_KEYWORDS = new HashMap<>();
-    private static final Map<String, Reward> WOODCUTTING_BLOCKS = new HashMap<>();
-    private static final Map<String, Reward> WOODCUTTING_KEYWORDS = new HashMap<>();
-    private static final Map<String, Reward> FARMING_BLOCKS = new HashMap<>();
-    private static final Map<String, Reward> FARMING_KEYWORDS = new HashMap<>();
-    private static final Reward DEFAULT_FARMING_REWARD = new Reward(1, 10);
-    private static final String[] FARMING_KEYWORDS_LIST = {
-            "crop",
-            "mushroom",
-            "wheat",
-            "turnip",
-            "tomato",
-            "rice",
-            "pumpkin",
-            "potato",
-            "onion",
-            "lettuce",
-            "cotton",
-            "corn",
-            "chilli",
-            "cauliflower",
-            "carrot",
-            "berry",
-            "aubergine",
-            "apple",
-            "flower",
-            "fiber",
-            "cactus",
-            "coral",
-            "fruit",
-            "fern",
-            "hay"
-    };
-    static {
-        // Mining examples.
-        MINING_KEYWORDS.put("copper", new Reward(1, 8));
-        MINING_KEYWORDS.put("iron", new Reward(10, 17));
-        MINING_KEYWORDS.put("silver", new Reward(10, 24));
-        MINING_KEYWORDS.put("coal", new Reward(15, 35));
-        MINING_KEYWORDS.put("gold", new Reward(25, 54));
-        MINING_KEYWORDS.put("cobalt", new Reward(30, 62));
-        MINING_KEYWORDS.put("adamantite", new Reward(40, 90));
-        MINING_KEYWORDS.put("thorium", new Reward(50, 165));
-        MINING_KEYWORDS.put("mithril", new Reward(60, 315));
-        MINING_KEYWORDS.put("onyxium", new Reward(70, 620));
-
-        MINING_KEYWORDS.put("rock", new Reward(1, 2));
-
-        // Woodcutting examples.
-        WOODCUTTING_KEYWORDS.put("oak", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("pine", new Reward(5, 12));
-        WOODCUTTING_KEYWORDS.put("wisteria", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("windwillow", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("stormbark", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("spiral", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("sallow", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("redwood", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("poisoned", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("petrified", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("palo", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("palm", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("maple", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("jungle", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("ice", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("gumboab", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("gnarled", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("fire", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("fir", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("fig_blue", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("dry", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("crystal", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("cedar", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("camphor", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("burnt", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("bottletree", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("birch", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("beech", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("banyan", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("bamboo", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("azure", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("aspen", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("ash", new Reward(1, 8));
-        WOODCUTTING_KEYWORDS.put("amber", new Reward(1, 8));
-
-        // Farming examples (mature crops only).
-        for (String keyword : FARMING_KEYWORDS_LIST) {
-            FARMING_KEYWORDS.put(keyword, DEFAULT_FARMING_REWARD);
-        }
-
-    }
-
     public GatheringXpSystem() {
         super(BreakBlockEvent.class);
     }
@@ -161,10 +68,13 @@ public class GatheringXpSystem extends EntityEventSystem<EntityStore, BreakBlock
             return;
         }
 
-        String blockId = blockType.getId().toLowerCase(Locale.ROOT);
+        BlockClassification classification = BlockClassificationIndex.classify(blockType);
+        if (classification.reward() == null) {
+            return;
+        }
         String itemId = getHeldItemId(event);
 
-        Reward miningReward = findReward(blockId, MINING_BLOCKS, MINING_KEYWORDS);
+        GatheringReward miningReward = classification.miningReward();
         if (miningReward != null) {
             if (!isPickaxe(itemId)) {
                 return;
@@ -180,7 +90,7 @@ public class GatheringXpSystem extends EntityEventSystem<EntityStore, BreakBlock
             return;
         }
 
-        Reward woodcuttingReward = findReward(blockId, WOODCUTTING_BLOCKS, WOODCUTTING_KEYWORDS);
+        GatheringReward woodcuttingReward = classification.woodcuttingReward();
         if (woodcuttingReward != null) {
             if (!isAxe(itemId)) {
                 return;
@@ -196,7 +106,7 @@ public class GatheringXpSystem extends EntityEventSystem<EntityStore, BreakBlock
             return;
         }
 
-        Reward farmingReward = findFarmingReward(blockId);
+        GatheringReward farmingReward = classification.farmingReward();
         if (farmingReward != null) {
             World world = store.getExternalData().getWorld();
             if (!isMatureCrop(world, blockType, event.getTargetBlock())) {
@@ -240,21 +150,6 @@ public class GatheringXpSystem extends EntityEventSystem<EntityStore, BreakBlock
         }
     }
 
-    private static Reward findReward(String blockId, Map<String, Reward> exact, Map<String, Reward> keywords) {
-        Reward reward = exact.get(blockId);
-        if (reward != null) {
-            return reward;
-        }
-
-        for (Map.Entry<String, Reward> entry : keywords.entrySet()) {
-            if (blockId.contains(entry.getKey())) {
-                return entry.getValue();
-            }
-        }
-
-        return null;
-    }
-
     private static boolean isToolRestricted(PlayerRef playerRef, SkillType skill, @Nullable String itemId, BreakBlockEvent event) {
         if (itemId == null) {
             return false;
@@ -279,7 +174,7 @@ public class GatheringXpSystem extends EntityEventSystem<EntityStore, BreakBlock
         return false;
     }
 
-    private static boolean isRestricted(PlayerRef playerRef, SkillType skill, Reward reward, BreakBlockEvent event) {
+    private static boolean isRestricted(PlayerRef playerRef, SkillType skill, GatheringReward reward, BreakBlockEvent event) {
         LevelingService service = LevelingService.get();
         if (service == null) {
             return true;
@@ -333,8 +228,7 @@ public class GatheringXpSystem extends EntityEventSystem<EntityStore, BreakBlock
             return false;
         }
 
-        String blockId = blockType.getId();
-        if (blockId != null && blockId.toLowerCase(Locale.ROOT).contains("stagefinal")) {
+        if (BlockClassificationIndex.classify(blockType).finalStage()) {
             return true;
         }
 
@@ -393,31 +287,15 @@ public class GatheringXpSystem extends EntityEventSystem<EntityStore, BreakBlock
         return currentStage >= stages.length - 1;
     }
 
-    public static Reward findFarmingReward(String blockId) {
-        return findReward(blockId, FARMING_BLOCKS, FARMING_KEYWORDS);
+    public static GatheringReward findFarmingReward(String blockId) {
+        return BlockClassificationIndex.classifyId(blockId).farmingReward();
     }
 
-    public static Reward findMiningReward(String blockId) {
-        if (blockId == null) {
-            return null;
-        }
-        return findReward(blockId.toLowerCase(Locale.ROOT), MINING_BLOCKS, MINING_KEYWORDS);
+    public static GatheringReward findMiningReward(String blockId) {
+        return BlockClassificationIndex.classifyId(blockId).miningReward();
     }
 
-    static Reward findFarmingHarvestReward(String itemId) {
-        if (itemId == null) {
-            return null;
-        }
-        return findReward(itemId.toLowerCase(Locale.ROOT), FARMING_BLOCKS, FARMING_KEYWORDS);
-    }
-
-    public static final class Reward {
-        public final int minLevel;
-        public final long xp;
-
-        private Reward(int minLevel, long xp) {
-            this.minLevel = minLevel;
-            this.xp = xp;
-        }
+    static GatheringReward findFarmingHarvestReward(String itemId) {
+        return BlockClassificationIndex.classifyId(itemId).farmingReward();
     }
 }
@@ -7,8 +7,8 @@ import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.EntityEventSystem;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
-import com.hypixel.hytale.server.core.entity.EntityUtils;
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
+import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent;
 import com.hypixel.hytale.server.core.inventory.Inventory;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
@@ -29,6 +29,7 @@ import java.util.logging.Level;
  */
 public class MiningDurabilitySystem extends EntityEventSystem<EntityStore, BreakBlockEvent> {
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(MiningDurabilitySystem.class);
     public static final float MINING_DURABILITY_REDUCTION_PER_LEVEL = 0.30f / 99.0f;
     public static final float MINING_DURABILITY_REDUCTION_CAP = 0.30f;
 
@@ -38,7 +39,7 @@ public class MiningDurabilitySystem extends EntityEventSystem<EntityStore, Break
 
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return Query.and(Player.getComponentType(), UUIDComponent.getComponentType());
     }
 
     @Override
@@ -47,9 +48,9 @@ public class MiningDurabilitySystem extends EntityEventSystem<EntityStore, Break
                        @Nonnull Store<EntityStore> store,
                        @Nonnull CommandBuffer<EntityStore> commandBuffer,
                        @Nonnull BreakBlockEvent event) {
+        VISITS.visit();
         boolean debug = HyruneConfigManager.getConfig().durabilityDebugLogging;
-        var holder = EntityUtils.toHolder(index, archetypeChunk);
-        UUIDComponent uuidComponent = holder.getComponent(UUIDComponent.getComponentType());
+        UUIDComponent uuidComponent = archetypeChunk.getComponent(index, UUIDComponent.getComponentType());
         if (uuidComponent == null) {
             if (debug) {
                 LOGGER.at(Level.INFO).log("[DurabilityDebug][Mining] skipped: missing UUID component");
@@ -58,7 +59,7 @@ public class MiningDurabilitySystem extends EntityEventSystem<EntityStore, Break
         }
 
         BlockType blockType = event.getBlockType();
-        if (MiningUtils.isWoodBlock(blockType)) {
+        if (BlockClassificationIndex.classify(blockType).woodBlock()) {
             if (debug) {
                 LOGGER.at(Level.INFO).log("[DurabilityDebug][Mining] skipped: wood block");
             }
@@ -109,7 +110,7 @@ public class MiningDurabilitySystem extends EntityEventSystem<EntityStore, Break
             return;
         }
 
-        var player = holder.getComponent(com.hypixel.hytale.server.core.entity.entities.Player.getComponentType());
+        var player = archetypeChunk.getComponent(index, com.hypixel.hytale.server.core.entity.entities.Player.getComponentType());
         if (player == null) {
             if (debug) {
                 LOGGER.at(Level.INFO).log("[DurabilityDebug][Mining] skipped: player missing");
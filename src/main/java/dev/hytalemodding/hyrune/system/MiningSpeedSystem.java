@@ -6,16 +6,16 @@ import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.EntityEventSystem;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
-import com.hypixel.hytale.server.core.entity.EntityUtils;
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
+import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.events.ecs.DamageBlockEvent;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import dev.hytalemodding.Hyrune;
 import dev.hytalemodding.hyrune.itemization.PlayerItemizationStatsService;
 import dev.hytalemodding.hyrune.level.LevelingService;
-import dev.hytalemodding.hyrune.skills.SkillType;
 import dev.hytalemodding.hyrune.registry.ToolRequirementRegistry;
+import dev.hytalemodding.hyrune.skills.SkillType;
 import dev.hytalemodding.hyrune.util.MiningUtils;
 
 import javax.annotation.Nonnull;
@@ -24,6 +24,8 @@ import javax.annotation.Nonnull;
  * ECS system for mining speed.
  */
 public class MiningSpeedSystem extends EntityEventSystem<EntityStore, DamageBlockEvent> {
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(MiningSpeedSystem.class);
+
     public static final float MINING_DAMAGE_PER_LEVEL = 0.02f;
 
     public MiningSpeedSystem() {
@@ -32,7 +34,7 @@ public class MiningSpeedSystem extends EntityEventSystem<EntityStore, DamageBloc
 
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return Query.and(Player.getComponentType(), UUIDComponent.getComponentType());
     }
 
     @Override
@@ -41,14 +43,14 @@ public class MiningSpeedSystem extends EntityEventSystem<EntityStore, DamageBloc
                        @Nonnull Store<EntityStore> store,
                        @Nonnull CommandBuffer<EntityStore> commandBuffer,
                        @Nonnull DamageBlockEvent event) {
-        var holder = EntityUtils.toHolder(index, archetypeChunk);
-        UUIDComponent uuidComponent = holder.getComponent(UUIDComponent.getComponentType());
+        VISITS.visit();
+        UUIDComponent uuidComponent = archetypeChunk.getComponent(index, UUIDComponent.getComponentType());
         if (uuidComponent == null) {
             return;
         }
 
         BlockType blockType = event.getBlockType();
-        if (MiningUtils.isWoodBlock(blockType)) {
+        if (BlockClassificationIndex.classify(blockType).woodBlock()) {
             return;
         }
 
@@ -0,0 +1,85 @@
+package dev.hytalemodding.hyrune.system;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how many entities each ECS system visits, so a system that regresses to a broad
+ * query shows up in /queryaudit.
+ * <p>
+ * Counting is off by default and only runs between {@link #start()} and {@link #stop()}, so
+ * systems pay a single volatile read per visit outside an audit.
+ */
+public final class QueryAudit {
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static volatile boolean enabled;
+    private static volatile long windowStartMillis = System.currentTimeMillis();
+
+    private QueryAudit() {
+    }
+
+    /**
+     * Returns the shared counter for a system; call once and keep the handle.
+     */
+    public static Counter counter(Class<?> system) {
+        return COUNTERS.computeIfAbsent(system.getSimpleName(), ignored -> new Counter());
+    }
+
+    /**
+     * Visit counts since the last reset, busiest system first.
+     */
+    public static List<Map.Entry<String, Long>> snapshot() {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(COUNTERS.size());
+        for (Map.Entry<String, Counter> entry : COUNTERS.entrySet()) {
+            entries.add(Map.entry(entry.getKey(), entry.getValue().visits.sum()));
+        }
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        return entries;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Clears all counts and starts counting visits.
+     */
+    public static void start() {
+        reset();
+        enabled = true;
+    }
+
+    /**
+     * Stops counting; counts stay readable through {@link #snapshot()}.
+     */
+    public static void stop() {
+        enabled = false;
+    }
+
+    public static long getWindowMillis() {
+        return System.currentTimeMillis() - windowStartMillis;
+    }
+
+    public static void reset() {
+        for (Counter counter : COUNTERS.values()) {
+            counter.visits.reset();
+        }
+        windowStartMillis = System.currentTimeMillis();
+    }
+
+    public static final class Counter {
+        private final LongAdder visits = new LongAdder();
+
+        private Counter() {
+        }
+
+        public void visit() {
+            if (enabled) {
+                visits.increment();
+            }
+        }
+    }
+}
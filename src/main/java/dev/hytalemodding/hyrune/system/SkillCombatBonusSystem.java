@@ -11,7 +11,6 @@ import com.hypixel.hytale.component.dependency.SystemGroupDependency;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.EntityEventSystem;
 import com.hypixel.hytale.server.core.Message;
-import com.hypixel.hytale.server.core.entity.EntityUtils;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.inventory.Inventory;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
@@ -48,6 +47,8 @@ import static dev.hytalemodding.Hyrune.LOGGER;
  * ECS system for skill combat bonus.
  */
 public class SkillCombatBonusSystem extends EntityEventSystem<EntityStore, Damage> {
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(SkillCombatBonusSystem.class);
+
     public static final float STRENGTH_DAMAGE_PER_LEVEL = 0.02f;
     public static final float ATTACK_DAMAGE_PER_LEVEL = STRENGTH_DAMAGE_PER_LEVEL;
     public static final float DEFENCE_DAMAGE_REDUCTION_PER_LEVEL = 0.30f / 99.0f;
@@ -94,7 +95,7 @@ public class SkillCombatBonusSystem extends EntityEventSystem<EntityStore, Damag
 
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return EntityStatMap.getComponentType();
     }
 
     @Override
@@ -103,12 +104,13 @@ public class SkillCombatBonusSystem extends EntityEventSystem<EntityStore, Damag
                        @Nonnull Store<EntityStore> store,
                        @Nonnull CommandBuffer<EntityStore> commandBuffer,
                        @Nonnull Damage damage) {
+        VISITS.visit();
         if (damage.isCancelled()) {
             return;
         }
 
         Player victim = archetypeChunk.getComponent(index, Player.getComponentType());
-        applyDefenceBonus(index, archetypeChunk, store, commandBuffer, damage);
+        applyDefenceBonus(index, archetypeChunk, victim, store, commandBuffer, damage);
         if (damage.isCancelled()) {
             return;
         }
@@ -170,11 +172,10 @@ public class SkillCombatBonusSystem extends EntityEventSystem<EntityStore, Damag
 
     private static void applyDefenceBonus(int index,
                                           ArchetypeChunk<EntityStore> archetypeChunk,
+                                          Player victim,
                                           Store<EntityStore> store,
                                           CommandBuffer<EntityStore> commandBuffer,
                                           Damage damage) {
-        var holder = EntityUtils.toHolder(index, archetypeChunk);
-        Player victim = holder.getComponent(Player.getComponentType());
         if (victim == null) {
             return;
         }
@@ -2,11 +2,10 @@ package dev.hytalemodding.hyrune.system;
 
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
-import com.hypixel.hytale.component.Holder;
+import com.hypixel.hytale.component.ComponentType;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
-import com.hypixel.hytale.server.core.entity.EntityUtils;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.entity.movement.MovementStatesComponent;
 import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
@@ -20,18 +19,19 @@ import dev.hytalemodding.hyrune.combat.CombatStateTracker;
 import dev.hytalemodding.hyrune.config.HyruneConfig;
 import dev.hytalemodding.hyrune.config.HyruneConfigManager;
 import dev.hytalemodding.hyrune.itemization.PlayerItemizationStatsService;
-import dev.hytalemodding.hyrune.level.LevelingService;
+import dev.hytalemodding.hyrune.level.DerivedSkillStats;
 import dev.hytalemodding.hyrune.npc.NpcLevelComponent;
 import dev.hytalemodding.hyrune.skills.SkillType;
 import dev.hytalemodding.hyrune.util.PlayerEntityAccess;
 
 import javax.annotation.Nonnull;
-import java.util.Locale;
 
 /**
  * ECS system for skill regen.
  */
 public class SkillRegenSystem extends EntityTickingSystem<EntityStore> {
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(SkillRegenSystem.class);
+
     private static final String HEALTH_ID = "Health";
     private static final String MANA_ID = "Mana";
     private static final String STAMINA_ID = "Stamina";
@@ -42,9 +42,31 @@ public class SkillRegenSystem extends EntityTickingSystem<EntityStore> {
     private static final float DEFAULT_BOSS_HEALTH_REGEN_PER_LEVEL = 1000.0f / 99.0f;
     private static final float DEFAULT_BOSS_HEALTH_REGEN_CAP_PER_SEC = 1000.0f;
 
+    private static volatile RegenRuntimeConfig cachedRegenConfig;
+
+    private final ComponentType<EntityStore, Player> playerType;
+    private final ComponentType<EntityStore, EntityStatMap> statMapType;
+    private final ComponentType<EntityStore, NPCEntity> npcType;
+    private final ComponentType<EntityStore, NpcLevelComponent> npcLevelType;
+    private final ComponentType<EntityStore, MovementStatesComponent> movementStatesType;
+
+    public SkillRegenSystem() {
+        this.playerType = Player.getComponentType();
+        this.statMapType = EntityStatMap.getComponentType();
+        this.npcType = NPCEntity.getComponentType();
+        this.npcLevelType = Hyrune.getNpcLevelComponentType();
+        this.movementStatesType = MovementStatesComponent.getComponentType();
+    }
+
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return Query.and(
+            statMapType,
+            Query.or(
+                playerType,
+                Query.and(npcType, npcLevelType)
+            )
+        );
     }
 
     @Override
@@ -53,51 +75,47 @@ public class SkillRegenSystem extends EntityTickingSystem<EntityStore> {
                      @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
                      @Nonnull Store<EntityStore> store,
                      @Nonnull CommandBuffer<EntityStore> commandBuffer) {
-        RegenRuntimeConfig regenCfg = loadRegenConfig();
-        Holder<EntityStore> holder = EntityUtils.toHolder(index, archetypeChunk);
-        Player player = holder.getComponent(Player.getComponentType());
-        EntityStatMap statMap = holder.getComponent(EntityStatMap.getComponentType());
+        VISITS.visit();
+        RegenRuntimeConfig regenCfg = regenConfig(HyruneConfigManager.getConfig());
+        // Read components straight from the chunk; this runs for every player and NPC each tick.
+        EntityStatMap statMap = archetypeChunk.getComponent(index, statMapType);
         if (statMap == null) {
             return;
         }
 
+        Player player = archetypeChunk.getComponent(index, playerType);
         if (player != null) {
-            tickPlayerRegen(holder, statMap, regenCfg, dt);
+            tickPlayerRegen(player, archetypeChunk.getComponent(index, movementStatesType), statMap, regenCfg, dt);
             return;
         }
 
-        NPCEntity npc = holder.getComponent(NPCEntity.getComponentType());
-        NpcLevelComponent npcLevel = holder.getComponent(Hyrune.getNpcLevelComponentType());
-        if (npc == null || npcLevel == null) {
+        NpcLevelComponent npcLevel = archetypeChunk.getComponent(index, npcLevelType);
+        if (npcLevel == null) {
             return;
         }
 
         tickNpcRegen(statMap, npcLevel, regenCfg, dt);
     }
 
-    private static void tickPlayerRegen(Holder<EntityStore> holder,
+    private static void tickPlayerRegen(Player player,
+                                        MovementStatesComponent movementStates,
                                         EntityStatMap statMap,
                                         RegenRuntimeConfig regenCfg,
                                         float dt) {
-        Player player = holder.getComponent(Player.getComponentType());
-        if (player == null) {
-            return;
-        }
-
         PlayerRef playerRef = PlayerEntityAccess.getPlayerRef(player);
         if (playerRef == null) {
             return;
         }
 
-        LevelingService service = Hyrune.getService();
-        int magicLevel = service.getSkillLevel(playerRef.getUuid(), SkillType.MAGIC);
-        int agilityLevel = service.getSkillLevel(playerRef.getUuid(), SkillType.AGILITY);
-        int constitutionLevel = service.getSkillLevel(playerRef.getUuid(), SkillType.CONSTITUTION);
+        DerivedSkillStats skills = Hyrune.getService().getDerivedStats(playerRef.getUuid());
+        int magicLevel = skills.getLevel(SkillType.MAGIC);
+        int agilityLevel = skills.getLevel(SkillType.AGILITY);
+        int constitutionLevel = skills.getLevel(SkillType.CONSTITUTION);
         var itemStats = PlayerItemizationStatsService.getCached(playerRef.getUuid());
 
         applyManaRegen(statMap, magicLevel, (float) itemStats.getItemManaRegenBonusPerSecond(), dt);
 
-        if (!isSprinting(holder) && !CombatStateTracker.isInCombat(playerRef.getUuid())) {
+        if (!isSprinting(movementStates) && !CombatStateTracker.isInCombat(playerRef.getUuid())) {
             applyStaminaRegen(statMap, agilityLevel, (float) itemStats.getItemStaminaRegenBonusPerSecond(), dt);
             float constitutionRegen = constitutionLevel * regenCfg.playerHealthRegenPerConstitution;
             float rawHealthRegen = constitutionRegen + (float) itemStats.getItemHpRegenBonusPerSecond();
@@ -115,13 +133,15 @@ public class SkillRegenSystem extends EntityTickingSystem<EntityStore> {
         }
 
         boolean boss = isBossArchetype(npcLevel);
+        float capPerSecond = boss ? regenCfg.bossHealthRegenCapPerSecond : regenCfg.npcHealthRegenCapPerSecond;
+        applyHealthRegen(statMap, npcHealthRegenPerSecond(npcLevel, regenCfg), capPerSecond, dt);
+    }
 
+    static float npcHealthRegenPerSecond(NpcLevelComponent npcLevel, RegenRuntimeConfig regenCfg) {
         int level = Math.max(1, Math.min(99, npcLevel.getLevel()));
-        float regenPerSecond = boss
+        return isBossArchetype(npcLevel)
             ? (level * regenCfg.bossHealthRegenPerLevel)
             : (level * regenCfg.npcHealthRegenPerLevel);
-        float capPerSecond = boss ? regenCfg.bossHealthRegenCapPerSecond : regenCfg.npcHealthRegenCapPerSecond;
-        applyHealthRegen(statMap, regenPerSecond, capPerSecond, dt);
     }
 
     private static float applyManaRegen(EntityStatMap statMap, int magicLevel, float itemBonus, float dt) {
@@ -201,13 +221,26 @@ public class SkillRegenSystem extends EntityTickingSystem<EntityStore> {
         if (npcLevel == null || npcLevel.getArchetypeId() == null) {
             return false;
         }
-        return "BOSS".equalsIgnoreCase(npcLevel.getArchetypeId().trim().toUpperCase(Locale.ROOT));
+        return "BOSS".equalsIgnoreCase(npcLevel.getArchetypeId().trim());
+    }
+
+    /**
+     * Returns the regen values for a config instance, rebuilding them only after a reload.
+     */
+    static RegenRuntimeConfig regenConfig(HyruneConfig cfg) {
+        RegenRuntimeConfig cached = cachedRegenConfig;
+        if (cached != null && cached.source == cfg) {
+            return cached;
+        }
+        cached = loadRegenConfig(cfg);
+        cachedRegenConfig = cached;
+        return cached;
     }
 
-    private static RegenRuntimeConfig loadRegenConfig() {
-        HyruneConfig cfg = HyruneConfigManager.getConfig();
+    private static RegenRuntimeConfig loadRegenConfig(HyruneConfig cfg) {
         HyruneConfig.RegenConfig regen = cfg == null ? null : cfg.regen;
         return new RegenRuntimeConfig(
+            cfg,
             positiveOrDefault(regen == null ? 0.0 : regen.playerHealthRegenPerConstitution, DEFAULT_PLAYER_HEALTH_REGEN_PER_CONSTITUTION),
             positiveOrDefault(regen == null ? 0.0 : regen.playerHealthRegenCapPerSecond, DEFAULT_PLAYER_HEALTH_REGEN_CAP_PER_SEC),
             positiveOrDefault(regen == null ? 0.0 : regen.npcHealthRegenPerLevel, DEFAULT_NPC_HEALTH_REGEN_PER_LEVEL),
@@ -224,16 +257,16 @@ public class SkillRegenSystem extends EntityTickingSystem<EntityStore> {
         return (float) value;
     }
 
-    private record RegenRuntimeConfig(float playerHealthRegenPerConstitution,
-                                      float playerHealthRegenCapPerSecond,
-                                      float npcHealthRegenPerLevel,
-                                      float npcHealthRegenCapPerSecond,
-                                      float bossHealthRegenPerLevel,
-                                      float bossHealthRegenCapPerSecond) {
+    record RegenRuntimeConfig(HyruneConfig source,
+                              float playerHealthRegenPerConstitution,
+                              float playerHealthRegenCapPerSecond,
+                              float npcHealthRegenPerLevel,
+                              float npcHealthRegenCapPerSecond,
+                              float bossHealthRegenPerLevel,
+                              float bossHealthRegenCapPerSecond) {
     }
 
-    private static boolean isSprinting(Holder<EntityStore> holder) {
-        MovementStatesComponent movementStates = holder.getComponent(MovementStatesComponent.getComponentType());
+    private static boolean isSprinting(MovementStatesComponent movementStates) {
         if (movementStates == null) {
             return false;
         }
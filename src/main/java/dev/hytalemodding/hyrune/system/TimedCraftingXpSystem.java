@@ -3,13 +3,13 @@ package dev.hytalemodding.hyrune.system;
 import com.hypixel.hytale.builtin.crafting.component.CraftingManager;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.ComponentType;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.asset.type.item.config.CraftingRecipe;
 import com.hypixel.hytale.server.core.entity.ItemUtils;
-import com.hypixel.hytale.server.core.entity.EntityUtils;
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.inventory.Inventory;
@@ -48,6 +48,8 @@ import java.util.concurrent.BlockingQueue;
  * ECS system for timed crafting xp.
  */
 public class TimedCraftingXpSystem extends EntityTickingSystem<EntityStore> {
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(TimedCraftingXpSystem.class);
+
     public static final float DOUBLE_PROC_CHANCE_PER_LEVEL = 0.20f / 99.0f;
     public static final float DOUBLE_PROC_CHANCE_CAP = 0.20f;
 
@@ -62,7 +64,14 @@ public class TimedCraftingXpSystem extends EntityTickingSystem<EntityStore> {
 
     private final Map<UUID, Map<Object, Integer>> playerJobStates = new HashMap<>();
 
+    private final ComponentType<EntityStore, Player> playerType;
+    private final ComponentType<EntityStore, UUIDComponent> uuidType;
+    private final ComponentType<EntityStore, CraftingManager> craftingManagerType;
+
     public TimedCraftingXpSystem() {
+        this.playerType = Player.getComponentType();
+        this.uuidType = UUIDComponent.getComponentType();
+        this.craftingManagerType = CraftingManager.getComponentType();
         initializeReflection();
     }
 
@@ -72,7 +81,7 @@ public class TimedCraftingXpSystem extends EntityTickingSystem<EntityStore> {
 
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return Query.and(playerType, uuidType, craftingManagerType);
     }
 
     @Override
@@ -86,24 +95,24 @@ public class TimedCraftingXpSystem extends EntityTickingSystem<EntityStore> {
                      @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
                      @Nonnull Store<EntityStore> store,
                      @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        VISITS.visit();
 
         if (!reflectionInitialized) {
             return;
         }
 
-        var holder = EntityUtils.toHolder(index, archetypeChunk);
-        Player player = holder.getComponent(Player.getComponentType());
+        Player player = archetypeChunk.getComponent(index, playerType);
         if (player == null) {
             return;
         }
 
-        UUIDComponent uuidComponent = holder.getComponent(UUIDComponent.getComponentType());
+        UUIDComponent uuidComponent = archetypeChunk.getComponent(index, uuidType);
         if (uuidComponent == null) {
             return;
         }
 
         UUID uuid = uuidComponent.getUuid();
-        CraftingManager craftingManager = holder.getComponent(CraftingManager.getComponentType());
+        CraftingManager craftingManager = archetypeChunk.getComponent(index, craftingManagerType);
         if (craftingManager == null) {
             return;
         }
@@ -115,7 +124,15 @@ public class TimedCraftingXpSystem extends EntityTickingSystem<EntityStore> {
                 return;
             }
 
-            Map<Object, Integer> jobStates = playerJobStates.computeIfAbsent(uuid, id -> new IdentityHashMap<>());
+            Map<Object, Integer> jobStates = playerJobStates.get(uuid);
+            if (queuedJobs.isEmpty() && (jobStates == null || jobStates.isEmpty())) {
+                // Idle crafter: nothing to track, so skip the per-tick bookkeeping.
+                return;
+            }
+            if (jobStates == null) {
+                jobStates = new IdentityHashMap<>();
+                playerJobStates.put(uuid, jobStates);
+            }
             Set<Object> liveJobs = Collections.newSetFromMap(new IdentityHashMap<>());
 
             for (Object job : queuedJobs) {
@@ -14,6 +14,7 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import dev.hytalemodding.Hyrune;
 import dev.hytalemodding.hyrune.config.HyruneConfigManager;
+import dev.hytalemodding.hyrune.gathering.GatheringReward;
 import dev.hytalemodding.hyrune.level.LevelingService;
 import dev.hytalemodding.hyrune.registry.ToolRequirementRegistry;
 import dev.hytalemodding.hyrune.skills.SkillType;
@@ -65,8 +66,9 @@ public class ToolTypeEnforcementSystem extends EntityEventSystem<EntityStore, Da
             return;
         }
 
-        boolean isWoodBlock = MiningUtils.isWoodBlock(blockType);
-        boolean isStoneOrOreBlock = MiningUtils.isStoneOrOreBlock(blockType);
+        BlockClassification classification = BlockClassificationIndex.classify(blockType);
+        boolean isWoodBlock = classification.woodBlock();
+        boolean isStoneOrOreBlock = classification.stoneOrOreBlock();
         boolean usingPickaxe = MiningUtils.isPickaxe(itemInHand);
         boolean usingAxe = MiningUtils.isAxe(itemInHand);
 
@@ -106,8 +108,8 @@ public class ToolTypeEnforcementSystem extends EntityEventSystem<EntityStore, Da
                 return;
             }
 
-            String blockId = blockType.getId() == null ? null : blockType.getId().toLowerCase(java.util.Locale.ROOT);
-            GatheringXpSystem.Reward miningReward = GatheringXpSystem.findMiningReward(blockId);
+            GatheringReward miningReward = classification.miningReward();
+            String blockId = blockType.getId();
             if (miningReward != null && miningLevel < miningReward.minLevel) {
                 cancelDamage(event);
                 warn(playerRef, "You need Mining level " + miningReward.minLevel + " to mine this.");
@@ -115,7 +117,7 @@ public class ToolTypeEnforcementSystem extends EntityEventSystem<EntityStore, Da
                     LOGGER.at(Level.INFO).log("[ToolGate] blocked: mining level " + miningLevel + " < block req " + miningReward.minLevel
                         + " for block=" + blockId);
                 }
-            } else if (debug && miningReward == null && blockId != null && blockId.contains("ore")) {
+            } else if (debug && miningReward == null && blockId != null && blockId.toLowerCase(java.util.Locale.ROOT).contains("ore")) {
                 LOGGER.at(Level.INFO).log("[ToolGate] no custom mining reward rule for ore block=" + blockId + ", not blocked by Hyrune.");
             }
             return;
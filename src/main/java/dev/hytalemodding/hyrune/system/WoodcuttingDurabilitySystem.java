@@ -7,8 +7,8 @@ import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.EntityEventSystem;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
-import com.hypixel.hytale.server.core.entity.EntityUtils;
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
+import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent;
 import com.hypixel.hytale.server.core.inventory.Inventory;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
@@ -29,6 +29,7 @@ import java.util.logging.Level;
  */
 public class WoodcuttingDurabilitySystem extends EntityEventSystem<EntityStore, BreakBlockEvent> {
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(WoodcuttingDurabilitySystem.class);
     public static final float WOODCUTTING_DURABILITY_REDUCTION_PER_LEVEL = 0.30f / 99.0f;
     public static final float WOODCUTTING_DURABILITY_REDUCTION_CAP = 0.30f;
     private static final double WOODCUTTING_DURABILITY_USE_FALLBACK = 0.25d;
@@ -39,7 +40,7 @@ public class WoodcuttingDurabilitySystem extends EntityEventSystem<EntityStore,
 
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return Query.and(Player.getComponentType(), UUIDComponent.getComponentType());
     }
 
     @Override
@@ -48,9 +49,9 @@ public class WoodcuttingDurabilitySystem extends EntityEventSystem<EntityStore,
                        @Nonnull Store<EntityStore> store,
                        @Nonnull CommandBuffer<EntityStore> commandBuffer,
                        @Nonnull BreakBlockEvent event) {
+        VISITS.visit();
         boolean debug = HyruneConfigManager.getConfig().durabilityDebugLogging;
-        var holder = EntityUtils.toHolder(index, archetypeChunk);
-        UUIDComponent uuidComponent = holder.getComponent(UUIDComponent.getComponentType());
+        UUIDComponent uuidComponent = archetypeChunk.getComponent(index, UUIDComponent.getComponentType());
         if (uuidComponent == null) {
             if (debug) {
                 LOGGER.at(Level.INFO).log("[DurabilityDebug][Woodcutting] skipped: missing UUID component");
@@ -59,7 +60,8 @@ public class WoodcuttingDurabilitySystem extends EntityEventSystem<EntityStore,
         }
 
         BlockType blockType = event.getBlockType();
-        if (MiningUtils.isStoneOrOreBlock(blockType)) {
+        BlockClassification classification = BlockClassificationIndex.classify(blockType);
+        if (classification.stoneOrOreBlock()) {
             if (debug) {
                 LOGGER.at(Level.INFO).log("[DurabilityDebug][Woodcutting] skipped: stone/ore block");
             }
@@ -96,7 +98,7 @@ public class WoodcuttingDurabilitySystem extends EntityEventSystem<EntityStore,
             ? 0d
             : BlockHarvestUtils.calculateDurabilityUse(itemInHand.getItem(), blockType);
         boolean syntheticDurabilityUse = false;
-        if (durabilityUse <= 0d && MiningUtils.isWoodBlock(blockType)) {
+        if (durabilityUse <= 0d && classification.woodBlock()) {
             durabilityUse = WOODCUTTING_DURABILITY_USE_FALLBACK;
             syntheticDurabilityUse = true;
             if (debug) {
@@ -118,7 +120,7 @@ public class WoodcuttingDurabilitySystem extends EntityEventSystem<EntityStore,
             return;
         }
 
-        var player = holder.getComponent(com.hypixel.hytale.server.core.entity.entities.Player.getComponentType());
+        var player = archetypeChunk.getComponent(index, com.hypixel.hytale.server.core.entity.entities.Player.getComponentType());
         if (player == null) {
             if (debug) {
                 LOGGER.at(Level.INFO).log("[DurabilityDebug][Woodcutting] skipped: player missing");
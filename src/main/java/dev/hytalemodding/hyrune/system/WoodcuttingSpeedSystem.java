@@ -6,11 +6,11 @@ import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.EntityEventSystem;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
-import com.hypixel.hytale.server.core.entity.EntityUtils;
 import com.hypixel.hytale.server.core.entity.UUIDComponent;
 import com.hypixel.hytale.server.core.event.events.ecs.DamageBlockEvent;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.core.entity.entities.Player;
 import dev.hytalemodding.Hyrune;
 import dev.hytalemodding.hyrune.itemization.PlayerItemizationStatsService;
 import dev.hytalemodding.hyrune.level.LevelingService;
@@ -24,6 +24,8 @@ import javax.annotation.Nonnull;
  * ECS system for woodcutting speed.
  */
 public class WoodcuttingSpeedSystem extends EntityEventSystem<EntityStore, DamageBlockEvent> {
+    private static final QueryAudit.Counter VISITS = QueryAudit.counter(WoodcuttingSpeedSystem.class);
+
     public static final float WOODCUTTING_DAMAGE_PER_LEVEL = 0.02f;
 
     public WoodcuttingSpeedSystem() {
@@ -32,7 +34,7 @@ public class WoodcuttingSpeedSystem extends EntityEventSystem<EntityStore, Damag
 
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        return Query.and(Player.getComponentType(), UUIDComponent.getComponentType());
     }
 
     @Override
@@ -41,14 +43,14 @@ public class WoodcuttingSpeedSystem extends EntityEventSystem<EntityStore, Damag
                        @Nonnull Store<EntityStore> store,
                        @Nonnull CommandBuffer<EntityStore> commandBuffer,
                        @Nonnull DamageBlockEvent event) {
-        var holder = EntityUtils.toHolder(index, archetypeChunk);
-        UUIDComponent uuidComponent = holder.getComponent(UUIDComponent.getComponentType());
+        VISITS.visit();
+        UUIDComponent uuidComponent = archetypeChunk.getComponent(index, UUIDComponent.getComponentType());
         if (uuidComponent == null) {
             return;
         }
 
         BlockType blockType = event.getBlockType();
-        if (MiningUtils.isStoneOrOreBlock(blockType)) {
+        if (BlockClassificationIndex.classify(blockType).stoneOrOreBlock()) {
             return;
         }
 
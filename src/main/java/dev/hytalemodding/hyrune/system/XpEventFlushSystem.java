@@ -0,0 +1,36 @@
+package dev.hytalemodding.hyrune.system;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import dev.hytalemodding.hyrune.level.LevelingService;
+
+import javax.annotation.Nonnull;
+
+/**
+ * ECS system that flushes batched XP events once per tick for players in the ticking world.
+ */
+public class XpEventFlushSystem extends TickingSystem<EntityStore> {
+    @Override
+    public void tick(float deltaTime, int tick, @Nonnull Store<EntityStore> store) {
+        LevelingService service = LevelingService.get();
+        if (service == null || service.getXpEvents().getPendingPlayerCount() == 0) {
+            return;
+        }
+
+        EntityStore entityStore = (EntityStore) store.getExternalData();
+        World world = entityStore != null ? entityStore.getWorld() : null;
+        if (world == null) {
+            return;
+        }
+
+        // HUD and title updates must run on the player's own world thread.
+        service.flushXpEvents(uuid -> {
+            PlayerRef playerRef = Universe.get().getPlayer(uuid);
+            return playerRef == null || Universe.get().getWorld(playerRef.getWorldUuid()) == world;
+        });
+    }
+}
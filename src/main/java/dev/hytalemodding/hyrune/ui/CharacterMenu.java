@@ -27,6 +27,7 @@ import dev.hytalemodding.Hyrune;
 import dev.hytalemodding.hyrune.clans.ClanPanelBridge;
 import dev.hytalemodding.hyrune.level.CombatXpStyle;
 import dev.hytalemodding.hyrune.level.LevelingService;
+import dev.hytalemodding.hyrune.level.formulas.LevelFormula;
 import dev.hytalemodding.hyrune.quests.Quest;
 import dev.hytalemodding.hyrune.quests.QuestListFilter;
 import dev.hytalemodding.hyrune.quests.QuestManager;
@@ -181,8 +182,9 @@ public class CharacterMenu extends InteractiveCustomUIPage<CharacterMenu.SkillMe
             int level = service.getSkillLevel(uuid, skill);
             totalLevel += level;
             long currentXp = service.getSkillXp(uuid, skill);
-            long currentLevelXp = service.getLevelFormula().getXpForLevel(level);
-            long nextLevelXp = service.getLevelFormula().getXpForLevel(level + 1);
+            LevelFormula formula = service.getLevelFormula(skill);
+            long currentLevelXp = formula.getXpForLevel(level);
+            long nextLevelXp = formula.getXpForLevel(level + 1);
             double progressPercent = 0.0;
             if (nextLevelXp > currentLevelXp) {
                 progressPercent = (double) (currentXp - currentLevelXp)
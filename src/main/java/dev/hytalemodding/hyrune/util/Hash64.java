@@ -0,0 +1,84 @@
+package dev.hytalemodding.hyrune.util;
+
+/**
+ * Streaming, non-cryptographic 64-bit hash (xxHash64 round and avalanche constants) for cache
+ * keys and content ids. Values are fed field by field, so callers never build an intermediate
+ * string just to hash it.
+ */
+public final class Hash64 {
+    private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME_3 = 0x165667B19E3779F9L;
+    private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+
+    private long acc;
+    private long length;
+
+    private Hash64(long seed) {
+        this.acc = seed + PRIME_5;
+    }
+
+    public static Hash64 start() {
+        return new Hash64(0L);
+    }
+
+    public Hash64 putLong(long value) {
+        acc ^= round(value);
+        acc = Long.rotateLeft(acc, 27) * PRIME_1 + PRIME_4;
+        length += Long.BYTES;
+        return this;
+    }
+
+    public Hash64 putInt(int value) {
+        return putLong(value);
+    }
+
+    /**
+     * Hashes the bit pattern, with {@code -0.0} folded into {@code 0.0}.
+     */
+    public Hash64 putDouble(double value) {
+        return putLong(Double.doubleToLongBits(value == 0.0 ? 0.0 : value));
+    }
+
+    /**
+     * Hashes the length and UTF-16 code units, four per round; null hashes like no string at all
+     * but differently from the empty string.
+     */
+    public Hash64 putString(String value) {
+        if (value == null) {
+            return putInt(-1);
+        }
+        int len = value.length();
+        putInt(len);
+        int i = 0;
+        for (; i + 3 < len; i += 4) {
+            putLong(((long) value.charAt(i) << 48)
+                | ((long) value.charAt(i + 1) << 32)
+                | ((long) value.charAt(i + 2) << 16)
+                | value.charAt(i + 3));
+        }
+        if (i < len) {
+            long tail = 0L;
+            for (; i < len; i++) {
+                tail = (tail << 16) | value.charAt(i);
+            }
+            putLong(tail);
+        }
+        return this;
+    }
+
+    public long finish() {
+        long h = acc + length;
+        h ^= h >>> 33;
+        h *= PRIME_2;
+        h ^= h >>> 29;
+        h *= PRIME_3;
+        h ^= h >>> 32;
+        return h;
+    }
+
+    private static long round(long input) {
+        return Long.rotateLeft(input * PRIME_2, 31) * PRIME_1;
+    }
+}
@@ -0,0 +1,163 @@
+package dev.hytalemodding.hyrune.util;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Level;
+
+/**
+ * Aho-Corasick matcher reporting every keyword contained in a text in a single pass.
+ * <p>
+ * Matching is case-insensitive for ASCII ids; keywords are numbered in the order they were given,
+ * so callers can resolve overlaps by index. Keywords with non-ASCII characters are logged and
+ * never match. Immutable once built.
+ */
+public final class KeywordAutomaton {
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final int ASCII = 128;
+
+    private final int[] alphabet;
+    private final int[][] transitions;
+    private final BitSet[] outputs;
+    private final int keywordCount;
+
+    private KeywordAutomaton(int[] alphabet, int[][] transitions, BitSet[] outputs, int keywordCount) {
+        this.alphabet = alphabet;
+        this.transitions = transitions;
+        this.outputs = outputs;
+        this.keywordCount = keywordCount;
+    }
+
+    /**
+     * Blank, null or non-ASCII keywords are kept as indices but never match.
+     */
+    public static KeywordAutomaton build(List<String> keywords) {
+        List<String> normalized = new ArrayList<>(keywords.size());
+        int[] alphabet = new int[ASCII];
+        int symbols = 1;
+        for (String keyword : keywords) {
+            String key = keyword == null ? "" : keyword.toLowerCase(Locale.ROOT);
+            normalized.add(key);
+            for (int i = 0; i < key.length(); i++) {
+                char c = key.charAt(i);
+                if (c < ASCII && alphabet[c] == 0) {
+                    alphabet[c] = symbols++;
+                }
+            }
+        }
+
+        // Trie, with -1 for missing edges; symbol 0 stands for every character outside the keywords.
+        List<int[]> trie = new ArrayList<>();
+        List<BitSet> outputs = new ArrayList<>();
+        trie.add(newState(symbols));
+        outputs.add(null);
+        for (int index = 0; index < normalized.size(); index++) {
+            String key = normalized.get(index);
+            if (key.isBlank()) {
+                continue;
+            }
+            if (!encodable(key)) {
+                LOGGER.at(Level.WARNING).log("Ignoring keyword '" + keywords.get(index) + "': only ASCII keywords can match.");
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < key.length(); i++) {
+                int symbol = alphabet[key.charAt(i)];
+                int next = trie.get(state)[symbol];
+                if (next < 0) {
+                    next = trie.size();
+                    trie.add(newState(symbols));
+                    outputs.add(null);
+                    trie.get(state)[symbol] = next;
+                }
+                state = next;
+            }
+            if (outputs.get(state) == null) {
+                outputs.set(state, new BitSet());
+            }
+            outputs.get(state).set(index);
+        }
+
+        // Breadth-first over the trie to turn it into a full DFA, folding suffix outputs in.
+        int[] fail = new int[trie.size()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        int[] root = trie.get(0);
+        for (int symbol = 0; symbol < symbols; symbol++) {
+            if (root[symbol] < 0) {
+                root[symbol] = 0;
+            } else {
+                fail[root[symbol]] = 0;
+                queue.add(root[symbol]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            BitSet inherited = outputs.get(fail[state]);
+            if (inherited != null) {
+                BitSet own = outputs.get(state);
+                if (own == null) {
+                    outputs.set(state, inherited);
+                } else {
+                    own.or(inherited);
+                }
+            }
+            int[] edges = trie.get(state);
+            int[] fallback = trie.get(fail[state]);
+            for (int symbol = 0; symbol < symbols; symbol++) {
+                int next = edges[symbol];
+                if (next < 0) {
+                    edges[symbol] = fallback[symbol];
+                } else {
+                    fail[next] = fallback[symbol];
+                    queue.add(next);
+                }
+            }
+        }
+
+        return new KeywordAutomaton(alphabet, trie.toArray(new int[0][]), outputs.toArray(new BitSet[0]), normalized.size());
+    }
+
+    /**
+     * Indices of all keywords contained in {@code text}; empty for null.
+     */
+    public BitSet matches(CharSequence text) {
+        BitSet found = new BitSet(keywordCount);
+        if (text == null) {
+            return found;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            state = transitions[state][c < ASCII ? alphabet[c] : 0];
+            BitSet output = outputs[state];
+            if (output != null) {
+                found.or(output);
+            }
+        }
+        return found;
+    }
+
+    public int keywordCount() {
+        return keywordCount;
+    }
+
+    private static boolean encodable(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) >= ASCII) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] newState(int symbols) {
+        int[] edges = new int[symbols];
+        Arrays.fill(edges, -1);
+        return edges;
+    }
+}
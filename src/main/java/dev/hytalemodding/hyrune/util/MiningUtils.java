@@ -1,6 +1,5 @@
 package dev.hytalemodding.hyrune.util;
 
-import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 
 /**
@@ -18,33 +17,6 @@ public final class MiningUtils {
         return id.contains("pickaxe");
     }
 
-    public static boolean isWoodBlock(BlockType blockType) {
-        if (blockType == null || blockType.getId() == null) {
-            return false;
-        }
-        String lowered = blockType.getId().toLowerCase();
-        return lowered.contains("wood")
-            || lowered.contains("log")
-            || lowered.contains("plank")
-            || lowered.contains("leaf")
-            || lowered.contains("leaves")
-            || lowered.contains("sapling")
-            || lowered.contains("bark")
-            || lowered.contains("branch");
-    }
-
-    public static boolean isStoneOrOreBlock(BlockType blockType) {
-        if (blockType == null || blockType.getId() == null) {
-            return false;
-        }
-        String id = blockType.getId().toLowerCase();
-        return id.contains("stone")
-            || id.contains("ore")
-            || id.contains("rock")
-            || id.contains("metal")
-            || id.contains("cobblestone");
-    }
-
     public static boolean isAxe(ItemStack stack) {
         if (stack == null || stack.getItemId() == null) {
             return false;
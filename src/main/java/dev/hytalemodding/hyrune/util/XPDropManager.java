@@ -24,9 +24,16 @@ public class XPDropManager {
 
     public static XPDropManager get() { return instance; }
 
+    /**
+     * Whether gains in this skill produce an XP drop (Constitution XP is too frequent to show).
+     */
+    public static boolean showsDropsFor(String skillName) {
+        return skillName != null && !"Constitution".equalsIgnoreCase(skillName);
+    }
+
     public void handleXpGain(UUID playerUuid, String skillName, long amount, float currentLevelProgress) {
         // 1. Get PlayerRef from Universe
-        if ("Constitution".equalsIgnoreCase(skillName)) {
+        if (!showsDropsFor(skillName)) {
             return;
         }
 
@@ -0,0 +1,119 @@
+package dev.hytalemodding.hyrune.config;
+
+import dev.hytalemodding.hyrune.itemization.ItemArchetype;
+import dev.hytalemodding.hyrune.itemization.ItemRollSource;
+import dev.hytalemodding.hyrune.itemization.ItemizedStat;
+import dev.hytalemodding.hyrune.repair.ItemRarity;
+import dev.hytalemodding.hyrune.skills.SkillType;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CompiledHyruneConfigTest {
+    @Test
+    void resolvesKeysCaseInsensitivelyAndFallsBackToCommonAndGeneric() {
+        HyruneConfig cfg = new HyruneConfig();
+        HyruneConfig.ItemizationSpecializedStatsConfig stats = cfg.itemizationSpecializedStats;
+        stats.poolByPrefix = Map.of(" Brutal ", List.of("physical_damage", "crit_bonus"));
+        stats.prefixPriorityWeightByRank = Map.of(1, 3.0);
+        stats.statsPerRarity = Map.of("COMMON", 2, "RARE", 4);
+        stats.rollTypeConstraintByStat = Map.of("Crit_Chance", "percent");
+
+        CompiledHyruneConfig compiled = CompiledHyruneConfig.compile(cfg);
+
+        assertEquals(List.of(ItemizedStat.PHYSICAL_DAMAGE, ItemizedStat.CRIT_BONUS), compiled.poolForPrefix("brutal"));
+        assertEquals(3.0, compiled.prefixPriorityWeight("BRUTAL", ItemizedStat.PHYSICAL_DAMAGE));
+        // Ranks past the configured table reuse the highest known rank.
+        assertEquals(3.0, compiled.prefixPriorityWeight("Brutal", ItemizedStat.CRIT_BONUS));
+        assertEquals(1.0, compiled.prefixPriorityWeight("Brutal", ItemizedStat.MAX_HP));
+        assertEquals(4, compiled.statsForRarity(ItemRarity.RARE));
+        assertEquals(2, compiled.statsForRarity(ItemRarity.EPIC));
+        assertEquals(RollConstraint.PERCENT_ONLY, compiled.rollConstraint(ItemizedStat.MAGICAL_CRIT_CHANCE));
+        assertEquals(RollConstraint.EITHER, compiled.rollConstraint(ItemizedStat.MAX_HP));
+        assertEquals(compiled.poolForArchetype(ItemArchetype.GENERIC), compiled.poolForArchetype(null));
+    }
+
+    @Test
+    void prefersExactGemPatternAndFallsBackToGenericArchetype() {
+        HyruneConfig cfg = new HyruneConfig();
+        Map<String, Map<String, Map<String, Double>>> bonuses = new LinkedHashMap<>();
+        bonuses.put("Rock_Gem_*", Map.of("generic", Map.of("max_hp", 2.0)));
+        bonuses.put("Rock_Gem_Ruby", Map.of(
+            "weapon_melee", Map.of("PHYSICAL_DAMAGE", 1.5),
+            "generic", Map.of("max_hp", 0.0)
+        ));
+        cfg.gemSockets.bonusesByGemPatternAndArchetype = bonuses;
+
+        CompiledHyruneConfig compiled = CompiledHyruneConfig.compile(cfg);
+
+        CompiledHyruneConfig.GemBonus melee = compiled.gemBonus("rock_gem_ruby", ItemArchetype.WEAPON_MELEE);
+        assertNotNull(melee);
+        assertEquals(ItemizedStat.PHYSICAL_DAMAGE, melee.stats()[0]);
+        assertEquals(1.5, melee.values()[0]);
+        // Zero-valued entries are dropped, leaving the flat max HP fallback.
+        assertNull(compiled.gemBonus("Rock_Gem_Ruby", ItemArchetype.TOOL));
+        CompiledHyruneConfig.GemBonus wildcard = compiled.gemBonus("Rock_Gem_Topaz", ItemArchetype.ARMOR_HEAVY);
+        assertNotNull(wildcard);
+        assertEquals(2.0, wildcard.values()[0]);
+        assertNull(compiled.gemBonus("Ingredient_Bar_Iron", ItemArchetype.GENERIC));
+    }
+
+    @Test
+    void compilesRareDropTablesBySkill() {
+        HyruneConfig cfg = new HyruneConfig();
+        HyruneConfig.GatheringRareDropEntry entry = new HyruneConfig.GatheringRareDropEntry();
+        entry.itemId = "Rock_Gem_Ruby";
+        entry.weight = 2.5;
+        HyruneConfig.GatheringRareDropSkillConfig mining = new HyruneConfig.GatheringRareDropSkillConfig();
+        mining.baseChance = 0.01;
+        mining.drops = List.of(entry);
+        cfg.gatheringUtilityDrops.rareDropsBySkill = Map.of("mining", mining);
+
+        CompiledHyruneConfig compiled = CompiledHyruneConfig.compile(cfg);
+
+        CompiledHyruneConfig.RareDropTable table = compiled.rareDrops(SkillType.MINING);
+        assertNotNull(table);
+        assertEquals(0.01, table.baseChance());
+        assertEquals(2.5, table.totalWeight());
+        assertNull(compiled.rareDrops(SkillType.FARMING));
+    }
+
+    @Test
+    void compilesRarityModelPerSourceWithUppercasedProfessions() {
+        HyruneConfig cfg = new HyruneConfig();
+        HyruneConfig.ItemizationRarityModelConfig model = cfg.itemizationRarityModel;
+        HyruneConfig.RarityWeights fishing = new HyruneConfig.RarityWeights();
+        fishing.common = -1.0;
+        fishing.rare = 0.5;
+        model.baseWeightsBySource = Map.of("fishing", fishing);
+        model.professionBonusPerLevel = Map.of("Smelting", 0.01);
+        model.benchTierBonus = Map.of(3, 0.2);
+        cfg.prefixes.rollableWords = List.of();
+
+        CompiledHyruneConfig compiled = CompiledHyruneConfig.compile(cfg);
+        CompiledHyruneConfig.RarityModel rarity = compiled.rarityModel();
+
+        double[] fishingWeights = rarity.baseWeights(ItemRollSource.FISHING);
+        assertEquals(0.0, fishingWeights[0]);
+        assertEquals(0.5, fishingWeights[2]);
+        // Unconfigured sources, and a null source (crafted), use the default weights.
+        HyruneConfig.RarityWeights defaults = new HyruneConfig.RarityWeights();
+        assertArrayEquals(rarity.baseWeights(ItemRollSource.CRAFTED), rarity.baseWeights(null));
+        assertEquals(defaults.common, rarity.baseWeights(ItemRollSource.DROPPED)[0]);
+        assertEquals(0.01, rarity.professionBonusPerLevel("SMELTING"));
+        assertEquals(0.01, rarity.professionBonusPerLevel("smelting"));
+        assertNull(rarity.professionBonusPerLevel("MINING"));
+        assertEquals(0.2, rarity.benchTierBonus(3));
+        assertEquals(0.0, rarity.benchTierBonus(9));
+        // An empty prefix list falls back to the defaults.
+        assertEquals(new HyruneConfig.PrefixConfig().rollableWords, compiled.rollablePrefixWords());
+        assertEquals(cfg.itemizationDebugLogging, compiled.itemizationDebugLogging());
+    }
+}
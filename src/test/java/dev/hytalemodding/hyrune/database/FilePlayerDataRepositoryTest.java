@@ -0,0 +1,66 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.level.CombatXpStyle;
+import dev.hytalemodding.hyrune.playerdata.PlayerLvlData;
+import dev.hytalemodding.hyrune.playerdata.SlayerPlayerData;
+import dev.hytalemodding.hyrune.skills.SkillType;
+import dev.hytalemodding.hyrune.slayer.SlayerTaskAssignment;
+import dev.hytalemodding.hyrune.slayer.SlayerTaskState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FilePlayerDataRepositoryTest {
+    @TempDir
+    Path root;
+
+    @Test
+    void binaryRepositoryMigratesLegacyJsonOnSave() {
+        String rootPath = root.toString();
+        UUID uuid = UUID.randomUUID();
+        PlayerLvlData legacy = new PlayerLvlData(uuid);
+        legacy.setSkillXp(SkillType.MINING, 1_234_567L);
+        legacy.setSkillLevel(SkillType.MINING, 77);
+        legacy.setRangedXpStyle(CombatXpStyle.DEFENCE);
+        new FileLevelRepository(rootPath, PlayerDataFormat.JSON).save(legacy);
+
+        FileLevelRepository binary = new FileLevelRepository(rootPath, PlayerDataFormat.BINARY);
+        PlayerLvlData migrated = binary.load(uuid);
+        assertEquals(77, migrated.getSkillLevel(SkillType.MINING));
+        binary.save(migrated);
+
+        Path players = root.resolve("players");
+        assertTrue(players.resolve(uuid + ".bin").toFile().exists());
+        assertFalse(players.resolve(uuid + ".json").toFile().exists());
+
+        PlayerLvlData reloaded = binary.load(uuid);
+        assertEquals(1_234_567L, reloaded.getSkillXp(SkillType.MINING));
+        assertEquals(77, reloaded.getSkillLevel(SkillType.MINING));
+        assertEquals(CombatXpStyle.DEFENCE, reloaded.getRangedXpStyle());
+    }
+
+    @Test
+    void slayerAssignmentSurvivesBinaryRoundTrip() {
+        FileSlayerRepository repository = new FileSlayerRepository(root.toString(), PlayerDataFormat.BINARY);
+        UUID uuid = UUID.randomUUID();
+        SlayerPlayerData data = new SlayerPlayerData(uuid);
+        data.addSlayerPoints(12);
+        data.incrementStreak();
+        data.setAssignment(new SlayerTaskAssignment("master", "task", "Skeleton", 10));
+        data.getAssignment().decrement();
+        repository.save(data);
+
+        SlayerPlayerData loaded = repository.load(uuid);
+        assertEquals(12, loaded.getSlayerPoints());
+        assertEquals(1, loaded.getCurrentStreak());
+        assertEquals(9, loaded.getAssignment().getRemainingKills());
+        assertEquals(SlayerTaskState.IN_PROGRESS, loaded.getAssignment().getState());
+        assertEquals("Skeleton", loaded.getAssignment().getTargetNpcTypeId());
+    }
+}
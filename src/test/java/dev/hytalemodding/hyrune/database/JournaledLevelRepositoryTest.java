@@ -0,0 +1,84 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.level.CombatXpStyle;
+import dev.hytalemodding.hyrune.playerdata.PlayerLvlData;
+import dev.hytalemodding.hyrune.skills.SkillType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournaledLevelRepositoryTest {
+    @TempDir
+    Path root;
+
+    @Test
+    void journalReplaysOverSnapshotAndDropsTornTail() throws IOException {
+        String rootPath = root.toString();
+        JournaledLevelRepository repository = newRepository(rootPath);
+        UUID uuid = UUID.randomUUID();
+        PlayerLvlData data = new PlayerLvlData(uuid);
+        for (int i = 0; i < 10; i++) {
+            data.addSkillXp(SkillType.MINING, 25L);
+            repository.save(data);
+        }
+        data.setMeleeXpStyle(CombatXpStyle.STRENGTH);
+        repository.save(data);
+
+        File journal = root.resolve("players").resolve(uuid + ".journal").toFile();
+        assertTrue(journal.exists());
+        try (FileOutputStream out = new FileOutputStream(journal, true)) {
+            out.write(new byte[] {0, 0, 0, 20, 1, 2});
+        }
+
+        PlayerLvlData recovered = newRepository(rootPath).load(uuid);
+        assertEquals(250L, recovered.getSkillXp(SkillType.MINING));
+        assertEquals(CombatXpStyle.STRENGTH, recovered.getMeleeXpStyle());
+        assertFalse(journal.exists());
+    }
+
+    @Test
+    void flushCompactsJournalIntoSnapshot() {
+        String rootPath = root.toString();
+        JournaledLevelRepository repository = newRepository(rootPath);
+        UUID uuid = UUID.randomUUID();
+        PlayerLvlData data = new PlayerLvlData(uuid);
+        data.addSkillXp(SkillType.FISHING, 40L);
+        repository.save(data);
+        repository.flush(uuid);
+
+        assertFalse(root.resolve("players").resolve(uuid + ".journal").toFile().exists());
+        assertEquals(40L, new FileLevelRepository(rootPath, PlayerDataFormat.JSON).load(uuid).getSkillXp(SkillType.FISHING));
+    }
+
+    @Test
+    void compactionWritesTheSavedCopyNotTheLiveObject() {
+        String rootPath = root.toString();
+        JournaledLevelRepository repository = newRepository(rootPath);
+        UUID uuid = UUID.randomUUID();
+        PlayerLvlData data = new PlayerLvlData(uuid);
+        data.addSkillXp(SkillType.WOODCUTTING, 30L);
+        repository.save(data);
+
+        // A change made after save() must neither reach the snapshot nor be recorded as durable.
+        data.addSkillXp(SkillType.WOODCUTTING, 70L);
+        repository.flush(uuid);
+        assertEquals(30L, new FileLevelRepository(rootPath, PlayerDataFormat.JSON).load(uuid).getSkillXp(SkillType.WOODCUTTING));
+
+        repository.save(data);
+        repository.flush(uuid);
+        assertEquals(100L, new FileLevelRepository(rootPath, PlayerDataFormat.JSON).load(uuid).getSkillXp(SkillType.WOODCUTTING));
+    }
+
+    private static JournaledLevelRepository newRepository(String rootPath) {
+        return new JournaledLevelRepository(new FileLevelRepository(rootPath, PlayerDataFormat.JSON), rootPath, 1_000);
+    }
+}
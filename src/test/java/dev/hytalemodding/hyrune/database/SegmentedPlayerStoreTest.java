@@ -0,0 +1,80 @@
+package dev.hytalemodding.hyrune.database;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SegmentedPlayerStoreTest {
+    private static final byte KIND = 7;
+
+    @TempDir
+    Path root;
+
+    @Test
+    void latestRecordWinsAcrossRollingAndCompaction() throws IOException {
+        File folder = root.resolve("store").toFile();
+        SegmentedPlayerStore store = SegmentedPlayerStore.open(folder, 1L, 3600L);
+        List<UUID> players = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            players.add(UUID.randomUUID());
+        }
+        for (int round = 0; round < 40; round++) {
+            for (UUID uuid : players) {
+                store.write(KIND, uuid, payload(uuid, round));
+            }
+        }
+
+        store.compact();
+        assertEquals(players.size(), store.count(KIND));
+        assertArrayEquals(payload(players.get(3), 39), store.read(KIND, players.get(3)));
+        assertNull(store.read((byte) (KIND + 1), players.get(3)));
+        store.close();
+
+        SegmentedPlayerStore reopened = SegmentedPlayerStore.open(folder, 1L, 3600L);
+        assertEquals(players.size(), reopened.count(KIND));
+        assertArrayEquals(payload(players.get(499), 39), reopened.read(KIND, players.get(499)));
+        reopened.close();
+    }
+
+    @Test
+    void tornTailIsTruncatedOnOpen() throws IOException {
+        File folder = root.resolve("store").toFile();
+        SegmentedPlayerStore store = SegmentedPlayerStore.open(folder, 1L, 3600L);
+        UUID uuid = UUID.randomUUID();
+        store.write(KIND, uuid, payload(uuid, 1));
+        store.close();
+
+        File[] segments = folder.listFiles();
+        Arrays.sort(segments);
+        try (FileOutputStream out = new FileOutputStream(segments[segments.length - 1], true)) {
+            out.write(new byte[] {0, 0, 0, 50, KIND, 1, 2});
+        }
+
+        SegmentedPlayerStore reopened = SegmentedPlayerStore.open(folder, 1L, 3600L);
+        assertArrayEquals(payload(uuid, 1), reopened.read(KIND, uuid));
+        UUID other = UUID.randomUUID();
+        reopened.write(KIND, other, payload(other, 2));
+        reopened.close();
+
+        SegmentedPlayerStore again = SegmentedPlayerStore.open(folder, 1L, 3600L);
+        assertArrayEquals(payload(other, 2), again.read(KIND, other));
+        again.close();
+    }
+
+    private static byte[] payload(UUID uuid, int round) {
+        return (uuid + ":" + round).getBytes(StandardCharsets.UTF_8);
+    }
+}
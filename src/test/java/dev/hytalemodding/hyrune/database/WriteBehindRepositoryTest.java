@@ -0,0 +1,96 @@
+package dev.hytalemodding.hyrune.database;
+
+import dev.hytalemodding.hyrune.playerdata.PlayerLvlData;
+import dev.hytalemodding.hyrune.playerdata.SocialPlayerData;
+import dev.hytalemodding.hyrune.skills.SkillType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class WriteBehindRepositoryTest {
+    @Test
+    void repeatedSavesCoalesceIntoOneWriteOnFlush() {
+        CountingRepository delegate = new CountingRepository();
+        WriteBehindRepository<SocialPlayerData> repository =
+            new WriteBehindRepository<>(delegate, "test", WriteBehindRepositoryTest::copy, 60_000L, 1_000);
+        SocialPlayerData data = new SocialPlayerData(UUID.randomUUID());
+
+        for (int i = 0; i < 50; i++) {
+            repository.save(data);
+        }
+        assertEquals(0, delegate.saves.get());
+        assertNotSame(data, repository.load(data.getUuid()));
+
+        repository.close();
+        assertEquals(1, delegate.saves.get());
+        assertEquals(0, repository.getDirtyCount());
+    }
+
+    @Test
+    void saveAfterCloseWritesThrough() {
+        CountingRepository delegate = new CountingRepository();
+        WriteBehindRepository<SocialPlayerData> repository =
+            new WriteBehindRepository<>(delegate, "test", WriteBehindRepositoryTest::copy, 60_000L, 1_000);
+        repository.close();
+
+        repository.save(new SocialPlayerData(UUID.randomUUID()));
+        assertEquals(1, delegate.saves.get());
+    }
+
+    @Test
+    void queuedSnapshotIgnoresLaterMutations() {
+        Map<UUID, PlayerLvlData> stored = new HashMap<>();
+        LevelRepository delegate = new LevelRepository() {
+            @Override
+            public PlayerLvlData load(UUID uuid) {
+                return stored.get(uuid);
+            }
+
+            @Override
+            public void save(PlayerLvlData data) {
+                stored.put(data.getUuid(), data);
+            }
+        };
+        WriteBehindLevelRepository repository = new WriteBehindLevelRepository(delegate, 60_000L, 1_000);
+        PlayerLvlData data = new PlayerLvlData(UUID.randomUUID());
+        data.addSkillXp(SkillType.MINING, 100L);
+        repository.save(data);
+
+        // The world thread keeps mutating its live object after handing it off.
+        data.addSkillXp(SkillType.MINING, 900L);
+        assertEquals(100L, repository.load(data.getUuid()).getSkillXp(SkillType.MINING));
+
+        repository.close();
+        assertNotSame(data, stored.get(data.getUuid()));
+        assertEquals(100L, stored.get(data.getUuid()).getSkillXp(SkillType.MINING));
+    }
+
+    private static SocialPlayerData copy(SocialPlayerData data) {
+        SocialPlayerData copy = new SocialPlayerData(data.getUuid());
+        copy.getFriends().addAll(data.getFriends());
+        copy.getIgnored().addAll(data.getIgnored());
+        return copy;
+    }
+
+    private static final class CountingRepository implements PlayerDataRepository<SocialPlayerData> {
+        private final Map<UUID, SocialPlayerData> stored = new HashMap<>();
+        private final AtomicInteger saves = new AtomicInteger();
+
+        @Override
+        public SocialPlayerData load(UUID uuid) {
+            return stored.get(uuid);
+        }
+
+        @Override
+        public void save(SocialPlayerData data) {
+            saves.incrementAndGet();
+            stored.put(data.getUuid(), data);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package dev.hytalemodding.hyrune.events;
+
+import com.hypixel.hytale.server.core.inventory.container.CombinedItemContainer;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+import com.hypixel.hytale.server.core.inventory.container.SimpleItemContainer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InventoryChangeDispatcherTest {
+    private final List<Runnable> worldThread = new ArrayList<>();
+    private final List<InventoryChangeBatch> seen = new ArrayList<>();
+    private final ItemContainer armor = new SimpleItemContainer((short) 4);
+    private final ItemContainer storage = new SimpleItemContainer((short) 9);
+
+    @Test
+    void eventsForOnePlayerCoalesceIntoOnePass() {
+        InventoryChangeDispatcher dispatcher = dispatcher(List.of(new InventoryChangeDispatcher.Stage("capture", seen::add)));
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        dispatcher.record(null, first, armor, null, false, true, worldThread::add);
+        dispatcher.record(null, first, storage, null, false, false, worldThread::add);
+        dispatcher.record(null, first, storage, null, false, false, worldThread::add);
+        dispatcher.record(null, second, storage, null, false, false, worldThread::add);
+
+        assertEquals(2, worldThread.size());
+        drain();
+        assertEquals(2, seen.size());
+        InventoryChangeBatch batch = seen.get(0);
+        assertEquals(first, batch.uuid());
+        assertEquals(3, batch.eventCount());
+        assertTrue(batch.equipmentChanged());
+        assertTrue(batch.touched(armor));
+        assertTrue(batch.touched(storage));
+        assertEquals(second, seen.get(1).uuid());
+        assertEquals(1, seen.get(1).eventCount());
+        assertFalse(seen.get(1).equipmentChanged());
+    }
+
+    @Test
+    void stagesRunInDeclaredOrder() {
+        assertEquals(List.of("armor-requirements", "container-loot", "trade-packs", "itemization"),
+            new InventoryChangeDispatcher().stageLabels());
+
+        List<String> order = new ArrayList<>();
+        InventoryChangeDispatcher dispatcher = dispatcher(List.of(
+            new InventoryChangeDispatcher.Stage("a", batch -> order.add("a")),
+            new InventoryChangeDispatcher.Stage("b", batch -> {
+                order.add("b");
+                throw new IllegalStateException("boom");
+            }),
+            new InventoryChangeDispatcher.Stage("c", batch -> order.add("c"))
+        ));
+        dispatcher.record(null, UUID.randomUUID(), storage, null, false, false, worldThread::add);
+        drain();
+
+        // A failing stage is logged and does not stop the ones after it.
+        assertEquals(List.of("a", "b", "c"), order);
+    }
+
+    @Test
+    void passResetsTheBatch() {
+        InventoryChangeDispatcher dispatcher = dispatcher(List.of(new InventoryChangeDispatcher.Stage("capture", seen::add)));
+        UUID uuid = UUID.randomUUID();
+
+        dispatcher.record(null, uuid, armor, null, false, true, worldThread::add);
+        dispatcher.record(null, uuid, armor, null, false, false, worldThread::add);
+        drain();
+        dispatcher.record(null, uuid, storage, null, false, false, worldThread::add);
+
+        assertEquals(1, worldThread.size());
+        drain();
+        assertEquals(2, seen.size());
+        InventoryChangeBatch fresh = seen.get(1);
+        assertEquals(1, fresh.eventCount());
+        assertFalse(fresh.equipmentChanged());
+        assertFalse(fresh.touched(armor));
+        assertTrue(fresh.touched(storage));
+    }
+
+    @Test
+    void combinedContainerChangesTouchEverySectionTheyCover() {
+        InventoryChangeDispatcher dispatcher = dispatcher(List.of(new InventoryChangeDispatcher.Stage("capture", seen::add)));
+        ItemContainer hotbar = new SimpleItemContainer((short) 9);
+        CombinedItemContainer combined = new CombinedItemContainer(armor, storage);
+
+        dispatcher.record(null, UUID.randomUUID(), combined, null, false, true, worldThread::add);
+        drain();
+
+        InventoryChangeBatch batch = seen.get(0);
+        assertTrue(batch.touched(armor));
+        assertTrue(batch.touched(storage));
+        assertFalse(batch.touched(hotbar));
+        BitSet all = new BitSet();
+        all.set(0, armor.getCapacity());
+        assertEquals(all, batch.changedSlots(armor));
+    }
+
+    @Test
+    void eventWithoutContainerTouchesEverySection() {
+        InventoryChangeDispatcher dispatcher = dispatcher(List.of(new InventoryChangeDispatcher.Stage("capture", seen::add)));
+
+        dispatcher.record(null, UUID.randomUUID(), null, null, false, false, worldThread::add);
+        drain();
+
+        InventoryChangeBatch batch = seen.get(0);
+        assertTrue(batch.touched(armor));
+        assertEquals(armor.getCapacity(), batch.changedSlots(armor).cardinality());
+    }
+
+    private static InventoryChangeDispatcher dispatcher(List<InventoryChangeDispatcher.Stage> stages) {
+        return new InventoryChangeDispatcher(stages);
+    }
+
+    private void drain() {
+        List<Runnable> tasks = new ArrayList<>(worldThread);
+        worldThread.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,146 @@
+package dev.hytalemodding.hyrune.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerDataPrefetcherTest {
+    private final BlockingQueue<Runnable> worldThread = new LinkedBlockingQueue<>();
+
+    @Test
+    void finishedPrefetchRunsJoinInline() {
+        AtomicInteger loads = new AtomicInteger();
+        PlayerDataPrefetcher prefetcher = new PlayerDataPrefetcher(
+            Map.of("level", uuid -> loads.incrementAndGet()), worldThread::add, 2_000L);
+        UUID uuid = UUID.randomUUID();
+
+        prefetcher.prefetch(uuid).future().join();
+        assertTrue(prefetcher.isReady(uuid));
+
+        AtomicInteger joins = new AtomicInteger();
+        prefetcher.whenLoaded(uuid, worldThread::add, joins::incrementAndGet);
+        assertEquals(1, joins.get());
+        assertEquals(1, loads.get());
+        assertTrue(worldThread.isEmpty());
+        prefetcher.shutdown();
+    }
+
+    @Test
+    void slowPrefetchHandsJoinBackToWorldThreadAfterTimeout() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        PlayerDataPrefetcher prefetcher = new PlayerDataPrefetcher(
+            Map.of("level", uuid -> awaitQuietly(release)), worldThread::add, 50L);
+        UUID uuid = UUID.randomUUID();
+        prefetcher.prefetch(uuid);
+        assertFalse(prefetcher.isReady(uuid));
+
+        AtomicInteger joins = new AtomicInteger();
+        prefetcher.whenLoaded(uuid, worldThread::add, joins::incrementAndGet);
+        assertEquals(0, joins.get());
+
+        Runnable handBack = worldThread.poll(5, TimeUnit.SECONDS);
+        assertNotNull(handBack);
+        handBack.run();
+        assertEquals(1, joins.get());
+        release.countDown();
+        prefetcher.shutdown();
+    }
+
+    @Test
+    void deferredJoinRunsOnTheJoinedWorldOnly() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingQueue<Runnable> syncQueue = new LinkedBlockingQueue<>();
+        PlayerDataPrefetcher prefetcher = new PlayerDataPrefetcher(
+            Map.of("level", uuid -> awaitQuietly(release)), syncQueue::add, 60_000L);
+        UUID uuid = UUID.randomUUID();
+        prefetcher.prefetch(uuid);
+
+        AtomicInteger joins = new AtomicInteger();
+        prefetcher.whenLoaded(uuid, worldThread::add, joins::incrementAndGet);
+        release.countDown();
+
+        Runnable handBack = worldThread.poll(5, TimeUnit.SECONDS);
+        assertNotNull(handBack);
+        assertTrue(syncQueue.isEmpty());
+        handBack.run();
+        assertEquals(1, joins.get());
+        prefetcher.shutdown();
+    }
+
+    @Test
+    void lateLoadsFromAnEarlierConnectionLeaveTheReconnectedSessionAlone() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        PlayerDataPrefetcher prefetcher = new PlayerDataPrefetcher(Map.of("level", uuid -> {
+            if (calls.incrementAndGet() == 1) {
+                awaitQuietly(release);
+            }
+        }), worldThread::add, 60_000L);
+        UUID uuid = UUID.randomUUID();
+
+        PlayerDataPrefetcher.Session first = prefetcher.prefetch(uuid);
+        AtomicInteger staleJoins = new AtomicInteger();
+        prefetcher.whenLoaded(uuid, worldThread::add, staleJoins::incrementAndGet);
+
+        // Disconnect mid-prefetch, then reconnect before the first loads finish.
+        assertEquals(first, prefetcher.cancel(uuid));
+        AtomicInteger unloads = new AtomicInteger();
+        prefetcher.whenAbandoned(uuid, first, unloads::incrementAndGet);
+        PlayerDataPrefetcher.Session second = prefetcher.prefetch(uuid);
+        assertNotEquals(first.token(), second.token());
+        assertFalse(prefetcher.isCurrent(uuid, first.token()));
+
+        release.countDown();
+        for (int i = 0; i < 2; i++) {
+            Runnable handBack = worldThread.poll(5, TimeUnit.SECONDS);
+            assertNotNull(handBack);
+            handBack.run();
+        }
+        assertEquals(0, staleJoins.get());
+        assertEquals(0, unloads.get());
+        assertTrue(prefetcher.isCurrent(uuid, second.token()));
+        prefetcher.shutdown();
+    }
+
+    @Test
+    void lateLoadsAreUnloadedWhenThePlayerStaysGone() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        PlayerDataPrefetcher prefetcher = new PlayerDataPrefetcher(
+            Map.of("level", uuid -> awaitQuietly(release)), worldThread::add, 60_000L);
+        UUID uuid = UUID.randomUUID();
+
+        PlayerDataPrefetcher.Session session = prefetcher.prefetch(uuid);
+        AtomicInteger unloads = new AtomicInteger();
+        prefetcher.whenAbandoned(uuid, prefetcher.cancel(uuid), unloads::incrementAndGet);
+
+        release.countDown();
+        session.future().join();
+        Runnable handBack = worldThread.poll(5, TimeUnit.SECONDS);
+        assertNotNull(handBack);
+        handBack.run();
+        assertEquals(1, unloads.get());
+        assertNull(prefetcher.cancel(uuid));
+        prefetcher.shutdown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
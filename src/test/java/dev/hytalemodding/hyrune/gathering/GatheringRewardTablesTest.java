@@ -0,0 +1,84 @@
+package dev.hytalemodding.hyrune.gathering;
+
+import dev.hytalemodding.hyrune.skills.SkillType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GatheringRewardTablesTest {
+    @TempDir
+    Path root;
+
+    @Test
+    void compilesDefaultsInListedOrder() {
+        GatheringRewardTables tables = GatheringRewardTables.compile(GatheringRewardTables.defaultConfig());
+
+        List<String> mining = List.copyOf(tables.keywordRewards(SkillType.MINING).keySet());
+        assertEquals("gold", mining.get(0));
+        assertTrue(mining.indexOf("rock") < mining.indexOf("copper"));
+        assertEquals(12L, tables.keywordRewards(SkillType.WOODCUTTING).get("pine").xp);
+        assertEquals(25, tables.keywordRewards(SkillType.FARMING).size());
+        assertEquals(15, tables.toolLevel("Tool_Pickaxe_Iron"));
+        assertNull(tables.toolLevel("Tool_Pickaxe_Bone"));
+    }
+
+    @Test
+    void invalidRulesAreSkippedAndEmptyConfigKeepsCurrentTables() {
+        GatheringRewardConfig config = new GatheringRewardConfig();
+        config.version = 7;
+        config.rewards.add(rule("MINING", "Ore_Gold_Stone", "exact", 30, 80));
+        config.rewards.add(rule("MINING", "gold", "contains", 25, 54));
+        config.rewards.add(rule("SLAYER", "gold", "contains", 1, 1));
+        config.rewards.add(rule("FARMING", " ", "contains", 1, 1));
+
+        GatheringRewardTables published = GatheringRewardTables.publish(config);
+        try {
+            assertSame(published, GatheringRewardTables.current());
+            assertEquals(7, published.version());
+            assertEquals(2, published.rewardCount());
+            assertEquals(80L, published.exactRewards(SkillType.MINING).get("ore_gold_stone").xp);
+
+            assertSame(published, GatheringRewardTables.publish(new GatheringRewardConfig()));
+            assertSame(published, GatheringRewardTables.publish(null));
+        } finally {
+            GatheringRewardTables.publish(GatheringRewardTables.defaultConfig());
+        }
+    }
+
+    @Test
+    void repositoryWritesDefaultsOnceAndLeavesBrokenFilesAlone() throws IOException {
+        GatheringRewardConfigRepository repository = new GatheringRewardConfigRepository(root.toString());
+        GatheringRewardConfig created = repository.loadOrCreate(GatheringRewardTables.defaultConfig());
+        Path file = root.resolve("gathering_rewards.json");
+        assertTrue(Files.exists(file));
+
+        GatheringRewardConfig reloaded = repository.loadOrCreate(GatheringRewardTables.defaultConfig());
+        assertEquals(created.rewards.size(), reloaded.rewards.size());
+        assertEquals(created.rewards.get(2).keyword, reloaded.rewards.get(2).keyword);
+        assertEquals(List.copyOf(created.toolLevels.keySet()), List.copyOf(reloaded.toolLevels.keySet()));
+
+        Files.writeString(file, "{ \"rewards\": [", StandardCharsets.UTF_8);
+        assertNull(repository.loadOrCreate(GatheringRewardTables.defaultConfig()));
+        assertEquals("{ \"rewards\": [", Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    private static GatheringRewardDefinition rule(String skill, String keyword, String matchType, int minLevel, long xp) {
+        GatheringRewardDefinition definition = new GatheringRewardDefinition();
+        definition.skill = skill;
+        definition.keyword = keyword;
+        definition.matchType = matchType;
+        definition.minLevel = minLevel;
+        definition.xp = xp;
+        return definition;
+    }
+}
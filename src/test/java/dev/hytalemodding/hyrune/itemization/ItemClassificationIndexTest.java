@@ -0,0 +1,82 @@
+package dev.hytalemodding.hyrune.itemization;
+
+import dev.hytalemodding.hyrune.registry.CombatRequirementRegistry;
+import dev.hytalemodding.hyrune.repair.RepairProfile;
+import dev.hytalemodding.hyrune.repair.RepairProfileConfig;
+import dev.hytalemodding.hyrune.repair.RepairProfileDefinition;
+import dev.hytalemodding.hyrune.repair.RepairProfileRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ItemClassificationIndexTest {
+    @Test
+    void classificationMatchesKeywordScans() {
+        ItemClassificationIndex.invalidate();
+
+        ItemClassification crossbow = ItemClassificationIndex.classify("Weapon_Crossbow_Iron");
+        assertEquals(ItemArchetype.WEAPON_RANGED, crossbow.archetype());
+        assertEquals(ItemClassification.CombatCategory.RANGED, crossbow.combatCategory());
+        assertEquals(10, crossbow.requiredLevel());
+        assertEquals(CombatRequirementRegistry.requiredLevelNormalized("weapon_crossbow_iron"), crossbow.requiredLevel());
+
+        ItemClassification shield = ItemClassificationIndex.classify("Weapon_Shield_Cobalt");
+        assertEquals(ItemArchetype.WEAPON_SHIELD, shield.archetype());
+        assertEquals(ItemClassification.CombatCategory.MELEE, shield.combatCategory());
+        assertTrue(shield.shield());
+
+        ItemClassification staff = ItemClassificationIndex.classify("Weapon_Staff_Crystal");
+        assertEquals(ItemClassification.CombatCategory.MAGIC, staff.combatCategory());
+
+        ItemClassification rod = ItemClassificationIndex.classify("Tool_Fishing_Rod_Crude");
+        assertTrue(rod.fishingRod());
+        assertTrue(rod.tool());
+
+        ItemClassification bait = ItemClassificationIndex.classify("Fish_Minnow_Item");
+        assertNotNull(bait.bait());
+        assertFalse(bait.fishingRod());
+        assertEquals(ItemArchetype.GENERIC, bait.archetype());
+
+        ItemClassification unknown = ItemClassificationIndex.classify(null);
+        assertNull(unknown.requiredLevel());
+        assertNull(unknown.bait());
+        assertFalse(unknown.eligible());
+    }
+
+    @Test
+    void invalidateAfterRepairReloadPicksUpNewProfiles() {
+        RepairProfileRegistry.resetToDefaults();
+        ItemClassificationIndex.invalidate();
+        RepairProfile before = ItemClassificationIndex.classify("Weapon_Sword_Iron").repairProfile();
+        assertSame(before, ItemClassificationIndex.classify("Weapon_Sword_Iron").repairProfile());
+
+        RepairProfileDefinition definition = new RepairProfileDefinition();
+        definition.keyword = "weapon_";
+        definition.matchType = "prefix";
+        definition.priority = 10;
+        definition.primaryMaterial = "Ingredient_Bar_Gold";
+        definition.secondaryMaterial = "Ingredient_Leather_Light";
+        RepairProfileConfig config = new RepairProfileConfig();
+        config.profiles = List.of(definition);
+        try {
+            RepairProfileRegistry.reloadFromConfig(config);
+            // The registry does not know about the index; reloaders invalidate it themselves.
+            assertSame(before, ItemClassificationIndex.classify("Weapon_Sword_Iron").repairProfile());
+            ItemClassificationIndex.invalidate();
+            RepairProfile after = ItemClassificationIndex.classify("Weapon_Sword_Iron").repairProfile();
+            assertNotSame(before, after);
+            assertSame(RepairProfileRegistry.resolve("Weapon_Sword_Iron"), after);
+        } finally {
+            RepairProfileRegistry.resetToDefaults();
+            ItemClassificationIndex.invalidate();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package dev.hytalemodding.hyrune.itemization;
 import dev.hytalemodding.hyrune.repair.ItemRarity;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
@@ -22,6 +23,25 @@ class ItemInstanceMetadataMigrationTest {
         assertEquals(ItemRollSource.CRAFTED, migrated.getSource());
     }
 
+    @Test
+    void legacyJsonFieldsAreReadIntoTypedStorage() {
+        ItemInstanceMetadata metadata = new ItemInstanceMetadata();
+        metadata.setVersion(6);
+        metadata.setSocketCapacity(2);
+        metadata.setSocketedGemsJson("[\" Gem_Ruby \", \"\"]");
+        metadata.setStatFlatRollsJson("{\"Physical_Damage\": 12.5, \"unknown_stat\": 3.0}");
+        metadata.setStatPercentRollsJson("{\"attack_speed\": 0.04}");
+
+        ItemInstanceMetadata migrated = ItemInstanceMetadataMigration.migrateToCurrent(metadata);
+
+        assertEquals(7, ItemInstanceMetadata.CURRENT_SCHEMA_VERSION);
+        assertEquals(ItemInstanceMetadata.CURRENT_SCHEMA_VERSION, migrated.getVersion());
+        assertArrayEquals(new String[]{"Gem_Ruby"}, migrated.getSocketedGemsArray());
+        assertEquals(12.5, migrated.getFlatStatRoll(ItemizedStat.PHYSICAL_DAMAGE), 1e-9);
+        assertEquals(0.04, migrated.getPercentStatRoll(ItemizedStat.ATTACK_SPEED), 1e-9);
+        assertEquals(3.0, migrated.getStatFlatRollsRaw().get("unknown_stat"), 1e-9);
+    }
+
     @Test
     void futureVersionIsPreserved() {
         ItemInstanceMetadata metadata = new ItemInstanceMetadata();
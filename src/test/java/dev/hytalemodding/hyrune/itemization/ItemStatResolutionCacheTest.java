@@ -0,0 +1,79 @@
+package dev.hytalemodding.hyrune.itemization;
+
+import dev.hytalemodding.hyrune.repair.ItemRarity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ItemStatResolutionCacheTest {
+    @Test
+    void identicallyRolledItemsShareOneResolution() {
+        AtomicInteger loads = new AtomicInteger();
+        ItemStatResolutionCache cache = new ItemStatResolutionCache(64, (itemId, metadata) -> {
+            loads.incrementAndGet();
+            return resolution(itemId);
+        });
+
+        ItemStatResolution first = cache.resolve("Weapon_Sword_Iron", rolled(ItemRarity.RARE, 12.0));
+        ItemStatResolution second = cache.resolve("Weapon_Sword_Iron", rolled(ItemRarity.RARE, 12.0));
+        ItemStatResolution differentRoll = cache.resolve("Weapon_Sword_Iron", rolled(ItemRarity.RARE, 13.0));
+
+        assertSame(first, second);
+        assertNotSame(first, differentRoll);
+        assertEquals(2, loads.get());
+        ItemStatResolutionCache.Stats stats = cache.snapshot();
+        assertEquals(1L, stats.hits());
+        assertEquals(2L, stats.misses());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOverWeightBudget() {
+        // Each rolled item weighs 1 (entry) + 1 (gem) + 1 (flat roll) = 3.
+        ItemStatResolutionCache cache = new ItemStatResolutionCache(6, (itemId, metadata) -> resolution(itemId));
+
+        ItemStatResolution a = cache.resolve("A", rolled(ItemRarity.COMMON, 1.0));
+        cache.resolve("B", rolled(ItemRarity.COMMON, 1.0));
+        cache.resolve("A", rolled(ItemRarity.COMMON, 1.0));
+        cache.resolve("C", rolled(ItemRarity.COMMON, 1.0));
+
+        ItemStatResolutionCache.Stats stats = cache.snapshot();
+        assertEquals(1L, stats.evictions());
+        assertEquals(2, stats.entries());
+        assertSame(a, cache.resolve("A", rolled(ItemRarity.COMMON, 1.0)));
+    }
+
+    @Test
+    void invalidateAllForcesReResolution() {
+        AtomicInteger loads = new AtomicInteger();
+        ItemStatResolutionCache cache = new ItemStatResolutionCache(64, (itemId, metadata) -> {
+            loads.incrementAndGet();
+            return resolution(itemId);
+        });
+
+        cache.resolve("Armor_Iron_Chest", null);
+        cache.invalidateAll();
+        cache.resolve("Armor_Iron_Chest", null);
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.snapshot().entries());
+    }
+
+    private static ItemInstanceMetadata rolled(ItemRarity rarity, double physicalDamage) {
+        ItemInstanceMetadata metadata = new ItemInstanceMetadata();
+        metadata.setRarity(rarity);
+        metadata.setSocketCapacity(1);
+        metadata.setSocketedGems(List.of("Gem_Ruby"));
+        metadata.setFlatStatRoll(ItemizedStat.PHYSICAL_DAMAGE, physicalDamage);
+        return metadata;
+    }
+
+    private static ItemStatResolution resolution(String itemId) {
+        EffectiveItemStats none = new EffectiveItemStats(0, 0, 0, 0);
+        return new ItemStatResolution(itemId, null, ItemizedStatBlock.empty(), ItemizedStatBlock.empty(), none, none, 1.0, 1.0);
+    }
+}
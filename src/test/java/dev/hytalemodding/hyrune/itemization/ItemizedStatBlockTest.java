@@ -0,0 +1,53 @@
+package dev.hytalemodding.hyrune.itemization;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ItemizedStatBlockTest {
+    @Test
+    void bulkOperationsApplyToEveryStat() {
+        ItemizedStatBlock block = ItemizedStatBlock.empty();
+        block.set(ItemizedStat.PHYSICAL_DAMAGE, 10.0);
+        ItemizedStatBlock other = ItemizedStatBlock.empty();
+        other.set(ItemizedStat.PHYSICAL_DAMAGE, 5.0);
+        other.set(ItemizedStat.MAX_HP, 40.0);
+
+        block.addAll(other);
+        block.scale(2.0);
+        block.clamp(0.0, 50.0);
+
+        assertEquals(30.0, block.get(ItemizedStat.PHYSICAL_DAMAGE), 1e-9);
+        assertEquals(50.0, block.get(ItemizedStat.MAX_HP), 1e-9);
+        assertEquals(2, block.asMap().size());
+    }
+
+    @Test
+    void nearZeroValuesAreDropped() {
+        ItemizedStatBlock block = ItemizedStatBlock.empty();
+        block.set(ItemizedStat.ATTACK_SPEED, 0.5);
+        block.add(ItemizedStat.ATTACK_SPEED, -0.5);
+
+        assertTrue(block.isEmpty());
+        assertTrue(block.asMap().isEmpty());
+    }
+
+    @Test
+    void frozenBlockRejectsWritesButCopiesAreMutable() {
+        ItemizedStatBlock frozen = ItemizedStatBlock.empty();
+        frozen.set(ItemizedStat.HP_REGEN, 1.0);
+        frozen.freeze();
+
+        assertThrows(IllegalStateException.class, () -> frozen.add(ItemizedStat.HP_REGEN, 1.0));
+        assertThrows(IllegalStateException.class, () -> frozen.addAll(ItemizedStatBlock.empty()));
+
+        ItemizedStatBlock copy = frozen.copy();
+        assertFalse(copy.isFrozen());
+        copy.add(ItemizedStat.HP_REGEN, 1.0);
+        assertEquals(2.0, copy.get(ItemizedStat.HP_REGEN), 1e-9);
+        assertEquals(1.0, frozen.get(ItemizedStat.HP_REGEN), 1e-9);
+    }
+}
@@ -0,0 +1,170 @@
+package dev.hytalemodding.hyrune.itemization.tooltip;
+
+import com.hypixel.hytale.protocol.InventorySection;
+import com.hypixel.hytale.protocol.ItemBase;
+import com.hypixel.hytale.protocol.ItemWithAllMetadata;
+import com.hypixel.hytale.protocol.packets.inventory.UpdatePlayerInventory;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class HyruneDynamicTooltipPacketAdapterTest {
+    private static final UUID PLAYER = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final String LANGUAGE = "en-US";
+    private static final String METADATA = "{\"HyruneItemInstance\":{\"Version\":7,\"Rarity\":\"RARE\","
+        + "\"Source\":\"CRAFTED\",\"Seed\":42,\"SocketCapacity\":1,\"Gems\":[],"
+        + "\"FlatRolls\":{\"physical_damage\":4.5},\"PercentRolls\":{}}}";
+
+    private final HyruneVirtualItemRegistry registry = new HyruneVirtualItemRegistry();
+    private final HyruneDynamicTooltipComposer composer = new HyruneDynamicTooltipComposer();
+    private final HyruneDynamicTooltipPacketAdapter adapter = new HyruneDynamicTooltipPacketAdapter(registry, composer);
+
+    @Test
+    void rewriteCopiesItemizedSectionsAndLeavesTheInputUntouched() {
+        ItemWithAllMetadata sword = item("Weapon_Sword_Iron", METADATA);
+        ItemWithAllMetadata bar = item("Ingredient_Bar_Iron", null);
+        String virtualId = seed(sword);
+        InventorySection hotbar = section(sword, bar);
+        InventorySection storage = section(bar);
+        Map<Integer, ItemWithAllMetadata> hotbarItems = hotbar.items;
+        Map<Integer, ItemWithAllMetadata> hotbarBefore = new HashMap<>(hotbarItems);
+
+        UpdatePlayerInventory packet = new UpdatePlayerInventory();
+        packet.hotbar = hotbar;
+        packet.storage = storage;
+        adapter.rewriteOutbound(PLAYER, LANGUAGE, packet);
+
+        // Untouched sections are passed through as the same instance.
+        assertSame(storage, packet.storage);
+        assertNotSame(hotbar, packet.hotbar);
+        assertEquals(virtualId, packet.hotbar.items.get(0).itemId);
+        assertSame(bar, packet.hotbar.items.get(1));
+
+        // The incoming section, its item map and its stacks are unchanged.
+        assertSame(hotbarItems, hotbar.items);
+        assertEquals(hotbarBefore.size(), hotbarItems.size());
+        for (Map.Entry<Integer, ItemWithAllMetadata> entry : hotbarBefore.entrySet()) {
+            assertSame(entry.getValue(), hotbarItems.get(entry.getKey()));
+        }
+        assertEquals("Weapon_Sword_Iron", sword.itemId);
+        assertEquals(METADATA, sword.metadata);
+        assertEquals(1, sword.quantity);
+    }
+
+    @Test
+    void plainInventoryIsReturnedAsIs() {
+        InventorySection hotbar = section(item("Ingredient_Bar_Iron", null));
+        UpdatePlayerInventory packet = new UpdatePlayerInventory();
+        packet.hotbar = hotbar;
+
+        HyruneDynamicTooltipPacketAdapter.RewriteScratch scratch = adapter.rewriteOutbound(PLAYER, LANGUAGE, packet);
+
+        assertSame(hotbar, packet.hotbar);
+        assertEquals(0, scratch.virtualItems.size());
+    }
+
+    @Test
+    void firstInventoryPacketIsTrackedAndNeedsNoResend() {
+        assertNull(adapter.rawInventory(PLAYER));
+        assertNull(adapter.changedSections(PLAYER));
+
+        ItemWithAllMetadata sword = item("Weapon_Sword_Iron", METADATA);
+        String virtualId = seed(sword);
+        UpdatePlayerInventory first = new UpdatePlayerInventory();
+        first.hotbar = section(sword);
+        first.storage = section(item("Ingredient_Bar_Iron", null));
+        send(first);
+
+        assertEquals(virtualId, registry.getSlotVirtualId(PLAYER, "hotbar:0"));
+        assertNotNull(adapter.rawInventory(PLAYER));
+        assertNull(adapter.changedSections(PLAYER));
+    }
+
+    @Test
+    void partialPacketsMergeIntoTheRawInventory() {
+        ItemWithAllMetadata sword = item("Weapon_Sword_Iron", METADATA);
+        seed(sword);
+        InventorySection hotbar = section(sword);
+        InventorySection newStorage = section(item("Ingredient_Bar_Copper", null));
+
+        UpdatePlayerInventory full = new UpdatePlayerInventory();
+        full.hotbar = hotbar;
+        full.storage = section(item("Ingredient_Bar_Iron", null));
+        send(full);
+        UpdatePlayerInventory partial = new UpdatePlayerInventory();
+        partial.storage = newStorage;
+        send(partial);
+
+        // The partial packet replaced storage only; the raw hotbar from the first packet survives.
+        UpdatePlayerInventory raw = adapter.rawInventory(PLAYER);
+        assertSame(hotbar, raw.hotbar);
+        assertSame(newStorage, raw.storage);
+        assertEquals("Weapon_Sword_Iron", raw.hotbar.items.get(0).itemId);
+        assertNull(adapter.changedSections(PLAYER));
+    }
+
+    @Test
+    void onlyChangedSectionsAreResent() {
+        ItemWithAllMetadata sword = item("Weapon_Sword_Iron", METADATA);
+        seed(sword);
+        InventorySection hotbar = section(sword);
+        UpdatePlayerInventory packet = new UpdatePlayerInventory();
+        packet.hotbar = hotbar;
+        packet.armor = section(sword);
+        packet.storage = section(item("Ingredient_Bar_Iron", null));
+        send(packet);
+
+        // The client was last sent a different tooltip for the hotbar slot.
+        registry.trackSlotVirtualId(PLAYER, "hotbar:0", "stale");
+        UpdatePlayerInventory delta = adapter.changedSections(PLAYER);
+
+        assertNotNull(delta);
+        assertSame(hotbar, delta.hotbar);
+        assertNull(delta.armor);
+        assertNull(delta.storage);
+        assertNull(delta.utility);
+    }
+
+    /**
+     * What the outbound filter does with an inventory packet: record it raw, then rewrite it.
+     */
+    private void send(UpdatePlayerInventory packet) {
+        adapter.recordRawInventory(PLAYER, packet);
+        adapter.rewriteOutbound(PLAYER, LANGUAGE, packet);
+    }
+
+    private String seed(ItemWithAllMetadata item) {
+        HyruneDynamicTooltipComposer.ComposedTooltip composed = composer.compose(item.itemId, item.metadata);
+        assertNotNull(composed);
+        ItemBase base = new ItemBase();
+        base.id = composed.getVirtualId();
+        registry.putVirtualItemBase(composed.getVirtualId(), base);
+        return composed.getVirtualId();
+    }
+
+    private static InventorySection section(ItemWithAllMetadata... items) {
+        InventorySection section = new InventorySection();
+        section.capacity = (short) 9;
+        section.items = new HashMap<>();
+        for (int slot = 0; slot < items.length; slot++) {
+            section.items.put(slot, items[slot]);
+        }
+        return section;
+    }
+
+    private static ItemWithAllMetadata item(String itemId, String metadata) {
+        ItemWithAllMetadata item = new ItemWithAllMetadata();
+        item.itemId = itemId;
+        item.quantity = 1;
+        item.metadata = metadata;
+        return item;
+    }
+}
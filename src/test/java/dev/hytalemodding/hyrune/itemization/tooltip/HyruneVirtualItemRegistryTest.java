@@ -0,0 +1,59 @@
+package dev.hytalemodding.hyrune.itemization.tooltip;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyruneVirtualItemRegistryTest {
+    private static final UUID PLAYER = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private final HyruneVirtualItemRegistry registry = new HyruneVirtualItemRegistry();
+
+    @Test
+    void untrackedPlayerMatchesOnlyAnEmptySection() {
+        assertTrue(registry.sectionMatches(PLAYER, "hotbar", Map.of()));
+        assertFalse(registry.sectionMatches(PLAYER, "hotbar", Map.of(0, "v1")));
+    }
+
+    @Test
+    void sectionMatchesComparesEverySlotOfThatSectionOnly() {
+        registry.trackSlotVirtualId(PLAYER, "hotbar:0", "v1");
+        registry.trackSlotVirtualId(PLAYER, "hotbar:3", "v2");
+        registry.trackSlotVirtualId(PLAYER, "storage:0", "v3");
+
+        assertTrue(registry.sectionMatches(PLAYER, "hotbar", Map.of(0, "v1", 3, "v2")));
+        // Different id, missing slot, extra slot.
+        assertFalse(registry.sectionMatches(PLAYER, "hotbar", Map.of(0, "v1", 3, "v9")));
+        assertFalse(registry.sectionMatches(PLAYER, "hotbar", Map.of(0, "v1")));
+        assertFalse(registry.sectionMatches(PLAYER, "hotbar", Map.of(0, "v1", 3, "v2", 4, "v4")));
+        assertTrue(registry.sectionMatches(PLAYER, "storage", Map.of(0, "v3")));
+        assertTrue(registry.sectionMatches(PLAYER, "armor", Map.of()));
+    }
+
+    @Test
+    void retainSectionSlotsDropsOnlyMissingSlotsOfThatSection() {
+        registry.trackSlotVirtualId(PLAYER, "hotbar:0", "v1");
+        registry.trackSlotVirtualId(PLAYER, "hotbar:3", "v2");
+        registry.trackSlotVirtualId(PLAYER, "hotbar:12", "v4");
+        registry.trackSlotVirtualId(PLAYER, "storage:3", "v3");
+
+        registry.retainSectionSlots(PLAYER, "hotbar", Set.of(0, 12));
+
+        assertEquals("v1", registry.getSlotVirtualId(PLAYER, "hotbar:0"));
+        assertNull(registry.getSlotVirtualId(PLAYER, "hotbar:3"));
+        assertEquals("v4", registry.getSlotVirtualId(PLAYER, "hotbar:12"));
+        assertEquals("v3", registry.getSlotVirtualId(PLAYER, "storage:3"));
+        assertTrue(registry.sectionMatches(PLAYER, "hotbar", Map.of(0, "v1", 12, "v4")));
+
+        registry.retainSectionSlots(PLAYER, "hotbar", Set.of());
+        assertTrue(registry.sectionMatches(PLAYER, "hotbar", Map.of()));
+        assertEquals("v3", registry.getSlotVirtualId(PLAYER, "storage:3"));
+    }
+}
@@ -0,0 +1,35 @@
+package dev.hytalemodding.hyrune.itemization.tooltip;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TooltipCacheTest {
+    @Test
+    void evictsOnlyLeastRecentlyUsedEntriesWhenFull() {
+        TooltipCache<String, String> cache = new TooltipCache<>(2);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");
+        cache.put("c", "C");
+
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("C", cache.get("c"));
+
+        TooltipCache.Stats stats = cache.snapshot();
+        assertEquals(2, stats.entries());
+        assertEquals(1L, stats.evictions());
+        assertEquals(3L, stats.hits());
+        assertEquals(1L, stats.misses());
+    }
+
+    @Test
+    void putIfAbsentKeepsTheFirstValue() {
+        TooltipCache<String, String> cache = new TooltipCache<>(4);
+
+        assertEquals("first", cache.putIfAbsent("k", "first"));
+        assertEquals("first", cache.putIfAbsent("k", "second"));
+    }
+}
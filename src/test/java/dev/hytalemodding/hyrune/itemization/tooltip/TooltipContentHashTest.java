@@ -0,0 +1,90 @@
+package dev.hytalemodding.hyrune.itemization.tooltip;
+
+import dev.hytalemodding.hyrune.itemization.ItemInstanceMetadata;
+import dev.hytalemodding.hyrune.itemization.ItemizedStat;
+import dev.hytalemodding.hyrune.repair.ItemRarity;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TooltipContentHashTest {
+    private static final String[] ITEM_IDS = {
+        "Weapon_Sword_Iron", "Weapon_Sword_Copper", "Weapon_Axe_Iron", "Weapon_Staff_Crystal",
+        "Weapon_Shortbow_Iron", "Armor_Iron_Chest", "Armor_Iron_Legs", "Armor_Cloth_Head", "Tool_Pickaxe_Iron"
+    };
+    private static final ItemizedStat[] STATS = ItemizedStat.values();
+    private static final ItemRarity[] RARITIES = ItemRarity.values();
+
+    @Test
+    void generatedCorpusHasNoCollisions() {
+        SplittableRandom random = new SplittableRandom(20240517L);
+        Map<Long, String> contentByHash = new HashMap<>();
+        Set<String> distinctContent = new HashSet<>();
+        for (int i = 0; i < 200_000; i++) {
+            String itemId = ITEM_IDS[random.nextInt(ITEM_IDS.length)];
+            ItemInstanceMetadata metadata = generate(random);
+            String content = itemId + "|" + metadata.getRarity() + "|" + metadata.getSocketCapacity()
+                + "|" + metadata.getSocketedGems() + "|" + metadata.getStatFlatRollsRaw()
+                + "|" + metadata.getStatPercentRollsRaw();
+            if (!distinctContent.add(content)) {
+                continue;
+            }
+            long hash = HyruneDynamicTooltipComposer.contentHash(itemId, metadata);
+            String previous = contentByHash.putIfAbsent(hash, content);
+            assertNull(previous, "hash collision between " + previous + " and " + content);
+        }
+        assertEquals(distinctContent.size(), contentByHash.size());
+    }
+
+    @Test
+    void hashIgnoresSeedButNotRolls() {
+        ItemInstanceMetadata a = rolled(12.5);
+        ItemInstanceMetadata b = rolled(12.5);
+        b.setSeed(99L);
+        ItemInstanceMetadata c = rolled(12.5001);
+
+        assertEquals(a.contentHash64(), b.contentHash64());
+        assertNotEquals(a.contentHash64(), c.contentHash64());
+    }
+
+    private static ItemInstanceMetadata generate(SplittableRandom random) {
+        ItemInstanceMetadata metadata = new ItemInstanceMetadata();
+        metadata.setRarity(RARITIES[random.nextInt(RARITIES.length)]);
+        metadata.setSeed(random.nextLong());
+        int sockets = random.nextInt(4);
+        metadata.setSocketCapacity(sockets);
+        if (sockets > 0 && random.nextBoolean()) {
+            metadata.setSocketedGems(List.of("Gem_" + random.nextInt(6)));
+        }
+        metadata.setStatFlatRollsRaw(rolls(random));
+        metadata.setStatPercentRollsRaw(rolls(random));
+        return metadata;
+    }
+
+    private static Map<String, Double> rolls(SplittableRandom random) {
+        Map<String, Double> rolls = new LinkedHashMap<>();
+        int count = random.nextInt(4);
+        for (int i = 0; i < count; i++) {
+            ItemizedStat stat = STATS[random.nextInt(STATS.length)];
+            rolls.put(stat.getId(), Math.round(random.nextDouble(0.01, 40.0) * 10_000.0) / 10_000.0);
+        }
+        return rolls;
+    }
+
+    private static ItemInstanceMetadata rolled(double physicalDamage) {
+        ItemInstanceMetadata metadata = new ItemInstanceMetadata();
+        metadata.setRarity(ItemRarity.RARE);
+        metadata.setStatFlatRollsRaw(Map.of(ItemizedStat.PHYSICAL_DAMAGE.getId(), physicalDamage));
+        return metadata;
+    }
+}
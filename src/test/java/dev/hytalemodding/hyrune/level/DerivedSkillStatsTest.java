@@ -0,0 +1,42 @@
+package dev.hytalemodding.hyrune.level;
+
+import dev.hytalemodding.hyrune.playerdata.PlayerLvlData;
+import dev.hytalemodding.hyrune.skills.SkillType;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DerivedSkillStatsTest {
+
+    @Test
+    void freshPlayerDefaultsEverySkillToLevelOne() {
+        PlayerLvlData data = new PlayerLvlData(UUID.randomUUID());
+
+        DerivedSkillStats stats = DerivedSkillStats.of(data);
+
+        assertEquals(SkillType.values().length, stats.getTotalLevel());
+        assertEquals(1, stats.getLevel(SkillType.MINING));
+        assertEquals(1, stats.getCombatLevel());
+        assertTrue(data.getAllTracks().isEmpty(), "snapshot must not create tracks");
+    }
+
+    @Test
+    void snapshotMatchesCombatFormula() {
+        PlayerLvlData data = new PlayerLvlData(UUID.randomUUID());
+        data.setSkillLevel(SkillType.ATTACK, 60);
+        data.setSkillLevel(SkillType.STRENGTH, 70);
+        data.setSkillLevel(SkillType.DEFENCE, 50);
+        data.setSkillLevel(SkillType.CONSTITUTION, 55);
+        data.setSkillLevel(SkillType.MAGIC, 80);
+
+        DerivedSkillStats stats = DerivedSkillStats.of(data);
+
+        // base 0.25 * (50 + 55 + 1) = 26.5; melee 0.325 * 130 = 42.25 beats mage 39.0
+        assertEquals(68, stats.getCombatLevel());
+        assertEquals(70, stats.getLevel(SkillType.STRENGTH));
+        assertEquals(SkillType.values().length - 5 + 60 + 70 + 50 + 55 + 80, stats.getTotalLevel());
+    }
+}
@@ -0,0 +1,60 @@
+package dev.hytalemodding.hyrune.level;
+
+import dev.hytalemodding.hyrune.skills.SkillType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class XpEventBatcherTest {
+
+    @Test
+    void coalescesGrantsPerPlayerAndSkill() {
+        XpEventBatcher batcher = new XpEventBatcher();
+        UUID player = UUID.randomUUID();
+        batcher.record(player, SkillType.ATTACK, 10, 5, 5);
+        batcher.record(player, SkillType.CONSTITUTION, 4, 10, 10);
+        batcher.record(player, SkillType.ATTACK, 15, 5, 6);
+        batcher.record(player, SkillType.ATTACK, 20, 6, 7);
+
+        List<List<XpEventBatcher.XpBatch>> dispatched = new ArrayList<>();
+        batcher.drain(uuid -> true, dispatched::add);
+
+        assertEquals(1, dispatched.size());
+        List<XpEventBatcher.XpBatch> batches = dispatched.get(0);
+        assertEquals(2, batches.size());
+        XpEventBatcher.XpBatch attack = batches.get(1);
+        assertEquals(SkillType.ATTACK, attack.skill());
+        assertEquals(45L, attack.amount());
+        assertEquals(3, attack.grants());
+        assertEquals(5, attack.levelBefore());
+        assertEquals(7, attack.levelAfter());
+        assertTrue(attack.leveledUp());
+        assertFalse(batches.get(0).leveledUp());
+
+        assertEquals(4L, batcher.getGrantsRecorded());
+        assertEquals(2L, batcher.getBatchesDispatched());
+        assertEquals(2L, batcher.getCoalescedCount());
+        assertEquals(0, batcher.getPendingPlayerCount());
+    }
+
+    @Test
+    void drainLeavesExcludedPlayersPending() {
+        XpEventBatcher batcher = new XpEventBatcher();
+        UUID here = UUID.randomUUID();
+        UUID elsewhere = UUID.randomUUID();
+        batcher.record(here, SkillType.MINING, 30, 1, 1);
+        batcher.record(elsewhere, SkillType.MINING, 30, 1, 1);
+
+        List<UUID> flushed = new ArrayList<>();
+        batcher.drain(here::equals, batches -> flushed.add(batches.get(0).playerId()));
+
+        assertEquals(List.of(here), flushed);
+        assertEquals(1, batcher.getPendingPlayerCount());
+    }
+}
@@ -0,0 +1,63 @@
+package dev.hytalemodding.hyrune.level.formulas;
+
+import dev.hytalemodding.hyrune.config.HyruneConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LevelFormulaTest {
+
+    @Test
+    void compiledTableMatchesLegacyLoop() {
+        LevelFormula formula = new LevelFormula();
+        for (int level = 1; level <= LevelFormula.MAX_LEVEL + 1; level++) {
+            long threshold = legacyXpForLevel(level);
+            assertEquals(threshold, formula.getXpForLevel(level), "xp for level " + level);
+            assertEquals(legacyLevelForXp(threshold), formula.getLevelForXp(threshold), "level at " + threshold);
+            if (threshold > 0) {
+                assertEquals(legacyLevelForXp(threshold - 1), formula.getLevelForXp(threshold - 1));
+            }
+        }
+        assertEquals(LevelFormula.MAX_LEVEL, formula.getLevelForXp(Long.MAX_VALUE));
+        assertEquals(1, formula.getLevelForXp(-5L));
+    }
+
+    @Test
+    void tableCurveFromConfigExtendsLastStep() {
+        HyruneConfig.XpCurveConfig config = new HyruneConfig.XpCurveConfig();
+        config.type = "table";
+        config.thresholds = List.of(100L, 250L, 450L);
+
+        LevelFormula formula = LevelFormula.fromConfig(config);
+
+        assertEquals(0L, formula.getXpForLevel(1));
+        assertEquals(100L, formula.getXpForLevel(2));
+        assertEquals(450L, formula.getXpForLevel(4));
+        assertEquals(650L, formula.getXpForLevel(5));
+        assertEquals(1, formula.getLevelForXp(99L));
+        assertEquals(3, formula.getLevelForXp(449L));
+        assertEquals(4, formula.getLevelForXp(450L));
+    }
+
+    private static long legacyXpForLevel(int level) {
+        if (level <= 1) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = 1; i < level; i++) {
+            total += (long) Math.floor(i + 300 * Math.pow(2, i / 7.0));
+        }
+        return (long) Math.floor(total / 4.0);
+    }
+
+    private static int legacyLevelForXp(long xp) {
+        for (int i = 1; i < 120; i++) {
+            if (xp < legacyXpForLevel(i + 1)) {
+                return i;
+            }
+        }
+        return 120;
+    }
+}
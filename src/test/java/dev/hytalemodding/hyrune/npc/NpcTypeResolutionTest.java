@@ -0,0 +1,65 @@
+package dev.hytalemodding.hyrune.npc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NpcTypeResolutionTest {
+
+    @Test
+    void resolvesFamilyOncePerTypeIdAndHonoursExclusions() {
+        NpcFamiliesConfig families = new NpcFamiliesConfig();
+        families.families.add(family("trork", "Trork_Grunt", "TANK", "ELITE"));
+        families.excludedNpcIds.add("Training_Dummy");
+
+        NpcLevelService service = new NpcLevelService(families);
+
+        NpcLevelService.NpcTypeResolution grunt = service.resolve("Dungeon_Trork_Grunt");
+        assertNotNull(grunt.family());
+        assertEquals("trork", grunt.family().id);
+        assertEquals(NpcRank.ELITE, grunt.rank());
+        assertFalse(grunt.excluded());
+        assertSame(grunt, service.resolve("Dungeon_Trork_Grunt"));
+
+        NpcLevelService.NpcTypeResolution unknown = service.resolve("Kweebec_Sapling");
+        assertNull(unknown.family());
+        assertEquals(NpcRank.NORMAL, unknown.rank());
+
+        assertTrue(service.resolve("Dungeon_Training_Dummy").excluded());
+        assertTrue(service.isExcluded("Kweebec_Sapling", "Old training_dummy"));
+        assertTrue(service.isExcluded(null, null));
+        assertNull(service.buildComponent("Training_Dummy", "Dummy"));
+    }
+
+    @Test
+    void reloadSwapsFamiliesAndStartsAFreshTable() {
+        NpcFamiliesConfig before = new NpcFamiliesConfig();
+        before.families.add(family("trork", "Trork_Grunt", "DPS", "NORMAL"));
+        NpcLevelService service = new NpcLevelService(before);
+        NpcLevelService.NpcTypeResolution first = service.resolve("Trork_Grunt");
+        assertNotNull(first.family());
+
+        NpcFamiliesConfig after = new NpcFamiliesConfig();
+        after.excludedNpcIds.add("trork");
+        service.reload(after);
+
+        NpcLevelService.NpcTypeResolution second = service.resolve("Trork_Grunt");
+        assertNull(second.family());
+        assertTrue(second.excluded());
+        assertSame(after, service.getFamiliesConfig());
+    }
+
+    private static NpcFamiliesConfig.NpcFamilyDefinition family(String id, String typeId, String archetype, String rank) {
+        NpcFamiliesConfig.NpcFamilyDefinition family = new NpcFamiliesConfig.NpcFamilyDefinition();
+        family.id = id;
+        family.typeIds.add(typeId);
+        family.archetype = archetype;
+        family.rank = rank;
+        return family;
+    }
+}
@@ -0,0 +1,71 @@
+package dev.hytalemodding.hyrune.system;
+
+import dev.hytalemodding.hyrune.config.HyruneConfig;
+import dev.hytalemodding.hyrune.npc.CombatStyle;
+import dev.hytalemodding.hyrune.npc.NpcLevelComponent;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Covers the per-entity rate lookup of the NPC regen path (cached config + rate calculation).
+// The stat map writes in SkillRegenSystem.tick need a live entity store and are not measured here.
+class NpcRegenRateAllocationTest {
+    private static final int NPC_COUNT = 500;
+    private static final int TICKS = 200;
+
+    @Test
+    void npcRegenRateLookupDoesNotAllocatePerEntity() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        HyruneConfig config = new HyruneConfig();
+        NpcLevelComponent[] npcs = new NpcLevelComponent[NPC_COUNT];
+        for (int i = 0; i < NPC_COUNT; i++) {
+            String archetype = i % 50 == 0 ? "BOSS" : "DPS";
+            npcs[i] = new NpcLevelComponent(1 + (i % 99), "group", CombatStyle.MELEE, archetype, false, "Npc" + i);
+        }
+
+        // Warm up so the measured loop runs compiled code.
+        double sink = runTicks(npcs, config, 50);
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        sink += runTicks(npcs, config, TICKS);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(sink > 0.0);
+        // Less than one byte per entity visit means no object is created per entity.
+        assertTrue(allocated < (long) NPC_COUNT * TICKS,
+            "regen rate lookup allocated " + allocated + " bytes over " + (NPC_COUNT * TICKS) + " entity ticks");
+    }
+
+    @Test
+    void regenConfigIsReusedUntilConfigInstanceChanges() {
+        HyruneConfig config = new HyruneConfig();
+        SkillRegenSystem.RegenRuntimeConfig first = SkillRegenSystem.regenConfig(config);
+        assertSame(first, SkillRegenSystem.regenConfig(config));
+
+        HyruneConfig reloaded = new HyruneConfig();
+        reloaded.regen.npcHealthRegenPerLevel = 1.0;
+        SkillRegenSystem.RegenRuntimeConfig second = SkillRegenSystem.regenConfig(reloaded);
+        NpcLevelComponent npc = new NpcLevelComponent(10, "group", CombatStyle.MELEE, "DPS", false, "Npc");
+        assertEquals(10.0f, SkillRegenSystem.npcHealthRegenPerSecond(npc, second), 1.0e-6f);
+    }
+
+    private static double runTicks(NpcLevelComponent[] npcs, HyruneConfig config, int ticks) {
+        double total = 0.0;
+        for (int tick = 0; tick < ticks; tick++) {
+            for (NpcLevelComponent npc : npcs) {
+                SkillRegenSystem.RegenRuntimeConfig regenCfg = SkillRegenSystem.regenConfig(config);
+                total += SkillRegenSystem.npcHealthRegenPerSecond(npc, regenCfg);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,38 @@
+package dev.hytalemodding.hyrune.system;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryAuditTest {
+    @Test
+    void countsOnlyWhileAnAuditRuns() {
+        QueryAudit.Counter counter = QueryAudit.counter(QueryAuditTest.class);
+        QueryAudit.stop();
+        counter.visit();
+        assertEquals(0L, visits());
+
+        QueryAudit.start();
+        assertTrue(QueryAudit.isEnabled());
+        counter.visit();
+        counter.visit();
+        QueryAudit.stop();
+        counter.visit();
+
+        assertFalse(QueryAudit.isEnabled());
+        assertEquals(2L, visits());
+    }
+
+    private static long visits() {
+        for (Map.Entry<String, Long> entry : QueryAudit.snapshot()) {
+            if (entry.getKey().equals(QueryAuditTest.class.getSimpleName())) {
+                return entry.getValue();
+            }
+        }
+        return 0L;
+    }
+}
@@ -0,0 +1,74 @@
+package dev.hytalemodding.hyrune.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeywordAutomatonTest {
+    @Test
+    void reportsOverlappingAndNestedKeywords() {
+        KeywordAutomaton automaton = KeywordAutomaton.build(List.of("fir", "fire", "ore", "stone", "cobblestone", "", "ice"));
+
+        BitSet matched = automaton.matches("Ore_Cobblestone_Fire");
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(1);
+        expected.set(2);
+        expected.set(3);
+        expected.set(4);
+        assertEquals(expected, matched);
+        assertTrue(automaton.matches("Plant_Crop_Wheat").isEmpty());
+        assertTrue(automaton.matches(null).isEmpty());
+    }
+
+    @Test
+    void agreesWithSubstringScan() {
+        List<String> keywords = List.of("oak", "pine", "ash", "amber", "rock", "iron", "copper", "log", "leaf", "leaves",
+            "stagefinal", "crop", "corn", "coral", "berry", "bark", "branch", "aspen", "ice", "fire");
+        KeywordAutomaton automaton = KeywordAutomaton.build(keywords);
+        String alphabet = "abcefiklnoprstvwy_ABC";
+        Random random = new Random(7L);
+        for (int run = 0; run < 20_000; run++) {
+            StringBuilder id = new StringBuilder();
+            int length = 1 + random.nextInt(24);
+            for (int i = 0; i < length; i++) {
+                id.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String lowered = id.toString().toLowerCase(Locale.ROOT);
+            BitSet expected = new BitSet();
+            for (int k = 0; k < keywords.size(); k++) {
+                if (lowered.contains(keywords.get(k))) {
+                    expected.set(k);
+                }
+            }
+            assertEquals(expected, automaton.matches(id), id.toString());
+        }
+    }
+
+    @Test
+    void keepsIndicesForSkippedKeywords() {
+        List<String> keywords = new ArrayList<>();
+        keywords.add(null);
+        keywords.add("Wood");
+        KeywordAutomaton automaton = KeywordAutomaton.build(keywords);
+
+        assertEquals(2, automaton.keywordCount());
+        assertEquals(1, automaton.matches("Wood_Oak_Trunk").nextSetBit(0));
+    }
+
+    @Test
+    void nonAsciiKeywordsNeverMatch() {
+        KeywordAutomaton automaton = KeywordAutomaton.build(List.of("Crème", "ore"));
+
+        assertEquals(2, automaton.keywordCount());
+        assertTrue(automaton.matches("Plant_Crème_Brulee").isEmpty());
+        assertEquals(1, automaton.matches("Ore_Crème").nextSetBit(0));
+    }
+}